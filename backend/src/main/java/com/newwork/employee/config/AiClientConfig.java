@@ -0,0 +1,35 @@
+package com.newwork.employee.config;
+
+import com.newwork.employee.config.properties.HuggingFaceProperties;
+import com.newwork.employee.service.client.resilience.Bulkhead;
+import com.newwork.employee.service.client.resilience.CircuitBreaker;
+import com.newwork.employee.service.client.resilience.UpstreamGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Failure isolation for the AI upstream, so an outage there degrades polishing only and never
+ * ties up the request threads that serve profiles and the directory.
+ */
+@Configuration
+public class AiClientConfig {
+
+    @Bean
+    public UpstreamGuard aiUpstreamGuard(HuggingFaceProperties properties, MeterRegistry meterRegistry) {
+        HuggingFaceProperties.Resilience resilience = properties.getResilience();
+        return new UpstreamGuard(
+                "ai.upstream",
+                new Bulkhead(resilience.getMaxConcurrentCalls(), resilience.getMaxWaitForSlot()),
+                new CircuitBreaker(
+                        "huggingface",
+                        resilience.getFailureRateThreshold(),
+                        resilience.getSlidingWindowSize(),
+                        resilience.getMinimumCalls(),
+                        resilience.getOpenDuration(),
+                        Clock.systemUTC()),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.newwork.employee.config;
+
+import com.newwork.employee.service.client.resilience.UpstreamGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the AI upstream's circuit and bulkhead under /actuator/health (component "aiService").
+ *
+ * Always UP: AI polishing is optional, and an open circuit must not take the instance out of
+ * the load balancer while profiles and the directory are still served normally.
+ */
+@Component("aiService")
+@RequiredArgsConstructor
+public class AiServiceHealthIndicator implements HealthIndicator {
+
+    private final UpstreamGuard aiUpstreamGuard;
+
+    @Override
+    public Health health() {
+        return Health.up()
+                .withDetail("circuit", aiUpstreamGuard.getCircuitState().name())
+                .withDetail("availableSlots", aiUpstreamGuard.getAvailableSlots())
+                .withDetail("maxConcurrentCalls", aiUpstreamGuard.getMaxConcurrentCalls())
+                .withDetail("rejectedCalls", (long) aiUpstreamGuard.getRejectedCalls())
+                .build();
+    }
+}
@@ -1,8 +1,10 @@
 package com.newwork.employee.config;
 
 import com.newwork.employee.entity.EmployeeProfile;
+import com.newwork.employee.entity.FeedbackStats;
 import com.newwork.employee.entity.User;
 import com.newwork.employee.repository.EmployeeProfileRepository;
+import com.newwork.employee.repository.FeedbackStatsRepository;
 import com.newwork.employee.repository.UserRepository;
 import graphql.scalars.ExtendedScalars;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +30,7 @@ public class GraphQLConfig {
 
     private final UserRepository userRepository;
     private final EmployeeProfileRepository profileRepository;
+    private final FeedbackStatsRepository feedbackStatsRepository;
 
     @Bean
     public RuntimeWiringConfigurer runtimeWiringConfigurer() {
@@ -61,6 +64,16 @@ public class GraphQLConfig {
                         return Flux.fromIterable(userIds)
                                 .map(profileMap::get);
                     });
+
+            // One primary key lookup for the whole page; users without feedback get zero counts
+            registry.forTypePair(UUID.class, FeedbackStats.class)
+                    .registerBatchLoader((userIds, env) -> {
+                        Map<UUID, FeedbackStats> statsMap = feedbackStatsRepository.findAllById(userIds).stream()
+                                .collect(Collectors.toMap(FeedbackStats::getUserId, Function.identity()));
+
+                        return Flux.fromIterable(userIds)
+                                .map(userId -> statsMap.getOrDefault(userId, FeedbackStats.empty(userId)));
+                    });
         };
     }
 }
@@ -1,7 +1,11 @@
 package com.newwork.employee.config;
 
 import com.newwork.employee.config.properties.SecurityProperties;
+import com.newwork.employee.security.AdaptiveBCryptPasswordEncoder;
+import com.newwork.employee.security.BoundedPasswordEncoder;
 import com.newwork.employee.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -16,8 +20,8 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -38,10 +42,12 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
     private final SecurityProperties securityProperties;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   AuthenticationProvider authenticationProvider) throws Exception {
         http
                 // Disable CSRF as we're using JWT tokens (stateless)
                 .csrf(AbstractHttpConfigurer::disable)
@@ -64,8 +70,13 @@ public class SecurityConfig {
                                 "/actuator/info/**"
                         ).permitAll()
                         .requestMatchers("/error").permitAll()
+                        // Content-addressed photos - <img> tags cannot send bearer tokens (see PhotoController)
+                        .requestMatchers(HttpMethod.GET, "/api/photos/**").permitAll()
                         // GraphQL endpoint - requires authentication but handled by @AuthenticationPrincipal
                         .requestMatchers("/graphql").authenticated()
+                        // GraphQL WebSocket - browsers cannot send headers on the handshake,
+                        // so the token is checked on connection_init (GraphQlWebSocketAuthInterceptor)
+                        .requestMatchers("/graphql-ws").permitAll()
 
                         // All other requests require authentication
                         .anyRequest().authenticated()
@@ -77,7 +88,7 @@ public class SecurityConfig {
                 )
 
                 // Set authentication provider
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
 
                 // Add JWT filter before UsernamePasswordAuthenticationFilter
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -86,10 +97,12 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Rehash on successful login when the stored hash is not at the target cost
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -98,9 +111,18 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt at a calibrated cost (see {@link AdaptiveBCryptPasswordEncoder}), run on a bounded
+     * pool (see {@link BoundedPasswordEncoder}) so login bursts are shed with 429 instead of
+     * exhausting the request threads.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        AdaptiveBCryptPasswordEncoder bcrypt = AdaptiveBCryptPasswordEncoder.fromProperties(securityProperties.getHashing());
+        Gauge.builder("auth.password.cost", bcrypt, AdaptiveBCryptPasswordEncoder::getTargetCost)
+                .description("BCrypt cost used for new and upgraded password hashes")
+                .register(meterRegistry);
+        return new BoundedPasswordEncoder(bcrypt, securityProperties.getLogin(), meterRegistry);
     }
 
     @Bean
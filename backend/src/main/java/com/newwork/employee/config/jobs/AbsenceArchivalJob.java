@@ -0,0 +1,31 @@
+package com.newwork.employee.config.jobs;
+
+import com.newwork.employee.service.AbsenceArchivalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Scheduled job that moves old completed and rejected absences to the archive table.
+ * Runs daily at 3:00 AM by default, after the completion job has closed expired absences.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AbsenceArchivalJob {
+
+    private final AbsenceArchivalService absenceArchivalService;
+
+    @Scheduled(cron = "${app.absence.archive.cron:0 0 3 * * *}")
+    public void archiveClosedAbsences() {
+        log.info("Starting scheduled task: Archive closed absence requests");
+        try {
+            absenceArchivalService.archiveClosedAbsences(LocalDate.now());
+        } catch (Exception e) {
+            log.error("Error archiving closed absence requests", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.newwork.employee.config.jobs;
+
+import com.newwork.employee.service.AbsenceLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that replays the absence ledger and repairs drifted balance snapshots.
+ * Snapshots are maintained incrementally, so this only corrects manual edits or bugs.
+ * Runs weekly on Sunday at 3:30 AM by default.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AbsenceBalanceReconciliationJob {
+
+    private final AbsenceLedgerService absenceLedgerService;
+
+    @Scheduled(cron = "${app.absence.ledger.reconcile-cron:0 30 3 * * SUN}")
+    public void reconcileBalances() {
+        log.info("Starting scheduled task: Reconcile absence balance snapshots");
+        try {
+            int corrected = absenceLedgerService.reconcileSnapshots();
+            if (corrected > 0) {
+                log.warn("Corrected {} absence balance snapshot(s) that drifted from the ledger", corrected);
+            }
+        } catch (Exception e) {
+            log.error("Error reconciling absence balance snapshots", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.newwork.employee.config.jobs;
+
+import com.newwork.employee.config.properties.CacheProperties;
+import com.newwork.employee.repository.EntityChangeOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that deletes cache invalidation events older than the configured retention.
+ * Runs hourly by default; listeners only ever re-read the last few seconds of the outbox.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityChangeOutboxPruneJob {
+
+    private final EntityChangeOutboxRepository outboxRepository;
+    private final CacheProperties cacheProperties;
+
+    @Scheduled(cron = "${app.cache.invalidation.prune-cron:0 45 * * * *}")
+    public void pruneOutbox() {
+        log.info("Starting scheduled task: Prune entity change outbox");
+        try {
+            int deleted = outboxRepository.deleteOlderThan(cacheProperties.getInvalidation().getRetention());
+            log.info("Pruned {} entity change outbox rows", deleted);
+        } catch (Exception e) {
+            log.error("Error pruning entity change outbox", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.newwork.employee.config.jobs;
+
+import com.newwork.employee.service.FeedbackPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Scheduled job that pre-creates upcoming feedback partitions and archives expired ones.
+ * Runs at startup and daily at 2:15 AM by default.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackPartitionMaintenanceJob {
+
+    private final FeedbackPartitionService feedbackPartitionService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.feedback.partitions.maintenance-cron:0 15 2 * * *}")
+    public void maintainPartitions() {
+        log.info("Starting scheduled task: Maintain feedback partitions");
+        LocalDate today = LocalDate.now();
+        try {
+            feedbackPartitionService.ensurePartitions(today);
+        } catch (Exception e) {
+            log.error("Error creating feedback partitions", e);
+        }
+        try {
+            feedbackPartitionService.archiveExpiredPartitions(today);
+        } catch (Exception e) {
+            log.error("Error archiving feedback partitions", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.newwork.employee.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for moving closed absences to the archive table.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.absence.archive")
+public class AbsenceArchiveProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Completed or rejected absences closed longer ago than this are archived.
+     */
+    private int retentionMonths = 12;
+
+    /**
+     * Rows moved per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Pause between batches, to leave I/O and WAL headroom for live traffic.
+     */
+    private Duration pauseBetweenBatches = Duration.ofMillis(200);
+
+    /**
+     * Upper bound on batches per run; the remainder is picked up by the next run.
+     */
+    private int maxBatchesPerRun = 200;
+}
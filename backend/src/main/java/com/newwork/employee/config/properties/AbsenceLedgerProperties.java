@@ -0,0 +1,24 @@
+package com.newwork.employee.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for the absence balance ledger and its reconciliation job.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.absence.ledger")
+public class AbsenceLedgerProperties {
+
+    /**
+     * Users replayed per reconciliation transaction.
+     */
+    private int reconcileChunkSize = 500;
+
+    /**
+     * Chunks replayed concurrently (each on its own connection).
+     */
+    private int reconcileParallelism = 4;
+}
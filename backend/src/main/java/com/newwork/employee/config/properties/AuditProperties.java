@@ -0,0 +1,62 @@
+package com.newwork.employee.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the asynchronous field-level audit trail.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    /**
+     * Records held in memory waiting to be written. When full, further records go straight to
+     * the journal instead of blocking the request that produced them.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Most records written per JDBC batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Longest a batch lingers for more records before it is written.
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * Directory of the overflow journal (JSON lines). Must survive restarts to be useful.
+     */
+    private Path journalDir = Path.of("data", "audit");
+
+    /**
+     * How often journaled records are retried against the database.
+     */
+    private Duration journalReplayInterval = Duration.ofMinutes(1);
+
+    /**
+     * How long shutdown waits for the writer to finish its current batch; whatever is
+     * still queued afterwards is journaled.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * How often the writer reports in the database how far it has written. The profile change
+     * feed holds back profiles whose audit rows some instance may still be writing.
+     */
+    private Duration progressInterval = Duration.ofSeconds(2);
+
+    /**
+     * An instance that has not reported its progress for this long is considered gone: the
+     * feed stops waiting for it. Records left in a dead instance's journal are written when it
+     * restarts, after the feed may already have served their profiles.
+     */
+    private Duration progressTimeout = Duration.ofMinutes(5);
+}
@@ -0,0 +1,73 @@
+package com.newwork.employee.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for in-process caches and the cross-node invalidation bus that keeps them fresh.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    private final Invalidation invalidation = new Invalidation();
+    private final DisplayNames displayNames = new DisplayNames();
+    private final ProfileJson profileJson = new ProfileJson();
+
+    @Data
+    public static class Invalidation {
+        /**
+         * Run the LISTEN loop on this node. Changes are still written to the outbox when disabled,
+         * but GraphQL subscriptions here then only hear about changes made on this node.
+         */
+        private boolean enabled = true;
+
+        /**
+         * PostgreSQL NOTIFY channel.
+         */
+        private String channel = "entity_change";
+
+        /**
+         * Longest the listener waits for a notification before polling the outbox anyway.
+         * Bounds staleness when a notification is lost.
+         */
+        private Duration pollInterval = Duration.ofSeconds(5);
+
+        /**
+         * Outbox rows read per query.
+         */
+        private int batchSize = 500;
+
+        /**
+         * Outbox rows older than this are pruned. A node disconnected for longer clears its caches.
+         */
+        private Duration retention = Duration.ofHours(24);
+    }
+
+    @Data
+    public static class DisplayNames {
+        /**
+         * Upper bound on staleness even if every invalidation were lost.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        private int maxSize = 10_000;
+    }
+
+    @Data
+    public static class ProfileJson {
+        /**
+         * Entries are keyed by profile version, so this only bounds how long unread entries linger.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * Entries across all users and relationship tiers (a profile has at most four).
+         */
+        private int maxSize = 5_000;
+    }
+}
@@ -0,0 +1,32 @@
+package com.newwork.employee.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration for the working-day calendar used to size absences.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.calendar")
+public class CalendarProperties {
+
+    /**
+     * Holiday file (region,date,name per line).
+     */
+    private String holidaysLocation = "classpath:calendar/holidays.csv";
+
+    /**
+     * Region used when a profile's office location has no mapping.
+     */
+    private String defaultRegion = "DE";
+
+    /**
+     * Office location (case-insensitive) to holiday region, e.g. "Munich Office" -> DE-BY.
+     */
+    private Map<String, String> officeRegions = new LinkedHashMap<>();
+}
@@ -0,0 +1,20 @@
+package com.newwork.employee.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for streaming directory/profile exports.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+
+    /**
+     * Rows fetched per round trip from the server-side cursor.
+     * Bounds heap usage independently of headcount.
+     */
+    private int fetchSize = 500;
+}
@@ -0,0 +1,25 @@
+package com.newwork.employee.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration for maintaining the monthly feedback partitions.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.feedback.partitions")
+public class FeedbackPartitionProperties {
+
+    /**
+     * Future months kept pre-created, so inserts never hit a missing partition.
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Months kept attached (including the current one). Older partitions are detached into
+     * the feedback_archive schema and no longer appear in feeds. 0 disables archival.
+     */
+    private int retentionMonths = 36;
+}
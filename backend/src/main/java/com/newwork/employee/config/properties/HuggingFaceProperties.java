@@ -1,6 +1,7 @@
 package com.newwork.employee.config.properties;
 
 import jakarta.annotation.PostConstruct;
+import com.newwork.employee.service.client.transport.TransportType;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -41,10 +42,110 @@ public class HuggingFaceProperties {
     private String apiKey;
 
     /**
-     * Blocking timeout for REST calls.
+     * Read timeout for REST calls: longest wait for the upstream's response.
      */
     private Duration timeout = Duration.ofSeconds(10);
 
+    /**
+     * Connect timeout for REST calls.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    private final Transport transport = new Transport();
+
+    private final Resilience resilience = new Resilience();
+
+    private final Batching batching = new Batching();
+
+    /**
+     * Concurrent polish calls are grouped into one multi-item prompt, because the upstream
+     * rate-limits per request rather than per item.
+     */
+    @Data
+    public static class Batching {
+        /**
+         * When disabled every polish call is its own upstream request.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Texts per upstream request; a full batch is sent immediately.
+         */
+        private int maxBatchSize = 8;
+
+        /**
+         * Longest a text waits for others to join its batch.
+         */
+        private Duration maxWait = Duration.ofMillis(50);
+    }
+
+    /**
+     * HTTP stack for upstream requests.
+     */
+    @Data
+    public static class Transport {
+        /**
+         * JDK (pooled HttpClient, HTTP/2) or SIMPLE (HttpURLConnection).
+         */
+        private TransportType type = TransportType.JDK;
+
+        /**
+         * Negotiate HTTP/2 via ALPN; the JDK transport falls back to HTTP/1.1 when the upstream does not offer it.
+         */
+        private boolean http2 = true;
+
+        /**
+         * Idle HTTP/1.1 connections kept for reuse; 0 keeps the JDK default (unbounded).
+         */
+        private int maxConnections = 16;
+
+        /**
+         * Pooled connections idle for longer than this are closed.
+         */
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        /**
+         * Request gzip-compressed responses.
+         */
+        private boolean gzip = true;
+    }
+
+    /**
+     * Bulkhead and circuit breaker around every upstream request.
+     */
+    @Data
+    public static class Resilience {
+        /**
+         * Upstream requests allowed in flight at once.
+         */
+        private int maxConcurrentCalls = 8;
+
+        /**
+         * Longest a request waits for a free slot before being refused; zero refuses immediately.
+         */
+        private Duration maxWaitForSlot = Duration.ZERO;
+
+        /**
+         * Failure percentage over the sliding window that opens the circuit.
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * Number of most recent calls the failure rate is computed over.
+         */
+        private int slidingWindowSize = 20;
+
+        /**
+         * Calls recorded before the failure rate is evaluated at all.
+         */
+        private int minimumCalls = 10;
+
+        /**
+         * How long an open circuit refuses calls before letting a probe through.
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
     /**
      * Validates configuration on startup.
      * Ensures API key is configured when AI features are enabled.
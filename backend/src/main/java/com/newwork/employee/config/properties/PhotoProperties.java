@@ -0,0 +1,51 @@
+package com.newwork.employee.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for uploaded profile photos and their content-addressed file store.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.photos")
+public class PhotoProperties {
+
+    /**
+     * Root of the file store. Files are immutable once written, so replicas can share it over
+     * any file system that supports atomic renames.
+     */
+    private Path storageDir = Path.of("data", "photos");
+
+    /**
+     * Largest accepted upload. Keep spring.servlet.multipart.max-file-size in line.
+     */
+    private DataSize maxUploadSize = DataSize.ofMegabytes(5);
+
+    /**
+     * Largest accepted image in pixels, checked from the header before decoding so a small
+     * file cannot expand into a huge bitmap. 16M pixels (a 12 MP phone photo fits) decode to
+     * about 48 MB.
+     */
+    private long maxPixels = 16_000_000;
+
+    /**
+     * Uploads decoded at once on this node; each holds a full bitmap in memory.
+     */
+    private int maxConcurrentDecodes = 2;
+
+    /**
+     * Longest an upload waits for a decode slot before it is rejected with 429.
+     */
+    private Duration decodeWait = Duration.ofSeconds(2);
+
+    /**
+     * JPEG quality of rendered thumbnails (0-1).
+     */
+    private float thumbnailQuality = 0.85f;
+}
@@ -0,0 +1,23 @@
+package com.newwork.employee.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the incremental profile change feed consumed by downstream sync jobs.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.profile-changes")
+public class ProfileChangeFeedProperties {
+
+    /**
+     * Largest difference between the clocks of the instances. Profiles updated this long before
+     * an audit writer's oldest pending change are held back too, in case another instance with a
+     * slower clock updated them after that change.
+     */
+    private Duration clockSkew = Duration.ofSeconds(1);
+}
@@ -3,10 +3,11 @@ package com.newwork.employee.config.properties;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
- * Externalized security configuration (CORS + demo toggles).
+ * Externalized security configuration (CORS, demo toggles, login admission control, hashing).
  */
 @Data
 @ConfigurationProperties(prefix = "app.security")
@@ -14,6 +15,8 @@ public class SecurityProperties {
 
     private final Cors cors = new Cors();
     private final Demo demo = new Demo();
+    private final Login login = new Login();
+    private final Hashing hashing = new Hashing();
 
     @Data
     public static class Cors {
@@ -27,4 +30,66 @@ public class SecurityProperties {
     public static class Demo {
         private boolean switchUserEnabled = false;
     }
+
+    /**
+     * Password verification runs on a dedicated bounded pool so a login storm cannot
+     * occupy every request thread with BCrypt work.
+     */
+    @Data
+    public static class Login {
+        /**
+         * Threads dedicated to password hashing; 0 means half the available processors (min 1).
+         */
+        private int verificationThreads = 0;
+
+        /**
+         * Verifications allowed to wait for a thread before new logins are rejected with 429.
+         */
+        private int queueCapacity = 32;
+
+        /**
+         * Upper bound a login waits for its verification before being rejected.
+         */
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        /**
+         * Value advertised in the Retry-After header when a login is rejected.
+         */
+        private Duration retryAfter = Duration.ofSeconds(2);
+
+        public int resolvedVerificationThreads() {
+            if (verificationThreads > 0) {
+                return verificationThreads;
+            }
+            return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+    }
+
+    /**
+     * BCrypt work factor. Hashes at any other cost are upgraded on the next successful login.
+     */
+    @Data
+    public static class Hashing {
+        /**
+         * Fixed BCrypt cost; 0 means calibrate at startup against {@link #targetLatency}.
+         * Set it to the same value on every node to also rehash passwords down to it; a
+         * calibrated cost only ever rehashes upwards.
+         */
+        private int cost = 0;
+
+        /**
+         * Latency budget for a single hash when calibrating.
+         */
+        private Duration targetLatency = Duration.ofMillis(100);
+
+        /**
+         * Calibration never goes below this cost, even on slow hosts.
+         */
+        private int minCost = 10;
+
+        /**
+         * Calibration never goes above this cost, even on fast hosts.
+         */
+        private int maxCost = 14;
+    }
 }
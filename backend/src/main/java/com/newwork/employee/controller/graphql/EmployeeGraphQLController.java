@@ -1,29 +1,45 @@
 package com.newwork.employee.controller.graphql;
 
+import com.newwork.employee.dto.AbsenceCalendarDTO;
+import com.newwork.employee.dto.BulkAbsenceStatusResultDTO;
 import com.newwork.employee.dto.EmployeeAbsenceDTO;
 import com.newwork.employee.dto.CoworkerDTO;
+import com.newwork.employee.dto.PeopleBySkillsPage;
+import com.newwork.employee.dto.ProfileChangesPage;
 import com.newwork.employee.dto.ProfileDTO;
+import com.newwork.employee.dto.request.BulkUpdateAbsenceStatusRequest;
 import com.newwork.employee.entity.EmployeeProfile;
 import com.newwork.employee.entity.User;
 import com.newwork.employee.security.AuthenticatedUser;
 import com.newwork.employee.security.AuthenticatedUserAccessor;
+import com.newwork.employee.service.AbsenceCalendarService;
 import com.newwork.employee.service.AbsenceService;
 import com.newwork.employee.service.DirectoryService;
+import com.newwork.employee.service.ProfileChangeService;
 import com.newwork.employee.service.ProfileService;
+import com.newwork.employee.service.SkillService;
+import com.newwork.employee.service.event.SubscriptionEventHub;
+import com.newwork.employee.service.skill.SkillMatchMode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 /**
- * GraphQL controller aggregating employee-related queries (profile, directory, absences).
+ * GraphQL controller aggregating employee-related queries (profile, directory, absences),
+ * absence status mutations and the absence subscription.
  * Also handles User.profile field resolution with permission-based filtering.
  */
 @Controller
@@ -33,6 +49,10 @@ public class EmployeeGraphQLController {
     private final ProfileService profileService;
     private final DirectoryService directoryService;
     private final AbsenceService absenceService;
+    private final AbsenceCalendarService absenceCalendarService;
+    private final SkillService skillService;
+    private final ProfileChangeService profileChangeService;
+    private final SubscriptionEventHub subscriptionEventHub;
 
     @QueryMapping
     public ProfileDTO profile(
@@ -46,23 +66,74 @@ public class EmployeeGraphQLController {
             @Argument String search,
             @Argument String department,
             @Argument Boolean directReportsOnly,
+            @Argument Boolean allReportsOnly,
             @AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
-        return directoryService.getDirectory(authenticatedUser.getUserId(), search, department, directReportsOnly);
+        return directoryService.getDirectory(
+                authenticatedUser.getUserId(), search, department, directReportsOnly, allReportsOnly);
+    }
+
+    @QueryMapping
+    public PeopleBySkillsPage peopleBySkills(
+            @Argument List<String> skills,
+            @Argument SkillMatchMode match,
+            @Argument Integer first,
+            @Argument String after,
+            @AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
+        return skillService.findPeopleBySkills(authenticatedUser.getUserId(), skills, match, first, after);
+    }
+
+    @QueryMapping
+    public ProfileChangesPage profileChanges(
+            @Argument String since,
+            @Argument Integer first,
+            @AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
+        return profileChangeService.getChanges(authenticatedUser.getUserId(), since, first);
     }
 
     @QueryMapping
     public List<EmployeeAbsenceDTO> myAbsenceRequests(
+            @Argument Boolean includeHistory,
             @AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
-        return absenceService.getMyRequests(authenticatedUser.getUserId());
+        return absenceService.getMyRequests(authenticatedUser.getUserId(), Boolean.TRUE.equals(includeHistory));
     }
 
     @QueryMapping
     @PreAuthorize("hasRole('MANAGER')")
     public List<EmployeeAbsenceDTO> pendingAbsenceRequests(
+            @Argument Boolean includeIndirectReports,
             @AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
+        if (Boolean.TRUE.equals(includeIndirectReports)) {
+            return absenceService.getPendingForReportingTree(authenticatedUser.getUserId());
+        }
         return absenceService.getPendingForManager(authenticatedUser.getUserId());
     }
 
+    @QueryMapping
+    public AbsenceCalendarDTO absenceCalendar(
+            @Argument String from,
+            @Argument String to,
+            @Argument String department,
+            @AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
+        return absenceCalendarService.getCalendar(
+                authenticatedUser.getUserId(), parseDate("from", from), parseDate("to", to), department);
+    }
+
+    @MutationMapping
+    @PreAuthorize("hasRole('MANAGER')")
+    public BulkAbsenceStatusResultDTO updateAbsenceStatuses(
+            @Argument List<UUID> ids,
+            @Argument String action,
+            @Argument String note,
+            @AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
+        return absenceService.updateStatuses(authenticatedUser.getUserId(),
+                new BulkUpdateAbsenceStatusRequest(ids, action, note));
+    }
+
+    @SubscriptionMapping
+    public Flux<EmployeeAbsenceDTO> absenceRequestsChanged(@AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
+        return subscriptionEventHub.absenceChangesFor(authenticatedUser.getUserId());
+    }
+
     @SchemaMapping(typeName = "User", field = "profile")
     public CompletableFuture<ProfileDTO> userProfile(User user, org.dataloader.DataLoader<UUID, EmployeeProfile> loader) {
         UUID viewerId = AuthenticatedUserAccessor.currentUserId();
@@ -70,4 +141,11 @@ public class EmployeeGraphQLController {
             .thenApply(profile -> profileService.toProfileDtoForViewer(profile, viewerId, user.getId()));
     }
 
+    private static LocalDate parseDate(String name, String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(name + " must be an ISO date (yyyy-MM-dd)");
+        }
+    }
 }
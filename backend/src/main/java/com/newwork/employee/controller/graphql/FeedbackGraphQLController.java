@@ -1,14 +1,21 @@
 package com.newwork.employee.controller.graphql;
 
+import com.newwork.employee.dto.CoworkerDTO;
 import com.newwork.employee.dto.FeedbackDTO;
+import com.newwork.employee.dto.FeedbackPage;
+import com.newwork.employee.entity.FeedbackStats;
 import com.newwork.employee.entity.User;
 import com.newwork.employee.service.FeedbackService;
+import com.newwork.employee.service.event.SubscriptionEventHub;
 import com.newwork.employee.security.AuthenticatedUserAccessor;
 import lombok.RequiredArgsConstructor;
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
 public class FeedbackGraphQLController {
 
     private final FeedbackService feedbackService;
+    private final SubscriptionEventHub subscriptionEventHub;
 
     @QueryMapping
     public List<FeedbackDTO> feedbackForUser(@Argument UUID userId) {
@@ -43,6 +51,23 @@ public class FeedbackGraphQLController {
         return feedbackService.getFeedbackByRecipient(recipientId);
     }
 
+    @QueryMapping
+    public FeedbackPage teamFeedback(@Argument Integer first, @Argument String after) {
+        UUID managerId = AuthenticatedUserAccessor.currentUserId();
+        return feedbackService.getTeamFeedback(managerId, first, after);
+    }
+
+    @QueryMapping
+    public FeedbackPage searchFeedback(@Argument String query, @Argument Integer first, @Argument String after) {
+        UUID viewerId = AuthenticatedUserAccessor.currentUserId();
+        return feedbackService.searchFeedback(viewerId, query, first, after);
+    }
+
+    @SubscriptionMapping
+    public Flux<FeedbackDTO> feedbackReceived() {
+        return subscriptionEventHub.feedbackReceivedBy(AuthenticatedUserAccessor.currentUserId());
+    }
+
     @SchemaMapping(typeName = "Feedback", field = "author")
     public CompletableFuture<User> author(FeedbackDTO feedback, org.dataloader.DataLoader<UUID, User> loader) {
         return loader.load(feedback.getAuthorId());
@@ -53,4 +78,15 @@ public class FeedbackGraphQLController {
         return loader.load(feedback.getRecipientId());
     }
 
+    @SchemaMapping(typeName = "User", field = "feedbackStats")
+    public CompletableFuture<FeedbackStats> userFeedbackStats(User user, DataLoader<UUID, FeedbackStats> loader) {
+        return loader.load(user.getId());
+    }
+
+    @SchemaMapping(typeName = "Coworker", field = "feedbackStats")
+    public CompletableFuture<FeedbackStats> coworkerFeedbackStats(CoworkerDTO coworker,
+                                                                   DataLoader<UUID, FeedbackStats> loader) {
+        return loader.load(coworker.getUserId());
+    }
+
 }
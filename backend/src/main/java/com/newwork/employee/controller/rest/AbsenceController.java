@@ -1,11 +1,16 @@
 package com.newwork.employee.controller.rest;
 
+import com.newwork.employee.dto.AbsenceCalendarDTO;
+import com.newwork.employee.dto.BulkAbsenceStatusResultDTO;
 import com.newwork.employee.dto.EmployeeAbsenceDTO;
+import com.newwork.employee.dto.request.BulkUpdateAbsenceStatusRequest;
 import com.newwork.employee.dto.request.CreateAbsenceRequest;
 import com.newwork.employee.dto.request.UpdateAbsenceStatusRequest;
 import com.newwork.employee.security.AuthenticatedUser;
+import com.newwork.employee.service.AbsenceCalendarService;
 import com.newwork.employee.service.AbsenceService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,11 +19,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 @RestController
@@ -29,6 +36,28 @@ import java.util.UUID;
 public class AbsenceController {
 
     private final AbsenceService absenceService;
+    private final AbsenceCalendarService absenceCalendarService;
+
+    @GetMapping("/calendar")
+    @Operation(
+            summary = "Team absence calendar",
+            description = "Absences overlapping [from, to] (inclusive, at most " + AbsenceCalendarService.MAX_WINDOW_DAYS
+                    + " days) for the viewer's team, or for a department when given, with per-day occupancy. "
+                    + "Absence types are only shown for the viewer's own absences and those of their direct reports."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Calendar", content = @Content(schema = @Schema(implementation = AbsenceCalendarDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid or too large date window"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<AbsenceCalendarDTO> calendar(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "First day (ISO date)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (ISO date)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Department name; defaults to the viewer's team") @RequestParam(required = false) String department
+    ) {
+        return ResponseEntity.ok(absenceCalendarService.getCalendar(user.getUserId(), from, to, department));
+    }
 
     @PostMapping
     @Operation(
@@ -38,7 +67,8 @@ public class AbsenceController {
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Created", content = @Content(schema = @Schema(implementation = EmployeeAbsenceDTO.class))),
             @ApiResponse(responseCode = "400", description = "Validation failed"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized")
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "409", description = "Overlaps an existing pending or approved absence")
     })
     public ResponseEntity<EmployeeAbsenceDTO> submit(
             @AuthenticationPrincipal AuthenticatedUser user,
@@ -58,7 +88,8 @@ public class AbsenceController {
             @ApiResponse(responseCode = "400", description = "Invalid action or body"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden - not a manager or not allowed to update this request"),
-            @ApiResponse(responseCode = "404", description = "Request not found")
+            @ApiResponse(responseCode = "404", description = "Request not found"),
+            @ApiResponse(responseCode = "409", description = "Request is no longer pending")
     })
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<EmployeeAbsenceDTO> updateStatus(
@@ -68,4 +99,24 @@ public class AbsenceController {
     ) {
         return ResponseEntity.ok(absenceService.updateStatus(user.getUserId(), id, request));
     }
+
+    @PatchMapping
+    @Operation(
+            summary = "Bulk update absence status (manager only)",
+            description = "Approve or reject up to " + AbsenceService.MAX_BULK_UPDATE + " pending absences in one atomic statement. "
+                    + "Returns an outcome per ID: UPDATED, NOT_FOUND, FORBIDDEN (not your report's request) or NOT_PENDING."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Per-ID outcomes", content = @Content(schema = @Schema(implementation = BulkAbsenceStatusResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid action, empty or too many IDs"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not a manager")
+    })
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<BulkAbsenceStatusResultDTO> updateStatuses(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Valid @RequestBody BulkUpdateAbsenceStatusRequest request
+    ) {
+        return ResponseEntity.ok(absenceService.updateStatuses(user.getUserId(), request));
+    }
 }
@@ -0,0 +1,69 @@
+package com.newwork.employee.controller.rest;
+
+import com.newwork.employee.security.AuthenticatedUser;
+import com.newwork.employee.service.DirectoryExportService;
+import com.newwork.employee.service.export.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.UUID;
+
+/**
+ * REST controller for bulk directory access.
+ * Interactive directory queries stay on GraphQL (coworkerDirectory); this controller only
+ * serves streaming exports that would be too large to materialize as a GraphQL result.
+ */
+@RestController
+@RequestMapping("/api/directory")
+@RequiredArgsConstructor
+@Tag(name = "Directory", description = "Bulk directory exports")
+@SecurityRequirement(name = "bearerAuth")
+public class DirectoryController {
+
+    private final DirectoryExportService directoryExportService;
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Stream a directory export",
+            description = "Streams every active profile as NDJSON (default) or CSV. " +
+                    "Fields are filtered per row using the same relationship rules as profile reads, " +
+                    "so sensitive columns are only populated for the viewer's own row and reporting tree."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export stream"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+            @Parameter(description = "ndjson or csv") @RequestParam(required = false) String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        UUID viewerId = authenticatedUser.getUserId();
+
+        StreamingResponseBody body = out -> directoryExportService.exportDirectory(viewerId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("directory." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -86,7 +86,7 @@ public class FeedbackController {
     public ResponseEntity<PolishFeedbackResponse> polishFeedback(
             @AuthenticationPrincipal AuthenticatedUser authenticatedUser,
             @Valid @RequestBody PolishFeedbackRequest request) {
-        PolishFeedbackResponse response = feedbackPolishService.polish(request.getText());
+        PolishFeedbackResponse response = feedbackPolishService.polish(authenticatedUser.getUserId(), request.getText());
         return ResponseEntity.ok(response);
     }
 }
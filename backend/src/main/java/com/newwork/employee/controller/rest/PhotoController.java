@@ -0,0 +1,111 @@
+package com.newwork.employee.controller.rest;
+
+import com.newwork.employee.exception.ResourceNotFoundException;
+import com.newwork.employee.service.PhotoService;
+import com.newwork.employee.service.photo.PhotoStore;
+import com.newwork.employee.service.photo.PhotoVariant;
+import com.newwork.employee.service.photo.ProfilePhotoUrls;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * REST controller serving stored profile photos.
+ *
+ * URLs are content-addressed, so responses are cacheable forever and revalidation is a plain ETag
+ * match. Bodies are written without passing through the heap: Tomcat's sendfile when the connector
+ * offers it, otherwise {@link FileChannel#transferTo} into the response channel.
+ * Not behind authentication: {@code <img>} tags cannot send bearer tokens, and the URLs are
+ * unguessable hashes handed out only in authenticated responses.
+ */
+@RestController
+@RequestMapping(ProfilePhotoUrls.BASE_PATH)
+@RequiredArgsConstructor
+@Tag(name = "Photos", description = "Uploaded profile photos and thumbnails")
+public class PhotoController {
+
+    static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable()
+            .getHeaderValue();
+
+    private final PhotoService photoService;
+
+    @GetMapping("/{contentHash}/{variant}")
+    @Operation(summary = "Get a profile photo", description = "variant is original, small (64px) or medium (256px)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Image bytes"),
+            @ApiResponse(responseCode = "304", description = "Not modified (If-None-Match matched)"),
+            @ApiResponse(responseCode = "404", description = "Unknown photo or variant")
+    })
+    public void getPhoto(
+            @Parameter(description = "SHA-256 of the original upload") @PathVariable String contentHash,
+            @PathVariable String variant,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        PhotoStore.StoredPhoto photo = PhotoVariant.fromPathSegment(variant)
+                .flatMap(photoVariant -> photoService.findPhoto(contentHash, photoVariant))
+                .orElseThrow(() -> new ResourceNotFoundException("Photo not found"));
+
+        response.setHeader(HttpHeaders.ETAG, photo.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), photo.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(photo.contentType());
+        response.setContentLengthLong(photo.size());
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            // Tomcat writes the file from the kernel page cache once the handler returns
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, photo.path().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, photo.size());
+            return;
+        }
+        try (FileChannel file = FileChannel.open(photo.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < photo.size()) {
+                position += file.transferTo(position, photo.size() - position, out);
+            }
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
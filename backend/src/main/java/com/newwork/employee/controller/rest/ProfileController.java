@@ -1,8 +1,10 @@
 package com.newwork.employee.controller.rest;
 
 import com.newwork.employee.dto.ProfileDTO;
+import com.newwork.employee.dto.ProfilePhotoDTO;
 import com.newwork.employee.dto.ProfileUpdateDTO;
 import com.newwork.employee.security.AuthenticatedUser;
+import com.newwork.employee.service.PhotoService;
 import com.newwork.employee.service.ProfileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,25 +15,61 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.UUID;
 
 /**
  * REST controller for employee profile management.
- * Provides PATCH endpoint for updating employee profiles.
- * Query operations have been moved to GraphQL for better performance (see ProfileGraphQLController).
+ * Provides PATCH endpoint for updating employee profiles, photo upload, and a GET that writes
+ * pre-serialized profile JSON for hot single-profile reads. Flexible queries stay on GraphQL (see EmployeeGraphQLController).
  */
 @RestController
 @RequestMapping("/api/profiles")
 @RequiredArgsConstructor
-@Tag(name = "Profile Management", description = "REST API for updating employee profiles. Use GraphQL for queries.")
+@Tag(name = "Profile Management", description = "REST API for reading and updating single employee profiles. Use GraphQL for other queries.")
 @SecurityRequirement(name = "bearerAuth")
 public class ProfileController {
 
     private final ProfileService profileService;
+    private final PhotoService photoService;
+
+    /**
+     * Get an employee profile as the viewer is allowed to see it.
+     * The body is written straight from the serialized profile cache.
+     *
+     * @param authenticatedUser the viewer
+     * @param userId the ID of the user whose profile to read
+     * @return ProfileDTO JSON with fields filtered by permissions
+     */
+    @GetMapping("/{userId}")
+    @Operation(
+            summary = "Get employee profile",
+            description = "Same content as the GraphQL profile query with all fields selected. " +
+                    "SENSITIVE fields are only populated for SELF and the direct MANAGER."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Profile",
+                    content = @Content(schema = @Schema(implementation = ProfileDTO.class))
+            ),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing authentication token"),
+            @ApiResponse(responseCode = "404", description = "Profile not found")
+    })
+    public ResponseEntity<byte[]> getProfile(
+            @AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+            @PathVariable UUID userId
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(profileService.getProfileJson(authenticatedUser.getUserId(), userId));
+    }
 
     /**
      * Update employee profile.
@@ -69,4 +107,37 @@ public class ProfileController {
         ProfileDTO updated = profileService.updateProfile(authenticatedUser.getUserId(), userId, updateDTO);
         return ResponseEntity.ok(updated);
     }
+
+    /**
+     * Upload a profile photo.
+     * Stores the original plus thumbnails and points the profile at the new photo.
+     *
+     * @param authenticatedUser the uploader
+     * @param userId the ID of the user whose photo to replace
+     * @param file JPEG or PNG image
+     * @return URLs of the stored variants
+     */
+    @PostMapping(value = "/{userId}/photo", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "Upload profile photo",
+            description = "Accepts a JPEG or PNG (5 MB by default). Same permission as editing NON_SENSITIVE fields: " +
+                    "SELF and MANAGER. The profile's profilePhotoUrl becomes the 256px thumbnail. " +
+                    "The stored original is re-encoded without metadata (EXIF, GPS)."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Photo stored",
+                    content = @Content(schema = @Schema(implementation = ProfilePhotoDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Not a JPEG or PNG, or too many pixels"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User lacks permission to edit this profile"),
+            @ApiResponse(responseCode = "404", description = "Profile not found"),
+            @ApiResponse(responseCode = "413", description = "File too large"),
+            @ApiResponse(responseCode = "429", description = "Too many photos being processed, retry later")
+    })
+    public ResponseEntity<ProfilePhotoDTO> uploadPhoto(
+            @AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+            @PathVariable UUID userId,
+            @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        return ResponseEntity.ok(photoService.uploadProfilePhoto(authenticatedUser.getUserId(), userId, file.getBytes()));
+    }
 }
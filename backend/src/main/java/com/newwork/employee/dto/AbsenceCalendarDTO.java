@@ -0,0 +1,46 @@
+package com.newwork.employee.dto;
+
+import com.newwork.employee.entity.enums.AbsenceStatus;
+import com.newwork.employee.entity.enums.AbsenceType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact team calendar for a date window.
+ * Absences are listed once (clipped to the window) rather than expanded per day;
+ * {@code occupancy[i]} is the number of members out on {@code from + i days}.
+ */
+@Value
+@Builder
+public class AbsenceCalendarDTO {
+    LocalDate from;
+    LocalDate to;
+    List<Member> members;
+    List<Absence> absences;
+    List<Integer> occupancy;
+
+    @Value
+    @Builder
+    public static class Member {
+        UUID userId;
+        String displayName;
+        String department;
+    }
+
+    @Value
+    @Builder
+    public static class Absence {
+        UUID userId;
+        LocalDate startDate;
+        LocalDate endDate;
+        /**
+         * Only populated for the viewer's own absences and those of their direct reports.
+         */
+        AbsenceType type;
+        AbsenceStatus status;
+    }
+}
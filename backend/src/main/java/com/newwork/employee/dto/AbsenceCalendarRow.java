@@ -0,0 +1,20 @@
+package com.newwork.employee.dto;
+
+import com.newwork.employee.entity.enums.AbsenceStatus;
+import com.newwork.employee.entity.enums.AbsenceType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Raw absence overlapping a calendar window, read straight from the period index.
+ * Never leaves the service layer: type visibility is applied before it is returned.
+ */
+public record AbsenceCalendarRow(
+        UUID userId,
+        LocalDate startDate,
+        LocalDate endDate,
+        AbsenceType type,
+        AbsenceStatus status
+) {
+}
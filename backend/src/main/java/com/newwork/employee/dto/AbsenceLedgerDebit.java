@@ -0,0 +1,15 @@
+package com.newwork.employee.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * One APPROVAL ledger entry to append, together with the snapshot delta it implies.
+ */
+public record AbsenceLedgerDebit(
+        UUID userId,
+        UUID absenceId,
+        BigDecimal deltaDays,
+        String note
+) {
+}
@@ -0,0 +1,24 @@
+package com.newwork.employee.dto;
+
+import com.newwork.employee.entity.enums.AbsenceStatus;
+import com.newwork.employee.entity.enums.AbsenceType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Result of a compare-and-set status transition for one requested ID.
+ * Absence columns are only populated when the outcome is UPDATED.
+ */
+public record AbsenceStatusTransitionRow(
+        UUID id,
+        BulkAbsenceStatusResultDTO.Outcome outcome,
+        UUID userId,
+        UUID managerId,
+        LocalDate startDate,
+        LocalDate endDate,
+        AbsenceType type,
+        AbsenceStatus status,
+        String note
+) {
+}
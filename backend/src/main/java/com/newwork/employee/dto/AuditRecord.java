@@ -0,0 +1,29 @@
+package com.newwork.employee.dto;
+
+import com.newwork.employee.entity.enums.ChangedEntity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One changed field, as queued for the audit log and as stored in the overflow journal.
+ *
+ * @param id            assigned when recorded, so a record written twice is stored once
+ * @param subjectUserId employee the change is about
+ * @param actorId       user who made the change
+ * @param oldValue      null for sensitive fields, whose values are never audited
+ * @param newValue      null for sensitive fields, whose values are never audited
+ */
+public record AuditRecord(
+        UUID id,
+        ChangedEntity entityType,
+        UUID entityId,
+        UUID subjectUserId,
+        UUID actorId,
+        String field,
+        String oldValue,
+        String newValue,
+        boolean sensitive,
+        LocalDateTime changedAt
+) {
+}
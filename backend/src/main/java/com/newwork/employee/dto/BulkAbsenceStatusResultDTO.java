@@ -0,0 +1,42 @@
+package com.newwork.employee.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-request outcome of a bulk approve/reject, in the order the IDs were given (duplicates collapsed).
+ */
+@Value
+@Builder
+public class BulkAbsenceStatusResultDTO {
+
+    int updated;
+    List<Item> results;
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        /**
+         * The caller is not the request's manager.
+         */
+        FORBIDDEN,
+        /**
+         * Already approved/rejected, possibly by a concurrent request.
+         */
+        NOT_PENDING
+    }
+
+    @Value
+    @Builder
+    public static class Item {
+        UUID id;
+        Outcome outcome;
+        /**
+         * The updated absence; only present when the outcome is UPDATED.
+         */
+        EmployeeAbsenceDTO absence;
+    }
+}
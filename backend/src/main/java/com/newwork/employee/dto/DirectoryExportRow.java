@@ -0,0 +1,49 @@
+package com.newwork.employee.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Flat, unfiltered directory row read straight from the JDBC cursor during exports.
+ * Never leaves the service layer: field visibility is applied before anything is written.
+ */
+public record DirectoryExportRow(
+        UUID userId,
+        String employeeId,
+        String email,
+        UUID managerId,
+        // SYSTEM_MANAGED
+        String legalFirstName,
+        String legalLastName,
+        String department,
+        String jobCode,
+        String jobFamily,
+        String jobLevel,
+        String employmentStatus,
+        LocalDate hireDate,
+        LocalDate terminationDate,
+        BigDecimal fte,
+        // NON_SENSITIVE
+        String preferredName,
+        String jobTitle,
+        String officeLocation,
+        String workPhone,
+        String workLocationType,
+        String bio,
+        String skills,
+        String profilePhotoUrl,
+        // SENSITIVE
+        String personalEmail,
+        String personalPhone,
+        String homeAddress,
+        String emergencyContactName,
+        String emergencyContactPhone,
+        String emergencyContactRelationship,
+        LocalDate dateOfBirth,
+        String visaWorkPermit,
+        BigDecimal absenceBalanceDays,
+        BigDecimal salary,
+        String performanceRating
+) {
+}
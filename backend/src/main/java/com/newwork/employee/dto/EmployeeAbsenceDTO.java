@@ -4,18 +4,24 @@ import com.newwork.employee.entity.enums.AbsenceStatus;
 import com.newwork.employee.entity.enums.AbsenceType;
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Value
 @Builder
+@Jacksonized
 public class EmployeeAbsenceDTO {
     UUID id;
     UUID userId;
     UUID managerId;
     LocalDate startDate;
     LocalDate endDate;
+    /**
+     * Working days covered, excluding weekends and the owner's regional holidays.
+     */
+    int businessDays;
     AbsenceType type;
     AbsenceStatus status;
     String note;
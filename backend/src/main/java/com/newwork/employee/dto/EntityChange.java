@@ -0,0 +1,17 @@
+package com.newwork.employee.dto;
+
+import com.newwork.employee.entity.enums.ChangedEntity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One committed change read from the entity_change_outbox.
+ *
+ * @param userId    the user the change is about (the entity itself for USER, the owner otherwise)
+ * @param payload   JSON of the DTO GraphQL subscriptions deliver for the change, or null
+ * @param createdAt database time the change was recorded
+ */
+public record EntityChange(long id, ChangedEntity entity, UUID entityId, UUID userId, String payload,
+                           LocalDateTime createdAt) {
+}
@@ -0,0 +1,23 @@
+package com.newwork.employee.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One keyset page of feedback, newest first.
+ */
+@Value
+@Builder
+public class FeedbackPage {
+
+    List<FeedbackDTO> items;
+
+    /**
+     * Cursor of the last item; pass as {@code after} to fetch the next page. Null when the page is empty.
+     */
+    String endCursor;
+
+    boolean hasNextPage;
+}
@@ -0,0 +1,47 @@
+package com.newwork.employee.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One keyset page of a people-by-skills search, people matching most skills first.
+ */
+@Value
+@Builder
+public class PeopleBySkillsPage {
+
+    List<Match> items;
+
+    /**
+     * Active headcount per requested skill, in request order; zero for skills nobody lists.
+     */
+    List<SkillCount> skillCounts;
+
+    /**
+     * Number of matching people across all pages.
+     */
+    long totalCount;
+
+    /**
+     * Cursor of the last item; pass as {@code after} to fetch the next page. Null when the page is empty.
+     */
+    String endCursor;
+
+    boolean hasNextPage;
+
+    @Value
+    @Builder
+    public static class Match {
+        CoworkerDTO person;
+        int matchedSkills;
+    }
+
+    @Value
+    @Builder
+    public static class SkillCount {
+        String skill;
+        long peopleCount;
+    }
+}
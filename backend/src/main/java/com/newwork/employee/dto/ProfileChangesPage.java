@@ -0,0 +1,41 @@
+package com.newwork.employee.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One keyset page of the profile change feed, least recently changed first.
+ */
+@Value
+@Builder
+public class ProfileChangesPage {
+
+    List<Change> items;
+
+    /**
+     * Position to pass as {@code since} on the next call. Keep it after the last page too: it is
+     * where the next sync resumes. Null only when the feed has never had anything to return.
+     */
+    String endCursor;
+
+    boolean hasNextPage;
+
+    @Value
+    @Builder
+    public static class Change {
+        UUID userId;
+        UUID profileId;
+        OffsetDateTime updatedAt;
+
+        /**
+         * Fields changed since the consumer's previous sync that the viewer may see. Empty when
+         * they are not known (initial sync, or a change made outside the audited paths): the
+         * consumer should then re-read the whole profile.
+         */
+        List<String> changedFields;
+    }
+}
@@ -0,0 +1,18 @@
+package com.newwork.employee.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * URLs of a stored profile photo. Each embeds the content hash and is served with immutable caching.
+ */
+@Value
+@Builder
+public class ProfilePhotoDTO {
+    String contentHash;
+    String originalUrl;
+    /** 64px square, used by directory lists. */
+    String smallUrl;
+    /** 256px square, also stored as the profile's profilePhotoUrl. */
+    String mediumUrl;
+}
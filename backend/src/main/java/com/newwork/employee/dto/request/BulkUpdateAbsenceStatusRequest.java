@@ -0,0 +1,24 @@
+package com.newwork.employee.dto.request;
+
+import com.newwork.employee.service.AbsenceService;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record BulkUpdateAbsenceStatusRequest(
+        @NotEmpty(message = "ids are required")
+        @Size(max = AbsenceService.MAX_BULK_UPDATE, message = "at most " + AbsenceService.MAX_BULK_UPDATE + " ids per request")
+        List<@NotNull UUID> ids,
+        @NotBlank(message = "action is required")
+        @Pattern(regexp = "APPROVE|REJECT", flags = Pattern.Flag.CASE_INSENSITIVE, message = "action must be APPROVE or REJECT")
+        String action,
+        String note
+) {
+}
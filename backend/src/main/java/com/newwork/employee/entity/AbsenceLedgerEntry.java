@@ -0,0 +1,59 @@
+package com.newwork.employee.entity;
+
+import com.newwork.employee.entity.enums.AbsenceLedgerEntryType;
+import com.newwork.employee.entity.id.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Append-only absence balance movement. Entries are never updated or deleted;
+ * corrections are new entries.
+ */
+@Entity
+@Immutable
+@Table(name = "absence_ledger_entries")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AbsenceLedgerEntry {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    /**
+     * Source absence, if any. Not a foreign key: archived absences keep their ledger history.
+     */
+    @Column(name = "absence_id")
+    private UUID absenceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 32)
+    private AbsenceLedgerEntryType entryType;
+
+    @Column(name = "delta_days", nullable = false, precision = 6, scale = 2)
+    private BigDecimal deltaDays;
+
+    @Column(name = "note")
+    private String note;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -2,6 +2,7 @@ package com.newwork.employee.entity;
 
 import com.newwork.employee.entity.enums.AbsenceStatus;
 import com.newwork.employee.entity.enums.AbsenceType;
+import com.newwork.employee.entity.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,7 +22,7 @@ import java.util.UUID;
 public class EmployeeAbsence {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -103,6 +103,12 @@ public class EmployeeProfile {
     @Column(name = "profile_photo_url", length = 500)
     private String profilePhotoUrl;
 
+    /**
+     * SHA-256 of the uploaded photo in the photo store; null for externally hosted photos.
+     */
+    @Column(name = "profile_photo_hash", length = 64)
+    private String profilePhotoHash;
+
     // ============================================
     // SENSITIVE FIELDS
     // Visible to employee + manager only, editable by employee only
@@ -132,7 +138,11 @@ public class EmployeeProfile {
     @Column(name = "visa_work_permit", length = 200)
     private String visaWorkPermit;
 
-    @Column(name = "absence_balance_days", precision = 5, scale = 2)
+    /**
+     * Snapshot of the absence ledger, maintained in SQL by the ledger repositories. Never written
+     * from here: saving a profile loaded before an approval would put the old balance back.
+     */
+    @Column(name = "absence_balance_days", precision = 5, scale = 2, insertable = false, updatable = false)
     private BigDecimal absenceBalanceDays;
 
     @Column(name = "salary", precision = 12, scale = 2)
@@ -0,0 +1,46 @@
+package com.newwork.employee.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Denormalized feedback counters of one user. Maintained by an atomic upsert on each feedback
+ * insert (see FeedbackStatsRepository#recordFeedback) and decremented when a month is archived;
+ * read-only through JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "feedback_stats")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedbackStats {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "given_count", nullable = false)
+    private long givenCount;
+
+    @Column(name = "received_count", nullable = false)
+    private long receivedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Stats of a user without any feedback (no row yet).
+     */
+    public static FeedbackStats empty(UUID userId) {
+        return FeedbackStats.builder().userId(userId).build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.newwork.employee.entity;
 
 import com.newwork.employee.entity.enums.Role;
+import com.newwork.employee.entity.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -21,7 +22,7 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "employee_id", unique = true, nullable = false, length = 50)
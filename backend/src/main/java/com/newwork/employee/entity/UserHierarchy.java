@@ -0,0 +1,44 @@
+package com.newwork.employee.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Closure-table row of the reporting hierarchy: {@code descendantId} reports to
+ * {@code ancestorId} at {@code depth} levels below (0 = self, 1 = direct report).
+ * Maintained exclusively by database triggers on {@code users.manager_id}; read-only here.
+ */
+@Entity
+@Immutable
+@Table(name = "user_hierarchy")
+@IdClass(UserHierarchy.Key.class)
+@Getter
+@NoArgsConstructor
+public class UserHierarchy {
+
+    @Id
+    @Column(name = "ancestor_id", nullable = false)
+    private UUID ancestorId;
+
+    @Id
+    @Column(name = "descendant_id", nullable = false)
+    private UUID descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID ancestorId;
+        private UUID descendantId;
+    }
+}
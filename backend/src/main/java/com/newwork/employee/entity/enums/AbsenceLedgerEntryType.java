@@ -0,0 +1,24 @@
+package com.newwork.employee.entity.enums;
+
+public enum AbsenceLedgerEntryType {
+    /**
+     * Balance carried over when the ledger was introduced.
+     */
+    OPENING_BALANCE,
+    /**
+     * Days earned (positive delta).
+     */
+    ACCRUAL,
+    /**
+     * Days consumed by an approved absence (negative delta).
+     */
+    APPROVAL,
+    /**
+     * Days returned when an approved absence is withdrawn (positive delta).
+     */
+    CANCELLATION,
+    /**
+     * Manual correction by HR.
+     */
+    ADJUSTMENT
+}
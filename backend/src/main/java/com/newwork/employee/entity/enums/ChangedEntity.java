@@ -0,0 +1,12 @@
+package com.newwork.employee.entity.enums;
+
+/**
+ * Kind of entity announced on the cache invalidation bus.
+ */
+public enum ChangedEntity {
+    USER,
+    PROFILE,
+    ABSENCE,
+    /** Only announced to GraphQL subscriptions; nothing caches feedback. */
+    FEEDBACK
+}
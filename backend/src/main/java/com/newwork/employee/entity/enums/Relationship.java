@@ -3,5 +3,9 @@ package com.newwork.employee.entity.enums;
 public enum Relationship {
     SELF,
     MANAGER,
+    /**
+     * Viewer manages the profile owner indirectly (two or more levels up the reporting chain).
+     */
+    SKIP_LEVEL_MANAGER,
     COWORKER
 }
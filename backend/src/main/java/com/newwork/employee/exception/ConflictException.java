@@ -0,0 +1,16 @@
+package com.newwork.employee.exception;
+
+/**
+ * Exception thrown when a request conflicts with the current state of a resource.
+ * Maps to HTTP 409 Conflict.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
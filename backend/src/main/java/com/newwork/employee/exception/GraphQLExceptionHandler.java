@@ -31,6 +31,11 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
             return buildError(env, ex.getMessage(), ErrorType.FORBIDDEN);
         }
 
+        if (ex instanceof ConflictException) {
+            log.debug("GraphQL conflict at path {}: {}", path, ex.getMessage());
+            return buildError(env, ex.getMessage(), ErrorType.BAD_REQUEST);
+        }
+
         if (ex instanceof IllegalArgumentException) {
             log.debug("GraphQL BAD_REQUEST at path {}: {}", path, ex.getMessage());
             return buildError(env, ex.getMessage(), ErrorType.BAD_REQUEST);
@@ -0,0 +1,21 @@
+package com.newwork.employee.exception;
+
+import java.time.Duration;
+
+/**
+ * Raised when login admission control sheds load because the password verification
+ * pool is saturated. Maps to HTTP 429 Too Many Requests with a Retry-After header.
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public LoginThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
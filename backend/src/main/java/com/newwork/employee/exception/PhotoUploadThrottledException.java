@@ -0,0 +1,21 @@
+package com.newwork.employee.exception;
+
+import java.time.Duration;
+
+/**
+ * Raised when photo uploads are shed because every decode slot is busy.
+ * Maps to HTTP 429 Too Many Requests with a Retry-After header.
+ */
+public class PhotoUploadThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PhotoUploadThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -5,10 +5,13 @@ import com.newwork.employee.entity.EmployeeProfile;
 import com.newwork.employee.entity.Feedback;
 import com.newwork.employee.entity.User;
 import com.newwork.employee.repository.EmployeeProfileRepository;
+import com.newwork.employee.service.cache.DisplayNameCache;
 import com.newwork.employee.util.DateTimeUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 /**
  * Mapper for converting between Feedback entity and FeedbackDTO.
  */
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Component;
 public class FeedbackMapper {
 
     private final EmployeeProfileRepository profileRepository;
+    private final DisplayNameCache displayNameCache;
 
     /**
      * Convert Feedback entity to FeedbackDTO.
@@ -49,7 +53,11 @@ public class FeedbackMapper {
      * @return Display name
      */
     private String getDisplayName(User user) {
-        EmployeeProfile profile = profileRepository.findByUserId(user.getId())
+        return displayNameCache.get(user.getId(), this::loadDisplayName);
+    }
+
+    private String loadDisplayName(UUID userId) {
+        EmployeeProfile profile = profileRepository.findByUserId(userId)
                 .orElse(null);
 
         if (profile == null) {
@@ -0,0 +1,56 @@
+package com.newwork.employee.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moves closed absences from employee_absences into employee_absences_archive.
+ *
+ * Each call moves one batch with a single statement (DELETE ... RETURNING feeding an INSERT), so a
+ * row is never in both tables or in neither. SKIP LOCKED lets batches run next to live traffic and
+ * concurrent archivers without waiting on row locks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AbsenceArchiveRepository {
+
+    private static final String ARCHIVE_BATCH_SQL = """
+            WITH batch AS (
+                SELECT id FROM employee_absences
+                WHERE status IN ('COMPLETED', 'REJECTED')
+                  AND updated_at < :closedBefore
+                ORDER BY updated_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ),
+            moved AS (
+                DELETE FROM employee_absences a
+                USING batch b
+                WHERE a.id = b.id
+                RETURNING a.id, a.user_id, a.manager_id, a.start_date, a.end_date, a.type, a.status,
+                          a.note, a.created_at, a.updated_at
+            )
+            INSERT INTO employee_absences_archive
+                (id, user_id, manager_id, start_date, end_date, type, status, note, created_at, updated_at)
+            SELECT id, user_id, manager_id, start_date, end_date, type, status, note, created_at, updated_at
+            FROM moved
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Move up to {@code batchSize} absences closed before {@code closedBefore}. Must run in a transaction.
+     *
+     * @return number of absences moved
+     */
+    public int archiveBatch(LocalDateTime closedBefore, int batchSize) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("closedBefore", closedBefore)
+                .addValue("batchSize", batchSize);
+        return jdbcTemplate.update(ARCHIVE_BATCH_SQL, params);
+    }
+}
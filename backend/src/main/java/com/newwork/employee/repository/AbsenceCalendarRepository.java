@@ -0,0 +1,85 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.dto.AbsenceCalendarRow;
+import com.newwork.employee.entity.enums.AbsenceStatus;
+import com.newwork.employee.entity.enums.AbsenceType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plain JDBC overlap queries for the absence calendar.
+ *
+ * Both queries filter on {@code period && daterange(:from, :to, '[]')}, which the GiST index on
+ * employee_absences.period answers as a range scan. Membership is resolved in SQL (closure table
+ * or department join) so large teams never travel to the application as ID lists.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AbsenceCalendarRepository {
+
+    private static final String VISIBLE_STATUSES = "('PENDING', 'APPROVED', 'COMPLETED')";
+
+    private static final String REPORTING_TREE_SQL = """
+            SELECT a.user_id, a.start_date, a.end_date, a.type, a.status
+            FROM employee_absences a
+            JOIN user_hierarchy h ON h.descendant_id = a.user_id
+            WHERE h.ancestor_id = :rootId
+              AND h.depth <= :maxDepth
+              AND a.period && daterange(:from, :to, '[]')
+              AND a.status IN %s
+            ORDER BY a.start_date, a.user_id
+            """.formatted(VISIBLE_STATUSES);
+
+    private static final String DEPARTMENT_SQL = """
+            SELECT a.user_id, a.start_date, a.end_date, a.type, a.status
+            FROM employee_absences a
+            JOIN employee_profiles p ON p.user_id = a.user_id
+            WHERE lower(p.department) = lower(:department)
+              AND p.employment_status = 'ACTIVE'
+              AND a.period && daterange(:from, :to, '[]')
+              AND a.status IN %s
+            ORDER BY a.start_date, a.user_id
+            """.formatted(VISIBLE_STATUSES);
+
+    private static final RowMapper<AbsenceCalendarRow> ROW_MAPPER = (rs, rowNum) -> new AbsenceCalendarRow(
+            rs.getObject("user_id", UUID.class),
+            rs.getDate("start_date").toLocalDate(),
+            rs.getDate("end_date").toLocalDate(),
+            AbsenceType.valueOf(rs.getString("type")),
+            AbsenceStatus.valueOf(rs.getString("status")));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Absences overlapping [from, to] for everyone within {@code maxDepth} levels below {@code rootId}
+     * (depth 0 is the root user).
+     */
+    public List<AbsenceCalendarRow> findOverlappingInReportingTree(UUID rootId, int maxDepth,
+                                                                   LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = window(from, to)
+                .addValue("rootId", rootId)
+                .addValue("maxDepth", maxDepth);
+        return jdbcTemplate.query(REPORTING_TREE_SQL, params, ROW_MAPPER);
+    }
+
+    /**
+     * Absences overlapping [from, to] for active members of a department (case-insensitive).
+     */
+    public List<AbsenceCalendarRow> findOverlappingInDepartment(String department, LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = window(from, to).addValue("department", department);
+        return jdbcTemplate.query(DEPARTMENT_SQL, params, ROW_MAPPER);
+    }
+
+    private static MapSqlParameterSource window(LocalDate from, LocalDate to) {
+        return new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+    }
+}
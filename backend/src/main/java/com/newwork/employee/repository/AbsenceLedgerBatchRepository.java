@@ -0,0 +1,63 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.dto.AbsenceLedgerDebit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Set-based ledger writes for bulk approvals.
+ *
+ * The entries are inserted from parallel arrays and the inserted rows feed a per-user sum that
+ * is applied to the balance snapshots, all in one statement. Approving N absences therefore
+ * costs one round trip regardless of N, and each snapshot row is updated once even when one
+ * user has several approvals in the batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AbsenceLedgerBatchRepository {
+
+    private static final String APPEND_APPROVALS_SQL = """
+            WITH inserted AS (
+                INSERT INTO absence_ledger_entries (user_id, absence_id, entry_type, delta_days, note)
+                SELECT t.user_id, t.absence_id, 'APPROVAL', t.delta_days, t.note
+                FROM unnest(CAST(ARRAY[:userIds] AS uuid[]),
+                            CAST(ARRAY[:absenceIds] AS uuid[]),
+                            CAST(ARRAY[:deltas] AS numeric[]),
+                            CAST(ARRAY[:notes] AS varchar[])) AS t(user_id, absence_id, delta_days, note)
+                RETURNING user_id, delta_days
+            )
+            UPDATE employee_profiles p
+            SET absence_balance_days = COALESCE(p.absence_balance_days, 0) + d.delta,
+                updated_at = now()
+            FROM (
+                SELECT i.user_id, SUM(i.delta_days) AS delta
+                FROM inserted i
+                GROUP BY i.user_id
+            ) d
+            WHERE p.user_id = d.user_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Append APPROVAL entries and apply their summed deltas to the snapshots in one round trip.
+     * Must run inside the caller's transaction.
+     *
+     * @return number of profile snapshots updated
+     */
+    public int appendApprovals(List<AbsenceLedgerDebit> debits) {
+        if (debits.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", debits.stream().map(AbsenceLedgerDebit::userId).toList())
+                .addValue("absenceIds", debits.stream().map(AbsenceLedgerDebit::absenceId).toList())
+                .addValue("deltas", debits.stream().map(AbsenceLedgerDebit::deltaDays).toList())
+                .addValue("notes", debits.stream().map(AbsenceLedgerDebit::note).toList());
+        return jdbcTemplate.update(APPEND_APPROVALS_SQL, params);
+    }
+}
@@ -0,0 +1,61 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.entity.AbsenceLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface AbsenceLedgerRepository extends JpaRepository<AbsenceLedgerEntry, UUID> {
+
+    @Query("""
+            select coalesce(sum(e.deltaDays), 0) from AbsenceLedgerEntry e
+            where e.userId = :userId
+            """)
+    BigDecimal sumDeltaByUserId(@Param("userId") UUID userId);
+
+    @Query("""
+            select distinct e.userId from AbsenceLedgerEntry e
+            order by e.userId
+            """)
+    List<UUID> findAllUserIds();
+
+    /**
+     * Lock the snapshot rows of a chunk so in-flight approvals finish (or wait) before the replay reads the ledger.
+     */
+    @Query(value = """
+            SELECT p.user_id FROM employee_profiles p
+            WHERE p.user_id IN (:userIds)
+            ORDER BY p.user_id
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<UUID> lockSnapshots(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Replay the ledger for a chunk of users and overwrite snapshots that drifted.
+     * Corrected rows get a new updated_at, which is the profile's cache version; it is read from
+     * the clock after the chunk's lock wait rather than at transaction start.
+     *
+     * @return number of snapshots corrected
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE employee_profiles p
+            SET absence_balance_days = l.balance,
+                updated_at = clock_timestamp()
+            FROM (
+                SELECT e.user_id, SUM(e.delta_days) AS balance
+                FROM absence_ledger_entries e
+                WHERE e.user_id IN (:userIds)
+                GROUP BY e.user_id
+            ) l
+            WHERE p.user_id = l.user_id
+              AND p.absence_balance_days IS DISTINCT FROM l.balance
+            """, nativeQuery = true)
+    int reconcileSnapshots(@Param("userIds") Collection<UUID> userIds);
+}
@@ -0,0 +1,95 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.dto.AbsenceStatusTransitionRow;
+import com.newwork.employee.dto.BulkAbsenceStatusResultDTO;
+import com.newwork.employee.entity.enums.AbsenceStatus;
+import com.newwork.employee.entity.enums.AbsenceType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compare-and-set absence status transitions.
+ *
+ * A single statement moves every requested absence that is still PENDING and managed by the
+ * caller, and classifies the rest. The PENDING predicate is re-checked after any row lock wait,
+ * so concurrent approve/reject clicks cannot both win.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AbsenceStatusTransitionRepository {
+
+    private static final String TRANSITION_SQL = """
+            WITH requested AS (
+                SELECT t.id, min(t.ord) AS ord
+                FROM unnest(ARRAY[:ids]) WITH ORDINALITY AS t(id, ord)
+                GROUP BY t.id
+            ),
+            updated AS (
+                UPDATE employee_absences a
+                SET status = :toStatus,
+                    note = CASE WHEN :toStatus = 'REJECTED' THEN :note ELSE a.note END,
+                    updated_at = now()
+                WHERE a.id IN (SELECT id FROM requested)
+                  AND a.manager_id = :managerId
+                  AND a.status = 'PENDING'
+                RETURNING a.id, a.user_id, a.manager_id, a.start_date, a.end_date, a.type, a.status, a.note
+            )
+            SELECT r.id,
+                   CASE WHEN u.id IS NOT NULL THEN 'UPDATED'
+                        WHEN e.id IS NULL THEN 'NOT_FOUND'
+                        WHEN e.manager_id IS DISTINCT FROM :managerId THEN 'FORBIDDEN'
+                        ELSE 'NOT_PENDING'
+                   END AS outcome,
+                   u.user_id, u.manager_id, u.start_date, u.end_date, u.type, u.status, u.note
+            FROM requested r
+            LEFT JOIN updated u ON u.id = r.id
+            LEFT JOIN employee_absences e ON e.id = r.id
+            ORDER BY r.ord
+            """;
+
+    private static final RowMapper<AbsenceStatusTransitionRow> ROW_MAPPER = (rs, rowNum) -> {
+        String type = rs.getString("type");
+        String status = rs.getString("status");
+        return new AbsenceStatusTransitionRow(
+                rs.getObject("id", UUID.class),
+                BulkAbsenceStatusResultDTO.Outcome.valueOf(rs.getString("outcome")),
+                rs.getObject("user_id", UUID.class),
+                rs.getObject("manager_id", UUID.class),
+                toLocalDate(rs.getDate("start_date")),
+                toLocalDate(rs.getDate("end_date")),
+                type != null ? AbsenceType.valueOf(type) : null,
+                status != null ? AbsenceStatus.valueOf(status) : null,
+                rs.getString("note"));
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Move the given PENDING absences managed by {@code managerId} to {@code toStatus} in one round trip.
+     *
+     * @param note stored only for rejections
+     * @return one row per distinct requested ID, in request order
+     */
+    public List<AbsenceStatusTransitionRow> transitionPending(UUID managerId, Collection<UUID> ids,
+                                                              AbsenceStatus toStatus, String note) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("managerId", managerId)
+                .addValue("toStatus", toStatus.name())
+                .addValue("note", note);
+        return jdbcTemplate.query(TRANSITION_SQL, params, ROW_MAPPER);
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
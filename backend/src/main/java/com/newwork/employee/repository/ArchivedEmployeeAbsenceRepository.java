@@ -0,0 +1,12 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.entity.ArchivedEmployeeAbsence;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchivedEmployeeAbsenceRepository extends JpaRepository<ArchivedEmployeeAbsence, UUID> {
+
+    List<ArchivedEmployeeAbsence> findAllByUserIdOrderByStartDateDesc(UUID userId);
+}
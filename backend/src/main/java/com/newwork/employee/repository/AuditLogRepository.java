@@ -0,0 +1,86 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.dto.AuditRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plain JDBC writes to the audit_log (see V21) and to the audit writers' progress (see V26).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_log (id, entity_type, entity_id, subject_user_id, actor_id, field,
+                                   old_value, new_value, sensitive, changed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String REPORT_PROGRESS_SQL = """
+            INSERT INTO audit_writer_progress (instance_id, pending_since, horizon_tx_id, reported_at)
+            VALUES (?, ?, pg_snapshot_xmin(pg_current_snapshot()), clock_timestamp())
+            ON CONFLICT (instance_id) DO UPDATE
+                SET pending_since = EXCLUDED.pending_since,
+                    horizon_tx_id = EXCLUDED.horizon_tx_id,
+                    reported_at = EXCLUDED.reported_at
+            """;
+
+    private static final String PRUNE_PROGRESS_SQL = """
+            DELETE FROM audit_writer_progress
+            WHERE reported_at < clock_timestamp() - make_interval(secs => ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert the records as one JDBC batch. Records already stored (same id) are skipped, so a
+     * batch can safely be written again.
+     */
+    public void insertAll(List<AuditRecord> records) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (statement, record) -> {
+            statement.setObject(1, record.id());
+            statement.setString(2, record.entityType().name());
+            statement.setObject(3, record.entityId());
+            statement.setObject(4, record.subjectUserId());
+            statement.setObject(5, record.actorId());
+            statement.setString(6, record.field());
+            statement.setString(7, record.oldValue());
+            statement.setString(8, record.newValue());
+            statement.setBoolean(9, record.sensitive());
+            statement.setTimestamp(10, Timestamp.valueOf(record.changedAt()));
+        });
+    }
+
+    /**
+     * Report that this instance has written every change recorded before {@code pendingSince}.
+     * The current xmin is stored with it, in the same statement, to cover transactions that are
+     * still running and have not recorded their changes yet.
+     */
+    public void reportProgress(UUID instanceId, LocalDateTime pendingSince) {
+        jdbcTemplate.update(REPORT_PROGRESS_SQL, instanceId, Timestamp.valueOf(pendingSince));
+    }
+
+    /**
+     * Forget this instance's progress once it has nothing left to write.
+     */
+    public void deleteProgress(UUID instanceId) {
+        jdbcTemplate.update("DELETE FROM audit_writer_progress WHERE instance_id = ?", instanceId);
+    }
+
+    /**
+     * Remove the progress of instances that have not reported for longer than {@code silence},
+     * such as ones that crashed; the feed already ignores them.
+     */
+    public int pruneProgress(Duration silence) {
+        return jdbcTemplate.update(PRUNE_PROGRESS_SQL, silence.toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.config.properties.ExportProperties;
+import com.newwork.employee.dto.DirectoryExportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access for bulk directory exports.
+ *
+ * Rows are read through a forward-only, server-side cursor (PostgreSQL only opens one when
+ * auto-commit is off, so callers must invoke this inside a transaction) and handed to the
+ * consumer one at a time. No entities are created and nothing enters the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DirectoryExportRepository {
+
+    private static final String ACTIVE_PROFILES_SQL = """
+            SELECT u.id AS user_id, u.employee_id, u.email, u.manager_id,
+                   p.legal_first_name, p.legal_last_name, p.department, p.job_code, p.job_family,
+                   p.job_level, p.employment_status, p.hire_date, p.termination_date, p.fte,
+                   p.preferred_name, p.job_title, p.office_location, p.work_phone,
+                   p.work_location_type, p.bio, p.skills, p.profile_photo_url,
+                   p.personal_email, p.personal_phone, p.home_address, p.emergency_contact_name,
+                   p.emergency_contact_phone, p.emergency_contact_relationship, p.date_of_birth,
+                   p.visa_work_permit, p.absence_balance_days, p.salary, p.performance_rating
+            FROM employee_profiles p
+            JOIN users u ON u.id = p.user_id
+            WHERE p.employment_status = 'ACTIVE'
+            ORDER BY u.employee_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExportProperties exportProperties;
+
+    /**
+     * Stream every active profile to the consumer in employee ID order.
+     *
+     * @param consumer receives each row; must not retain references if memory is to stay flat
+     */
+    public void forEachActiveProfile(Consumer<DirectoryExportRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(
+                    ACTIVE_PROFILES_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(exportProperties.getFetchSize());
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapRow(rs)));
+    }
+
+    private static DirectoryExportRow mapRow(ResultSet rs) throws SQLException {
+        return new DirectoryExportRow(
+                rs.getObject("user_id", UUID.class),
+                rs.getString("employee_id"),
+                rs.getString("email"),
+                rs.getObject("manager_id", UUID.class),
+                rs.getString("legal_first_name"),
+                rs.getString("legal_last_name"),
+                rs.getString("department"),
+                rs.getString("job_code"),
+                rs.getString("job_family"),
+                rs.getString("job_level"),
+                rs.getString("employment_status"),
+                toLocalDate(rs.getDate("hire_date")),
+                toLocalDate(rs.getDate("termination_date")),
+                rs.getBigDecimal("fte"),
+                rs.getString("preferred_name"),
+                rs.getString("job_title"),
+                rs.getString("office_location"),
+                rs.getString("work_phone"),
+                rs.getString("work_location_type"),
+                rs.getString("bio"),
+                rs.getString("skills"),
+                rs.getString("profile_photo_url"),
+                rs.getString("personal_email"),
+                rs.getString("personal_phone"),
+                rs.getString("home_address"),
+                rs.getString("emergency_contact_name"),
+                rs.getString("emergency_contact_phone"),
+                rs.getString("emergency_contact_relationship"),
+                toLocalDate(rs.getDate("date_of_birth")),
+                rs.getString("visa_work_permit"),
+                rs.getBigDecimal("absence_balance_days"),
+                rs.getBigDecimal("salary"),
+                rs.getString("performance_rating")
+        );
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
@@ -41,16 +41,44 @@ public interface EmployeeAbsenceRepository extends JpaRepository<EmployeeAbsence
             @Param("status") AbsenceStatus status);
 
     @Query("""
-            select count(ar) from EmployeeAbsence ar
-            where ar.manager.id = :managerId
-              and ar.user.id = :userId
-              and ar.status = :status
+            select ar from EmployeeAbsence ar
+            join fetch ar.user u
+            left join fetch ar.manager m
+            where ar.status = :status
+              and u.id in (
+                  select h.descendantId from UserHierarchy h
+                  where h.ancestorId = :managerId
+                    and h.depth > 0
+              )
+            order by ar.startDate asc
             """)
-    long countByManagerAndUserAndStatus(
+    List<EmployeeAbsence> findByReportingTreeAndStatus(
             @Param("managerId") UUID managerId,
-            @Param("userId") UUID userId,
             @Param("status") AbsenceStatus status);
 
+    @Query("""
+            select ar.user.id as userId, count(ar) as total from EmployeeAbsence ar
+            where ar.status = :status
+              and ar.user.id in (
+                  select h.descendantId from UserHierarchy h
+                  where h.ancestorId = :managerId
+                    and h.depth > 0
+              )
+            group by ar.user.id
+            """)
+    List<UserCount> countByReportingTreeAndStatus(
+            @Param("managerId") UUID managerId,
+            @Param("status") AbsenceStatus status);
+
+    /**
+     * Per-user aggregate row.
+     */
+    interface UserCount {
+        UUID getUserId();
+
+        long getTotal();
+    }
+
     @Query("""
             select ar from EmployeeAbsence ar
             join fetch ar.user u
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,6 +28,13 @@ public interface EmployeeProfileRepository extends JpaRepository<EmployeeProfile
      */
     Optional<EmployeeProfile> findByUserId(UUID userId);
 
+    /**
+     * Cache version of a user's profile response: the later of the profile's and the user's last
+     * modification, because the response also carries user columns (email, employee id).
+     */
+    @Query("SELECT GREATEST(p.updatedAt, COALESCE(u.updatedAt, p.updatedAt)) FROM EmployeeProfile p JOIN p.user u WHERE u.id = :userId")
+    Optional<LocalDateTime> findCacheVersionByUserId(@Param("userId") UUID userId);
+
     /**
      * Find all employee profiles by user IDs (for batch loading).
      *
@@ -87,10 +96,55 @@ public interface EmployeeProfileRepository extends JpaRepository<EmployeeProfile
             """)
     List<EmployeeProfile> findAllActiveProfilesWithUserAndManager();
 
+    /**
+     * Fetch active profiles within {@code maxDepth} reporting levels below {@code rootId}
+     * (depth 0 is the root user), using the user_hierarchy closure table.
+     */
+    @Query("""
+            SELECT p FROM EmployeeProfile p
+            JOIN FETCH p.user u
+            WHERE p.employmentStatus = 'ACTIVE'
+              AND u.id IN (
+                  SELECT h.descendantId FROM UserHierarchy h
+                  WHERE h.ancestorId = :rootId
+                    AND h.depth <= :maxDepth
+              )
+            """)
+    List<EmployeeProfile> findActiveInReportingTree(@Param("rootId") UUID rootId, @Param("maxDepth") int maxDepth);
+
+    /**
+     * Fetch active profiles of a department (case-insensitive) along with user data.
+     */
+    @Query("""
+            SELECT p FROM EmployeeProfile p
+            JOIN FETCH p.user u
+            WHERE p.employmentStatus = 'ACTIVE'
+              AND lower(p.department) = lower(:department)
+            """)
+    List<EmployeeProfile> findActiveByDepartment(@Param("department") String department);
+
+    /**
+     * Office location per user (for resolving holiday regions in bulk).
+     */
+    @Query("""
+            SELECT p.user.id AS userId, p.officeLocation AS officeLocation FROM EmployeeProfile p
+            WHERE p.user.id IN :userIds
+            """)
+    List<UserOfficeLocation> findOfficeLocations(@Param("userIds") Collection<UUID> userIds);
+
     /**
      * Delete profile by user ID.
      *
      * @param userId the user ID
      */
     void deleteByUserId(UUID userId);
+
+    /**
+     * Office location projection.
+     */
+    interface UserOfficeLocation {
+        UUID getUserId();
+
+        String getOfficeLocation();
+    }
 }
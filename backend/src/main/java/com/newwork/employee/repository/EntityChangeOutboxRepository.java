@@ -0,0 +1,129 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.dto.EntityChange;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plain JDBC access to the entity_change_outbox (see V18).
+ */
+@Repository
+@RequiredArgsConstructor
+public class EntityChangeOutboxRepository {
+
+    /*
+     * pg_notify inside the writing transaction is only delivered if and when it commits.
+     * One notification per statement; its payload (the highest id) is only a wake-up hint.
+     * Missing event payloads are sent as empty strings, which keeps the array parameter typed.
+     */
+    private static final String APPEND_SQL = """
+            WITH inserted AS (
+                INSERT INTO entity_change_outbox (entity_type, entity_id, user_id, payload)
+                SELECT :entityType, t.entity_id, t.user_id, CAST(NULLIF(t.payload, '') AS jsonb)
+                FROM unnest(CAST(ARRAY[:entityIds] AS uuid[]), CAST(ARRAY[:userIds] AS uuid[]),
+                            CAST(ARRAY[:payloads] AS text[])) AS t(entity_id, user_id, payload)
+                RETURNING id
+            )
+            SELECT pg_notify(:channel, CAST(max(id) AS text)) FROM inserted
+            """;
+
+    /*
+     * xid8 has no cast to bigint; going through text keeps the full 64-bit (epoch-extended) value.
+     */
+    private static final String FIND_FROM_TX_SQL = """
+            SELECT id, entity_type, entity_id, user_id, CAST(payload AS text) AS payload, created_at,
+                   CAST(CAST(tx_id AS text) AS bigint) AS tx_id
+            FROM entity_change_outbox
+            WHERE tx_id >= CAST(CAST(:fromTxId AS text) AS xid8)
+              AND id > :afterId
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<OutboxEntry> ROW_MAPPER = (rs, rowNum) -> new OutboxEntry(
+            new EntityChange(
+                    rs.getLong("id"),
+                    ChangedEntity.valueOf(rs.getString("entity_type")),
+                    rs.getObject("entity_id", UUID.class),
+                    rs.getObject("user_id", UUID.class),
+                    rs.getString("payload"),
+                    rs.getTimestamp("created_at").toLocalDateTime()),
+            rs.getLong("tx_id"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * A committed change together with the id of the transaction that wrote it.
+     */
+    public record OutboxEntry(EntityChange change, long txId) {
+    }
+
+    /**
+     * Record changes in the current transaction and notify listeners when it commits.
+     *
+     * @param entityIds changed entities
+     * @param userIds   affected user of each entity, same order and size as {@code entityIds}
+     * @param payloads  JSON event of each entity for GraphQL subscriptions, null where there is none;
+     *                  same order and size as {@code entityIds}
+     */
+    public void append(String channel, ChangedEntity entity, List<UUID> entityIds, List<UUID> userIds,
+                       List<String> payloads) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("channel", channel)
+                .addValue("entityType", entity.name())
+                .addValue("entityIds", entityIds)
+                .addValue("userIds", userIds)
+                .addValue("payloads", payloads.stream().map(payload -> payload != null ? payload : "").toList());
+        jdbcTemplate.query(APPEND_SQL, params, (rs, rowNum) -> rowNum);
+    }
+
+    /**
+     * Committed changes written by transaction {@code fromTxId} or later, with an id above
+     * {@code afterId}, in id order.
+     */
+    public List<OutboxEntry> findFromTx(long fromTxId, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromTxId", fromTxId)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FIND_FROM_TX_SQL, params, ROW_MAPPER);
+    }
+
+    /**
+     * Oldest transaction id still running. Every transaction below it has committed or rolled
+     * back, so no outbox row with a smaller tx_id can appear any more.
+     */
+    public long currentTxHorizon() {
+        Long horizon = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)", Long.class);
+        return horizon != null ? horizon : 0L;
+    }
+
+    /**
+     * Current database time, in the same clock as created_at.
+     */
+    public LocalDateTime now() {
+        return jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT CAST(clock_timestamp() AS timestamp)", LocalDateTime.class);
+    }
+
+    /**
+     * Delete changes older than the retention.
+     *
+     * @return number of rows deleted
+     */
+    public int deleteOlderThan(Duration retention) {
+        return jdbcTemplate.update(
+                "DELETE FROM entity_change_outbox WHERE created_at < clock_timestamp() - make_interval(secs => CAST(:seconds AS double precision))",
+                new MapSqlParameterSource("seconds", retention.toSeconds()));
+    }
+}
@@ -0,0 +1,71 @@
+package com.newwork.employee.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC access to the feedback partition maintenance functions (see V13 and V23).
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedbackPartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Create the monthly partitions covering [fromMonth, toMonth] that do not exist yet.
+     *
+     * @return number of partitions created
+     */
+    public int createPartitions(LocalDate fromMonth, LocalDate toMonth) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT feedback_create_partitions(?, ?)", Integer.class, fromMonth, toMonth);
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Rows that fell into the DEFAULT partition because their month had no partition yet.
+     */
+    public long countDefaultPartitionRows() {
+        Long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM feedback_default", Long.class);
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * Month of the oldest and newest row in the DEFAULT partition, if it holds any.
+     */
+    public Optional<MonthRange> findDefaultPartitionMonths() {
+        return jdbcTemplate.query("SELECT min(created_at), max(created_at) FROM feedback_default", rs -> {
+            rs.next();
+            Timestamp oldest = rs.getTimestamp(1);
+            Timestamp newest = rs.getTimestamp(2);
+            if (oldest == null || newest == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new MonthRange(
+                    oldest.toLocalDateTime().toLocalDate().withDayOfMonth(1),
+                    newest.toLocalDateTime().toLocalDate().withDayOfMonth(1)));
+        });
+    }
+
+    /**
+     * Inclusive range of months, each given by its first day.
+     */
+    public record MonthRange(LocalDate from, LocalDate to) {
+    }
+
+    /**
+     * Detach partitions ending on or before {@code cutoff} and move them to the feedback_archive schema.
+     *
+     * @return names of the archived partitions
+     */
+    public List<String> archivePartitions(LocalDate cutoff) {
+        return jdbcTemplate.queryForList("SELECT feedback_archive_partitions(?)", String.class, cutoff);
+    }
+}
@@ -0,0 +1,156 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.dto.FeedbackDTO;
+import com.newwork.employee.util.DateTimeUtil;
+import com.newwork.employee.util.KeysetCursor;
+import com.newwork.employee.util.RankedKeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plain JDBC feedback reads that span several recipients.
+ *
+ * Each statement filters, orders and limits in the database and joins author and recipient
+ * display names in, so no per-row profile lookups follow and nothing is filtered in the JVM.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedbackReadRepository {
+
+    private static final String DISPLAY_NAMES = """
+            COALESCE(NULLIF(btrim(ap.preferred_name), ''), ap.legal_first_name || ' ' || ap.legal_last_name,
+                     'Unknown User') AS author_name,
+            COALESCE(NULLIF(btrim(rp.preferred_name), ''), rp.legal_first_name || ' ' || rp.legal_last_name,
+                     'Unknown User') AS recipient_name
+            """;
+
+    /*
+     * Team feed: reports come from idx_users_manager; each report's feedback is a range scan of
+     * idx_feedback_recipient_keyset (recipient_id, created_at DESC, id DESC), which also serves
+     * the keyset predicate.
+     */
+    private static final String TEAM_SQL = """
+            SELECT f.id, f.author_id, f.recipient_id, f.text, f.ai_polished, f.created_at,
+            """ + DISPLAY_NAMES + """
+            FROM users r
+            JOIN feedback f ON f.recipient_id = r.id
+            LEFT JOIN employee_profiles ap ON ap.user_id = f.author_id
+            LEFT JOIN employee_profiles rp ON rp.user_id = f.recipient_id
+            WHERE r.manager_id = :managerId
+            """;
+
+    private static final String TEAM_FIRST_PAGE_SQL = TEAM_SQL + """
+            ORDER BY f.created_at DESC, f.id DESC
+            LIMIT :limit
+            """;
+
+    private static final String TEAM_NEXT_PAGE_SQL = TEAM_SQL + """
+              AND (f.created_at, f.id) < (:afterCreatedAt, :afterId)
+            ORDER BY f.created_at DESC, f.id DESC
+            LIMIT :limit
+            """;
+
+    /*
+     * Search: matches come from the GIN index on text_search; the visibility predicate is the one
+     * of FeedbackRepository#findVisibleFeedbackForUser (author, recipient or recipient's manager),
+     * applied to every recipient at once. Ties in rank fall back to recency.
+     */
+    private static final String SEARCH_SQL = """
+            WITH matches AS (
+                SELECT f.id, f.author_id, f.recipient_id, f.text, f.ai_polished, f.created_at,
+                       ts_rank_cd(f.text_search, q.query) AS rank
+                FROM feedback f
+                JOIN users r ON r.id = f.recipient_id
+                CROSS JOIN websearch_to_tsquery('english', :query) AS q(query)
+                WHERE f.text_search @@ q.query
+                  AND (f.author_id = :viewerId OR f.recipient_id = :viewerId OR r.manager_id = :viewerId)
+            )
+            SELECT m.id, m.author_id, m.recipient_id, m.text, m.ai_polished, m.created_at, m.rank,
+            """ + DISPLAY_NAMES + """
+            FROM matches m
+            LEFT JOIN employee_profiles ap ON ap.user_id = m.author_id
+            LEFT JOIN employee_profiles rp ON rp.user_id = m.recipient_id
+            """;
+
+    private static final String SEARCH_FIRST_PAGE_SQL = SEARCH_SQL + """
+            ORDER BY m.rank DESC, m.created_at DESC, m.id DESC
+            LIMIT :limit
+            """;
+
+    private static final String SEARCH_NEXT_PAGE_SQL = SEARCH_SQL + """
+            WHERE (m.rank, m.created_at, m.id) < (CAST(:afterRank AS real), :afterCreatedAt, :afterId)
+            ORDER BY m.rank DESC, m.created_at DESC, m.id DESC
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<FeedbackDTO> ROW_MAPPER = (rs, rowNum) -> toDto(rs);
+
+    private static final RowMapper<SearchHit> SEARCH_HIT_MAPPER =
+            (rs, rowNum) -> new SearchHit(toDto(rs), rs.getFloat("rank"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Feedback matched by a full-text search together with its relevance.
+     */
+    public record SearchHit(FeedbackDTO feedback, float rank) {
+    }
+
+    /**
+     * Newest feedback about the manager's direct reports, strictly after {@code after} in
+     * (created_at DESC, id DESC) order.
+     *
+     * @param after null for the first page
+     */
+    public List<FeedbackDTO> findTeamPage(UUID managerId, KeysetCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("managerId", managerId)
+                .addValue("limit", limit);
+        if (after == null) {
+            return jdbcTemplate.query(TEAM_FIRST_PAGE_SQL, params, ROW_MAPPER);
+        }
+        params.addValue("afterCreatedAt", after.createdAt())
+                .addValue("afterId", after.id());
+        return jdbcTemplate.query(TEAM_NEXT_PAGE_SQL, params, ROW_MAPPER);
+    }
+
+    /**
+     * Feedback visible to the viewer whose text matches a web-search style query
+     * ({@code "quoted phrases"}, {@code or}, {@code -excluded}), most relevant first.
+     *
+     * @param after null for the first page
+     */
+    public List<SearchHit> search(UUID viewerId, String query, RankedKeysetCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("viewerId", viewerId)
+                .addValue("query", query)
+                .addValue("limit", limit);
+        if (after == null) {
+            return jdbcTemplate.query(SEARCH_FIRST_PAGE_SQL, params, SEARCH_HIT_MAPPER);
+        }
+        params.addValue("afterRank", after.rank())
+                .addValue("afterCreatedAt", after.position().createdAt())
+                .addValue("afterId", after.position().id());
+        return jdbcTemplate.query(SEARCH_NEXT_PAGE_SQL, params, SEARCH_HIT_MAPPER);
+    }
+
+    private static FeedbackDTO toDto(ResultSet rs) throws SQLException {
+        return new FeedbackDTO(
+                rs.getObject("id", UUID.class),
+                rs.getObject("author_id", UUID.class),
+                rs.getString("author_name"),
+                rs.getObject("recipient_id", UUID.class),
+                rs.getString("recipient_name"),
+                rs.getString("text"),
+                rs.getBoolean("ai_polished"),
+                DateTimeUtil.toOffset(rs.getTimestamp("created_at").toLocalDateTime()));
+    }
+}
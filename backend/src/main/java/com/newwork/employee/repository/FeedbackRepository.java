@@ -16,6 +16,10 @@ import java.util.UUID;
  * - Authors can see feedback they wrote
  * - Recipients can see feedback written about them
  * - Managers can see feedback about their direct reports
+ *
+ * The table is range-partitioned by month on created_at (V13). Keep predicates on created_at
+ * as plain comparisons (no functions or casts) so the planner can prune partitions, and keep
+ * ORDER BY created_at DESC so partitions are appended in order without a sort.
  */
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback, UUID> {
@@ -0,0 +1,33 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.entity.FeedbackStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+/**
+ * Per-user feedback counters. Incremented with every insert and decremented when a month is
+ * archived (see feedback_archive_partitions in V24), so they count the attached feedback only.
+ */
+public interface FeedbackStatsRepository extends JpaRepository<FeedbackStats, UUID> {
+
+    /**
+     * Count one feedback for its author and recipient in a single upsert.
+     * Rows are touched in user_id order so two opposite feedbacks (A to B, B to A) cannot deadlock.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO feedback_stats (user_id, given_count, received_count, updated_at)
+            SELECT v.user_id, v.given, v.received, now()
+            FROM (VALUES (CAST(:authorId AS uuid), 1, 0), (CAST(:recipientId AS uuid), 0, 1)) AS v(user_id, given, received)
+            ORDER BY v.user_id
+            ON CONFLICT (user_id) DO UPDATE
+            SET given_count = feedback_stats.given_count + EXCLUDED.given_count,
+                received_count = feedback_stats.received_count + EXCLUDED.received_count,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int recordFeedback(@Param("authorId") UUID authorId, @Param("recipientId") UUID recipientId);
+}
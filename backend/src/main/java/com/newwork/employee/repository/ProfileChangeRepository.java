@@ -0,0 +1,184 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.util.ProfileChangeCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plain JDBC access to the profile change feed.
+ *
+ * A page is a range scan of idx_employee_profiles_tx_keyset starting just after the cursor;
+ * the changed fields are then looked up in audit_log for the page's rows only, so neither side
+ * grows with headcount.
+ *
+ * The feed is ordered by the id of the transaction that wrote each profile version (see V26).
+ * Pages stay below {@link #feedHorizon}, under which every transaction has ended, so a row can
+ * never become visible behind a position a consumer has already passed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProfileChangeRepository {
+
+    private static final String PAGE_SQL = """
+            WITH page AS (
+                SELECT p.id, p.user_id, p.updated_at, p.tx_id
+                FROM employee_profiles p
+                WHERE p.tx_id < CAST(CAST(:until AS text) AS xid8)
+            """;
+
+    private static final String FIRST_PAGE_FILTER = """
+                ORDER BY p.tx_id, p.id
+                LIMIT :limit
+            )
+            """;
+
+    private static final String NEXT_PAGE_FILTER = """
+                  AND (p.tx_id, p.id) > (CAST(CAST(:afterTxId AS text) AS xid8), :afterId)
+                ORDER BY p.tx_id, p.id
+                LIMIT :limit
+            )
+            """;
+
+    private static final String WITHOUT_FIELDS_SQL = """
+            SELECT page.id, page.user_id, page.updated_at, CAST(CAST(page.tx_id AS text) AS bigint) AS tx_id,
+                   u.manager_id,
+                   NULL::text[] AS fields, NULL::text[] AS sensitive_fields
+            FROM page
+            JOIN users u ON u.id = page.user_id
+            ORDER BY page.tx_id, page.id
+            """;
+
+    private static final String WITH_FIELDS_SQL = """
+            SELECT page.id, page.user_id, page.updated_at, CAST(CAST(page.tx_id AS text) AS bigint) AS tx_id,
+                   u.manager_id,
+                   c.fields, c.sensitive_fields
+            FROM page
+            JOIN users u ON u.id = page.user_id
+            LEFT JOIN LATERAL (
+                SELECT array_agg(DISTINCT a.field) FILTER (WHERE NOT a.sensitive) AS fields,
+                       array_agg(DISTINCT a.field) FILTER (WHERE a.sensitive) AS sensitive_fields
+                FROM audit_log a
+                WHERE a.entity_id = page.id
+                  AND a.entity_type = 'PROFILE'
+                  AND a.tx_id >= CAST(CAST(:baseline AS text) AS xid8)
+            ) c ON TRUE
+            ORDER BY page.tx_id, page.id
+            """;
+
+    /**
+     * The lowest of: the current xmin; the xmin each live audit writer reported with its
+     * progress; and the first transaction to update a profile after the oldest change some live
+     * writer has not written yet.
+     */
+    private static final String HORIZON_SQL = """
+            WITH writers AS (
+                SELECT w.pending_since, w.horizon_tx_id
+                FROM audit_writer_progress w
+                WHERE w.reported_at > clock_timestamp() - make_interval(secs => :progressTimeout)
+            )
+            SELECT CAST(CAST(LEAST(
+                       pg_snapshot_xmin(pg_current_snapshot()),
+                       (SELECT w.horizon_tx_id FROM writers w ORDER BY w.horizon_tx_id LIMIT 1),
+                       (SELECT p.tx_id
+                        FROM employee_profiles p
+                        WHERE p.updated_at >= (SELECT min(w.pending_since) FROM writers w)
+                                              - make_interval(secs => :clockSkew)
+                        ORDER BY p.tx_id
+                        LIMIT 1)
+                   ) AS text) AS bigint)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * A profile changed after the cursor, with the fields audited since the baseline.
+     * Field lists are empty when no baseline was given or nothing was audited.
+     *
+     * @param txId feed position: the transaction that wrote this version of the profile
+     */
+    public record ProfileChangeRow(
+            UUID profileId,
+            UUID userId,
+            UUID managerId,
+            LocalDateTime updatedAt,
+            long txId,
+            List<String> fields,
+            List<String> sensitiveFields
+    ) {
+    }
+
+    /**
+     * Transaction id below which the feed is final: every transaction under it has ended, and
+     * every live audit writer has written the changes of the profiles under it. Must be
+     * followed by the page query in a later statement, so it sees those commits.
+     *
+     * @param clockSkew       see {@code app.profile-changes.clock-skew}
+     * @param progressTimeout writers that have not reported for this long are not waited for
+     */
+    public long feedHorizon(Duration clockSkew, Duration progressTimeout) {
+        return jdbcTemplate.queryForObject(HORIZON_SQL, new MapSqlParameterSource()
+                        .addValue("clockSkew", clockSkew.toMillis() / 1000.0)
+                        .addValue("progressTimeout", progressTimeout.toMillis() / 1000.0),
+                Long.class);
+    }
+
+    /**
+     * Profiles written strictly after {@code after} by transactions below {@code until},
+     * in (tx_id, id) order.
+     *
+     * @param after    null to start from the beginning of the feed
+     * @param baseline report fields whose audit rows were written by this transaction or a later
+     *                 one; audit rows are written after their change commits, so this covers every
+     *                 change from the baseline on. Null to skip the audit lookup
+     * @param until    at most {@link #feedHorizon}
+     */
+    public List<ProfileChangeRow> findPage(ProfileChangeCursor after, Long baseline, long until, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("until", until)
+                .addValue("limit", limit);
+        StringBuilder sql = new StringBuilder(PAGE_SQL);
+        if (after == null) {
+            sql.append(FIRST_PAGE_FILTER);
+        } else {
+            sql.append(NEXT_PAGE_FILTER);
+            params.addValue("afterTxId", after.txId())
+                    .addValue("afterId", after.profileId());
+        }
+        if (baseline == null) {
+            sql.append(WITHOUT_FIELDS_SQL);
+        } else {
+            sql.append(WITH_FIELDS_SQL);
+            params.addValue("baseline", baseline);
+        }
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new ProfileChangeRow(
+                rs.getObject("id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getObject("manager_id", UUID.class),
+                rs.getTimestamp("updated_at").toLocalDateTime(),
+                rs.getLong("tx_id"),
+                strings(rs, "fields"),
+                strings(rs, "sensitive_fields")));
+    }
+
+    private static List<String> strings(ResultSet rs, String column) throws SQLException {
+        Array array = rs.getArray(column);
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return List.of((String[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.service.skill.SkillNames;
+import com.newwork.employee.util.SkillMatchCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plain JDBC access to the normalized skills index ({@code skills} and {@code profile_skills}).
+ *
+ * Searches start from the requested skills' posting lists (the profile_skills primary key) and
+ * count matches per person in the database, so only matching profiles are ever joined or read.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SkillIndexRepository {
+
+    private static final String INSERT_SKILL_SQL = """
+            INSERT INTO skills (name, normalized_name)
+            VALUES (:name, :normalizedName)
+            ON CONFLICT (normalized_name) DO NOTHING
+            """;
+
+    private static final String DELETE_ALL_PROFILE_SKILLS_SQL = """
+            DELETE FROM profile_skills WHERE user_id = :userId
+            """;
+
+    private static final String DELETE_STALE_PROFILE_SKILLS_SQL = """
+            DELETE FROM profile_skills ps
+            USING skills s
+            WHERE ps.skill_id = s.id
+              AND ps.user_id = :userId
+              AND s.normalized_name NOT IN (:skills)
+            """;
+
+    private static final String INSERT_PROFILE_SKILLS_SQL = """
+            INSERT INTO profile_skills (skill_id, user_id)
+            SELECT s.id, :userId
+            FROM skills s
+            WHERE s.normalized_name IN (:skills)
+            ON CONFLICT DO NOTHING
+            """;
+
+    /*
+     * Matches per person from the requested skills' posting lists; :minMatched is the number of
+     * requested skills for ALL and 1 for ANY.
+     */
+    private static final String MATCHES_SQL = """
+            WITH hits AS (
+                SELECT ps.user_id, count(*) AS matched
+                FROM skills s
+                JOIN profile_skills ps ON ps.skill_id = s.id
+                WHERE s.normalized_name IN (:skills)
+                GROUP BY ps.user_id
+                HAVING count(*) >= :minMatched
+            )
+            """;
+
+    private static final String MATCHES_FILTER = """
+            JOIN users u ON u.id = h.user_id
+            JOIN employee_profiles p ON p.user_id = h.user_id
+            WHERE p.employment_status = 'ACTIVE'
+              AND h.user_id <> :viewerId
+            """;
+
+    private static final String PAGE_SQL = MATCHES_SQL + """
+            SELECT h.user_id, h.matched, u.employee_id, u.manager_id,
+                   p.preferred_name, p.legal_first_name, p.legal_last_name, p.job_title, p.department,
+                   p.work_location_type, p.profile_photo_url, p.profile_photo_hash
+            FROM hits h
+            """ + MATCHES_FILTER;
+
+    private static final String FIRST_PAGE_SQL = PAGE_SQL + """
+            ORDER BY h.matched DESC, h.user_id
+            LIMIT :limit
+            """;
+
+    private static final String NEXT_PAGE_SQL = PAGE_SQL + """
+              AND (h.matched < :afterMatched OR (h.matched = :afterMatched AND h.user_id > :afterUserId))
+            ORDER BY h.matched DESC, h.user_id
+            LIMIT :limit
+            """;
+
+    private static final String COUNT_SQL = MATCHES_SQL + """
+            SELECT count(*)
+            FROM hits h
+            """ + MATCHES_FILTER;
+
+    private static final String SKILL_COUNTS_SQL = """
+            SELECT s.name, s.normalized_name, count(p.user_id) AS people
+            FROM skills s
+            LEFT JOIN profile_skills ps ON ps.skill_id = s.id
+            LEFT JOIN employee_profiles p ON p.user_id = ps.user_id AND p.employment_status = 'ACTIVE'
+            WHERE s.normalized_name IN (:skills)
+            GROUP BY s.id, s.name, s.normalized_name
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * A person matching a skill search, with the directory fields needed to list them.
+     */
+    public record SkillMatchRow(
+            UUID userId,
+            int matchedSkills,
+            String employeeId,
+            UUID managerId,
+            String preferredName,
+            String legalFirstName,
+            String legalLastName,
+            String jobTitle,
+            String department,
+            String workLocationType,
+            String profilePhotoUrl,
+            String profilePhotoHash
+    ) {
+    }
+
+    /**
+     * Number of active profiles listing a skill.
+     */
+    public record SkillCountRow(String name, String normalizedName, long people) {
+    }
+
+    /**
+     * Make the index entries of one profile exactly the given skills, creating unknown skills.
+     * Must run in the transaction that changes the profile's skills field.
+     */
+    public void replaceProfileSkills(UUID userId, Collection<SkillNames.Skill> skills) {
+        if (skills.isEmpty()) {
+            jdbcTemplate.update(DELETE_ALL_PROFILE_SKILLS_SQL, new MapSqlParameterSource("userId", userId));
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SKILL_SQL, skills.stream()
+                .map(skill -> new MapSqlParameterSource()
+                        .addValue("name", skill.name())
+                        .addValue("normalizedName", skill.normalizedName()))
+                .toArray(SqlParameterSource[]::new));
+
+        List<String> normalizedNames = skills.stream().map(SkillNames.Skill::normalizedName).toList();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("skills", normalizedNames);
+        jdbcTemplate.update(DELETE_STALE_PROFILE_SKILLS_SQL, params);
+        jdbcTemplate.update(INSERT_PROFILE_SKILLS_SQL, params);
+    }
+
+    /**
+     * Active people other than the viewer with at least {@code minMatched} of the skills,
+     * strictly after {@code after} in (matched DESC, user id ASC) order.
+     *
+     * @param skills normalized skill names, not empty
+     * @param after  null for the first page
+     */
+    public List<SkillMatchRow> findPage(UUID viewerId, Collection<String> skills, int minMatched,
+                                        SkillMatchCursor after, int limit) {
+        MapSqlParameterSource params = matchParams(viewerId, skills, minMatched).addValue("limit", limit);
+        if (after == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, params, (rs, rowNum) -> toRow(rs));
+        }
+        params.addValue("afterMatched", after.matchedSkills())
+                .addValue("afterUserId", after.userId());
+        return jdbcTemplate.query(NEXT_PAGE_SQL, params, (rs, rowNum) -> toRow(rs));
+    }
+
+    /**
+     * Total number of results of {@link #findPage} across all pages.
+     */
+    public long count(UUID viewerId, Collection<String> skills, int minMatched) {
+        Long total = jdbcTemplate.queryForObject(COUNT_SQL, matchParams(viewerId, skills, minMatched), Long.class);
+        return total != null ? total : 0L;
+    }
+
+    /**
+     * Headcount per known skill among the given normalized names; unknown skills are absent.
+     */
+    public List<SkillCountRow> countPeopleBySkill(Collection<String> skills) {
+        return jdbcTemplate.query(SKILL_COUNTS_SQL, new MapSqlParameterSource("skills", skills),
+                (rs, rowNum) -> new SkillCountRow(
+                        rs.getString("name"),
+                        rs.getString("normalized_name"),
+                        rs.getLong("people")));
+    }
+
+    private static MapSqlParameterSource matchParams(UUID viewerId, Collection<String> skills, int minMatched) {
+        return new MapSqlParameterSource()
+                .addValue("viewerId", viewerId)
+                .addValue("skills", skills)
+                .addValue("minMatched", minMatched);
+    }
+
+    private static SkillMatchRow toRow(ResultSet rs) throws SQLException {
+        return new SkillMatchRow(
+                rs.getObject("user_id", UUID.class),
+                rs.getInt("matched"),
+                rs.getString("employee_id"),
+                rs.getObject("manager_id", UUID.class),
+                rs.getString("preferred_name"),
+                rs.getString("legal_first_name"),
+                rs.getString("legal_last_name"),
+                rs.getString("job_title"),
+                rs.getString("department"),
+                rs.getString("work_location_type"),
+                rs.getString("profile_photo_url"),
+                rs.getString("profile_photo_hash"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.entity.UserHierarchy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface UserHierarchyRepository extends JpaRepository<UserHierarchy, UserHierarchy.Key> {
+
+    /**
+     * All direct and indirect reports of the given user (excluding the user themselves).
+     */
+    @Query("""
+            select h.descendantId from UserHierarchy h
+            where h.ancestorId = :ancestorId
+              and h.depth > 0
+            """)
+    Set<UUID> findDescendantIds(@Param("ancestorId") UUID ancestorId);
+
+    /**
+     * Number of reporting levels between ancestor and descendant, if the descendant is in the subtree.
+     */
+    @Query("""
+            select h.depth from UserHierarchy h
+            where h.ancestorId = :ancestorId
+              and h.descendantId = :descendantId
+            """)
+    Optional<Integer> findDepth(@Param("ancestorId") UUID ancestorId, @Param("descendantId") UUID descendantId);
+}
@@ -0,0 +1,125 @@
+package com.newwork.employee.security;
+
+import com.newwork.employee.config.properties.SecurityProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder whose work factor is a deliberate, host-specific setting.
+ *
+ * The target cost is either configured explicitly or calibrated once at startup as the
+ * highest cost whose hash fits the latency budget. Existing hashes of any other cost still
+ * verify; {@link #upgradeEncoding(String)} flags weaker ones so Spring Security rehashes the
+ * password on the next successful login (see UserDetailsServiceImpl#updatePassword).
+ *
+ * Stronger hashes are only flagged when the cost is pinned. A calibrated cost differs from node
+ * to node, so downgrading to it would let nodes rehash the same password back and forth.
+ */
+@Slf4j
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int targetCost;
+    private final boolean pinned;
+    private final BCryptPasswordEncoder delegate;
+
+    /**
+     * Encoder with a cost pinned cluster-wide: hashes of any other cost are rehashed.
+     */
+    public AdaptiveBCryptPasswordEncoder(int targetCost) {
+        this(targetCost, true);
+    }
+
+    /**
+     * @param pinned whether every node uses this cost; otherwise only weaker hashes are rehashed
+     */
+    public AdaptiveBCryptPasswordEncoder(int targetCost, boolean pinned) {
+        this.targetCost = targetCost;
+        this.pinned = pinned;
+        this.delegate = new BCryptPasswordEncoder(targetCost);
+    }
+
+    /**
+     * Build an encoder using the configured cost, or a cost calibrated to the latency budget.
+     */
+    public static AdaptiveBCryptPasswordEncoder fromProperties(SecurityProperties.Hashing properties) {
+        if (properties.getCost() > 0) {
+            log.info("Using configured BCrypt cost {}", properties.getCost());
+            return new AdaptiveBCryptPasswordEncoder(properties.getCost());
+        }
+        int cost = calibrate(properties.getTargetLatency(), properties.getMinCost(), properties.getMaxCost());
+        return new AdaptiveBCryptPasswordEncoder(cost, false);
+    }
+
+    /**
+     * Find the highest cost in [minCost, maxCost] whose hash time stays within the budget.
+     * Each cost step doubles the work, so the search stops at the first cost over budget.
+     */
+    static int calibrate(Duration budget, int minCost, int maxCost) {
+        int chosen = minCost;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            long elapsedNanos = measure(cost);
+            log.debug("BCrypt cost {} took {} ms", cost, elapsedNanos / 1_000_000);
+            if (elapsedNanos > budget.toNanos()) {
+                break;
+            }
+            chosen = cost;
+        }
+        log.info("Calibrated BCrypt cost {} for a {} ms budget (allowed range {}-{})",
+                chosen, budget.toMillis(), minCost, maxCost);
+        return chosen;
+    }
+
+    private static long measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        // Best of two runs to discount JIT warm-up on the first hash
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Extract the cost from a BCrypt hash, or -1 if the value is not a BCrypt hash.
+     */
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    public int getTargetCost() {
+        return targetCost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        if (cost == -1) {
+            return false;
+        }
+        return pinned ? cost != targetCost : cost < targetCost;
+    }
+}
@@ -0,0 +1,167 @@
+package com.newwork.employee.security;
+
+import com.newwork.employee.config.properties.SecurityProperties;
+import com.newwork.employee.exception.LoginThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PasswordEncoder decorator that runs hashing on a dedicated, bounded thread pool.
+ *
+ * BCrypt is deliberately CPU-expensive. Without a bound, a burst of logins occupies every
+ * request thread and starves unrelated traffic. Here at most {@code verificationThreads}
+ * hashes run at once, at most {@code queueCapacity} wait, and anything beyond that is shed
+ * immediately with {@link LoginThrottledException} (HTTP 429 + Retry-After).
+ *
+ * A caller that gives up after {@code maxWait} cancels its task. That removes a verification
+ * still waiting in the queue, but BCrypt does not observe interrupts, so a verification that
+ * already started keeps its thread until the hash finishes. Such abandoned work stays in the
+ * {@code auth.password.active} gauge (the worker is still executing) and is additionally
+ * tracked by {@code auth.password.abandoned}.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int ABANDONED = 2;
+    private static final int DONE = 3;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final Duration retryAfter;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+    private final AtomicInteger abandoned = new AtomicInteger();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  SecurityProperties.Login properties,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWait = properties.getMaxWait();
+        this.retryAfter = properties.getRetryAfter();
+
+        int threads = properties.resolvedVerificationThreads();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                namedDaemonThreads(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.password.hash")
+                .description("CPU time spent in password hashing per login")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("Logins shed because the password verification pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Password verifications waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password verifications currently running, including abandoned ones")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.abandoned", abandoned, AtomicInteger::get)
+                .description("Verifications whose caller timed out but which still occupy a thread")
+                .register(meterRegistry);
+
+        log.info("Password verification pool: {} thread(s), queue capacity {}", threads, properties.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return runBounded(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return runBounded(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T runBounded(Callable<T> hashing) {
+        AtomicInteger state = new AtomicInteger(QUEUED);
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!state.compareAndSet(QUEUED, RUNNING)) {
+                    return null;
+                }
+                try {
+                    return hashTimer.recordCallable(hashing);
+                } finally {
+                    if (state.getAndSet(DONE) == ABANDONED) {
+                        abandoned.decrementAndGet();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            log.warn("Password verification queue full ({} waiting); shedding login", executor.getQueue().size());
+            throw new LoginThrottledException("Too many concurrent logins, please retry shortly", retryAfter);
+        }
+
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            // A queued verification is skipped; a running BCrypt ignores the interrupt and
+            // keeps its worker busy until it completes, so count it as abandoned until then
+            abandoned.incrementAndGet();
+            int previous = state.getAndUpdate(current -> current == DONE ? DONE : ABANDONED);
+            if (previous != RUNNING) {
+                abandoned.decrementAndGet();
+            }
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("Password verification did not complete within {}; shedding login", maxWait);
+            throw new LoginThrottledException("Too many concurrent logins, please retry shortly", retryAfter);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying password", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static ThreadFactory namedDaemonThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.newwork.employee.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.server.WebSocketGraphQlInterceptor;
+import org.springframework.graphql.server.WebSocketGraphQlRequest;
+import org.springframework.graphql.server.WebSocketSessionInfo;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.Map;
+
+/**
+ * Authenticates GraphQL WebSocket sessions.
+ *
+ * Browsers cannot set headers on the WebSocket handshake, so the JWT travels in the
+ * {@code connection_init} payload instead ({@code {"Authorization": "Bearer <token>"}}).
+ * A missing or invalid token fails the init, which closes the socket with 4401. The principal
+ * is kept on the session and written to the Reactor context of every operation on it, from where
+ * Spring GraphQL restores the {@code SecurityContextHolder} around each data fetcher, so
+ * {@code @AuthenticationPrincipal} and {@link AuthenticatedUserAccessor} work as they do over HTTP.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GraphQlWebSocketAuthInterceptor implements WebSocketGraphQlInterceptor {
+
+    static final String AUTHENTICATION_ATTRIBUTE = GraphQlWebSocketAuthInterceptor.class.getName() + ".authentication";
+
+    private static final String AUTHORIZATION_KEY = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public Mono<Object> handleConnectionInitialization(WebSocketSessionInfo sessionInfo, Map<String, Object> payload) {
+        String token = extractToken(payload);
+        if (!StringUtils.hasText(token) || !jwtTokenProvider.validateToken(token)) {
+            log.debug("Rejecting GraphQL WebSocket session {} without a valid token", sessionInfo.getId());
+            return Mono.error(new BadCredentialsException("A valid bearer token is required in connection_init"));
+        }
+
+        AuthenticatedUser authenticatedUser = jwtTokenProvider.getAuthenticatedUser(token);
+        sessionInfo.getAttributes().put(AUTHENTICATION_ATTRIBUTE, new UsernamePasswordAuthenticationToken(
+                authenticatedUser, null, authenticatedUser.getAuthorities()));
+        log.debug("GraphQL WebSocket session {} authenticated for user {}", sessionInfo.getId(), authenticatedUser.getEmail());
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, WebGraphQlInterceptor.Chain chain) {
+        if (request instanceof WebSocketGraphQlRequest webSocketRequest
+                && webSocketRequest.getSessionInfo().getAttributes().get(AUTHENTICATION_ATTRIBUTE)
+                instanceof Authentication authentication) {
+            SecurityContext securityContext = new SecurityContextImpl(authentication);
+            return chain.next(request)
+                    .contextWrite(Context.of(SecurityContext.class.getName(), securityContext))
+                    .contextWrite(ReactiveSecurityContextHolder.withSecurityContext(Mono.just(securityContext)));
+        }
+        return chain.next(request);
+    }
+
+    private static String extractToken(Map<String, Object> payload) {
+        if (payload == null || !(payload.get(AUTHORIZATION_KEY) instanceof String value)) {
+            return null;
+        }
+        return value.startsWith(BEARER_PREFIX) ? value.substring(BEARER_PREFIX.length()) : value;
+    }
+}
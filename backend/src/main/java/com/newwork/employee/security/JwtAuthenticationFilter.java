@@ -7,8 +7,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
-import com.newwork.employee.entity.enums.Role;
-import io.jsonwebtoken.Claims;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -17,7 +15,6 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 @Slf4j
 @Component
@@ -36,20 +33,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                Claims claims = jwtTokenProvider.getClaims(jwt);
-                UUID userId = UUID.fromString(claims.getSubject());
-                String email = claims.get("email", String.class);
-                String employeeId = claims.get("employeeId", String.class);
-                String roleName = claims.get("role", String.class);
-                String managerId = claims.get("managerId", String.class);
-
-                AuthenticatedUser authenticatedUser = new AuthenticatedUser(
-                        userId,
-                        email,
-                        employeeId,
-                        Role.valueOf(roleName),
-                        managerId != null ? UUID.fromString(managerId) : null
-                );
+                AuthenticatedUser authenticatedUser = jwtTokenProvider.getAuthenticatedUser(jwt);
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -61,7 +45,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("Set authentication for user: {}", email);
+                log.debug("Set authentication for user: {}", authenticatedUser.getEmail());
             }
         } catch (Exception e) {
             log.error("Could not set user authentication in security context", e);
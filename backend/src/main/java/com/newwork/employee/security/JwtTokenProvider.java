@@ -1,6 +1,7 @@
 package com.newwork.employee.security;
 
 import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.Role;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -110,6 +111,21 @@ public class JwtTokenProvider {
         return getClaims(token).get("managerId", String.class);
     }
 
+    /**
+     * Build the authenticated principal from a token that has already passed {@link #validateToken}.
+     */
+    public AuthenticatedUser getAuthenticatedUser(String token) {
+        Claims claims = getClaims(token);
+        String managerId = claims.get("managerId", String.class);
+        return new AuthenticatedUser(
+                UUID.fromString(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("employeeId", String.class),
+                Role.valueOf(claims.get("role", String.class)),
+                managerId != null ? UUID.fromString(managerId) : null
+        );
+    }
+
     public Claims getClaims(String token) {
         return Jwts.parser()
                 .verifyWith(secretKey)
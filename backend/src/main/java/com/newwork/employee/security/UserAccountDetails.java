@@ -0,0 +1,35 @@
+package com.newwork.employee.security;
+
+import com.newwork.employee.entity.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+
+/**
+ * Spring Security principal produced during password authentication.
+ * Keeps the already-loaded {@link User} so the login flow does not query it a second time.
+ */
+public class UserAccountDetails extends org.springframework.security.core.userdetails.User {
+
+    private final transient User user;
+
+    public UserAccountDetails(User user) {
+        this(user, user.getPassword());
+    }
+
+    /**
+     * @param password the hash to expose, which may differ from the entity's after a rehash
+     */
+    public UserAccountDetails(User user, String password) {
+        super(
+                user.getId().toString(), // Store UUID as username for easy access
+                password,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+        );
+        this.user = user;
+    }
+
+    public User getUser() {
+        return user;
+    }
+}
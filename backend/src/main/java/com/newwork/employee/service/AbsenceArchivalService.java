@@ -0,0 +1,17 @@
+package com.newwork.employee.service;
+
+import java.time.LocalDate;
+
+/**
+ * Moves closed absences to cold storage.
+ */
+public interface AbsenceArchivalService {
+
+    /**
+     * Archive completed and rejected absences closed before the retention window, in batches
+     * of one transaction each.
+     *
+     * @return number of absences archived
+     */
+    int archiveClosedAbsences(LocalDate today);
+}
@@ -0,0 +1,32 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.dto.AbsenceCalendarDTO;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Team and department absence calendars ("who is out between these dates").
+ */
+public interface AbsenceCalendarService {
+
+    /**
+     * Longest window a single calendar request may cover, in days (inclusive).
+     */
+    int MAX_WINDOW_DAYS = 93;
+
+    /**
+     * Build the calendar for the viewer's team or for a department.
+     *
+     * Without a department, the team is the viewer's whole reporting tree when they manage people,
+     * otherwise their manager plus everyone reporting directly to that manager.
+     * Absence types are only revealed for the viewer's own absences and their reporting tree.
+     *
+     * @param viewerId   authenticated user ID
+     * @param from       first day of the window (inclusive)
+     * @param to         last day of the window (inclusive)
+     * @param department optional department name; when set, the calendar covers that department instead
+     * @return members, absences clipped to the window and per-day occupancy counts
+     */
+    AbsenceCalendarDTO getCalendar(UUID viewerId, LocalDate from, LocalDate to, String department);
+}
@@ -0,0 +1,31 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.entity.EmployeeAbsence;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only absence balance ledger with an incrementally maintained snapshot
+ * (employee_profiles.absence_balance_days).
+ */
+public interface AbsenceLedgerService {
+
+    /**
+     * Debit the balance for newly approved absences in one round trip. Must run in the caller's
+     * transaction so the status changes, ledger entries and snapshot updates commit or roll back
+     * together. Absence types that do not draw on the balance are ignored.
+     *
+     * @param absences the absences that were just approved
+     * @param businessDaysByAbsence working days covered by each absence in its owner's holiday region
+     */
+    void recordApprovals(List<EmployeeAbsence> absences, Map<UUID, Integer> businessDaysByAbsence);
+
+    /**
+     * Replay the ledger for every user in parallel chunks and overwrite snapshots that drifted.
+     *
+     * @return number of snapshots corrected
+     */
+    int reconcileSnapshots();
+}
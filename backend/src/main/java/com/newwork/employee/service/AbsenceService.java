@@ -1,6 +1,8 @@
 package com.newwork.employee.service;
 
+import com.newwork.employee.dto.BulkAbsenceStatusResultDTO;
 import com.newwork.employee.dto.EmployeeAbsenceDTO;
+import com.newwork.employee.dto.request.BulkUpdateAbsenceStatusRequest;
 import com.newwork.employee.dto.request.CreateAbsenceRequest;
 import com.newwork.employee.dto.request.UpdateAbsenceStatusRequest;
 
@@ -10,13 +12,38 @@ import java.util.UUID;
 
 public interface AbsenceService {
 
+    /**
+     * Maximum number of absence IDs accepted by a single bulk status update.
+     */
+    int MAX_BULK_UPDATE = 200;
+
     EmployeeAbsenceDTO submit(UUID requesterId, CreateAbsenceRequest request);
 
-    List<EmployeeAbsenceDTO> getMyRequests(UUID requesterId);
+    default List<EmployeeAbsenceDTO> getMyRequests(UUID requesterId) {
+        return getMyRequests(requesterId, false);
+    }
+
+    /**
+     * The requester's absences, newest first. Archived (long-closed) absences are only read
+     * when {@code includeHistory} is set.
+     */
+    List<EmployeeAbsenceDTO> getMyRequests(UUID requesterId, boolean includeHistory);
 
     List<EmployeeAbsenceDTO> getPendingForManager(UUID managerId);
 
+    /**
+     * Pending requests from everyone in the manager's reporting tree, direct and indirect.
+     * Read-only view: only the direct manager can act on a request.
+     */
+    List<EmployeeAbsenceDTO> getPendingForReportingTree(UUID managerId);
+
     EmployeeAbsenceDTO updateStatus(UUID managerId, UUID requestId, UpdateAbsenceStatusRequest update);
 
+    /**
+     * Approve or reject many pending requests in one compare-and-set statement.
+     * IDs that are unknown, managed by someone else or no longer pending are reported, not failed.
+     */
+    BulkAbsenceStatusResultDTO updateStatuses(UUID managerId, BulkUpdateAbsenceStatusRequest update);
+
     int completeExpiredApproved(LocalDate asOfDate);
 }
@@ -0,0 +1,20 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.dto.AuditRecord;
+
+import java.util.List;
+
+/**
+ * Field-level audit trail of profile and absence changes.
+ *
+ * Recording never touches the database on the caller's thread: records are queued and written
+ * in batches in the background, so auditing adds no round trip to the audited request.
+ */
+public interface AuditTrail {
+
+    /**
+     * Queue records for writing. Inside a transaction they are only queued once it commits,
+     * so rolled-back changes are never audited.
+     */
+    void record(List<AuditRecord> records);
+}
@@ -0,0 +1,24 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.service.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * Bulk export of the active directory with per-row permission filtering.
+ */
+public interface DirectoryExportService {
+
+    /**
+     * Stream every active profile visible to the viewer into the output stream.
+     * Fields are filtered with the same relationship rules as single profile reads.
+     *
+     * @param viewerId authenticated user ID
+     * @param format   output format
+     * @param out      destination stream; flushed but not closed
+     * @return number of rows written
+     */
+    long exportDirectory(UUID viewerId, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -19,5 +19,20 @@ public interface DirectoryService {
      * @param directReportsOnly limit results to direct reports of the viewer (manager-only)
      * @return ordered list of coworker DTOs
      */
-    List<CoworkerDTO> getDirectory(UUID viewerId, String searchTerm, String department, Boolean directReportsOnly);
+    default List<CoworkerDTO> getDirectory(UUID viewerId, String searchTerm, String department, Boolean directReportsOnly) {
+        return getDirectory(viewerId, searchTerm, department, directReportsOnly, null);
+    }
+
+    /**
+     * Fetch coworkers/reports visible to the viewer.
+     *
+     * @param viewerId   authenticated user ID
+     * @param searchTerm optional search term (name, email, employeeId, department)
+     * @param department optional department filter
+     * @param directReportsOnly limit results to direct reports of the viewer (manager-only)
+     * @param allReportsOnly limit results to the viewer's whole reporting tree, direct and indirect
+     * @return ordered list of coworker DTOs
+     */
+    List<CoworkerDTO> getDirectory(UUID viewerId, String searchTerm, String department,
+                                   Boolean directReportsOnly, Boolean allReportsOnly);
 }
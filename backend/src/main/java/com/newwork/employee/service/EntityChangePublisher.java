@@ -0,0 +1,33 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.entity.enums.ChangedEntity;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Announces committed entity changes to the caches of every node (transactional outbox + NOTIFY).
+ * Must be called inside the transaction that makes the change.
+ */
+public interface EntityChangePublisher {
+
+    void publish(ChangedEntity entity, UUID entityId, UUID userId);
+
+    /**
+     * Also deliver {@code event} to the GraphQL subscriptions of every node once the change commits.
+     *
+     * @param event DTO the subscriptions deliver, serialized to JSON
+     */
+    void publish(ChangedEntity entity, UUID entityId, UUID userId, Object event);
+
+    /**
+     * @param userIdsByEntityId affected user of each changed entity
+     */
+    void publishAll(ChangedEntity entity, Map<UUID, UUID> userIdsByEntityId);
+
+    /**
+     * @param userIdsByEntityId affected user of each changed entity
+     * @param eventsByEntityId  DTO the GraphQL subscriptions deliver for each changed entity that has one
+     */
+    void publishAll(ChangedEntity entity, Map<UUID, UUID> userIdsByEntityId, Map<UUID, ?> eventsByEntityId);
+}
@@ -0,0 +1,25 @@
+package com.newwork.employee.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Maintenance of the monthly feedback partitions.
+ */
+public interface FeedbackPartitionService {
+
+    /**
+     * Make sure partitions exist from the current month up to the configured number of months ahead,
+     * and for any month whose rows fell into the DEFAULT partition (those rows are moved out of it).
+     *
+     * @return number of partitions created
+     */
+    int ensurePartitions(LocalDate today);
+
+    /**
+     * Detach partitions older than the retention window into the feedback_archive schema.
+     *
+     * @return names of the archived partitions (empty when archival is disabled)
+     */
+    List<String> archiveExpiredPartitions(LocalDate today);
+}
@@ -2,10 +2,12 @@ package com.newwork.employee.service;
 
 import com.newwork.employee.dto.response.PolishFeedbackResponse;
 
+import java.util.UUID;
+
 /**
  * AI-assisted feedback utilities.
  */
 public interface FeedbackPolishService {
 
-    PolishFeedbackResponse polish(String text);
+    PolishFeedbackResponse polish(UUID authorId, String text);
 }
@@ -1,6 +1,7 @@
 package com.newwork.employee.service;
 
 import com.newwork.employee.dto.FeedbackDTO;
+import com.newwork.employee.dto.FeedbackPage;
 import com.newwork.employee.dto.request.CreateFeedbackRequest;
 
 import java.util.List;
@@ -11,6 +12,10 @@ import java.util.UUID;
  */
 public interface FeedbackService {
 
+    int DEFAULT_PAGE_SIZE = 20;
+    int MAX_PAGE_SIZE = 100;
+    int MAX_SEARCH_QUERY_LENGTH = 200;
+
     FeedbackDTO createFeedback(UUID authorId, CreateFeedbackRequest request);
 
     List<FeedbackDTO> getFeedbackForUser(UUID viewerId, UUID userId);
@@ -18,4 +23,22 @@ public interface FeedbackService {
     List<FeedbackDTO> getFeedbackByAuthor(UUID authorId);
 
     List<FeedbackDTO> getFeedbackByRecipient(UUID recipientId);
+
+    /**
+     * Recent feedback about all direct reports of the manager, newest first.
+     *
+     * @param first page size, defaults to {@link #DEFAULT_PAGE_SIZE}, at most {@link #MAX_PAGE_SIZE}
+     * @param after end cursor of the previous page, or null for the first page
+     */
+    FeedbackPage getTeamFeedback(UUID managerId, Integer first, String after);
+
+    /**
+     * Full-text search over feedback the viewer may see (as author, recipient or the recipient's manager),
+     * most relevant first.
+     *
+     * @param query web-search style query, at most {@link #MAX_SEARCH_QUERY_LENGTH} characters
+     * @param first page size, defaults to {@link #DEFAULT_PAGE_SIZE}, at most {@link #MAX_PAGE_SIZE}
+     * @param after end cursor of the previous page, or null for the first page
+     */
+    FeedbackPage searchFeedback(UUID viewerId, String query, Integer first, String after);
 }
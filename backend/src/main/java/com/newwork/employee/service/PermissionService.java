@@ -18,7 +18,7 @@ public interface PermissionService {
      *
      * @param viewerId the ID of the user viewing the profile
      * @param profileOwnerId the ID of the profile being viewed
-     * @return the relationship type (SELF, MANAGER, or COWORKER)
+     * @return the relationship type (SELF, MANAGER, SKIP_LEVEL_MANAGER, or COWORKER)
      */
     Relationship determineRelationship(UUID viewerId, UUID profileOwnerId);
 
@@ -31,6 +31,39 @@ public interface PermissionService {
      */
     Relationship determineRelationship(User viewer, User profileOwner);
 
+    /**
+     * Determines the relationship using a reporting tree loaded up front via {@link #getReportingTree(UUID)}.
+     * Intended for list paths so indirect reports are recognized without a query per row.
+     *
+     * @param viewer the user viewing the profile
+     * @param profileOwner the user whose profile is being viewed
+     * @param viewerReportingTree IDs of everyone reporting to the viewer, directly or indirectly
+     * @return the relationship type (SELF, MANAGER, SKIP_LEVEL_MANAGER, or COWORKER)
+     */
+    Relationship determineRelationship(User viewer, User profileOwner, Set<UUID> viewerReportingTree);
+
+    /**
+     * Determines the relationship from raw identifiers without touching the database.
+     * Intended for streaming paths where the owner's manager ID is already part of the row.
+     *
+     * @param viewerId the ID of the user viewing the profile
+     * @param profileOwnerId the ID of the profile being viewed
+     * @param ownerManagerId the profile owner's manager ID (may be null)
+     * @param viewerReportingTree IDs of everyone reporting to the viewer, directly or indirectly
+     * @return the relationship type (SELF, MANAGER, SKIP_LEVEL_MANAGER, or COWORKER)
+     */
+    Relationship determineRelationship(UUID viewerId, UUID profileOwnerId, UUID ownerManagerId,
+                                       Set<UUID> viewerReportingTree);
+
+    /**
+     * Returns everyone reporting to the given user, directly or through intermediate managers.
+     * Backed by the user_hierarchy closure table, so cost is one indexed range scan.
+     *
+     * @param managerId the user at the top of the subtree
+     * @return IDs of all direct and indirect reports (empty for individual contributors)
+     */
+    Set<UUID> getReportingTree(UUID managerId);
+
     /**
      * Checks if the viewer can view a field of the given type.
      *
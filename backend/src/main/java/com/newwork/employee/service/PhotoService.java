@@ -0,0 +1,22 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.dto.ProfilePhotoDTO;
+import com.newwork.employee.service.photo.PhotoStore;
+import com.newwork.employee.service.photo.PhotoVariant;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Contract for uploading and serving profile photos.
+ */
+public interface PhotoService {
+
+    /**
+     * Store a new photo for the profile and point the profile at it.
+     * Requires permission to edit the profile's non-sensitive fields.
+     */
+    ProfilePhotoDTO uploadProfilePhoto(UUID viewerId, UUID profileUserId, byte[] content);
+
+    Optional<PhotoStore.StoredPhoto> findPhoto(String contentHash, PhotoVariant variant);
+}
@@ -0,0 +1,26 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.dto.ProfileChangesPage;
+
+import java.util.UUID;
+
+/**
+ * Incremental feed of profile changes for downstream systems that keep a copy of profile data.
+ */
+public interface ProfileChangeService {
+
+    int DEFAULT_PAGE_SIZE = 100;
+    int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Profiles changed after {@code since}, oldest change first.
+     *
+     * Consumers page with {@code endCursor} until {@code hasNextPage} is false and keep the last
+     * cursor for their next sync, so each sync costs the number of changes, not the headcount.
+     * Without {@code since} the feed starts from the beginning (a full initial sync).
+     *
+     * @param since end cursor of a previous page, or null
+     * @param first page size, defaults to {@link #DEFAULT_PAGE_SIZE}, at most {@link #MAX_PAGE_SIZE}
+     */
+    ProfileChangesPage getChanges(UUID viewerId, String since, Integer first);
+}
@@ -13,6 +13,12 @@ public interface ProfileService {
 
     ProfileDTO getProfile(UUID viewerId, UUID profileUserId);
 
+    /**
+     * Same profile as {@link #getProfile}, already serialized as UTF-8 JSON. Served from a cache
+     * keyed by profile version and the viewer's relationship tier, so hot reads skip mapping and serialization.
+     */
+    byte[] getProfileJson(UUID viewerId, UUID profileUserId);
+
     ProfileDTO updateProfile(UUID viewerId, UUID profileUserId, ProfileUpdateDTO updateDTO);
 
     ProfileDTO toProfileDtoForViewer(EmployeeProfile profile, UUID viewerId, UUID profileOwnerId);
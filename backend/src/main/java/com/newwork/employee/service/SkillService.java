@@ -0,0 +1,34 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.dto.PeopleBySkillsPage;
+import com.newwork.employee.service.skill.SkillMatchMode;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Normalized skills index derived from the free-text profile skills field, and searches over it.
+ */
+public interface SkillService {
+
+    int DEFAULT_PAGE_SIZE = 20;
+    int MAX_PAGE_SIZE = 100;
+    int MAX_QUERY_SKILLS = 10;
+
+    /**
+     * Re-index one profile after its skills field changed. Runs in the caller's transaction,
+     * so the index and the field commit together.
+     */
+    void reindexProfile(UUID userId, String skills);
+
+    /**
+     * Active people (other than the viewer) listing the requested skills.
+     *
+     * @param skills skill names as typed, matched case-insensitively, at most {@link #MAX_QUERY_SKILLS}
+     * @param mode   ALL (default) or ANY
+     * @param first  page size, defaults to {@link #DEFAULT_PAGE_SIZE}, at most {@link #MAX_PAGE_SIZE}
+     * @param after  end cursor of the previous page, or null for the first page
+     */
+    PeopleBySkillsPage findPeopleBySkills(UUID viewerId, List<String> skills, SkillMatchMode mode,
+                                          Integer first, String after);
+}
@@ -0,0 +1,196 @@
+package com.newwork.employee.service.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newwork.employee.dto.AuditRecord;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * On-disk overflow for audit records that could not be written to the database in time.
+ *
+ * Records are appended as JSON lines to the current segment file and forced to disk before
+ * {@link #append} returns. {@link #replay} first seals the current segment, so new appends go to
+ * a fresh one, then hands sealed segments to the writer oldest first and deletes each once all
+ * of its records were accepted. A segment that fails part way is kept and replayed whole next
+ * time; record ids make the re-written part a no-op.
+ *
+ * The oldest change time in each segment is remembered, so {@link #oldestChangedAt()} can tell
+ * how far behind the journal holds the audit trail without re-reading it.
+ */
+@Slf4j
+class AuditJournal {
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".jsonl";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final Object lock = new Object();
+    private Path currentSegment;
+    private long segmentSequence;
+    /** Oldest change time per segment; segments left by an earlier run are read on first use. */
+    private final Map<Path, LocalDateTime> oldestBySegment = new HashMap<>();
+
+    AuditJournal(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.objectMapper = objectMapper;
+    }
+
+    void append(List<AuditRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (AuditRecord record : records) {
+            try {
+                lines.append(objectMapper.writeValueAsString(record)).append('\n');
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Audit record is not serializable: " + record.id(), ex);
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        LocalDateTime oldest = oldest(records);
+
+        synchronized (lock) {
+            try {
+                if (currentSegment == null) {
+                    Files.createDirectories(directory);
+                    currentSegment = directory.resolve(String.format("%s%013d-%06d%s",
+                            SEGMENT_PREFIX, System.currentTimeMillis(), segmentSequence++, SEGMENT_SUFFIX));
+                }
+                try (FileChannel channel = FileChannel.open(currentSegment,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                }
+                oldestBySegment.merge(currentSegment, oldest, AuditJournal::earlier);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to journal " + records.size() + " audit records", ex);
+            }
+        }
+    }
+
+    /**
+     * Hand every sealed segment to {@code writer} in batches of at most {@code batchSize}.
+     * Stops at the first segment whose batch the writer rejects (by throwing).
+     *
+     * @return number of records replayed from segments that were fully accepted and deleted
+     */
+    int replay(int batchSize, Consumer<List<AuditRecord>> writer) {
+        List<Path> segments;
+        synchronized (lock) {
+            currentSegment = null;
+            segments = segments();
+        }
+
+        int replayed = 0;
+        for (Path segment : segments) {
+            List<AuditRecord> records = read(segment);
+            for (int from = 0; from < records.size(); from += batchSize) {
+                writer.accept(records.subList(from, Math.min(from + batchSize, records.size())));
+            }
+            try {
+                Files.delete(segment);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to delete replayed audit journal " + segment, ex);
+            }
+            replayed += records.size();
+            log.info("Replayed {} audit records from {}", records.size(), segment.getFileName());
+        }
+        return replayed;
+    }
+
+    /**
+     * Change time of the oldest record still in the journal, or null when it is empty.
+     */
+    LocalDateTime oldestChangedAt() {
+        synchronized (lock) {
+            List<Path> segments = segments();
+            oldestBySegment.keySet().retainAll(segments);
+            LocalDateTime oldest = null;
+            for (Path segment : segments) {
+                LocalDateTime segmentOldest = oldestBySegment.computeIfAbsent(segment, path -> oldest(read(path)));
+                oldest = earlier(oldest, segmentOldest);
+            }
+            return oldest;
+        }
+    }
+
+    private static LocalDateTime oldest(List<AuditRecord> records) {
+        LocalDateTime oldest = null;
+        for (AuditRecord record : records) {
+            oldest = earlier(oldest, record.changedAt());
+        }
+        return oldest;
+    }
+
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isBefore(b) ? a : b;
+    }
+
+    int segmentCount() {
+        synchronized (lock) {
+            return segments().size();
+        }
+    }
+
+    private List<Path> segments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to list audit journal " + directory, ex);
+        }
+    }
+
+    private List<AuditRecord> read(Path segment) {
+        List<AuditRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    records.add(objectMapper.readValue(line, AuditRecord.class));
+                } catch (JsonProcessingException ex) {
+                    // Only a crash mid-append can leave a torn line, and only at the end of a segment
+                    log.warn("Skipping unreadable audit journal line in {}: {}", segment.getFileName(), ex.getMessage());
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read audit journal " + segment, ex);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,342 @@
+package com.newwork.employee.service.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newwork.employee.config.properties.AuditProperties;
+import com.newwork.employee.dto.AuditRecord;
+import com.newwork.employee.repository.AuditLogRepository;
+import com.newwork.employee.service.AuditTrail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background writer of the audit trail.
+ *
+ * Records go into a bounded in-memory queue; one daemon thread takes a batch as soon as a record
+ * arrives, lingers up to {@code flushInterval} for it to fill to {@code batchSize}, and inserts it
+ * with one JDBC batch. Nothing is dropped: records that find the queue full, batches the database
+ * rejects, and whatever is still queued at shutdown are appended to the {@link AuditJournal}
+ * instead, which is replayed at startup and every {@code journalReplayInterval}.
+ *
+ * Every {@code progressInterval} the writer reports in audit_writer_progress the change time of
+ * the oldest record it has been given but not yet written, counting records of transactions that
+ * have not committed yet and records in the journal. The profile change feed waits for that, so
+ * it never serves a profile before its changed fields are in the audit_log.
+ *
+ * Metrics: {@code audit.queue.depth}, {@code audit.flush} (time to write one batch),
+ * {@code audit.flush.size}, {@code audit.lag} (change recorded to written),
+ * {@code audit.records{outcome=written|journaled|replayed}} and {@code audit.journal.segments}.
+ */
+@Slf4j
+@Component
+public class AuditTrailWriter implements AuditTrail, SmartLifecycle {
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditProperties properties;
+    private final AuditJournal journal;
+    private final BlockingQueue<AuditRecord> queue;
+    /** Change time of every record given to {@link #record} that is neither written nor journaled. */
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final UUID instanceId = UUID.randomUUID();
+
+    private final Timer flush;
+    private final DistributionSummary flushSize;
+    private final Timer lag;
+    private final Counter written;
+    private final Counter journaled;
+    private final Counter replayed;
+
+    /** Cleared on stop: from then on records are journaled directly. */
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+    private Thread thread;
+    /** Only touched by the writer thread. */
+    private long nextReplayAt;
+    /** Only touched by the writer thread. */
+    private long nextProgressAt;
+
+    public AuditTrailWriter(AuditLogRepository auditLogRepository,
+                            AuditProperties properties,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.auditLogRepository = auditLogRepository;
+        this.properties = properties;
+        this.journal = new AuditJournal(properties.getJournalDir(), objectMapper);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        this.flush = Timer.builder("audit.flush")
+                .description("Time to write one batch of audit records")
+                .register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("audit.flush.size")
+                .description("Audit records per written batch")
+                .register(meterRegistry);
+        this.lag = Timer.builder("audit.lag")
+                .description("Time from a change being recorded to its audit record being written")
+                .register(meterRegistry);
+        this.written = outcome(meterRegistry, "written");
+        this.journaled = outcome(meterRegistry, "journaled");
+        this.replayed = outcome(meterRegistry, "replayed");
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size)
+                .description("Audit records waiting in memory to be written")
+                .register(meterRegistry);
+        Gauge.builder("audit.journal.segments", journal, AuditJournal::segmentCount)
+                .description("Journal files waiting to be replayed")
+                .register(meterRegistry);
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("audit.records")
+                .description("Audit records by where they ended up")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(List<AuditRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        // Pending from now on, before the transaction can commit and make the change visible
+        records.forEach(record -> pending.put(record.id(), record.changedAt()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(records);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        forget(records);
+                    }
+                }
+            });
+        } else {
+            enqueue(records);
+        }
+    }
+
+    void enqueue(List<AuditRecord> records) {
+        List<AuditRecord> overflow = new ArrayList<>();
+        for (AuditRecord record : records) {
+            if (!accepting || !queue.offer(record)) {
+                overflow.add(record);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            journalSafely(overflow);
+        }
+    }
+
+    /**
+     * Change time of the oldest record not yet written, or {@code now} when there is none.
+     */
+    LocalDateTime pendingSince(LocalDateTime now) {
+        LocalDateTime oldest = now;
+        for (LocalDateTime changedAt : pending.values()) {
+            if (changedAt.isBefore(oldest)) {
+                oldest = changedAt;
+            }
+        }
+        LocalDateTime journaled = journal.oldestChangedAt();
+        return journaled != null && journaled.isBefore(oldest) ? journaled : oldest;
+    }
+
+    private void forget(List<AuditRecord> records) {
+        records.forEach(record -> pending.remove(record.id()));
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        accepting = true;
+        running = true;
+        thread = new Thread(this::run, "audit-trail-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join(properties.getShutdownTimeout().toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // The writer drains the queue on its way out; anything it could not reach in time,
+        // or that raced past the accepting flag, is journaled for the next start
+        List<AuditRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            journalSafely(remaining);
+        }
+        // Nothing left for the feed to wait for; a journal left behind keeps the last report,
+        // which expires after progressTimeout
+        try {
+            if (journal.oldestChangedAt() == null) {
+                auditLogRepository.deleteProgress(instanceId);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to clear audit writer progress: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Below the web server's phases, so the writer starts before and stops after it: requests
+     * still draining during graceful shutdown are written rather than journaled.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 2048;
+    }
+
+    private void run() {
+        try {
+            auditLogRepository.pruneProgress(properties.getProgressTimeout());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to prune audit writer progress: {}", ex.getMessage());
+        }
+        reportProgress();
+        replayJournal();
+        try {
+            while (running) {
+                writeNextBatch(properties.getFlushInterval().toNanos());
+                if (System.nanoTime() - nextReplayAt >= 0) {
+                    replayJournal();
+                }
+                if (System.nanoTime() - nextProgressAt >= 0) {
+                    reportProgress();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        // Shutting down: write what is queued while the database is still available
+        while (!queue.isEmpty()) {
+            List<AuditRecord> batch = new ArrayList<>(properties.getBatchSize());
+            queue.drainTo(batch, properties.getBatchSize());
+            write(batch);
+        }
+    }
+
+    /**
+     * Wait up to {@code waitNanos} for a record, then linger up to the flush interval for the
+     * batch to fill and write it.
+     *
+     * @return number of records taken from the queue
+     */
+    int writeNextBatch(long waitNanos) throws InterruptedException {
+        AuditRecord first = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return 0;
+        }
+        int batchSize = properties.getBatchSize();
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.getFlushInterval().toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            AuditRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        write(batch);
+        return batch.size();
+    }
+
+    /**
+     * Retry journaled records against the database.
+     *
+     * @return number of records replayed
+     */
+    int replayJournal() {
+        nextReplayAt = System.nanoTime() + properties.getJournalReplayInterval().toNanos();
+        try {
+            int count = journal.replay(properties.getBatchSize(), auditLogRepository::insertAll);
+            replayed.increment(count);
+            return count;
+        } catch (RuntimeException ex) {
+            log.warn("Audit journal replay failed, retrying in {}: {}", properties.getJournalReplayInterval(), ex.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Tell the profile change feed how far this instance has written.
+     */
+    void reportProgress() {
+        nextProgressAt = System.nanoTime() + properties.getProgressInterval().toNanos();
+        try {
+            auditLogRepository.reportProgress(instanceId, pendingSince(LocalDateTime.now()));
+        } catch (RuntimeException ex) {
+            // The feed keeps waiting on the previous report until it expires
+            log.warn("Failed to report audit writer progress: {}", ex.getMessage());
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        long started = System.nanoTime();
+        try {
+            auditLogRepository.insertAll(batch);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to write {} audit records, journaling them: {}", batch.size(), ex.getMessage());
+            journalSafely(batch);
+            // Give the database a full replay interval before the journal is retried
+            nextReplayAt = System.nanoTime() + properties.getJournalReplayInterval().toNanos();
+            return;
+        }
+        forget(batch);
+        flush.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        flushSize.record(batch.size());
+        written.increment(batch.size());
+        LocalDateTime now = LocalDateTime.now();
+        batch.forEach(record -> lag.record(Duration.between(record.changedAt(), now).abs()));
+    }
+
+    private void journalSafely(List<AuditRecord> records) {
+        try {
+            journal.append(records);
+            journaled.increment(records.size());
+        } catch (RuntimeException ex) {
+            // Last resort: keep the records in the log so they can be recovered by hand
+            log.error("Lost {} audit records, journal unavailable: {}", records.size(), records, ex);
+        }
+        forget(records);
+    }
+}
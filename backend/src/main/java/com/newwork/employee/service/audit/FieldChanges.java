@@ -0,0 +1,56 @@
+package com.newwork.employee.service.audit;
+
+import com.newwork.employee.dto.AuditRecord;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import com.newwork.employee.util.UuidV7;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Collects the fields an update actually changed. Writes of an unchanged value are ignored.
+ */
+public final class FieldChanges {
+
+    private final List<Change> changes = new ArrayList<>();
+
+    public void record(String field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.add(new Change(field, asText(oldValue), asText(newValue), false));
+        }
+    }
+
+    /**
+     * Record that a sensitive field changed without keeping either value.
+     */
+    public void recordSensitive(String field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.add(new Change(field, null, null, true));
+        }
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public List<AuditRecord> toRecords(ChangedEntity entityType, UUID entityId, UUID subjectUserId, UUID actorId) {
+        LocalDateTime changedAt = LocalDateTime.now();
+        return changes.stream()
+                .map(change -> new AuditRecord(UuidV7.randomUuid(), entityType, entityId, subjectUserId, actorId,
+                        change.field(), change.oldValue(), change.newValue(), change.sensitive(), changedAt))
+                .toList();
+    }
+
+    private static String asText(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Enum<?> enumValue ? enumValue.name() : value.toString();
+    }
+
+    private record Change(String field, String oldValue, String newValue, boolean sensitive) {
+    }
+}
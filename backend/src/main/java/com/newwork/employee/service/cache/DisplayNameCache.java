@@ -0,0 +1,78 @@
+package com.newwork.employee.service.cache;
+
+import com.newwork.employee.config.properties.CacheProperties;
+import com.newwork.employee.dto.EntityChange;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Node-local cache of user display names, used when rendering feedback.
+ *
+ * Evicted through the invalidation bus when the user's profile or account changes on any node;
+ * the TTL only bounds staleness if invalidations are lost. When full, the cache is cleared
+ * rather than tracking recency: names are cheap to reload and the bound exists to cap memory.
+ */
+@Component
+public class DisplayNameCache implements EntityChangeHandler {
+
+    private record Entry(String displayName, Instant expiresAt) {
+    }
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final CacheProperties.DisplayNames properties;
+    private final Clock clock;
+
+    public DisplayNameCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this(cacheProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    DisplayNameCache(CacheProperties cacheProperties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = cacheProperties.getDisplayNames();
+        this.clock = clock;
+        Gauge.builder("cache.display_names.size", entries, Map::size)
+                .description("Display names cached on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Return the cached display name for the user, loading it on a miss or after expiry.
+     */
+    public String get(UUID userId, Function<UUID, String> loader) {
+        Instant now = clock.instant();
+        Entry entry = entries.get(userId);
+        if (entry != null && now.isBefore(entry.expiresAt())) {
+            return entry.displayName();
+        }
+        String displayName = loader.apply(userId);
+        if (entries.size() >= properties.getMaxSize()) {
+            entries.clear();
+        }
+        entries.put(userId, new Entry(displayName, now.plus(properties.getTtl())));
+        return displayName;
+    }
+
+    public void evict(UUID userId) {
+        entries.remove(userId);
+    }
+
+    @Override
+    public void onChange(EntityChange change) {
+        if (change.entity() == ChangedEntity.PROFILE || change.entity() == ChangedEntity.USER) {
+            evict(change.userId());
+        }
+    }
+
+    @Override
+    public void onReset() {
+        entries.clear();
+    }
+}
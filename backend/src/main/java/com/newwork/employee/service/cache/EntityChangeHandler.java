@@ -0,0 +1,17 @@
+package com.newwork.employee.service.cache;
+
+import com.newwork.employee.dto.EntityChange;
+
+/**
+ * Local cache (or other node-local consumer) that wants to hear about committed changes on any node.
+ * Delivery is at-least-once and unordered across entities, so handlers must tolerate repeats.
+ */
+public interface EntityChangeHandler {
+
+    void onChange(EntityChange change);
+
+    /**
+     * Changes may have been missed (e.g. the node was disconnected for longer than the outbox retention).
+     */
+    void onReset();
+}
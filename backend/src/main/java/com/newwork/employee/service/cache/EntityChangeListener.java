@@ -0,0 +1,214 @@
+package com.newwork.employee.service.cache;
+
+import com.newwork.employee.config.properties.CacheProperties;
+import com.newwork.employee.dto.EntityChange;
+import com.newwork.employee.repository.EntityChangeOutboxRepository;
+import com.newwork.employee.repository.EntityChangeOutboxRepository.OutboxEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-node consumer of the cache invalidation bus.
+ *
+ * Holds one dedicated connection (outside the pool) that LISTENs on the channel and wakes up on
+ * every NOTIFY, or after {@code pollInterval} at the latest, to read the outbox from its last
+ * position. Because the outbox, not the notification, is the source of truth, a lost notification
+ * or a reconnect only delays eviction: delivery is at-least-once.
+ *
+ * Outbox ids are assigned at insert time, not commit time, so a change can become visible behind
+ * one already read, however long its transaction ran. The position is therefore a transaction
+ * horizon rather than an id or a time: each poll first takes the oldest running transaction id
+ * (every transaction below it has ended, so its rows are final), then reads every row written at
+ * or above the previous horizon and skips ids it already delivered. Rows of a transaction still
+ * running at one poll are picked up by a later one. A long-running transaction anywhere in the
+ * database only makes polls re-read more rows; it never causes a change to be skipped.
+ *
+ * Metrics: {@code cache.invalidation.lag} (change recorded to evicted on this node),
+ * {@code cache.invalidation.events}, {@code cache.invalidation.resets} and
+ * {@code cache.invalidation.connected}.
+ */
+@Slf4j
+@Component
+public class EntityChangeListener implements SmartLifecycle {
+
+    private final EntityChangeOutboxRepository outboxRepository;
+    private final ObjectProvider<EntityChangeHandler> handlers;
+    private final CacheProperties.Invalidation properties;
+    private final JdbcConnectionDetails connectionDetails;
+
+    private final Timer lag;
+    private final Counter events;
+    private final Counter resets;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private Thread thread;
+
+    /** Transaction horizon of the previous poll; null before the first. Only touched by the listener thread. */
+    private Long fromTxId;
+    /** Outbox id to tx_id of delivered rows at or above {@link #fromTxId}, which later polls read again. */
+    private final Map<Long, Long> delivered = new HashMap<>();
+    private LocalDateTime lastPollAt;
+
+    public EntityChangeListener(EntityChangeOutboxRepository outboxRepository,
+                                ObjectProvider<EntityChangeHandler> handlers,
+                                CacheProperties cacheProperties,
+                                JdbcConnectionDetails connectionDetails,
+                                MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.handlers = handlers;
+        this.properties = cacheProperties.getInvalidation();
+        this.connectionDetails = connectionDetails;
+        this.lag = Timer.builder("cache.invalidation.lag")
+                .description("Time from a change being recorded to local caches evicting it")
+                .register(meterRegistry);
+        this.events = Counter.builder("cache.invalidation.events")
+                .description("Entity changes delivered to local caches")
+                .register(meterRegistry);
+        this.resets = Counter.builder("cache.invalidation.resets")
+                .description("Full cache clears after changes may have been missed")
+                .register(meterRegistry);
+        Gauge.builder("cache.invalidation.connected", this, listener -> listener.connected ? 1 : 0)
+                .description("Whether the LISTEN connection is up")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "entity-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        Duration backoff = Duration.ofSeconds(1);
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN \"" + properties.getChannel().replace("\"", "\"\"") + "\"");
+                }
+                connected = true;
+                backoff = Duration.ofSeconds(1);
+                log.info("Listening for entity changes on channel {}", properties.getChannel());
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    poll();
+                    // Returns on the first notification or after the poll interval; either way the outbox is read
+                    pgConnection.getNotifications((int) properties.getPollInterval().toMillis());
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Entity change listener lost its connection, retrying in {}: {}", backoff, ex.getMessage());
+                sleep(backoff);
+                backoff = backoff.multipliedBy(2).compareTo(Duration.ofSeconds(30)) > 0
+                        ? Duration.ofSeconds(30)
+                        : backoff.multipliedBy(2);
+            } finally {
+                connected = false;
+            }
+        }
+    }
+
+    /**
+     * Deliver every committed change not delivered yet.
+     *
+     * @return number of changes delivered
+     */
+    int poll() {
+        LocalDateTime now = outboxRepository.now();
+        // Taken before reading, so every row below it that will ever commit is visible to the read
+        long horizon = outboxRepository.currentTxHorizon();
+        if (fromTxId == null) {
+            // Nothing is cached before the first poll can have missed anything; start at the head
+            fromTxId = horizon;
+        } else if (Duration.between(lastPollAt, now).compareTo(properties.getRetention()) > 0) {
+            // Offline for longer than the outbox keeps changes: some may be gone for good
+            log.warn("Entity change listener was behind for more than {}; clearing local caches", properties.getRetention());
+            handlers.orderedStream().forEach(EntityChangeHandler::onReset);
+            resets.increment();
+            fromTxId = horizon;
+            delivered.clear();
+        }
+        lastPollAt = now;
+
+        long afterId = -1;
+        int deliveredNow = 0;
+        List<OutboxEntry> page;
+        do {
+            page = outboxRepository.findFromTx(fromTxId, afterId, properties.getBatchSize());
+            for (OutboxEntry entry : page) {
+                EntityChange change = entry.change();
+                afterId = change.id();
+                if (delivered.putIfAbsent(change.id(), entry.txId()) == null) {
+                    deliver(change, now);
+                    deliveredNow++;
+                }
+            }
+        } while (page.size() == properties.getBatchSize());
+
+        // Rows below the horizon are final and the next poll starts there, so they are not read again
+        fromTxId = Math.max(fromTxId, horizon);
+        long forgetBelow = fromTxId;
+        delivered.values().removeIf(txId -> txId < forgetBelow);
+        return deliveredNow;
+    }
+
+    private void deliver(EntityChange change, LocalDateTime now) {
+        handlers.orderedStream().forEach(handler -> {
+            try {
+                handler.onChange(change);
+            } catch (RuntimeException ex) {
+                log.warn("Cache handler {} failed for {}", handler.getClass().getSimpleName(), change, ex);
+            }
+        });
+        events.increment();
+        lag.record(Duration.between(change.createdAt(), now).abs());
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.newwork.employee.service.cache;
+
+import com.newwork.employee.config.properties.CacheProperties;
+import com.newwork.employee.dto.EntityChange;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import com.newwork.employee.entity.enums.Relationship;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local cache of fully serialized profile responses (UTF-8 JSON), one per profile and
+ * viewer relationship. The relationship fixes both the visible fields and the metadata block,
+ * so every viewer in the same tier gets byte-identical output.
+ *
+ * Entries carry the later of the profile's and its user's {@code updated_at} (the response includes
+ * user columns such as email); a lookup for any other version misses, so a lost invalidation cannot
+ * serve an outdated profile. Evictions from the invalidation bus just free the memory early.
+ */
+@Component
+public class ProfileJsonCache implements EntityChangeHandler {
+
+    private record Key(UUID userId, Relationship relationship) {
+    }
+
+    private record Entry(LocalDateTime version, byte[] json, Instant expiresAt) {
+    }
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final CacheProperties.ProfileJson properties;
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProfileJsonCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this(cacheProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    ProfileJsonCache(CacheProperties cacheProperties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = cacheProperties.getProfileJson();
+        this.clock = clock;
+        this.hits = Counter.builder("cache.profile_json.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.profile_json.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.profile_json.size", entries, Map::size)
+                .description("Serialized profiles cached on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Serialized profile for this tier, if cached at exactly this version.
+     */
+    public Optional<byte[]> get(UUID userId, Relationship relationship, LocalDateTime version) {
+        Entry entry = entries.get(new Key(userId, relationship));
+        if (entry != null && Objects.equals(entry.version(), version) && clock.instant().isBefore(entry.expiresAt())) {
+            hits.increment();
+            return Optional.of(entry.json());
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Cache the serialized profile. {@code version} must come from the rows the JSON was rendered from,
+     * not ones read beforehand, so a concurrent update is never stored under an older version.
+     */
+    public void put(UUID userId, Relationship relationship, LocalDateTime version, byte[] json) {
+        if (entries.size() >= properties.getMaxSize()) {
+            entries.clear();
+        }
+        entries.put(new Key(userId, relationship), new Entry(version, json, clock.instant().plus(properties.getTtl())));
+    }
+
+    public void evict(UUID userId) {
+        for (Relationship relationship : Relationship.values()) {
+            entries.remove(new Key(userId, relationship));
+        }
+    }
+
+    @Override
+    public void onChange(EntityChange change) {
+        if (change.entity() == ChangedEntity.PROFILE || change.entity() == ChangedEntity.USER) {
+            evict(change.userId());
+        }
+    }
+
+    @Override
+    public void onReset() {
+        entries.clear();
+    }
+}
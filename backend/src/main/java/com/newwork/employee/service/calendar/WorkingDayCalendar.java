@@ -0,0 +1,245 @@
+package com.newwork.employee.service.calendar;
+
+import com.newwork.employee.config.properties.CalendarProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Working-day calendar per holiday region.
+ *
+ * Each (region, year) present in the holiday file is materialized once at startup as a bitset
+ * (one bit per day of the year, set for working days) plus a per-word prefix count, so the working
+ * days of a partial year are two rank lookups. Years without holiday data observe weekends only
+ * and are counted arithmetically, as are the full years between two endpoints: weekdays minus the
+ * holidays of the few years that have any. Nothing is built or cached after startup, and no call
+ * iterates over dates; only years with holiday data are visited.
+ */
+@Slf4j
+@Component
+public class WorkingDayCalendar {
+
+    /**
+     * Supported date range; anything outside it is certainly a typo rather than an absence.
+     */
+    public static final int MIN_YEAR = 1900;
+    public static final int MAX_YEAR = 2999;
+
+    private final String defaultRegion;
+    private final Map<String, String> officeRegions = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, Set<LocalDate>> holidaysByRegion = new HashMap<>();
+    private final NavigableSet<Integer> holidayYears = new TreeSet<>();
+    // Written only while constructing, read-only afterwards
+    private final Map<RegionYear, YearMask> masks = new HashMap<>();
+
+    public WorkingDayCalendar(CalendarProperties properties, ResourceLoader resourceLoader) {
+        this.defaultRegion = normalizeRegion(properties.getDefaultRegion());
+        properties.getOfficeRegions().forEach((office, region) -> officeRegions.put(office, normalizeRegion(region)));
+        loadHolidays(resourceLoader.getResource(properties.getHolidaysLocation()));
+        precompute();
+    }
+
+    /**
+     * Holiday region for an office location, falling back to the default region.
+     */
+    public String regionFor(String officeLocation) {
+        if (officeLocation == null) {
+            return defaultRegion;
+        }
+        return officeRegions.getOrDefault(officeLocation.trim(), defaultRegion);
+    }
+
+    /**
+     * Number of working days between two dates, both inclusive. Returns 0 when {@code to} precedes {@code from}.
+     *
+     * @throws IllegalArgumentException if either date lies outside {@link #MIN_YEAR}..{@link #MAX_YEAR}
+     */
+    public int businessDays(String region, LocalDate from, LocalDate to) {
+        checkSupported(from);
+        checkSupported(to);
+        if (to.isBefore(from)) {
+            return 0;
+        }
+        String key = normalizeRegion(region);
+        if (from.getYear() == to.getYear()) {
+            return workingDaysWithinYear(key, from, to);
+        }
+        long total = workingDaysWithinYear(key, from, from.with(TemporalAdjusters.lastDayOfYear()))
+                + workingDaysWithinYear(key, to.with(TemporalAdjusters.firstDayOfYear()), to);
+        if (to.getYear() - from.getYear() > 1) {
+            total += weekdays(LocalDate.of(from.getYear() + 1, 1, 1), LocalDate.of(to.getYear() - 1, 12, 31));
+            for (int year : holidayYears.subSet(from.getYear(), false, to.getYear(), false)) {
+                LocalDate first = LocalDate.of(year, 1, 1);
+                total -= weekdays(first, first.with(TemporalAdjusters.lastDayOfYear())) - mask(key, year).total();
+            }
+        }
+        return Math.toIntExact(total);
+    }
+
+    public boolean isWorkingDay(String region, LocalDate date) {
+        return businessDays(region, date, date) == 1;
+    }
+
+    private static void checkSupported(LocalDate date) {
+        if (date.getYear() < MIN_YEAR || date.getYear() > MAX_YEAR) {
+            throw new IllegalArgumentException("Dates must be between years " + MIN_YEAR + " and " + MAX_YEAR);
+        }
+    }
+
+    private int workingDaysWithinYear(String region, LocalDate from, LocalDate to) {
+        if (!holidayYears.contains(from.getYear())) {
+            return Math.toIntExact(weekdays(from, to));
+        }
+        YearMask mask = mask(region, from.getYear());
+        return mask.rank(to.getDayOfYear()) - mask.rank(from.getDayOfYear() - 1);
+    }
+
+    /**
+     * Mask of a year with holiday data. Regions configured at startup are precomputed; any other
+     * region string is built for the call and not kept, so callers cannot grow the map.
+     */
+    private YearMask mask(String region, int year) {
+        RegionYear key = new RegionYear(region, year);
+        YearMask mask = masks.get(key);
+        return mask != null ? mask : buildMask(key);
+    }
+
+    /**
+     * Monday-to-Friday days between two dates, both inclusive, without iterating over them.
+     */
+    static long weekdays(LocalDate from, LocalDate to) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        long weekdays = days / 7 * 5;
+        // Remaining 0..6 days start on from's weekday; Monday = 0 .. Sunday = 6
+        int start = from.getDayOfWeek().getValue() - 1;
+        int remainder = (int) (days % 7);
+        for (int offset = 0; offset < remainder; offset++) {
+            if ((start + offset) % 7 < 5) {
+                weekdays++;
+            }
+        }
+        return weekdays;
+    }
+
+    private YearMask buildMask(RegionYear key) {
+        Set<LocalDate> holidays = holidaysFor(key.region());
+        LocalDate day = LocalDate.ofYearDay(key.year(), 1);
+        int length = day.lengthOfYear();
+        long[] words = new long[(length + 63) >>> 6];
+        for (int index = 0; index < length; index++, day = day.plusDays(1)) {
+            DayOfWeek dayOfWeek = day.getDayOfWeek();
+            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY && !holidays.contains(day)) {
+                words[index >>> 6] |= 1L << (index & 63);
+            }
+        }
+        int[] rankBefore = new int[words.length + 1];
+        for (int word = 0; word < words.length; word++) {
+            rankBefore[word + 1] = rankBefore[word] + Long.bitCount(words[word]);
+        }
+        return new YearMask(words, rankBefore);
+    }
+
+    /**
+     * A subdivision (DE-BY) observes its own holidays and those of its country (DE).
+     */
+    private Set<LocalDate> holidaysFor(String region) {
+        Set<LocalDate> holidays = new HashSet<>(holidaysByRegion.getOrDefault(region, Set.of()));
+        int separator = region.indexOf('-');
+        if (separator > 0) {
+            holidays.addAll(holidaysByRegion.getOrDefault(region.substring(0, separator), Set.of()));
+        }
+        return holidays;
+    }
+
+    private void precompute() {
+        Set<String> regions = new HashSet<>(holidaysByRegion.keySet());
+        regions.addAll(officeRegions.values());
+        regions.add(defaultRegion);
+        holidaysByRegion.values().forEach(dates -> dates.forEach(date -> holidayYears.add(date.getYear())));
+        regions.forEach(region -> holidayYears.forEach(year -> {
+            RegionYear key = new RegionYear(region, year);
+            masks.put(key, buildMask(key));
+        }));
+        log.info("Working-day calendar ready: {} region(s), {} precomputed region-year(s), default region {}",
+                holidaysByRegion.size(), masks.size(), defaultRegion);
+    }
+
+    private void loadHolidays(Resource resource) {
+        if (!resource.exists()) {
+            log.warn("Holiday file {} not found; only weekends are treated as non-working days", resource);
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = trimmed.split(",", 3);
+                if (columns.length < 2) {
+                    throw new IllegalStateException("Invalid holiday entry at line " + lineNumber + ": " + line);
+                }
+                try {
+                    holidaysByRegion.computeIfAbsent(normalizeRegion(columns[0]), region -> new HashSet<>())
+                            .add(LocalDate.parse(columns[1].trim()));
+                } catch (DateTimeParseException ex) {
+                    throw new IllegalStateException("Invalid holiday date at line " + lineNumber + ": " + line, ex);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read holiday file " + resource, ex);
+        }
+    }
+
+    private static String normalizeRegion(String region) {
+        return region == null ? "" : region.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record RegionYear(String region, int year) {
+    }
+
+    /**
+     * Working-day bitset of one year. {@code rankBefore[w]} counts working days in words before {@code w}.
+     */
+    private record YearMask(long[] words, int[] rankBefore) {
+
+        /**
+         * Working days among the first {@code days} days of the year.
+         */
+        int rank(int days) {
+            int word = days >>> 6;
+            if (word == words.length) {
+                return rankBefore[word];
+            }
+            return rankBefore[word] + Long.bitCount(words[word] & ((1L << (days & 63)) - 1));
+        }
+
+        int total() {
+            return rankBefore[words.length];
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.newwork.employee.service.client;
 
 import org.springframework.lang.NonNull;
 
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Client interface for HuggingFace inference API.
  * Abstracts AI text polishing for better testability and flexibility.
@@ -10,10 +13,23 @@ public interface HuggingFaceClient {
 
     /**
      * Polish feedback text using AI to make it more professional and warm.
+     * Implementations that batch calls must only combine texts of the same author.
      *
+     * @param authorId User drafting the feedback (must not be null)
      * @param text Original feedback text to polish (must not be null)
      * @return Polished feedback text
      * @throws com.newwork.employee.exception.AiServiceException if the AI service fails
      */
-    String polish(@NonNull String text);
+    String polish(@NonNull UUID authorId, @NonNull String text);
+
+    /**
+     * Polish several independent feedback texts with a single upstream request. All texts share
+     * one model context, so callers must only pass texts the same user may read.
+     *
+     * @param texts Original feedback texts (must not be null or contain nulls)
+     * @return Polished texts, one per input and in the same order
+     * @throws com.newwork.employee.exception.AiServiceException if the AI service fails or its answer
+     *         does not hold exactly one text per input
+     */
+    List<String> polishAll(@NonNull List<String> texts);
 }
@@ -1,23 +1,55 @@
 package com.newwork.employee.service.client.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.newwork.employee.config.properties.HuggingFaceProperties;
 import com.newwork.employee.exception.AiServiceException;
 import com.newwork.employee.service.client.HuggingFaceClient;
+import com.newwork.employee.service.client.resilience.CallNotPermittedException;
+import com.newwork.employee.service.client.resilience.UpstreamGuard;
+import com.newwork.employee.service.client.transport.HttpTransports;
+import com.newwork.employee.util.MicroBatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * HuggingFace inference API client implementation.
+ *
+ * Single polish calls are funneled through a {@link MicroBatcher}: calls of the same author arriving
+ * within the batching window share one multi-item chat completion, and each caller gets its own text
+ * back. Drafts of different authors never share a prompt, so one user's private feedback cannot leak
+ * into another user's completion. A batch answer that does not hold exactly one text per input counts
+ * as an upstream failure; the batcher then polishes its texts one by one, concurrently, so a caller
+ * waits for at most two upstream requests. Batches run on as many threads as the bulkhead has slots
+ * and are never queued: a call that finds them all busy is refused like one the bulkhead refuses.
+ * Requests go over a pooled keep-alive transport (HTTP/2 and gzip by default, see {@link HttpTransports}),
+ * have connect/read timeouts and pass the {@link UpstreamGuard}, which refuses calls with
+ * {@link AiServiceException} while the upstream is saturated or unhealthy.
  */
+@Slf4j
 @Component
-public class HuggingFaceClientImpl implements HuggingFaceClient {
+public class HuggingFaceClientImpl implements HuggingFaceClient, DisposableBean {
 
     private static final String POLISH_PROMPT = """
             You are a professional HR communication assistant.
@@ -28,13 +60,45 @@ public class HuggingFaceClientImpl implements HuggingFaceClient {
             Return only the polished feedback text.
             """;
 
+    private static final String BATCH_POLISH_PROMPT = """
+            You are a professional HR communication assistant.
+            You receive a JSON array of independent employee-to-employee feedback texts.
+            Rewrite each one so it is concise (max two sentences), warm, inclusive, and encouraging
+            while keeping every original fact intact. Never mix content between texts.
+            Do not add questions, extra context, or speculative advice.
+            Preserve the original language (English, German, etc.) and avoid corporate buzzwords.
+            Return only a JSON array of strings with exactly one polished text per input, in the same order.
+            """;
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+
     private final RestClient restClient;
     private final HuggingFaceProperties properties;
+    private final ObjectMapper objectMapper;
+    private final UpstreamGuard upstreamGuard;
+    private final MicroBatcher<String, String> batcher;
+    private final Counter batchFallbacks;
 
-    public HuggingFaceClientImpl(HuggingFaceProperties properties) {
+    public HuggingFaceClientImpl(HuggingFaceProperties properties,
+                                 ObjectMapper objectMapper,
+                                 UpstreamGuard aiUpstreamGuard,
+                                 MeterRegistry meterRegistry) {
         this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.upstreamGuard = aiUpstreamGuard;
         String apiUrl = Objects.requireNonNull(properties.getApiUrl(), "HuggingFace apiUrl must not be null");
-        RestClient.Builder builder = RestClient.builder()
+
+        // Without explicit timeouts a hung upstream would hold the calling thread indefinitely
+        HuggingFaceProperties.Transport transport = properties.getTransport();
+        RestClient.Builder builder = HttpTransports.configure(RestClient.builder(), new HttpTransports.Settings(
+                        transport.getType(),
+                        transport.isHttp2(),
+                        transport.getMaxConnections(),
+                        transport.getKeepAlive(),
+                        transport.isGzip(),
+                        properties.getConnectTimeout(),
+                        properties.getTimeout()))
                 .baseUrl(apiUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
 
@@ -43,16 +107,120 @@ public class HuggingFaceClientImpl implements HuggingFaceClient {
         }
 
         this.restClient = builder.build();
+        this.batchFallbacks = Counter.builder("ai.polish.batch.fallback")
+                .description("Batches whose answer was unusable and were retried one text at a time")
+                .register(meterRegistry);
+
+        HuggingFaceProperties.Batching batching = properties.getBatching();
+        this.batcher = properties.isEnabled() && batching.isEnabled()
+                ? new MicroBatcher<>("ai.polish", this::polishAll, this::retryOneByOne, batching.getMaxBatchSize(),
+                        batching.getMaxWait(), properties.getResilience().getMaxConcurrentCalls(), meterRegistry)
+                : null;
+    }
+
+    @Override
+    public String polish(@NonNull UUID authorId, @NonNull String text) {
+        Objects.requireNonNull(authorId, "authorId must not be null");
+        String sanitized = Objects.requireNonNull(text, "text must not be null");
+        if (batcher == null) {
+            return polishOne(sanitized);
+        }
+
+        CompletableFuture<String> result = batcher.submit(authorId, sanitized);
+        // Room for the batch request plus this text's own request should the batch answer be unusable
+        long waitMillis = properties.getTimeout().multipliedBy(2)
+                .plus(properties.getBatching().getMaxWait()).toMillis();
+        try {
+            return result.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            result.cancel(true);
+            throw new AiServiceException("AI service request timed out", ex);
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AiServiceException("Interrupted while waiting for AI service", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof AiServiceException aiServiceException) {
+                throw aiServiceException;
+            }
+            if (ex.getCause() instanceof RejectedExecutionException) {
+                throw new AiServiceException("AI service is temporarily unavailable, please try again later", ex.getCause());
+            }
+            throw new AiServiceException("AI service request failed", ex.getCause());
+        }
+    }
+
+    @Override
+    public List<String> polishAll(@NonNull List<String> texts) {
+        Objects.requireNonNull(texts, "texts must not be null");
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+        if (texts.size() == 1) {
+            // The plain prompt is cheaper and more reliable than a one-element JSON round trip
+            return List.of(polishOne(texts.get(0)));
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(texts);
+        } catch (JsonProcessingException ex) {
+            throw new AiServiceException("Could not encode feedback batch", ex);
+        }
+
+        return guarded(() -> parseBatch(request(BATCH_POLISH_PROMPT, payload), texts.size()));
     }
 
     @Override
-    public String polish(@NonNull String text) {
+    public void destroy() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    private boolean retryOneByOne(RuntimeException ex) {
+        if (!(ex instanceof MalformedBatchException)) {
+            return false;
+        }
+        batchFallbacks.increment();
+        log.warn("Unusable AI answer for a batch ({}), polishing its texts one by one", ex.getMessage());
+        return true;
+    }
+
+    private String polishOne(String text) {
+        return guarded(() -> request(POLISH_PROMPT, "Original feedback: \"" + text + "\""));
+    }
+
+    private <T> T guarded(Supplier<T> call) {
+        try {
+            return upstreamGuard.call(call, HuggingFaceClientImpl::isUpstreamFailure);
+        } catch (CallNotPermittedException ex) {
+            throw new AiServiceException("AI service is temporarily unavailable, please try again later", ex);
+        }
+    }
+
+    /**
+     * Transport errors, timeouts, 5xx and 429 mean the upstream is unhealthy or saturated, and so does a
+     * batch answer that cannot be mapped back to its inputs; other 4xx and empty completions do not.
+     */
+    private static boolean isUpstreamFailure(RuntimeException ex) {
+        if (ex instanceof MalformedBatchException) {
+            return true;
+        }
+        Throwable cause = ex.getCause();
+        if (cause instanceof RestClientResponseException response) {
+            return response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return cause instanceof RestClientException;
+    }
+
+    private String request(String systemPrompt, String userContent) {
         try {
             String model = Objects.requireNonNull(properties.getModel(), "HuggingFace model must not be null");
-            String sanitized = Objects.requireNonNull(text, "text must not be null");
             List<ChatMessage> messages = List.of(
-                    new ChatMessage("system", POLISH_PROMPT),
-                    new ChatMessage("user", "Original feedback: \"" + sanitized + "\"")
+                    new ChatMessage("system", systemPrompt),
+                    new ChatMessage("user", userContent)
             );
 
             ChatCompletionRequest request = new ChatCompletionRequest(
@@ -74,13 +242,42 @@ public class HuggingFaceClientImpl implements HuggingFaceClient {
                 throw new AiServiceException("AI service returned empty completion");
             }
             return polished.trim();
-        } catch (org.springframework.web.client.RestClientResponseException ex) {
+        } catch (RestClientResponseException ex) {
             throw new AiServiceException("AI service error: " + ex.getResponseBodyAsString(), ex);
         } catch (RestClientException ex) {
             throw new AiServiceException("AI service request failed", ex);
         }
     }
 
+    /**
+     * Models sometimes wrap the array in a Markdown code fence; only the outermost brackets are parsed.
+     */
+    private List<String> parseBatch(String content, int expected) {
+        int start = content.indexOf('[');
+        int end = content.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            throw new MalformedBatchException("AI service did not return a JSON array", null);
+        }
+        List<String> polished;
+        try {
+            polished = objectMapper.readValue(content.substring(start, end + 1), STRING_LIST);
+        } catch (JsonProcessingException ex) {
+            throw new MalformedBatchException("AI service returned a malformed JSON array", ex);
+        }
+        if (polished == null || polished.size() != expected || polished.stream().anyMatch(p -> p == null || p.isBlank())) {
+            throw new MalformedBatchException("AI service returned "
+                    + (polished == null ? 0 : polished.size()) + " texts for " + expected, null);
+        }
+        return polished.stream().map(String::trim).toList();
+    }
+
+    private static final class MalformedBatchException extends AiServiceException {
+
+        private MalformedBatchException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
     private record ChatCompletionRequest(@NonNull String model,
                                          boolean stream,
                                          List<ChatMessage> messages) {
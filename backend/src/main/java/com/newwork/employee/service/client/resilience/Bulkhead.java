@@ -0,0 +1,51 @@
+package com.newwork.employee.service.client.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of concurrent calls into an upstream so a slow dependency can only ever hold
+ * {@code maxConcurrentCalls} request threads; callers beyond that are refused instead of piling up.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrentCalls;
+    private final Duration maxWait;
+    private final Semaphore permits;
+
+    public Bulkhead(int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive");
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    /**
+     * Take a slot, waiting at most {@code maxWait}. A granted slot must be given back with {@link #release()}.
+     */
+    public boolean tryAcquire() {
+        try {
+            return maxWait.isZero()
+                    ? permits.tryAcquire()
+                    : permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getAvailableSlots() {
+        return permits.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+}
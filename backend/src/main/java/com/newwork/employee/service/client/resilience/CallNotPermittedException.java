@@ -0,0 +1,11 @@
+package com.newwork.employee.service.client.resilience;
+
+/**
+ * Raised by {@link UpstreamGuard} when a call is refused without reaching the upstream.
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    public CallNotPermittedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,136 @@
+package com.newwork.employee.service.client.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Count-based circuit breaker for an upstream dependency.
+ *
+ * CLOSED: calls pass; the outcome of the last {@code slidingWindowSize} calls is kept, and once at
+ * least {@code minimumCalls} were recorded a failure rate at or above the threshold opens the circuit.
+ * OPEN: calls are refused without touching the upstream until {@code openDuration} has passed.
+ * HALF_OPEN: a single probe call is let through; its success closes the circuit, its failure re-opens it.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(String name,
+                          int failureRateThreshold,
+                          int slidingWindowSize,
+                          int minimumCalls,
+                          Duration openDuration,
+                          Clock clock) {
+        if (slidingWindowSize < 1 || minimumCalls < 1 || minimumCalls > slidingWindowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and slidingWindowSize");
+        }
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        this.window = new boolean[slidingWindowSize];
+    }
+
+    /**
+     * Ask to make one upstream call. Every granted permission must be followed by exactly one of
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #releasePermission()}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * Give back a permission without an outcome (the call never reached the upstream).
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recordedCalls >= minimumCalls
+                && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("Circuit breaker '{}' {} -> {}", name, state, next);
+        state = next;
+        probeInFlight = false;
+        if (next == State.OPEN) {
+            openedAt = clock.instant();
+        }
+        if (next == State.CLOSED) {
+            recordedCalls = 0;
+            failedCalls = 0;
+            windowIndex = 0;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.newwork.employee.service.client.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead plus circuit breaker around every call into one upstream.
+ *
+ * Metrics: {@code <name>.circuit.state} (0 closed, 1 open, 2 half-open), {@code <name>.bulkhead.available}
+ * and {@code <name>.calls.rejected} tagged with {@code reason=bulkhead_full|circuit_open}.
+ */
+public class UpstreamGuard {
+
+    private final String name;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+
+    public UpstreamGuard(String name, Bulkhead bulkhead, CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkheadRejections = Counter.builder(name + ".calls.rejected")
+                .tag("reason", "bulkhead_full")
+                .description("Calls refused because the concurrency limit was reached")
+                .register(meterRegistry);
+        this.circuitRejections = Counter.builder(name + ".calls.rejected")
+                .tag("reason", "circuit_open")
+                .description("Calls refused because the upstream is considered unhealthy")
+                .register(meterRegistry);
+        Gauge.builder(name + ".circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        Gauge.builder(name + ".bulkhead.available", bulkhead, Bulkhead::getAvailableSlots)
+                .description("Free concurrent call slots")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the call if a slot is free and the circuit allows it.
+     *
+     * @param isUpstreamFailure decides whether an exception thrown by the call counts against the
+     *                          upstream's health (e.g. timeouts and 5xx do, a rejected request body does not)
+     * @throws CallNotPermittedException if the call was refused without being attempted
+     */
+    public <T> T call(Supplier<T> call, Predicate<RuntimeException> isUpstreamFailure) {
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejections.increment();
+            throw new CallNotPermittedException(name + ": too many concurrent calls");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                circuitRejections.increment();
+                throw new CallNotPermittedException(name + ": upstream is unavailable, circuit is open");
+            }
+            try {
+                T result = call.get();
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (RuntimeException ex) {
+                if (isUpstreamFailure.test(ex)) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                throw ex;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int getAvailableSlots() {
+        return bulkhead.getAvailableSlots();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return bulkhead.getMaxConcurrentCalls();
+    }
+
+    public double getRejectedCalls() {
+        return bulkheadRejections.count() + circuitRejections.count();
+    }
+}
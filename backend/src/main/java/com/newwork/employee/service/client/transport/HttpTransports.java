@@ -0,0 +1,87 @@
+package com.newwork.employee.service.client.transport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Builds the HTTP transport behind a {@link RestClient}.
+ */
+@Slf4j
+public final class HttpTransports {
+
+    static final String POOL_SIZE_PROPERTY = "jdk.httpclient.connectionPoolSize";
+    static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+    static final String H2_KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout.h2";
+
+    private HttpTransports() {
+    }
+
+    /**
+     * Transport settings.
+     *
+     * @param maxConnections cap on idle HTTP/1.1 connections kept per client; 0 keeps the JDK default (unbounded).
+     *                       HTTP/2 multiplexes every call over one connection per host.
+     * @param keepAlive      idle time after which pooled connections are evicted
+     */
+    public record Settings(TransportType type,
+                           boolean http2,
+                           int maxConnections,
+                           Duration keepAlive,
+                           boolean gzip,
+                           Duration connectTimeout,
+                           Duration readTimeout) {
+    }
+
+    /**
+     * Apply the transport to a RestClient builder: request factory plus, if enabled, gzip negotiation.
+     */
+    public static RestClient.Builder configure(RestClient.Builder builder, Settings settings) {
+        builder.requestFactory(requestFactory(settings));
+        if (settings.gzip()) {
+            builder.requestInterceptor(new GzipResponseInterceptor());
+        }
+        return builder;
+    }
+
+    static ClientHttpRequestFactory requestFactory(Settings settings) {
+        return switch (settings.type()) {
+            case JDK -> jdkRequestFactory(settings);
+            case SIMPLE -> {
+                SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+                factory.setConnectTimeout(settings.connectTimeout());
+                factory.setReadTimeout(settings.readTimeout());
+                yield factory;
+            }
+        };
+    }
+
+    private static ClientHttpRequestFactory jdkRequestFactory(Settings settings) {
+        // The JDK connection pool reads its limits once per JVM, when the first HttpClient is created;
+        // explicit -D flags win over configuration
+        setDefault(POOL_SIZE_PROPERTY, settings.maxConnections() > 0 ? String.valueOf(settings.maxConnections()) : null);
+        setDefault(KEEP_ALIVE_PROPERTY, String.valueOf(settings.keepAlive().toSeconds()));
+        setDefault(H2_KEEP_ALIVE_PROPERTY, String.valueOf(settings.keepAlive().toSeconds()));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(settings.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(settings.readTimeout());
+        return factory;
+    }
+
+    private static void setDefault(String property, String value) {
+        if (value != null && System.getProperty(property) == null) {
+            System.setProperty(property, value);
+            log.debug("Set {}={}", property, value);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.newwork.employee.service.client.transport;
+
+/**
+ * HTTP stack used for outbound REST calls.
+ */
+public enum TransportType {
+    /**
+     * JDK {@code java.net.http.HttpClient}: pooled keep-alive connections, HTTP/2 with ALPN
+     * (one multiplexed TLS connection per host), falling back to HTTP/1.1.
+     */
+    JDK,
+
+    /**
+     * {@code HttpURLConnection}, one blocking connection per call. Kept as a fallback for
+     * proxies or upstreams that misbehave with HTTP/2.
+     */
+    SIMPLE
+}
@@ -0,0 +1,106 @@
+package com.newwork.employee.service.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newwork.employee.dto.EmployeeAbsenceDTO;
+import com.newwork.employee.dto.EntityChange;
+import com.newwork.employee.dto.FeedbackDTO;
+import com.newwork.employee.service.cache.EntityChangeHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Fans committed absence and feedback changes out to the GraphQL subscriptions on this node.
+ *
+ * The services publish the subscription DTO with the change on the entity change outbox, so
+ * every node's listener hands it here, whichever node the writer and the subscriber are on.
+ * Rolled-back transactions publish nothing. Like the rest of the bus, delivery is at-least-once
+ * and takes a NOTIFY round trip; a node that falls further behind than the outbox retention skips
+ * the events it missed.
+ *
+ * Each event type has one hot multicast sink shared by all subscribers, filtered per viewer.
+ * Sinks are best-effort: a subscriber that cannot keep up misses events rather than buffering
+ * them or slowing the others, which is fine for signals that prompt a client to refresh.
+ *
+ * Metric: {@code graphql.subscriptions.active{type}}.
+ */
+@Slf4j
+@Component
+public class SubscriptionEventHub implements EntityChangeHandler {
+
+    private static final Sinks.EmitFailureHandler RETRY_ON_CONTENTION =
+            Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100));
+
+    private final Sinks.Many<EmployeeAbsenceDTO> absences = Sinks.many().multicast().directBestEffort();
+    private final Sinks.Many<FeedbackDTO> feedback = Sinks.many().multicast().directBestEffort();
+    private final ObjectMapper objectMapper;
+
+    public SubscriptionEventHub(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        Gauge.builder("graphql.subscriptions.active", absences, Sinks.Many::currentSubscriberCount)
+                .description("Open GraphQL subscriptions on this node")
+                .tag("type", "absenceRequestsChanged")
+                .register(meterRegistry);
+        Gauge.builder("graphql.subscriptions.active", feedback, Sinks.Many::currentSubscriberCount)
+                .description("Open GraphQL subscriptions on this node")
+                .tag("type", "feedbackReceived")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onChange(EntityChange change) {
+        if (change.payload() == null) {
+            return;
+        }
+        switch (change.entity()) {
+            case ABSENCE -> emit(absences, EmployeeAbsenceDTO.class, change);
+            case FEEDBACK -> emit(feedback, FeedbackDTO.class, change);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Missed events cannot be replayed; subscribers refetch when they reconnect.
+     */
+    @Override
+    public void onReset() {
+    }
+
+    private <T> void emit(Sinks.Many<T> sink, Class<T> type, EntityChange change) {
+        if (sink.currentSubscriberCount() == 0) {
+            return;
+        }
+        T event;
+        try {
+            event = objectMapper.readValue(change.payload(), type);
+        } catch (JsonProcessingException ex) {
+            log.warn("Dropping unreadable {} event {}: {}", change.entity(), change.entityId(), ex.getMessage());
+            return;
+        }
+        sink.emitNext(event, RETRY_ON_CONTENTION);
+    }
+
+    /**
+     * Absence changes the user is party to: their own requests, and requests they approve.
+     */
+    public Flux<EmployeeAbsenceDTO> absenceChangesFor(UUID userId) {
+        return absences.asFlux()
+                .filter(absence -> userId.equals(absence.getUserId()) || userId.equals(absence.getManagerId()));
+    }
+
+    /**
+     * Feedback written about the user.
+     */
+    public Flux<FeedbackDTO> feedbackReceivedBy(UUID userId) {
+        return feedback.asFlux()
+                .filter(item -> userId.equals(item.getRecipientId()));
+    }
+}
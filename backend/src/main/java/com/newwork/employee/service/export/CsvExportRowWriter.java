@@ -0,0 +1,78 @@
+package com.newwork.employee.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV writer. Cells that a spreadsheet would evaluate as formulas are prefixed
+ * with a single quote so exported profile text cannot execute on open.
+ */
+class CsvExportRowWriter implements ExportRowWriter {
+
+    private static final String LINE_END = "\r\n";
+
+    private final Writer writer;
+
+    CsvExportRowWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCell(columns.get(i), false);
+        }
+        writer.write(LINE_END);
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value != null) {
+                // Only free text can carry a formula; numbers and dates are written verbatim
+                writeCell(value.toString(), value instanceof String);
+            }
+        }
+        writer.write(LINE_END);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCell(String value, boolean guardFormula) throws IOException {
+        String cell = guardFormula && isFormulaLike(value) ? "'" + value : value;
+        boolean quote = cell.indexOf(',') >= 0
+                || cell.indexOf('"') >= 0
+                || cell.indexOf('\n') >= 0
+                || cell.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(cell);
+            return;
+        }
+        writer.write('"');
+        writer.write(cell.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean isFormulaLike(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@';
+    }
+}
@@ -0,0 +1,38 @@
+package com.newwork.employee.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Incremental writer for export rows. Implementations write straight to the underlying
+ * stream and keep no per-row state, so memory stays constant regardless of row count.
+ *
+ * A null value means either "empty" or "not visible to the viewer"; as with ProfileDTO,
+ * the two are deliberately indistinguishable in the output.
+ */
+public interface ExportRowWriter extends AutoCloseable {
+
+    /**
+     * Write any format preamble. Called exactly once before the first row.
+     */
+    void writeHeader(List<String> columns) throws IOException;
+
+    /**
+     * Write one row; {@code values} is aligned with the header columns.
+     */
+    void writeRow(Object[] values) throws IOException;
+
+    /**
+     * Flush buffered output without closing the response stream.
+     */
+    @Override
+    void close() throws IOException;
+
+    static ExportRowWriter create(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonExportRowWriter(out);
+            case CSV -> new CsvExportRowWriter(out);
+        };
+    }
+}
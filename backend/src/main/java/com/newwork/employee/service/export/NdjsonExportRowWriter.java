@@ -0,0 +1,65 @@
+package com.newwork.employee.service.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Newline-delimited JSON writer backed by a Jackson streaming generator.
+ * Null values are omitted to keep rows compact.
+ */
+class NdjsonExportRowWriter implements ExportRowWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private List<String> columns;
+    private boolean wroteRow;
+
+    NdjsonExportRowWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Root-level values are separated by the pretty printer's root separator
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) {
+        this.columns = columns;
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            generator.writeFieldName(columns.get(i));
+            if (value instanceof BigDecimal number) {
+                generator.writeNumber(number);
+            } else if (value instanceof Boolean bool) {
+                generator.writeBoolean(bool);
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+        wroteRow = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (wroteRow) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+}
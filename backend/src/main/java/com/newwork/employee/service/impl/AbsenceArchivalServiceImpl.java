@@ -0,0 +1,61 @@
+package com.newwork.employee.service.impl;
+
+import com.newwork.employee.config.properties.AbsenceArchiveProperties;
+import com.newwork.employee.repository.AbsenceArchiveRepository;
+import com.newwork.employee.service.AbsenceArchivalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AbsenceArchivalServiceImpl implements AbsenceArchivalService {
+
+    private final AbsenceArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AbsenceArchiveProperties properties;
+
+    @Override
+    public int archiveClosedAbsences(LocalDate today) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        LocalDateTime closedBefore = today.minusMonths(properties.getRetentionMonths()).atStartOfDay();
+        int batchSize = Math.max(1, properties.getBatchSize());
+
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            // One short transaction per batch keeps row locks and WAL bursts small
+            Integer moved = transactionTemplate.execute(status -> archiveRepository.archiveBatch(closedBefore, batchSize));
+            int count = moved != null ? moved : 0;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        log.info("Archived {} absence(s) closed before {}", total, closedBefore.toLocalDate());
+        return total;
+    }
+
+    private boolean pause() {
+        long millis = properties.getPauseBetweenBatches().toMillis();
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.newwork.employee.service.impl;
+
+import com.newwork.employee.dto.AbsenceCalendarDTO;
+import com.newwork.employee.dto.AbsenceCalendarRow;
+import com.newwork.employee.entity.EmployeeProfile;
+import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.FieldType;
+import com.newwork.employee.entity.enums.Relationship;
+import com.newwork.employee.exception.UserNotFoundException;
+import com.newwork.employee.repository.AbsenceCalendarRepository;
+import com.newwork.employee.repository.EmployeeProfileRepository;
+import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.service.AbsenceCalendarService;
+import com.newwork.employee.service.PermissionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AbsenceCalendarServiceImpl implements AbsenceCalendarService {
+
+    private static final int WHOLE_TREE = Integer.MAX_VALUE;
+    private static final int MANAGER_AND_DIRECT_REPORTS = 1;
+
+    private final AbsenceCalendarRepository calendarRepository;
+    private final EmployeeProfileRepository profileRepository;
+    private final UserRepository userRepository;
+    private final PermissionService permissionService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public AbsenceCalendarDTO getCalendar(UUID viewerId, LocalDate from, LocalDate to, String department) {
+        int windowDays = validateWindow(from, to);
+        Set<UUID> reportingTree = permissionService.getReportingTree(viewerId);
+
+        List<EmployeeProfile> members;
+        List<AbsenceCalendarRow> rows;
+        if (StringUtils.hasText(department)) {
+            String departmentName = department.trim();
+            members = profileRepository.findActiveByDepartment(departmentName);
+            rows = calendarRepository.findOverlappingInDepartment(departmentName, from, to);
+        } else {
+            // Managers see their whole subtree; individual contributors see their manager's direct team
+            UUID rootId = viewerId;
+            int maxDepth = WHOLE_TREE;
+            if (reportingTree.isEmpty()) {
+                User viewer = userRepository.findById(viewerId)
+                        .orElseThrow(() -> new UserNotFoundException("Viewer not found with id: " + viewerId));
+                if (viewer.getManager() != null) {
+                    rootId = viewer.getManager().getId();
+                    maxDepth = MANAGER_AND_DIRECT_REPORTS;
+                }
+            }
+            members = profileRepository.findActiveInReportingTree(rootId, maxDepth);
+            rows = calendarRepository.findOverlappingInReportingTree(rootId, maxDepth, from, to);
+        }
+        log.debug("Calendar {}..{} for viewer {}: {} members, {} absences",
+                from, to, viewerId, members.size(), rows.size());
+
+        Map<UUID, UUID> managerByUser = new HashMap<>();
+        for (EmployeeProfile member : members) {
+            User user = member.getUser();
+            if (user.getManager() != null) {
+                managerByUser.put(user.getId(), user.getManager().getId());
+            }
+        }
+
+        Map<UUID, BitSet> daysOutByUser = new HashMap<>();
+        List<AbsenceCalendarDTO.Absence> absences = new ArrayList<>(rows.size());
+        for (AbsenceCalendarRow row : rows) {
+            LocalDate start = row.startDate().isBefore(from) ? from : row.startDate();
+            LocalDate end = row.endDate().isAfter(to) ? to : row.endDate();
+            daysOutByUser.computeIfAbsent(row.userId(), id -> new BitSet(windowDays))
+                    .set((int) ChronoUnit.DAYS.between(from, start), (int) ChronoUnit.DAYS.between(from, end) + 1);
+
+            absences.add(AbsenceCalendarDTO.Absence.builder()
+                    .userId(row.userId())
+                    .startDate(start)
+                    .endDate(end)
+                    .type(canSeeType(viewerId, row.userId(), managerByUser.get(row.userId()), reportingTree)
+                            ? row.type() : null)
+                    .status(row.status())
+                    .build());
+        }
+
+        // A member with overlapping requests is still only one person out that day
+        int[] occupancy = new int[windowDays];
+        for (BitSet daysOut : daysOutByUser.values()) {
+            daysOut.stream().forEach(day -> occupancy[day]++);
+        }
+
+        return AbsenceCalendarDTO.builder()
+                .from(from)
+                .to(to)
+                .members(members.stream()
+                        .map(AbsenceCalendarServiceImpl::toMember)
+                        .sorted(Comparator.comparing(AbsenceCalendarDTO.Member::getDisplayName,
+                                String.CASE_INSENSITIVE_ORDER))
+                        .toList())
+                .absences(absences)
+                .occupancy(Arrays.stream(occupancy).boxed().toList())
+                .build();
+    }
+
+    private static int validateWindow(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_WINDOW_DAYS) {
+            throw new IllegalArgumentException("Calendar window cannot exceed " + MAX_WINDOW_DAYS + " days");
+        }
+        return (int) days;
+    }
+
+    /**
+     * Absence type is treated like a SENSITIVE profile field: visible to self and the direct manager.
+     */
+    private boolean canSeeType(UUID viewerId, UUID ownerId, UUID ownerManagerId, Set<UUID> reportingTree) {
+        Relationship relationship = permissionService.determineRelationship(viewerId, ownerId, ownerManagerId, reportingTree);
+        return permissionService.canView(relationship, FieldType.SENSITIVE);
+    }
+
+    private static AbsenceCalendarDTO.Member toMember(EmployeeProfile profile) {
+        String displayName = StringUtils.hasText(profile.getPreferredName())
+                ? profile.getPreferredName()
+                : (profile.getLegalFirstName() + " " + profile.getLegalLastName()).trim();
+        return AbsenceCalendarDTO.Member.builder()
+                .userId(profile.getUser().getId())
+                .displayName(displayName)
+                .department(profile.getDepartment())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.newwork.employee.service.impl;
+
+import com.newwork.employee.config.properties.AbsenceLedgerProperties;
+import com.newwork.employee.dto.AbsenceLedgerDebit;
+import com.newwork.employee.entity.EmployeeAbsence;
+import com.newwork.employee.entity.enums.AbsenceType;
+import com.newwork.employee.repository.AbsenceLedgerBatchRepository;
+import com.newwork.employee.repository.AbsenceLedgerRepository;
+import com.newwork.employee.service.AbsenceLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AbsenceLedgerServiceImpl implements AbsenceLedgerService {
+
+    private final AbsenceLedgerRepository ledgerRepository;
+    private final AbsenceLedgerBatchRepository ledgerBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AbsenceLedgerProperties properties;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordApprovals(List<EmployeeAbsence> absences, Map<UUID, Integer> businessDaysByAbsence) {
+        List<AbsenceLedgerDebit> debits = new ArrayList<>();
+        for (EmployeeAbsence absence : absences) {
+            int businessDays = businessDaysByAbsence.getOrDefault(absence.getId(), 0);
+            // Only vacation draws on the balance; sick and personal leave do not
+            if (absence.getType() != AbsenceType.VACATION || businessDays <= 0) {
+                continue;
+            }
+            debits.add(new AbsenceLedgerDebit(
+                    absence.getUser().getId(),
+                    absence.getId(),
+                    BigDecimal.valueOf(businessDays).negate(),
+                    "%s %s..%s".formatted(absence.getType(), absence.getStartDate(), absence.getEndDate())));
+        }
+        if (debits.isEmpty()) {
+            return;
+        }
+        int snapshots = ledgerBatchRepository.appendApprovals(debits);
+        log.debug("Debited {} approval(s) across {} balance snapshot(s)", debits.size(), snapshots);
+    }
+
+    @Override
+    public int reconcileSnapshots() {
+        List<UUID> userIds = ledgerRepository.findAllUserIds();
+        int chunkSize = Math.max(1, properties.getReconcileChunkSize());
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            chunks.add(userIds.subList(from, Math.min(from + chunkSize, userIds.size())));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getReconcileParallelism()));
+        try {
+            List<CompletableFuture<Integer>> results = chunks.stream()
+                    .map(chunk -> CompletableFuture.supplyAsync(() -> reconcileChunk(chunk), executor))
+                    .toList();
+            int corrected = results.stream().mapToInt(CompletableFuture::join).sum();
+            log.info("Reconciled absence balances for {} user(s) in {} chunk(s); corrected {} drifted snapshot(s)",
+                    userIds.size(), chunks.size(), corrected);
+            return corrected;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int reconcileChunk(List<UUID> userIds) {
+        Integer corrected = transactionTemplate.execute(status -> {
+            // Serialize with concurrent approvals, which update the same snapshot rows
+            ledgerRepository.lockSnapshots(userIds);
+            return ledgerRepository.reconcileSnapshots(userIds);
+        });
+        return corrected != null ? corrected : 0;
+    }
+}
@@ -1,31 +1,71 @@
 package com.newwork.employee.service.impl;
 
+import com.newwork.employee.dto.AbsenceStatusTransitionRow;
+import com.newwork.employee.dto.BulkAbsenceStatusResultDTO;
 import com.newwork.employee.dto.EmployeeAbsenceDTO;
+import com.newwork.employee.dto.request.BulkUpdateAbsenceStatusRequest;
 import com.newwork.employee.dto.request.CreateAbsenceRequest;
 import com.newwork.employee.dto.request.UpdateAbsenceStatusRequest;
+import com.newwork.employee.entity.ArchivedEmployeeAbsence;
 import com.newwork.employee.entity.EmployeeAbsence;
+import com.newwork.employee.entity.EmployeeProfile;
 import com.newwork.employee.entity.User;
 import com.newwork.employee.entity.enums.AbsenceStatus;
 import com.newwork.employee.entity.enums.AbsenceType;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import com.newwork.employee.exception.ConflictException;
+import com.newwork.employee.repository.AbsenceStatusTransitionRepository;
+import com.newwork.employee.repository.ArchivedEmployeeAbsenceRepository;
 import com.newwork.employee.repository.EmployeeAbsenceRepository;
+import com.newwork.employee.repository.EmployeeProfileRepository;
 import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.service.AbsenceLedgerService;
 import com.newwork.employee.service.AbsenceService;
+import com.newwork.employee.service.AuditTrail;
+import com.newwork.employee.service.EntityChangePublisher;
+import com.newwork.employee.service.audit.FieldChanges;
+import com.newwork.employee.service.calendar.WorkingDayCalendar;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class AbsenceServiceImpl implements AbsenceService {
 
+    private static final String OVERLAP_CONSTRAINT = "ex_employee_absences_no_overlap";
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+    // Longest single absence; longer leave is booked as consecutive requests
+    private static final int MAX_ABSENCE_DAYS = 366;
+    // How far back sick leave may be reported
+    private static final int MAX_SICK_BACKDATE_DAYS = 366;
+
     private final EmployeeAbsenceRepository absenceRequestRepository;
     private final UserRepository userRepository;
+    private final EmployeeProfileRepository profileRepository;
+    private final AbsenceStatusTransitionRepository statusTransitionRepository;
+    private final ArchivedEmployeeAbsenceRepository archivedAbsenceRepository;
+    private final AbsenceLedgerService absenceLedgerService;
+    private final WorkingDayCalendar workingDayCalendar;
+    private final EntityChangePublisher entityChangePublisher;
+    private final AuditTrail auditTrail;
 
     @Override
     @Transactional
@@ -34,6 +74,10 @@ public class AbsenceServiceImpl implements AbsenceService {
         User requester = userRepository.findById(requesterId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
         User manager = requester.getManager();
+        Optional<EmployeeProfile> profile = profileRepository.findByUserId(requesterId);
+        String region = workingDayCalendar.regionFor(profile.map(EmployeeProfile::getOfficeLocation).orElse(null));
+        int businessDays = workingDayCalendar.businessDays(region, request.startDate(), request.endDate());
+        validateDuration(request.type(), businessDays, profile.map(EmployeeProfile::getAbsenceBalanceDays).orElse(null));
 
         EmployeeAbsence entity = EmployeeAbsence.builder()
                 .user(requester)
@@ -45,49 +89,164 @@ public class AbsenceServiceImpl implements AbsenceService {
                 .note(request.note())
                 .build();
 
-        return toDto(absenceRequestRepository.save(entity));
+        // Overlaps are rejected by the ex_employee_absences_no_overlap exclusion constraint;
+        // flush so the violation surfaces here rather than at commit
+        try {
+            EmployeeAbsence saved = absenceRequestRepository.save(entity);
+            absenceRequestRepository.flush();
+            EmployeeAbsenceDTO dto = toDto(saved, businessDays);
+            entityChangePublisher.publish(ChangedEntity.ABSENCE, saved.getId(), requesterId, dto);
+            return dto;
+        } catch (DataIntegrityViolationException ex) {
+            if (isOverlapViolation(ex)) {
+                throw new ConflictException("Absence overlaps an existing pending or approved absence", ex);
+            }
+            throw ex;
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<EmployeeAbsenceDTO> getMyRequests(UUID requesterId) {
-        return absenceRequestRepository.findAllByUserId(requesterId)
-                .stream()
-                .map(this::toDto)
+    public List<EmployeeAbsenceDTO> getMyRequests(UUID requesterId, boolean includeHistory) {
+        List<EmployeeAbsenceDTO> live = toDtos(absenceRequestRepository.findAllByUserId(requesterId));
+        if (!includeHistory) {
+            return live;
+        }
+        List<ArchivedEmployeeAbsence> archived = archivedAbsenceRepository.findAllByUserIdOrderByStartDateDesc(requesterId);
+        if (archived.isEmpty()) {
+            return live;
+        }
+        String region = workingDayCalendar.regionFor(profileRepository.findByUserId(requesterId)
+                .map(EmployeeProfile::getOfficeLocation)
+                .orElse(null));
+        return Stream.concat(live.stream(), archived.stream().map(absence -> toDto(absence, region)))
+                .sorted(Comparator.comparing(EmployeeAbsenceDTO::getStartDate).reversed())
                 .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<EmployeeAbsenceDTO> getPendingForManager(UUID managerId) {
-        return absenceRequestRepository.findByManagerIdAndStatus(managerId, AbsenceStatus.PENDING)
-                .stream()
-                .map(this::toDto)
-                .toList();
+        return toDtos(absenceRequestRepository.findByManagerIdAndStatus(managerId, AbsenceStatus.PENDING));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeAbsenceDTO> getPendingForReportingTree(UUID managerId) {
+        return toDtos(absenceRequestRepository.findByReportingTreeAndStatus(managerId, AbsenceStatus.PENDING));
     }
 
     @Override
     @Transactional
     public EmployeeAbsenceDTO updateStatus(UUID managerId, UUID requestId, UpdateAbsenceStatusRequest update) {
-        EmployeeAbsence request = absenceRequestRepository.findByIdWithUserAndManager(requestId)
-                .orElseThrow(() -> new EntityNotFoundException("Absence request not found"));
-        ensureManager(managerId, request);
-        if (request.getStatus() != AbsenceStatus.PENDING) {
-            throw new IllegalStateException("Only pending requests can be updated");
-        }
+        AbsenceStatus newStatus = parseAction(update.action());
+        BulkAbsenceStatusResultDTO.Item result = transition(managerId, List.of(requestId), newStatus, update.note()).get(0);
+        return switch (result.getOutcome()) {
+            case UPDATED -> result.getAbsence();
+            case NOT_FOUND -> throw new EntityNotFoundException("Absence request not found");
+            case FORBIDDEN -> throw new AccessDeniedException("Only the manager can act on this request");
+            case NOT_PENDING -> throw new ConflictException("Only pending requests can be updated");
+        };
+    }
 
+    @Override
+    @Transactional
+    public BulkAbsenceStatusResultDTO updateStatuses(UUID managerId, BulkUpdateAbsenceStatusRequest update) {
+        if (update.ids() == null || update.ids().isEmpty()) {
+            throw new IllegalArgumentException("At least one absence id is required");
+        }
+        if (update.ids().size() > MAX_BULK_UPDATE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_UPDATE + " absences can be updated at once");
+        }
         AbsenceStatus newStatus = parseAction(update.action());
-        request.setStatus(newStatus);
-        if (newStatus == AbsenceStatus.REJECTED) {
-            request.setNote(update.note());
+        List<BulkAbsenceStatusResultDTO.Item> results = transition(managerId, update.ids(), newStatus, update.note());
+        int updated = (int) results.stream()
+                .filter(item -> item.getOutcome() == BulkAbsenceStatusResultDTO.Outcome.UPDATED)
+                .count();
+        return BulkAbsenceStatusResultDTO.builder()
+                .updated(updated)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Apply the transition in a single UPDATE ... RETURNING, then book all approvals on the ledger
+     * with one more statement in the same transaction.
+     */
+    private List<BulkAbsenceStatusResultDTO.Item> transition(UUID managerId, List<UUID> ids,
+                                                            AbsenceStatus newStatus, String note) {
+        List<AbsenceStatusTransitionRow> rows = statusTransitionRepository.transitionPending(
+                managerId, ids, newStatus, note);
+        List<EmployeeAbsence> updated = rows.stream()
+                .filter(row -> row.outcome() == BulkAbsenceStatusResultDTO.Outcome.UPDATED)
+                .map(AbsenceServiceImpl::toEntity)
+                .toList();
+        Map<UUID, String> regions = regionsByUser(updated);
+        Map<UUID, Integer> businessDaysByAbsence = new HashMap<>();
+        Map<UUID, EmployeeAbsenceDTO> dtos = new HashMap<>();
+        for (EmployeeAbsence absence : updated) {
+            int businessDays = businessDays(absence, regions);
+            businessDaysByAbsence.put(absence.getId(), businessDays);
+            EmployeeAbsenceDTO dto = toDto(absence, businessDays);
+            dtos.put(absence.getId(), dto);
+        }
+        entityChangePublisher.publishAll(ChangedEntity.ABSENCE, updated.stream()
+                .collect(Collectors.toMap(EmployeeAbsence::getId, absence -> absence.getUser().getId())), dtos);
+        if (newStatus == AbsenceStatus.APPROVED && !updated.isEmpty()) {
+            absenceLedgerService.recordApprovals(updated, businessDaysByAbsence);
         }
-        return toDto(absenceRequestRepository.save(request));
+        auditTrail.record(updated.stream()
+                .flatMap(absence -> statusChanges(absence, note)
+                        .toRecords(ChangedEntity.ABSENCE, absence.getId(), absence.getUser().getId(), managerId)
+                        .stream())
+                .toList());
+
+        return rows.stream()
+                .map(row -> BulkAbsenceStatusResultDTO.Item.builder()
+                        .id(row.id())
+                        .outcome(row.outcome())
+                        .absence(dtos.get(row.id()))
+                        .build())
+                .toList();
     }
 
-    private void ensureManager(UUID managerId, EmployeeAbsence request) {
-        if (request.getManager() == null || !request.getManager().getId().equals(managerId)) {
-            throw new AccessDeniedException("Only the manager can act on this request");
+    /**
+     * The transition is a compare-and-set from PENDING, so the previous status is known without
+     * reading it back. Rejection notes replace whatever note the request had, which is not kept.
+     */
+    private static FieldChanges statusChanges(EmployeeAbsence absence, String note) {
+        FieldChanges changes = new FieldChanges();
+        changes.record("status", AbsenceStatus.PENDING, absence.getStatus());
+        if (absence.getStatus() == AbsenceStatus.REJECTED && note != null) {
+            changes.record("note", null, absence.getNote());
         }
+        return changes;
+    }
+
+    private static EmployeeAbsence toEntity(AbsenceStatusTransitionRow row) {
+        return EmployeeAbsence.builder()
+                .id(row.id())
+                .user(User.builder().id(row.userId()).build())
+                .manager(row.managerId() != null ? User.builder().id(row.managerId()).build() : null)
+                .startDate(row.startDate())
+                .endDate(row.endDate())
+                .type(row.type())
+                .status(row.status())
+                .note(row.note())
+                .build();
+    }
+
+    private static boolean isOverlapViolation(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+            if (cause.getMessage() != null && cause.getMessage().contains(OVERLAP_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private AbsenceStatus parseAction(String action) {
@@ -115,8 +274,16 @@ public class AbsenceServiceImpl implements AbsenceService {
         if (end.isBefore(start)) {
             throw new IllegalArgumentException("End date cannot be before start date");
         }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_ABSENCE_DAYS) {
+            throw new IllegalArgumentException("An absence cannot span more than " + MAX_ABSENCE_DAYS + " days");
+        }
         LocalDate today = LocalDate.now();
-        if (type != AbsenceType.SICK) {
+        if (type == AbsenceType.SICK) {
+            if (start.isBefore(today.minusDays(MAX_SICK_BACKDATE_DAYS))) {
+                throw new IllegalArgumentException(
+                        "Sick leave cannot start more than " + MAX_SICK_BACKDATE_DAYS + " days ago");
+            }
+        } else {
             if (start.isBefore(today)) {
                 throw new IllegalArgumentException("Start date must be today or later for this type");
             }
@@ -126,13 +293,64 @@ public class AbsenceServiceImpl implements AbsenceService {
         }
     }
 
-    private EmployeeAbsenceDTO toDto(EmployeeAbsence entity) {
+    private void validateDuration(AbsenceType type, int businessDays, BigDecimal balance) {
+        if (businessDays == 0) {
+            throw new IllegalArgumentException("Absence must include at least one working day");
+        }
+        if (type == AbsenceType.VACATION && balance != null && balance.compareTo(BigDecimal.valueOf(businessDays)) < 0) {
+            throw new IllegalArgumentException("Requested " + businessDays
+                    + " working day(s) exceeds the remaining balance of " + balance.stripTrailingZeros().toPlainString());
+        }
+    }
+
+    private List<EmployeeAbsenceDTO> toDtos(List<EmployeeAbsence> entities) {
+        Map<UUID, String> regions = regionsByUser(entities);
+        return entities.stream()
+                .map(entity -> toDto(entity, businessDays(entity, regions)))
+                .toList();
+    }
+
+    /**
+     * Resolve the holiday region of every absence owner with a single profile query.
+     */
+    private Map<UUID, String> regionsByUser(List<EmployeeAbsence> entities) {
+        if (entities.isEmpty()) {
+            return Map.of();
+        }
+        Set<UUID> userIds = entities.stream().map(entity -> entity.getUser().getId()).collect(Collectors.toSet());
+        Map<UUID, String> regions = new HashMap<>();
+        profileRepository.findOfficeLocations(userIds).forEach(row ->
+                regions.put(row.getUserId(), workingDayCalendar.regionFor(row.getOfficeLocation())));
+        return regions;
+    }
+
+    private int businessDays(EmployeeAbsence entity, Map<UUID, String> regions) {
+        String region = regions.getOrDefault(entity.getUser().getId(), workingDayCalendar.regionFor(null));
+        return workingDayCalendar.businessDays(region, entity.getStartDate(), entity.getEndDate());
+    }
+
+    private EmployeeAbsenceDTO toDto(ArchivedEmployeeAbsence archived, String region) {
+        return EmployeeAbsenceDTO.builder()
+                .id(archived.getId())
+                .userId(archived.getUserId())
+                .managerId(archived.getManagerId())
+                .startDate(archived.getStartDate())
+                .endDate(archived.getEndDate())
+                .businessDays(workingDayCalendar.businessDays(region, archived.getStartDate(), archived.getEndDate()))
+                .type(archived.getType())
+                .status(archived.getStatus())
+                .note(archived.getNote())
+                .build();
+    }
+
+    private EmployeeAbsenceDTO toDto(EmployeeAbsence entity, int businessDays) {
         return EmployeeAbsenceDTO.builder()
                 .id(entity.getId())
                 .userId(entity.getUser().getId())
                 .managerId(entity.getManager() != null ? entity.getManager().getId() : null)
                 .startDate(entity.getStartDate())
                 .endDate(entity.getEndDate())
+                .businessDays(businessDays)
                 .type(entity.getType())
                 .status(entity.getStatus())
                 .note(entity.getNote())
@@ -8,11 +8,13 @@ import com.newwork.employee.exception.UserNotFoundException;
 import com.newwork.employee.mapper.AuthMapper;
 import com.newwork.employee.repository.UserRepository;
 import com.newwork.employee.security.JwtTokenProvider;
+import com.newwork.employee.security.UserAccountDetails;
 import com.newwork.employee.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,20 +33,27 @@ public class AuthServiceImpl implements AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthMapper authMapper;
 
+    /**
+     * Deliberately not transactional: a transaction here would pin a pooled connection while the
+     * request waits for a password verification slot, so a login storm would still drain the pool.
+     * loadUserByUsername opens and releases its own short read-only transaction instead.
+     */
     @Override
-    @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest loginRequest) {
         log.info("Login attempt for email: {}", loginRequest.getEmail());
 
         try {
-            authenticationManager.authenticate(
+            Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             loginRequest.getEmail(),
                             loginRequest.getPassword()
                     )
             );
 
-            User user = userRepository.findByEmail(loginRequest.getEmail())
+            // Reuse the user loaded during authentication instead of querying it again
+            User user = authentication != null && authentication.getPrincipal() instanceof UserAccountDetails details
+                    ? details.getUser()
+                    : userRepository.findByEmail(loginRequest.getEmail())
                     .orElseThrow(() -> new UserNotFoundException("User not found with email: " + loginRequest.getEmail()));
 
             String token = jwtTokenProvider.generateToken(user);
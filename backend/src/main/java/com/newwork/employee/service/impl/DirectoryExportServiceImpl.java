@@ -0,0 +1,136 @@
+package com.newwork.employee.service.impl;
+
+import com.newwork.employee.dto.DirectoryExportRow;
+import com.newwork.employee.entity.enums.FieldType;
+import com.newwork.employee.entity.enums.Relationship;
+import com.newwork.employee.repository.DirectoryExportRepository;
+import com.newwork.employee.service.DirectoryExportService;
+import com.newwork.employee.service.PermissionService;
+import com.newwork.employee.service.export.ExportFormat;
+import com.newwork.employee.service.export.ExportRowWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Streams the directory from a JDBC cursor straight into the response body.
+ * Each row is filtered and written before the next one is fetched, so heap usage is
+ * bounded by the cursor fetch size rather than headcount.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DirectoryExportServiceImpl implements DirectoryExportService {
+
+    private static final List<ExportColumn> COLUMNS = List.of(
+            // Identity (always visible, mirrors ProfileDTO)
+            new ExportColumn("userId", null, DirectoryExportRow::userId),
+            new ExportColumn("employeeId", null, DirectoryExportRow::employeeId),
+            new ExportColumn("email", null, DirectoryExportRow::email),
+            // SYSTEM_MANAGED
+            new ExportColumn("legalFirstName", FieldType.SYSTEM_MANAGED, DirectoryExportRow::legalFirstName),
+            new ExportColumn("legalLastName", FieldType.SYSTEM_MANAGED, DirectoryExportRow::legalLastName),
+            new ExportColumn("department", FieldType.SYSTEM_MANAGED, DirectoryExportRow::department),
+            new ExportColumn("jobCode", FieldType.SYSTEM_MANAGED, DirectoryExportRow::jobCode),
+            new ExportColumn("jobFamily", FieldType.SYSTEM_MANAGED, DirectoryExportRow::jobFamily),
+            new ExportColumn("jobLevel", FieldType.SYSTEM_MANAGED, DirectoryExportRow::jobLevel),
+            new ExportColumn("employmentStatus", FieldType.SYSTEM_MANAGED, DirectoryExportRow::employmentStatus),
+            new ExportColumn("hireDate", FieldType.SYSTEM_MANAGED, DirectoryExportRow::hireDate),
+            new ExportColumn("terminationDate", FieldType.SYSTEM_MANAGED, DirectoryExportRow::terminationDate),
+            new ExportColumn("fte", FieldType.SYSTEM_MANAGED, DirectoryExportRow::fte),
+            // NON_SENSITIVE
+            new ExportColumn("preferredName", FieldType.NON_SENSITIVE, DirectoryExportRow::preferredName),
+            new ExportColumn("jobTitle", FieldType.NON_SENSITIVE, DirectoryExportRow::jobTitle),
+            new ExportColumn("officeLocation", FieldType.NON_SENSITIVE, DirectoryExportRow::officeLocation),
+            new ExportColumn("workPhone", FieldType.NON_SENSITIVE, DirectoryExportRow::workPhone),
+            new ExportColumn("workLocationType", FieldType.NON_SENSITIVE, DirectoryExportRow::workLocationType),
+            new ExportColumn("bio", FieldType.NON_SENSITIVE, DirectoryExportRow::bio),
+            new ExportColumn("skills", FieldType.NON_SENSITIVE, DirectoryExportRow::skills),
+            new ExportColumn("profilePhotoUrl", FieldType.NON_SENSITIVE, DirectoryExportRow::profilePhotoUrl),
+            // SENSITIVE
+            new ExportColumn("personalEmail", FieldType.SENSITIVE, DirectoryExportRow::personalEmail),
+            new ExportColumn("personalPhone", FieldType.SENSITIVE, DirectoryExportRow::personalPhone),
+            new ExportColumn("homeAddress", FieldType.SENSITIVE, DirectoryExportRow::homeAddress),
+            new ExportColumn("emergencyContactName", FieldType.SENSITIVE, DirectoryExportRow::emergencyContactName),
+            new ExportColumn("emergencyContactPhone", FieldType.SENSITIVE, DirectoryExportRow::emergencyContactPhone),
+            new ExportColumn("emergencyContactRelationship", FieldType.SENSITIVE,
+                    DirectoryExportRow::emergencyContactRelationship),
+            new ExportColumn("dateOfBirth", FieldType.SENSITIVE, DirectoryExportRow::dateOfBirth),
+            new ExportColumn("visaWorkPermit", FieldType.SENSITIVE, DirectoryExportRow::visaWorkPermit),
+            new ExportColumn("absenceBalanceDays", FieldType.SENSITIVE, DirectoryExportRow::absenceBalanceDays),
+            new ExportColumn("salary", FieldType.SENSITIVE, DirectoryExportRow::salary),
+            new ExportColumn("performanceRating", FieldType.SENSITIVE, DirectoryExportRow::performanceRating)
+    );
+
+    private static final String RELATIONSHIP_COLUMN = "relationship";
+
+    private final DirectoryExportRepository exportRepository;
+    private final PermissionService permissionService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportDirectory(UUID viewerId, ExportFormat format, OutputStream out) throws IOException {
+        Map<Relationship, Set<FieldType>> visibleTypesByRelationship = new EnumMap<>(Relationship.class);
+        for (Relationship relationship : Relationship.values()) {
+            visibleTypesByRelationship.put(relationship, permissionService.getVisibleFieldTypes(relationship));
+        }
+
+        Set<UUID> reportingTree = permissionService.getReportingTree(viewerId);
+
+        AtomicLong rows = new AtomicLong();
+        try (ExportRowWriter writer = ExportRowWriter.create(format, out)) {
+            writer.writeHeader(headerColumns());
+            exportRepository.forEachActiveProfile(row -> {
+                Relationship relationship = permissionService.determineRelationship(
+                        viewerId, row.userId(), row.managerId(), reportingTree);
+                Object[] values = toValues(row, relationship, visibleTypesByRelationship.get(relationship));
+                try {
+                    writer.writeRow(values);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                rows.incrementAndGet();
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        log.info("Exported {} directory rows as {} for viewer {}", rows.get(), format, viewerId);
+        return rows.get();
+    }
+
+    private static List<String> headerColumns() {
+        List<String> header = new ArrayList<>(COLUMNS.size() + 1);
+        COLUMNS.forEach(column -> header.add(column.name()));
+        header.add(RELATIONSHIP_COLUMN);
+        return header;
+    }
+
+    private static Object[] toValues(DirectoryExportRow row, Relationship relationship, Set<FieldType> visibleTypes) {
+        Object[] values = new Object[COLUMNS.size() + 1];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            ExportColumn column = COLUMNS.get(i);
+            if (column.fieldType() == null || visibleTypes.contains(column.fieldType())) {
+                values[i] = column.extractor().apply(row);
+            }
+        }
+        values[COLUMNS.size()] = relationship == Relationship.COWORKER ? "OTHER" : relationship.name();
+        return values;
+    }
+
+    private record ExportColumn(String name, FieldType fieldType, Function<DirectoryExportRow, Object> extractor) {
+    }
+}
@@ -11,6 +11,8 @@ import com.newwork.employee.repository.EmployeeProfileRepository;
 import com.newwork.employee.repository.UserRepository;
 import com.newwork.employee.service.DirectoryService;
 import com.newwork.employee.service.PermissionService;
+import com.newwork.employee.service.photo.PhotoVariant;
+import com.newwork.employee.service.photo.ProfilePhotoUrls;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,8 @@ import org.springframework.util.StringUtils;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -35,22 +39,35 @@ public class DirectoryServiceImpl implements DirectoryService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<CoworkerDTO> getDirectory(UUID viewerId, String searchTerm, String department, Boolean directReportsOnly) {
+    public List<CoworkerDTO> getDirectory(UUID viewerId, String searchTerm, String department,
+                                          Boolean directReportsOnly, Boolean allReportsOnly) {
         User viewer = userRepository.findById(viewerId)
                 .orElseThrow(() -> new UserNotFoundException("Viewer not found with id: " + viewerId));
 
         String normalizedSearch = normalize(searchTerm);
         String normalizedDepartment = normalize(department);
         boolean onlyDirectReports = Boolean.TRUE.equals(directReportsOnly);
+        boolean onlyReportingTree = Boolean.TRUE.equals(allReportsOnly);
+
+        // One closure-table scan and one grouped count cover the whole reporting tree
+        Set<UUID> reportingTree = permissionService.getReportingTree(viewerId);
+        Map<UUID, Long> pendingAbsencesByUser = reportingTree.isEmpty()
+                ? Map.of()
+                : absenceRequestRepository.countByReportingTreeAndStatus(viewerId, AbsenceStatus.PENDING)
+                        .stream()
+                        .collect(Collectors.toMap(
+                                EmployeeAbsenceRepository.UserCount::getUserId,
+                                EmployeeAbsenceRepository.UserCount::getTotal));
 
         List<EmployeeProfile> profiles = profileRepository.findAllActiveProfilesWithUserAndManager();
         log.debug("Loaded {} active profiles for directory listing", profiles.size());
 
         return profiles.stream()
                 .filter(profile -> !profile.getUser().getId().equals(viewerId))
+                .filter(profile -> !onlyReportingTree || reportingTree.contains(profile.getUser().getId()))
                 .filter(profile -> matchesSearch(profile, normalizedSearch))
                 .filter(profile -> matchesDepartment(profile, normalizedDepartment))
-                .map(profile -> mapToDto(viewer, profile, onlyDirectReports))
+                .map(profile -> mapToDto(viewer, profile, reportingTree, pendingAbsencesByUser, onlyDirectReports))
                 .filter(dto -> dto != null)
                 .sorted(Comparator.comparing(CoworkerDTO::getPreferredName, DirectoryServiceImpl::compareNullableStrings)
                         .thenComparing(CoworkerDTO::getLegalFirstName, DirectoryServiceImpl::compareNullableStrings))
@@ -94,9 +111,10 @@ public class DirectoryServiceImpl implements DirectoryService {
         return departmentFilter.equals(profileDepartment);
     }
 
-    private CoworkerDTO mapToDto(User viewer, EmployeeProfile profile, boolean onlyDirectReports) {
+    private CoworkerDTO mapToDto(User viewer, EmployeeProfile profile, Set<UUID> reportingTree,
+                                 Map<UUID, Long> pendingAbsencesByUser, boolean onlyDirectReports) {
         User profileOwner = profile.getUser();
-        Relationship relationship = permissionService.determineRelationship(viewer, profileOwner);
+        Relationship relationship = permissionService.determineRelationship(viewer, profileOwner, reportingTree);
         String relationshipLabel = relationship == Relationship.COWORKER ? "OTHER" : relationship.name();
 
         if (onlyDirectReports && relationship != Relationship.MANAGER) {
@@ -104,9 +122,8 @@ public class DirectoryServiceImpl implements DirectoryService {
         }
 
         Integer pendingAbsenceCount = null;
-        if (relationship == Relationship.MANAGER) {
-            long pending = absenceRequestRepository.countByManagerAndUserAndStatus(
-                    viewer.getId(), profileOwner.getId(), AbsenceStatus.PENDING);
+        if (relationship == Relationship.MANAGER || relationship == Relationship.SKIP_LEVEL_MANAGER) {
+            long pending = pendingAbsencesByUser.getOrDefault(profileOwner.getId(), 0L);
             pendingAbsenceCount = Math.toIntExact(pending);
         }
 
@@ -123,7 +140,7 @@ public class DirectoryServiceImpl implements DirectoryService {
                 .workLocationType(profile.getWorkLocationType() != null
                         ? profile.getWorkLocationType().name()
                         : null)
-                .profilePhotoUrl(profile.getProfilePhotoUrl())
+                .profilePhotoUrl(ProfilePhotoUrls.forProfile(profile, PhotoVariant.SMALL))
                 .relationship(relationshipLabel)
                 .directReport(relationship == Relationship.MANAGER)
                 .pendingAbsenceCount(pendingAbsenceCount)
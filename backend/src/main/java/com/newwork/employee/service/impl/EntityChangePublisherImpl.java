@@ -0,0 +1,100 @@
+package com.newwork.employee.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newwork.employee.config.properties.CacheProperties;
+import com.newwork.employee.dto.EntityChange;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import com.newwork.employee.repository.EntityChangeOutboxRepository;
+import com.newwork.employee.service.EntityChangePublisher;
+import com.newwork.employee.service.cache.EntityChangeHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EntityChangePublisherImpl implements EntityChangePublisher {
+
+    private final EntityChangeOutboxRepository outboxRepository;
+    private final CacheProperties cacheProperties;
+    private final ObjectProvider<EntityChangeHandler> handlers;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(ChangedEntity entity, UUID entityId, UUID userId) {
+        publishAll(entity, Map.of(entityId, userId), Map.of());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(ChangedEntity entity, UUID entityId, UUID userId, Object event) {
+        publishAll(entity, Map.of(entityId, userId), Map.of(entityId, event));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(ChangedEntity entity, Map<UUID, UUID> userIdsByEntityId) {
+        publishAll(entity, userIdsByEntityId, Map.of());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(ChangedEntity entity, Map<UUID, UUID> userIdsByEntityId, Map<UUID, ?> eventsByEntityId) {
+        if (userIdsByEntityId.isEmpty()) {
+            return;
+        }
+        List<UUID> entityIds = new ArrayList<>(userIdsByEntityId.keySet());
+        List<UUID> userIds = entityIds.stream().map(userIdsByEntityId::get).toList();
+        List<String> payloads = entityIds.stream().map(id -> toJson(eventsByEntityId.get(id))).toList();
+        outboxRepository.append(cacheProperties.getInvalidation().getChannel(), entity, entityIds, userIds, payloads);
+
+        // This node evicts right after commit, so its own next read already sees the change;
+        // the listener delivers the same events again shortly, which is a harmless re-eviction.
+        // Subscription events are not idempotent, so while the listener runs they are left to it
+        boolean listening = cacheProperties.getInvalidation().isEnabled();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                LocalDateTime now = LocalDateTime.now();
+                for (int i = 0; i < entityIds.size(); i++) {
+                    EntityChange change = new EntityChange(0L, entity, entityIds.get(i), userIds.get(i),
+                            listening ? null : payloads.get(i), now);
+                    handlers.orderedStream().forEach(handler -> dispatch(handler, change));
+                }
+            }
+        });
+    }
+
+    private String toJson(Object event) {
+        if (event == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Subscription event is not serializable: " + event.getClass().getSimpleName(), ex);
+        }
+    }
+
+    private static void dispatch(EntityChangeHandler handler, EntityChange change) {
+        try {
+            handler.onChange(change);
+        } catch (RuntimeException ex) {
+            log.warn("Cache handler {} failed for {}", handler.getClass().getSimpleName(), change, ex);
+        }
+    }
+}
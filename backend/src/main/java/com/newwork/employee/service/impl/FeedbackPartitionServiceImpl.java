@@ -0,0 +1,75 @@
+package com.newwork.employee.service.impl;
+
+import com.newwork.employee.config.properties.FeedbackPartitionProperties;
+import com.newwork.employee.repository.FeedbackPartitionRepository;
+import com.newwork.employee.service.FeedbackPartitionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class FeedbackPartitionServiceImpl implements FeedbackPartitionService {
+
+    private final FeedbackPartitionRepository partitionRepository;
+    private final FeedbackPartitionProperties properties;
+    private final AtomicLong defaultPartitionRows = new AtomicLong();
+
+    public FeedbackPartitionServiceImpl(FeedbackPartitionRepository partitionRepository,
+                                        FeedbackPartitionProperties properties,
+                                        MeterRegistry meterRegistry) {
+        this.partitionRepository = partitionRepository;
+        this.properties = properties;
+        Gauge.builder("feedback.partitions.default.rows", defaultPartitionRows, AtomicLong::get)
+                .description("Feedback rows found in the DEFAULT partition at the last maintenance run")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public int ensurePartitions(LocalDate today) {
+        int created = 0;
+
+        // Inserts only reach the default partition when maintenance fell behind; give those months
+        // their partition (which moves the rows out of the default) and raise the alarm
+        long strayRows = partitionRepository.countDefaultPartitionRows();
+        defaultPartitionRows.set(strayRows);
+        if (strayRows > 0) {
+            log.error("{} feedback row(s) landed in the DEFAULT partition; partition maintenance fell behind", strayRows);
+            Optional<FeedbackPartitionRepository.MonthRange> strayMonths = partitionRepository.findDefaultPartitionMonths();
+            if (strayMonths.isPresent()) {
+                created += partitionRepository.createPartitions(strayMonths.get().from(), strayMonths.get().to());
+            }
+        }
+
+        LocalDate currentMonth = today.withDayOfMonth(1);
+        created += partitionRepository.createPartitions(
+                currentMonth, currentMonth.plusMonths(Math.max(0, properties.getMonthsAhead())));
+        if (created > 0) {
+            log.info("Created {} feedback partition(s)", created);
+        }
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<String> archiveExpiredPartitions(LocalDate today) {
+        if (properties.getRetentionMonths() <= 0) {
+            return List.of();
+        }
+        // Keep the current month plus retentionMonths - 1 full months before it
+        LocalDate cutoff = today.withDayOfMonth(1).minusMonths(properties.getRetentionMonths() - 1L);
+        List<String> archived = partitionRepository.archivePartitions(cutoff);
+        if (!archived.isEmpty()) {
+            log.info("Archived {} feedback partition(s) ending on or before {}: {}", archived.size(), cutoff, archived);
+        }
+        return archived;
+    }
+}
@@ -9,6 +9,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class FeedbackPolishServiceImpl implements FeedbackPolishService {
@@ -19,7 +21,7 @@ public class FeedbackPolishServiceImpl implements FeedbackPolishService {
     private final HuggingFaceProperties properties;
 
     @Override
-    public PolishFeedbackResponse polish(String text) {
+    public PolishFeedbackResponse polish(UUID authorId, String text) {
         if (!properties.isEnabled()) {
             throw new AiServiceException("AI polishing feature is disabled");
         }
@@ -28,7 +30,7 @@ public class FeedbackPolishServiceImpl implements FeedbackPolishService {
             throw new IllegalArgumentException("Feedback text must be at least " + MIN_CHARS + " characters");
         }
 
-        String polished = huggingFaceClient.polish(sanitized);
+        String polished = huggingFaceClient.polish(authorId, sanitized);
         if (!StringUtils.hasText(polished)) {
             throw new AiServiceException("AI service returned an empty response");
         }
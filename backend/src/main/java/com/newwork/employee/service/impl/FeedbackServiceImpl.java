@@ -1,15 +1,22 @@
 package com.newwork.employee.service.impl;
 
 import com.newwork.employee.dto.FeedbackDTO;
+import com.newwork.employee.dto.FeedbackPage;
 import com.newwork.employee.dto.request.CreateFeedbackRequest;
 import com.newwork.employee.entity.Feedback;
 import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.ChangedEntity;
 import com.newwork.employee.exception.ForbiddenException;
 import com.newwork.employee.exception.ResourceNotFoundException;
 import com.newwork.employee.mapper.FeedbackMapper;
 import com.newwork.employee.repository.FeedbackRepository;
+import com.newwork.employee.repository.FeedbackStatsRepository;
+import com.newwork.employee.repository.FeedbackReadRepository;
 import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.service.EntityChangePublisher;
 import com.newwork.employee.service.FeedbackService;
+import com.newwork.employee.util.KeysetCursor;
+import com.newwork.employee.util.RankedKeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,8 +32,11 @@ import java.util.UUID;
 public class FeedbackServiceImpl implements FeedbackService {
 
     private final FeedbackRepository feedbackRepository;
+    private final FeedbackStatsRepository feedbackStatsRepository;
+    private final FeedbackReadRepository feedbackReadRepository;
     private final UserRepository userRepository;
     private final FeedbackMapper feedbackMapper;
+    private final EntityChangePublisher entityChangePublisher;
 
     @Override
     @Transactional
@@ -48,7 +58,11 @@ public class FeedbackServiceImpl implements FeedbackService {
         feedback.setAiPolished(request.getAiPolished() != null ? request.getAiPolished() : false);
 
         Feedback savedFeedback = feedbackRepository.save(feedback);
-        return feedbackMapper.toDTO(savedFeedback);
+        // Same transaction as the insert, so counters never drift from the feedback rows
+        feedbackStatsRepository.recordFeedback(authorId, recipient.getId());
+        FeedbackDTO dto = feedbackMapper.toDTO(savedFeedback);
+        entityChangePublisher.publish(ChangedEntity.FEEDBACK, savedFeedback.getId(), recipient.getId(), dto);
+        return dto;
     }
 
     @Override
@@ -94,6 +108,73 @@ public class FeedbackServiceImpl implements FeedbackService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public FeedbackPage getTeamFeedback(UUID managerId, Integer first, String after) {
+        int pageSize = pageSize(first);
+
+        // Scoped by manager_id in the query itself, so non-managers simply get an empty page
+        List<FeedbackDTO> rows = feedbackReadRepository.findTeamPage(managerId, KeysetCursor.decode(after), pageSize + 1);
+        boolean hasNextPage = rows.size() > pageSize;
+        List<FeedbackDTO> items = hasNextPage ? rows.subList(0, pageSize) : rows;
+
+        String endCursor = null;
+        if (!items.isEmpty()) {
+            FeedbackDTO last = items.get(items.size() - 1);
+            endCursor = cursorOf(last).encode();
+        }
+
+        return FeedbackPage.builder()
+                .items(items)
+                .endCursor(endCursor)
+                .hasNextPage(hasNextPage)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FeedbackPage searchFeedback(UUID viewerId, String query, Integer first, String after) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        int pageSize = pageSize(first);
+
+        // Visibility, ranking and paging all happen in SQL; rows are never filtered here
+        List<FeedbackReadRepository.SearchHit> hits =
+                feedbackReadRepository.search(viewerId, query.strip(), RankedKeysetCursor.decode(after), pageSize + 1);
+        boolean hasNextPage = hits.size() > pageSize;
+        if (hasNextPage) {
+            hits = hits.subList(0, pageSize);
+        }
+
+        String endCursor = null;
+        if (!hits.isEmpty()) {
+            FeedbackReadRepository.SearchHit last = hits.get(hits.size() - 1);
+            endCursor = new RankedKeysetCursor(last.rank(), cursorOf(last.feedback())).encode();
+        }
+
+        return FeedbackPage.builder()
+                .items(hits.stream().map(FeedbackReadRepository.SearchHit::feedback).toList())
+                .endCursor(endCursor)
+                .hasNextPage(hasNextPage)
+                .build();
+    }
+
+    private static int pageSize(Integer first) {
+        int pageSize = first != null ? first : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("first must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+
+    private static KeysetCursor cursorOf(FeedbackDTO feedback) {
+        return new KeysetCursor(feedback.getCreatedAt().toLocalDateTime(), feedback.getId());
+    }
+
     private void validateFeedbackVisibility(User viewer, User recipient) {
         UUID viewerId = viewer.getId();
         UUID recipientId = recipient.getId();
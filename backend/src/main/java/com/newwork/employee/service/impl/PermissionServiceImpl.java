@@ -4,6 +4,7 @@ import com.newwork.employee.entity.User;
 import com.newwork.employee.entity.enums.FieldType;
 import com.newwork.employee.entity.enums.Relationship;
 import com.newwork.employee.exception.UserNotFoundException;
+import com.newwork.employee.repository.UserHierarchyRepository;
 import com.newwork.employee.repository.UserRepository;
 import com.newwork.employee.service.PermissionService;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ import java.util.UUID;
 public class PermissionServiceImpl implements PermissionService {
 
     private final UserRepository userRepository;
+    private final UserHierarchyRepository userHierarchyRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -47,6 +49,12 @@ public class PermissionServiceImpl implements PermissionService {
             return Relationship.MANAGER;
         }
 
+        // Check if the profile owner is further down the viewer's reporting chain
+        if (userHierarchyRepository.findDepth(viewerId, profileOwnerId).isPresent()) {
+            log.debug("Relationship: SKIP_LEVEL_MANAGER");
+            return Relationship.SKIP_LEVEL_MANAGER;
+        }
+
         // Default to coworker
         log.debug("Relationship: COWORKER");
         return Relationship.COWORKER;
@@ -74,6 +82,38 @@ public class PermissionServiceImpl implements PermissionService {
         return Relationship.COWORKER;
     }
 
+    @Override
+    public Relationship determineRelationship(User viewer, User profileOwner, Set<UUID> viewerReportingTree) {
+        Relationship relationship = determineRelationship(viewer, profileOwner);
+        if (relationship == Relationship.COWORKER && viewerReportingTree.contains(profileOwner.getId())) {
+            return Relationship.SKIP_LEVEL_MANAGER;
+        }
+        return relationship;
+    }
+
+    @Override
+    public Relationship determineRelationship(UUID viewerId, UUID profileOwnerId, UUID ownerManagerId,
+                                              Set<UUID> viewerReportingTree) {
+        if (viewerId.equals(profileOwnerId)) {
+            return Relationship.SELF;
+        }
+        if (viewerId.equals(ownerManagerId)) {
+            return Relationship.MANAGER;
+        }
+        if (viewerReportingTree.contains(profileOwnerId)) {
+            return Relationship.SKIP_LEVEL_MANAGER;
+        }
+        return Relationship.COWORKER;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<UUID> getReportingTree(UUID managerId) {
+        Set<UUID> reportingTree = userHierarchyRepository.findDescendantIds(managerId);
+        log.debug("Reporting tree of {} has {} members", managerId, reportingTree.size());
+        return reportingTree;
+    }
+
     @Override
     public boolean canView(Relationship relationship, FieldType fieldType) {
         boolean result = switch (fieldType) {
@@ -86,7 +126,8 @@ public class PermissionServiceImpl implements PermissionService {
                 yield true;
             }
             case SENSITIVE -> {
-                // Only SELF and MANAGER can view sensitive fields
+                // Only SELF and the direct MANAGER can view sensitive fields; skip-level managers
+                // get the directory and pending-absence views, not personal data
                 yield relationship == Relationship.SELF || relationship == Relationship.MANAGER;
             }
         };
@@ -103,7 +144,7 @@ public class PermissionServiceImpl implements PermissionService {
                 yield false;
             }
             case NON_SENSITIVE -> {
-                // SELF and MANAGER can edit non-sensitive fields
+                // SELF and MANAGER can edit non-sensitive fields (skip-level managers are read-only)
                 yield relationship == Relationship.SELF || relationship == Relationship.MANAGER;
             }
             case SENSITIVE -> {
@@ -0,0 +1,91 @@
+package com.newwork.employee.service.impl;
+
+import com.newwork.employee.config.properties.PhotoProperties;
+import com.newwork.employee.dto.ProfilePhotoDTO;
+import com.newwork.employee.entity.EmployeeProfile;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import com.newwork.employee.entity.enums.FieldType;
+import com.newwork.employee.entity.enums.Relationship;
+import com.newwork.employee.exception.ForbiddenException;
+import com.newwork.employee.exception.ResourceNotFoundException;
+import com.newwork.employee.repository.EmployeeProfileRepository;
+import com.newwork.employee.service.AuditTrail;
+import com.newwork.employee.service.EntityChangePublisher;
+import com.newwork.employee.service.PermissionService;
+import com.newwork.employee.service.PhotoService;
+import com.newwork.employee.service.audit.FieldChanges;
+import com.newwork.employee.service.photo.PhotoStore;
+import com.newwork.employee.service.photo.PhotoVariant;
+import com.newwork.employee.service.photo.ProfilePhotoUrls;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PhotoServiceImpl implements PhotoService {
+
+    private final EmployeeProfileRepository profileRepository;
+    private final PermissionService permissionService;
+    private final EntityChangePublisher entityChangePublisher;
+    private final AuditTrail auditTrail;
+    private final PhotoStore photoStore;
+    private final PhotoProperties photoProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Decoding and encoding the image takes up to seconds, so it runs before the transaction that
+     * points the profile at the photo rather than holding a connection. Permission is checked first,
+     * so unauthorized uploads never reach the decoder.
+     */
+    @Override
+    public ProfilePhotoDTO uploadProfilePhoto(UUID viewerId, UUID profileUserId, byte[] content) {
+        if (content == null || content.length == 0) {
+            throw new IllegalArgumentException("Photo is empty");
+        }
+        if (content.length > photoProperties.getMaxUploadSize().toBytes()) {
+            throw new IllegalArgumentException("Photo is too large: at most " + photoProperties.getMaxUploadSize());
+        }
+
+        if (!profileRepository.existsByUserId(profileUserId)) {
+            throw new ResourceNotFoundException("Profile not found for user: " + profileUserId);
+        }
+        Relationship relationship = permissionService.determineRelationship(viewerId, profileUserId);
+        if (!permissionService.canEdit(relationship, FieldType.NON_SENSITIVE)) {
+            throw new ForbiddenException("You don't have permission to change this profile's photo");
+        }
+
+        // Written before commit: a rollback leaves an unreferenced but harmless immutable file set
+        String hash = photoStore.store(content);
+        String photoUrl = ProfilePhotoUrls.of(hash, PhotoVariant.MEDIUM);
+        transactionTemplate.executeWithoutResult(status -> {
+            EmployeeProfile profile = profileRepository.findByUserId(profileUserId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Profile not found for user: " + profileUserId));
+            FieldChanges changes = new FieldChanges();
+            changes.record("profilePhotoUrl", profile.getProfilePhotoUrl(), photoUrl);
+            profile.setProfilePhotoHash(hash);
+            profile.setProfilePhotoUrl(photoUrl);
+            profileRepository.save(profile);
+            entityChangePublisher.publish(ChangedEntity.PROFILE, profile.getId(), profileUserId);
+            auditTrail.record(changes.toRecords(ChangedEntity.PROFILE, profile.getId(), profileUserId, viewerId));
+        });
+        log.info("Profile photo of user {} set to {} by viewer {}", profileUserId, hash, viewerId);
+
+        return ProfilePhotoDTO.builder()
+                .contentHash(hash)
+                .originalUrl(ProfilePhotoUrls.of(hash, PhotoVariant.ORIGINAL))
+                .smallUrl(ProfilePhotoUrls.of(hash, PhotoVariant.SMALL))
+                .mediumUrl(ProfilePhotoUrls.of(hash, PhotoVariant.MEDIUM))
+                .build();
+    }
+
+    @Override
+    public Optional<PhotoStore.StoredPhoto> findPhoto(String contentHash, PhotoVariant variant) {
+        return photoStore.find(contentHash, variant);
+    }
+}
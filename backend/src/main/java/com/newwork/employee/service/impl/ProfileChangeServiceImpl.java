@@ -0,0 +1,101 @@
+package com.newwork.employee.service.impl;
+
+import com.newwork.employee.config.properties.AuditProperties;
+import com.newwork.employee.config.properties.ProfileChangeFeedProperties;
+import com.newwork.employee.dto.ProfileChangesPage;
+import com.newwork.employee.entity.enums.FieldType;
+import com.newwork.employee.repository.ProfileChangeRepository;
+import com.newwork.employee.service.PermissionService;
+import com.newwork.employee.service.ProfileChangeService;
+import com.newwork.employee.util.DateTimeUtil;
+import com.newwork.employee.util.ProfileChangeCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ProfileChangeServiceImpl implements ProfileChangeService {
+
+    private final ProfileChangeRepository profileChangeRepository;
+    private final PermissionService permissionService;
+    private final ProfileChangeFeedProperties properties;
+    private final AuditProperties auditProperties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProfileChangesPage getChanges(UUID viewerId, String since, Integer first) {
+        int pageSize = pageSize(first);
+        ProfileChangeCursor cursor = ProfileChangeCursor.decode(since);
+        Long baseline = cursor != null ? cursor.baseline() : null;
+        long until = profileChangeRepository.feedHorizon(properties.getClockSkew(), auditProperties.getProgressTimeout());
+
+        List<ProfileChangeRepository.ProfileChangeRow> rows =
+                profileChangeRepository.findPage(cursor, baseline, until, pageSize + 1);
+        boolean hasNextPage = rows.size() > pageSize;
+        if (hasNextPage) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        // The reporting tree only matters for rows whose changes include sensitive fields
+        boolean anySensitive = rows.stream().anyMatch(row -> !row.sensitiveFields().isEmpty());
+        Set<UUID> reportingTree = anySensitive ? permissionService.getReportingTree(viewerId) : Set.of();
+        List<ProfileChangesPage.Change> items = rows.stream()
+                .map(row -> ProfileChangesPage.Change.builder()
+                        .userId(row.userId())
+                        .profileId(row.profileId())
+                        .updatedAt(DateTimeUtil.toOffset(row.updatedAt()))
+                        .changedFields(visibleFields(viewerId, row, reportingTree))
+                        .build())
+                .toList();
+
+        return ProfileChangesPage.builder()
+                .items(items)
+                .endCursor(endCursor(cursor, baseline, until, rows, hasNextPage))
+                .hasNextPage(hasNextPage)
+                .build();
+    }
+
+    private List<String> visibleFields(UUID viewerId, ProfileChangeRepository.ProfileChangeRow row,
+                                       Set<UUID> reportingTree) {
+        if (row.sensitiveFields().isEmpty()) {
+            return row.fields().stream().sorted().toList();
+        }
+        boolean canViewSensitive = permissionService.canView(
+                permissionService.determineRelationship(viewerId, row.userId(), row.managerId(), reportingTree),
+                FieldType.SENSITIVE);
+        Stream<String> fields = canViewSensitive
+                ? Stream.concat(row.fields().stream(), row.sensitiveFields().stream())
+                : row.fields().stream();
+        return fields.sorted().toList();
+    }
+
+    /**
+     * Mid-run pages keep the run's baseline; the last page makes the horizon it read up to the
+     * baseline of the next sync. An empty page leaves the consumer where it was.
+     */
+    private static String endCursor(ProfileChangeCursor cursor, Long baseline, long until,
+                                    List<ProfileChangeRepository.ProfileChangeRow> rows, boolean hasNextPage) {
+        if (rows.isEmpty()) {
+            return cursor != null ? ProfileChangeCursor.caughtUp(cursor.txId(), cursor.profileId(), until).encode() : null;
+        }
+        ProfileChangeRepository.ProfileChangeRow last = rows.get(rows.size() - 1);
+        ProfileChangeCursor end = hasNextPage
+                ? new ProfileChangeCursor(last.txId(), last.profileId(), baseline)
+                : ProfileChangeCursor.caughtUp(last.txId(), last.profileId(), until);
+        return end.encode();
+    }
+
+    private static int pageSize(Integer first) {
+        int pageSize = first != null ? first : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("first must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+}
@@ -1,9 +1,12 @@
 package com.newwork.employee.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.newwork.employee.dto.ProfileDTO;
 import com.newwork.employee.dto.ProfileMetadataDTO;
 import com.newwork.employee.dto.ProfileUpdateDTO;
 import com.newwork.employee.entity.EmployeeProfile;
+import com.newwork.employee.entity.enums.ChangedEntity;
 import com.newwork.employee.entity.enums.FieldType;
 import com.newwork.employee.entity.enums.Relationship;
 import com.newwork.employee.exception.ForbiddenException;
@@ -11,15 +14,22 @@ import com.newwork.employee.exception.ResourceNotFoundException;
 import com.newwork.employee.mapper.ProfileMapper;
 import com.newwork.employee.repository.EmployeeProfileRepository;
 import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.service.AuditTrail;
+import com.newwork.employee.service.EntityChangePublisher;
 import com.newwork.employee.service.PermissionService;
 import com.newwork.employee.service.ProfileService;
+import com.newwork.employee.service.SkillService;
+import com.newwork.employee.service.audit.FieldChanges;
+import com.newwork.employee.service.cache.ProfileJsonCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -36,6 +46,11 @@ public class ProfileServiceImpl implements ProfileService {
     private final UserRepository userRepository;
     private final PermissionService permissionService;
     private final ProfileMapper profileMapper;
+    private final EntityChangePublisher entityChangePublisher;
+    private final SkillService skillService;
+    private final AuditTrail auditTrail;
+    private final ProfileJsonCache profileJsonCache;
+    private final ObjectMapper objectMapper;
 
     @Override
     @Transactional(readOnly = true)
@@ -54,6 +69,33 @@ public class ProfileServiceImpl implements ProfileService {
         return dto;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] getProfileJson(UUID viewerId, UUID profileUserId) {
+        LocalDateTime version = profileRepository.findCacheVersionByUserId(profileUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Profile not found for user: " + profileUserId));
+        Relationship relationship = permissionService.determineRelationship(viewerId, profileUserId);
+
+        Optional<byte[]> cached = profileJsonCache.get(profileUserId, relationship, version);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        EmployeeProfile profile = profileRepository.findByUserId(profileUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Profile not found for user: " + profileUserId));
+        ProfileDTO dto = profileMapper.toDTO(profile, permissionService.getVisibleFieldTypes(relationship));
+        dto.setMetadata(buildMetadata(relationship));
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(dto);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize profile for user: " + profileUserId, ex);
+        }
+        // Keyed by the version actually rendered, which is newer than the one checked above if an update raced in
+        profileJsonCache.put(profileUserId, relationship, cacheVersion(profile), json);
+        return json;
+    }
+
     @Override
     @Transactional
     public ProfileDTO updateProfile(UUID viewerId, UUID profileUserId, ProfileUpdateDTO updateDTO) {
@@ -75,15 +117,21 @@ public class ProfileServiceImpl implements ProfileService {
             throw new ForbiddenException("You don't have permission to edit sensitive fields of this profile");
         }
 
+        FieldChanges changes = new FieldChanges();
         if (updatingNonSensitive && permissionService.canEdit(relationship, FieldType.NON_SENSITIVE)) {
-            applyNonSensitiveUpdates(profile, updateDTO);
+            applyNonSensitiveUpdates(profile, updateDTO, changes);
         }
 
         if (updatingSensitive && permissionService.canEdit(relationship, FieldType.SENSITIVE)) {
-            applySensitiveUpdates(profile, updateDTO);
+            applySensitiveUpdates(profile, updateDTO, changes);
         }
 
         EmployeeProfile saved = profileRepository.save(profile);
+        if (updateDTO.getSkills() != null) {
+            skillService.reindexProfile(profileUserId, saved.getSkills());
+        }
+        entityChangePublisher.publish(ChangedEntity.PROFILE, saved.getId(), profileUserId);
+        auditTrail.record(changes.toRecords(ChangedEntity.PROFILE, saved.getId(), profileUserId, viewerId));
         log.info("Profile updated for user {} by viewer {}", profileUserId, viewerId);
 
         Set<FieldType> visibleFieldTypes = permissionService.getVisibleFieldTypes(relationship);
@@ -125,60 +173,91 @@ public class ProfileServiceImpl implements ProfileService {
                 dto.getVisaWorkPermit() != null;
     }
 
-    private void applyNonSensitiveUpdates(EmployeeProfile profile, ProfileUpdateDTO dto) {
+    private void applyNonSensitiveUpdates(EmployeeProfile profile, ProfileUpdateDTO dto, FieldChanges changes) {
         if (dto.getPreferredName() != null) {
+            changes.record("preferredName", profile.getPreferredName(), dto.getPreferredName());
             profile.setPreferredName(dto.getPreferredName());
         }
         if (dto.getJobTitle() != null) {
+            changes.record("jobTitle", profile.getJobTitle(), dto.getJobTitle());
             profile.setJobTitle(dto.getJobTitle());
         }
         if (dto.getOfficeLocation() != null) {
+            changes.record("officeLocation", profile.getOfficeLocation(), dto.getOfficeLocation());
             profile.setOfficeLocation(dto.getOfficeLocation());
         }
         if (dto.getWorkPhone() != null) {
+            changes.record("workPhone", profile.getWorkPhone(), dto.getWorkPhone());
             profile.setWorkPhone(dto.getWorkPhone());
         }
         if (dto.getWorkLocationType() != null) {
+            changes.record("workLocationType", profile.getWorkLocationType(), dto.getWorkLocationType());
             profile.setWorkLocationType(dto.getWorkLocationType());
         }
         if (dto.getBio() != null) {
+            changes.record("bio", profile.getBio(), dto.getBio());
             profile.setBio(dto.getBio());
         }
         if (dto.getSkills() != null) {
+            changes.record("skills", profile.getSkills(), dto.getSkills());
             profile.setSkills(dto.getSkills());
         }
         if (dto.getProfilePhotoUrl() != null) {
+            changes.record("profilePhotoUrl", profile.getProfilePhotoUrl(), dto.getProfilePhotoUrl());
             profile.setProfilePhotoUrl(dto.getProfilePhotoUrl());
+            // An entered URL replaces any uploaded photo
+            profile.setProfilePhotoHash(null);
         }
     }
 
-    private void applySensitiveUpdates(EmployeeProfile profile, ProfileUpdateDTO dto) {
+    private void applySensitiveUpdates(EmployeeProfile profile, ProfileUpdateDTO dto, FieldChanges changes) {
         if (dto.getPersonalEmail() != null) {
+            changes.recordSensitive("personalEmail", profile.getPersonalEmail(), dto.getPersonalEmail());
             profile.setPersonalEmail(dto.getPersonalEmail());
         }
         if (dto.getPersonalPhone() != null) {
+            changes.recordSensitive("personalPhone", profile.getPersonalPhone(), dto.getPersonalPhone());
             profile.setPersonalPhone(dto.getPersonalPhone());
         }
         if (dto.getHomeAddress() != null) {
+            changes.recordSensitive("homeAddress", profile.getHomeAddress(), dto.getHomeAddress());
             profile.setHomeAddress(dto.getHomeAddress());
         }
         if (dto.getEmergencyContactName() != null) {
+            changes.recordSensitive("emergencyContactName",
+                    profile.getEmergencyContactName(), dto.getEmergencyContactName());
             profile.setEmergencyContactName(dto.getEmergencyContactName());
         }
         if (dto.getEmergencyContactPhone() != null) {
+            changes.recordSensitive("emergencyContactPhone",
+                    profile.getEmergencyContactPhone(), dto.getEmergencyContactPhone());
             profile.setEmergencyContactPhone(dto.getEmergencyContactPhone());
         }
         if (dto.getEmergencyContactRelationship() != null) {
+            changes.recordSensitive("emergencyContactRelationship",
+                    profile.getEmergencyContactRelationship(), dto.getEmergencyContactRelationship());
             profile.setEmergencyContactRelationship(dto.getEmergencyContactRelationship());
         }
         if (dto.getDateOfBirth() != null) {
+            changes.recordSensitive("dateOfBirth", profile.getDateOfBirth(), dto.getDateOfBirth());
             profile.setDateOfBirth(dto.getDateOfBirth());
         }
         if (dto.getVisaWorkPermit() != null) {
+            changes.recordSensitive("visaWorkPermit", profile.getVisaWorkPermit(), dto.getVisaWorkPermit());
             profile.setVisaWorkPermit(dto.getVisaWorkPermit());
         }
     }
 
+    /**
+     * Same version as EmployeeProfileRepository#findCacheVersionByUserId, taken from the rendered rows.
+     */
+    private static LocalDateTime cacheVersion(EmployeeProfile profile) {
+        LocalDateTime userUpdatedAt = profile.getUser().getUpdatedAt();
+        return userUpdatedAt != null && userUpdatedAt.isAfter(profile.getUpdatedAt())
+                ? userUpdatedAt
+                : profile.getUpdatedAt();
+    }
+
     private ProfileMetadataDTO buildMetadata(Relationship relationship) {
         String relationshipLabel = relationship == Relationship.COWORKER ? "OTHER" : relationship.name();
 
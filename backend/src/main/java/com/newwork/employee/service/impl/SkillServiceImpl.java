@@ -0,0 +1,139 @@
+package com.newwork.employee.service.impl;
+
+import com.newwork.employee.dto.CoworkerDTO;
+import com.newwork.employee.dto.PeopleBySkillsPage;
+import com.newwork.employee.entity.enums.Relationship;
+import com.newwork.employee.repository.SkillIndexRepository;
+import com.newwork.employee.service.PermissionService;
+import com.newwork.employee.service.SkillService;
+import com.newwork.employee.service.photo.PhotoVariant;
+import com.newwork.employee.service.photo.ProfilePhotoUrls;
+import com.newwork.employee.service.skill.SkillMatchMode;
+import com.newwork.employee.service.skill.SkillNames;
+import com.newwork.employee.util.SkillMatchCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SkillServiceImpl implements SkillService {
+
+    private final SkillIndexRepository skillIndexRepository;
+    private final PermissionService permissionService;
+
+    @Override
+    @Transactional
+    public void reindexProfile(UUID userId, String skills) {
+        List<SkillNames.Skill> parsed = SkillNames.parse(skills);
+        skillIndexRepository.replaceProfileSkills(userId, parsed);
+        log.debug("Indexed {} skills for user {}", parsed.size(), userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PeopleBySkillsPage findPeopleBySkills(UUID viewerId, List<String> skills, SkillMatchMode mode,
+                                                 Integer first, String after) {
+        // Requested spelling by lookup key, in request order
+        Map<String, String> requested = new LinkedHashMap<>();
+        if (skills != null) {
+            skills.stream()
+                    .filter(StringUtils::hasText)
+                    .forEach(skill -> requested.putIfAbsent(SkillNames.normalize(skill), skill.strip()));
+        }
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one skill is required");
+        }
+        if (requested.size() > MAX_QUERY_SKILLS) {
+            throw new IllegalArgumentException("At most " + MAX_QUERY_SKILLS + " skills can be searched at once");
+        }
+        int pageSize = pageSize(first);
+        int minMatched = mode == SkillMatchMode.ANY ? 1 : requested.size();
+        SkillMatchCursor cursor = SkillMatchCursor.decode(after);
+
+        // Matching, counting and paging all happen on the index in SQL
+        List<SkillIndexRepository.SkillMatchRow> rows =
+                skillIndexRepository.findPage(viewerId, requested.keySet(), minMatched, cursor, pageSize + 1);
+        boolean hasNextPage = rows.size() > pageSize;
+        if (hasNextPage) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        Set<UUID> reportingTree = rows.isEmpty() ? Set.of() : permissionService.getReportingTree(viewerId);
+        List<PeopleBySkillsPage.Match> items = rows.stream()
+                .map(row -> PeopleBySkillsPage.Match.builder()
+                        .person(toCoworker(viewerId, row, reportingTree))
+                        .matchedSkills(row.matchedSkills())
+                        .build())
+                .toList();
+
+        String endCursor = null;
+        if (!rows.isEmpty()) {
+            SkillIndexRepository.SkillMatchRow last = rows.get(rows.size() - 1);
+            endCursor = new SkillMatchCursor(last.matchedSkills(), last.userId()).encode();
+        }
+
+        return PeopleBySkillsPage.builder()
+                .items(items)
+                .skillCounts(skillCounts(requested))
+                .totalCount(skillIndexRepository.count(viewerId, requested.keySet(), minMatched))
+                .endCursor(endCursor)
+                .hasNextPage(hasNextPage)
+                .build();
+    }
+
+    private List<PeopleBySkillsPage.SkillCount> skillCounts(Map<String, String> requested) {
+        Map<String, SkillIndexRepository.SkillCountRow> known = skillIndexRepository
+                .countPeopleBySkill(requested.keySet())
+                .stream()
+                .collect(Collectors.toMap(SkillIndexRepository.SkillCountRow::normalizedName, Function.identity()));
+        return requested.entrySet().stream()
+                .map(entry -> {
+                    SkillIndexRepository.SkillCountRow row = known.get(entry.getKey());
+                    return PeopleBySkillsPage.SkillCount.builder()
+                            .skill(row != null ? row.name() : entry.getValue())
+                            .peopleCount(row != null ? row.people() : 0L)
+                            .build();
+                })
+                .toList();
+    }
+
+    private static int pageSize(Integer first) {
+        int pageSize = first != null ? first : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("first must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+
+    private CoworkerDTO toCoworker(UUID viewerId, SkillIndexRepository.SkillMatchRow row, Set<UUID> reportingTree) {
+        Relationship relationship = permissionService.determineRelationship(
+                viewerId, row.userId(), row.managerId(), reportingTree);
+
+        // Same shape as a directory entry; pending absence counts are left to the directory
+        return CoworkerDTO.builder()
+                .userId(row.userId())
+                .employeeId(row.employeeId())
+                .preferredName(StringUtils.hasText(row.preferredName()) ? row.preferredName() : row.legalFirstName())
+                .legalFirstName(row.legalFirstName())
+                .legalLastName(row.legalLastName())
+                .jobTitle(row.jobTitle())
+                .department(row.department())
+                .workLocationType(row.workLocationType())
+                .profilePhotoUrl(ProfilePhotoUrls.forProfile(row.profilePhotoHash(), row.profilePhotoUrl(), PhotoVariant.SMALL))
+                .relationship(relationship == Relationship.COWORKER ? "OTHER" : relationship.name())
+                .directReport(relationship == Relationship.MANAGER)
+                .build();
+    }
+}
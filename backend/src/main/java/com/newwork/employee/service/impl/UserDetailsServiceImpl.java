@@ -2,27 +2,33 @@ package com.newwork.employee.service.impl;
 
 import com.newwork.employee.entity.User;
 import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.security.AdaptiveBCryptPasswordEncoder;
+import com.newwork.employee.security.UserAccountDetails;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Service implementation for loading user-specific data for Spring Security authentication.
- * Implements Spring Security's UserDetailsService contract.
+ * Implements Spring Security's UserDetailsService contract, plus UserDetailsPasswordService so
+ * hashes below or above the target BCrypt cost are transparently rewritten after a successful login.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Load user by email (username) for Spring Security authentication
@@ -39,10 +45,38 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getId().toString(), // Store UUID as username for easy access
-                user.getPassword(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
-        );
+        return new UserAccountDetails(user);
+    }
+
+    /**
+     * Persist a rehashed password after a successful login.
+     * AuthServiceImpl#login is deliberately non-transactional, so this short write is the only
+     * connection the login holds at this point; it must not be nested inside a transaction that
+     * already pins one (REQUIRES_NEW would need a second connection from the pool per login).
+     *
+     * @param user the authenticated user (username holds the user UUID)
+     * @param newPassword the password encoded at the target cost
+     * @return UserDetails carrying the new hash
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UUID userId = UUID.fromString(user.getUsername());
+        int fromCost = AdaptiveBCryptPasswordEncoder.costOf(user.getPassword());
+        int toCost = AdaptiveBCryptPasswordEncoder.costOf(newPassword);
+
+        userRepository.updatePassword(userId, newPassword, LocalDateTime.now());
+        meterRegistry.counter("auth.password.rehash",
+                        "from_cost", String.valueOf(fromCost),
+                        "to_cost", String.valueOf(toCost))
+                .increment();
+        log.info("Upgraded password hash for user {} from cost {} to {}", userId, fromCost, toCost);
+
+        if (user instanceof UserAccountDetails details) {
+            return new UserAccountDetails(details.getUser(), newPassword);
+        }
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
     }
 }
@@ -0,0 +1,180 @@
+package com.newwork.employee.service.photo;
+
+import com.newwork.employee.config.properties.PhotoProperties;
+import com.newwork.employee.exception.PhotoUploadThrottledException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed file store for profile photos.
+ *
+ * Each photo lives under {@code <root>/<first two hex chars>/<sha-256 of the original>/}, one
+ * file per {@link PhotoVariant}. Files are never modified once written: they are staged next to
+ * their final name and atomically renamed, thumbnails first and the original last, so a present
+ * original means a complete set. Re-uploading identical bytes reuses the existing files.
+ *
+ * The stored original is re-encoded from the decoded pixels rather than copied, so metadata of the
+ * upload (EXIF GPS position and the like) never reaches its public URL. Decoding a large image
+ * takes a full bitmap in memory, so at most {@code maxConcurrentDecodes} uploads are processed at
+ * once; others wait up to {@code decodeWait} and are then turned away.
+ */
+@Slf4j
+@Component
+public class PhotoStore {
+
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G'};
+
+    private final Path root;
+    private final ThumbnailRenderer renderer;
+    private final Semaphore decodePermits;
+    private final Duration decodeWait;
+
+    public PhotoStore(PhotoProperties properties) {
+        this(properties, new Semaphore(properties.getMaxConcurrentDecodes(), true));
+    }
+
+    PhotoStore(PhotoProperties properties, Semaphore decodePermits) {
+        this.root = properties.getStorageDir().toAbsolutePath().normalize();
+        this.renderer = new ThumbnailRenderer(properties.getMaxPixels(), properties.getThumbnailQuality());
+        this.decodePermits = decodePermits;
+        this.decodeWait = properties.getDecodeWait();
+    }
+
+    /**
+     * Store the original and all thumbnails.
+     *
+     * @return content hash identifying the photo
+     * @throws IllegalArgumentException if the content is not an acceptable image
+     * @throws PhotoUploadThrottledException if too many uploads are being decoded
+     */
+    public String store(byte[] upload) {
+        String hash = sha256(upload);
+        Path directory = directoryOf(hash);
+        if (Files.exists(directory.resolve(PhotoVariant.ORIGINAL.pathSegment()))) {
+            return hash;
+        }
+
+        Map<PhotoVariant, byte[]> files = renderAll(upload);
+        try {
+            Files.createDirectories(directory);
+            for (PhotoVariant variant : PhotoVariant.values()) {
+                if (variant != PhotoVariant.ORIGINAL) {
+                    write(directory.resolve(variant.pathSegment()), files.get(variant));
+                }
+            }
+            write(directory.resolve(PhotoVariant.ORIGINAL.pathSegment()), files.get(PhotoVariant.ORIGINAL));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to store photo " + hash, ex);
+        }
+        log.info("Stored photo {} ({} bytes uploaded, {} bytes kept)", hash, upload.length,
+                files.get(PhotoVariant.ORIGINAL).length);
+        return hash;
+    }
+
+    /**
+     * Locate a stored variant. Unknown or malformed hashes are simply absent.
+     */
+    public Optional<StoredPhoto> find(String hash, PhotoVariant variant) {
+        if (hash == null || !CONTENT_HASH.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = directoryOf(hash).resolve(variant.pathSegment());
+        try {
+            long size = Files.size(path);
+            String contentType = variant == PhotoVariant.ORIGINAL ? sniffContentType(path) : "image/jpeg";
+            return Optional.of(new StoredPhoto(path, size, contentType, '"' + hash + '-' + variant.pathSegment() + '"'));
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Decode once and encode every variant while holding a decode permit; the bitmap is garbage
+     * as soon as this returns.
+     */
+    private Map<PhotoVariant, byte[]> renderAll(byte[] upload) {
+        try {
+            if (!decodePermits.tryAcquire(decodeWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new PhotoUploadThrottledException("Too many photos are being processed, please retry shortly",
+                        decodeWait);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PhotoUploadThrottledException("Interrupted while waiting to process the photo", decodeWait);
+        }
+        try {
+            ThumbnailRenderer.DecodedImage decoded = renderer.decode(upload);
+            Map<PhotoVariant, byte[]> files = new EnumMap<>(PhotoVariant.class);
+            for (PhotoVariant variant : PhotoVariant.values()) {
+                files.put(variant, variant == PhotoVariant.ORIGINAL
+                        ? renderer.reencode(decoded)
+                        : renderer.render(decoded.image(), variant.getSize()));
+            }
+            return files;
+        } finally {
+            decodePermits.release();
+        }
+    }
+
+    private Path directoryOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static void write(Path target, byte[] content) throws IOException {
+        if (Files.exists(target)) {
+            return;
+        }
+        Path staged = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(staged, content);
+            Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+    }
+
+    private static String sniffContentType(Path path) throws IOException {
+        byte[] header = new byte[PNG_SIGNATURE.length];
+        try (InputStream in = Files.newInputStream(path)) {
+            int read = in.readNBytes(header, 0, header.length);
+            for (int i = 0; i < PNG_SIGNATURE.length; i++) {
+                if (i >= read || header[i] != PNG_SIGNATURE[i]) {
+                    return "image/jpeg";
+                }
+            }
+            return "image/png";
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * A stored file ready to serve. The ETag is strong: the bytes behind a hash never change.
+     */
+    public record StoredPhoto(Path path, long size, String contentType, String etag) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.newwork.employee.service.photo;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Renditions stored for every uploaded photo. Thumbnails are square JPEGs rendered once at upload;
+ * the sizes are part of the stored layout, so changing one requires re-rendering existing photos.
+ */
+public enum PhotoVariant {
+    ORIGINAL(0),
+    /** Directory lists and avatars. */
+    SMALL(64),
+    /** Profile cards and headers. */
+    MEDIUM(256);
+
+    private final int size;
+
+    PhotoVariant(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Edge length of the square thumbnail in pixels; 0 for the original.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public String pathSegment() {
+        return name().toLowerCase();
+    }
+
+    public static Optional<PhotoVariant> fromPathSegment(String segment) {
+        return Arrays.stream(values())
+                .filter(variant -> variant.pathSegment().equals(segment))
+                .findFirst();
+    }
+}
@@ -0,0 +1,34 @@
+package com.newwork.employee.service.photo;
+
+import com.newwork.employee.entity.EmployeeProfile;
+
+/**
+ * Public URLs of stored photo variants. URLs embed the content hash, so they change whenever
+ * the photo does and can be cached forever.
+ */
+public final class ProfilePhotoUrls {
+
+    public static final String BASE_PATH = "/api/photos";
+
+    private ProfilePhotoUrls() {
+    }
+
+    public static String of(String contentHash, PhotoVariant variant) {
+        return BASE_PATH + "/" + contentHash + "/" + variant.pathSegment();
+    }
+
+    /**
+     * URL to show for the profile at the given size: the stored variant for uploaded photos,
+     * or the free-form URL as entered for photos hosted elsewhere.
+     */
+    public static String forProfile(EmployeeProfile profile, PhotoVariant variant) {
+        return forProfile(profile.getProfilePhotoHash(), profile.getProfilePhotoUrl(), variant);
+    }
+
+    /**
+     * Same as {@link #forProfile(EmployeeProfile, PhotoVariant)} for rows read without an entity.
+     */
+    public static String forProfile(String contentHash, String enteredUrl, PhotoVariant variant) {
+        return contentHash != null ? of(contentHash, variant) : enteredUrl;
+    }
+}
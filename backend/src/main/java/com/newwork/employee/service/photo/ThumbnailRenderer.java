@@ -0,0 +1,153 @@
+package com.newwork.employee.service.photo;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Decodes uploaded photos and renders square JPEG thumbnails with the JDK's ImageIO.
+ */
+public class ThumbnailRenderer {
+
+    private static final Set<String> ACCEPTED_FORMATS = Set.of("jpeg", "png");
+    private static final float ORIGINAL_QUALITY = 0.92f;
+
+    private final long maxPixels;
+    private final float quality;
+
+    public ThumbnailRenderer(long maxPixels, float quality) {
+        this.maxPixels = maxPixels;
+        this.quality = quality;
+    }
+
+    /**
+     * Decode a JPEG or PNG, rejecting other formats and oversized images before any pixels are read.
+     *
+     * @throws IllegalArgumentException if the content is not an acceptable image
+     */
+    public DecodedImage decode(byte[] content) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("Photo must be a JPEG or PNG image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                String format = reader.getFormatName().toLowerCase();
+                if (!ACCEPTED_FORMATS.contains(format)) {
+                    throw new IllegalArgumentException("Photo must be a JPEG or PNG image");
+                }
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IllegalArgumentException("Photo is too large: at most " + maxPixels + " pixels");
+                }
+                return new DecodedImage(reader.read(0), "png".equals(format) ? "image/png" : "image/jpeg");
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Photo could not be decoded", ex);
+        }
+    }
+
+    /**
+     * Centre-crop to a square and scale down to at most {@code size} pixels per edge (never up).
+     */
+    public byte[] render(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage image = source.getSubimage(
+                (source.getWidth() - side) / 2, (source.getHeight() - side) / 2, side, side);
+        int target = Math.min(size, side);
+
+        // Halve repeatedly before the final step: a single bilinear pass over a large ratio aliases badly
+        int current = side;
+        do {
+            current = Math.max(target, current / 2);
+            image = scale(image, current);
+        } while (current > target);
+
+        return encodeJpeg(image, quality);
+    }
+
+    /**
+     * Re-encode the decoded pixels in the upload's format. Only pixels are written, so EXIF (GPS
+     * position, camera serial), XMP and comments of the upload are dropped.
+     */
+    public byte[] reencode(DecodedImage decoded) {
+        if ("image/png".equals(decoded.contentType())) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                ImageIO.write(decoded.image(), "png", out);
+            } catch (IOException ex) {
+                throw new IllegalStateException("Failed to encode photo", ex);
+            }
+            return out.toByteArray();
+        }
+        return encodeJpeg(toRgb(decoded.image()), ORIGINAL_QUALITY);
+    }
+
+    private static BufferedImage toRgb(BufferedImage source) {
+        int type = source.getType();
+        if (type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_3BYTE_BGR || type == BufferedImage.TYPE_BYTE_GRAY) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int size) {
+        BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            // JPEG has no alpha: flatten transparent PNGs onto white
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, size, size);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, size, size, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to encode thumbnail", ex);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    public record DecodedImage(BufferedImage image, String contentType) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.newwork.employee.service.skill;
+
+/**
+ * How the requested skills of a people search combine.
+ */
+public enum SkillMatchMode {
+    /** People with every requested skill */
+    ALL,
+    /** People with at least one requested skill, those matching most first */
+    ANY
+}
@@ -0,0 +1,74 @@
+package com.newwork.employee.service.skill;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Parsing of the free-text skills field into normalized skill names.
+ *
+ * Accepts what profiles have historically stored: comma, semicolon or newline separated lists,
+ * optionally written as a JSON array of strings. Must stay in line with the backfill in
+ * {@code V20__create_skills_index.sql}.
+ */
+public final class SkillNames {
+
+    public static final int MAX_NAME_LENGTH = 100;
+    public static final int MAX_SKILLS_PER_PROFILE = 50;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;\\n]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SkillNames() {
+    }
+
+    /**
+     * A skill as displayed (first spelling seen) and its lookup key.
+     */
+    public record Skill(String name, String normalizedName) {
+    }
+
+    /**
+     * Split, trim and de-duplicate (case-insensitively) a skills field. Blank and over-long
+     * entries are dropped, and at most {@link #MAX_SKILLS_PER_PROFILE} are kept, in input order.
+     */
+    public static List<Skill> parse(String skills) {
+        if (skills == null) {
+            return List.of();
+        }
+        Map<String, Skill> unique = new LinkedHashMap<>();
+        for (String token : SEPARATORS.split(strip(skills, " \t\r\n[]"))) {
+            String name = WHITESPACE.matcher(strip(token, " \t\r\"")).replaceAll(" ");
+            if (name.isEmpty() || name.length() > MAX_NAME_LENGTH) {
+                continue;
+            }
+            unique.putIfAbsent(normalize(name), new Skill(name, normalize(name)));
+            if (unique.size() == MAX_SKILLS_PER_PROFILE) {
+                break;
+            }
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    /**
+     * Lookup key of a single skill name as typed into a search.
+     */
+    public static String normalize(String name) {
+        return WHITESPACE.matcher(name.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String strip(String value, String characters) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && characters.indexOf(value.charAt(start)) >= 0) {
+            start++;
+        }
+        while (end > start && characters.indexOf(value.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        return value.substring(start, end);
+    }
+}
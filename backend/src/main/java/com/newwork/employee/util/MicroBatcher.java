@@ -0,0 +1,226 @@
+package com.newwork.employee.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Collects single-item calls into batches and hands each batch to one handler invocation.
+ *
+ * Items are only batched with items submitted under the same key, so a handler invocation never
+ * sees items of two different keys. A batch is dispatched as soon as it holds {@code maxBatchSize}
+ * items or its first item has waited {@code maxWait}, whichever comes first. The handler must return one result per item in
+ * the same order; each result completes the future of the caller that submitted that item, and a
+ * handler failure fails every caller of the batch, unless {@code retryOneByOne} accepts the failure:
+ * then each item is handed to the handler again on its own, concurrently. Items whose caller already
+ * gave up (future cancelled) are dropped before the handler runs.
+ *
+ * At most {@code maxConcurrentBatches} handler invocations run at once. Batches are never queued
+ * behind them: a batch that finds every slot busy fails its callers with
+ * {@link RejectedExecutionException} right away.
+ *
+ * Metrics: {@code <name>.batch.size} (items per dispatched batch), {@code <name>.batch.wait}
+ * (time an item spent queued before dispatch) and {@code <name>.batch.pending} (items queued).
+ */
+@Slf4j
+public class MicroBatcher<T, R> implements AutoCloseable {
+
+    private final String name;
+    private final Function<List<T>, List<R>> handler;
+    private final Predicate<RuntimeException> retryOneByOne;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService dispatcher;
+    private final DistributionSummary batchSize;
+    private final Timer batchWait;
+
+    private static final Object SHARED_KEY = new Object();
+
+    private final Object lock = new Object();
+    private final Map<Object, List<Pending<T, R>>> open = new HashMap<>();
+    private boolean closed;
+
+    public MicroBatcher(String name,
+                        Function<List<T>, List<R>> handler,
+                        int maxBatchSize,
+                        Duration maxWait,
+                        int maxConcurrentBatches,
+                        MeterRegistry meterRegistry) {
+        this(name, handler, ex -> false, maxBatchSize, maxWait, maxConcurrentBatches, meterRegistry);
+    }
+
+    public MicroBatcher(String name,
+                        Function<List<T>, List<R>> handler,
+                        Predicate<RuntimeException> retryOneByOne,
+                        int maxBatchSize,
+                        Duration maxWait,
+                        int maxConcurrentBatches,
+                        MeterRegistry meterRegistry) {
+        if (maxBatchSize < 1 || maxConcurrentBatches < 1) {
+            throw new IllegalArgumentException("maxBatchSize and maxConcurrentBatches must be positive");
+        }
+        this.name = name;
+        this.handler = handler;
+        this.retryOneByOne = retryOneByOne;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.timer = Executors.newSingleThreadScheduledExecutor(namedDaemonThreads(name + "-batch-timer"));
+        // No queue: a hand-off only succeeds while a thread is idle
+        this.dispatcher = new ThreadPoolExecutor(maxConcurrentBatches, maxConcurrentBatches, 0, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), namedDaemonThreads(name + "-batch"), new ThreadPoolExecutor.AbortPolicy());
+
+        this.batchSize = DistributionSummary.builder(name + ".batch.size")
+                .description("Items sent per upstream call")
+                .register(meterRegistry);
+        this.batchWait = Timer.builder(name + ".batch.wait")
+                .description("Time an item waited for its batch to be dispatched")
+                .register(meterRegistry);
+        Gauge.builder(name + ".batch.pending", this, MicroBatcher::pendingCount)
+                .description("Items waiting for their batch to fill or time out")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue one item; the future completes when its batch has been handled.
+     */
+    public CompletableFuture<R> submit(T item) {
+        return submit(SHARED_KEY, item);
+    }
+
+    /**
+     * Queue one item that may only share a batch with other items of the same {@code key}.
+     */
+    public CompletableFuture<R> submit(Object key, T item) {
+        Pending<T, R> pending = new Pending<>(item, new CompletableFuture<>(), System.nanoTime());
+        List<Pending<T, R>> full = null;
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException(name + " batcher is closed");
+            }
+            List<Pending<T, R>> batch = open.computeIfAbsent(key, k -> new ArrayList<>());
+            batch.add(pending);
+            if (batch.size() >= maxBatchSize) {
+                full = open.remove(key);
+            } else if (batch.size() == 1) {
+                timer.schedule(() -> flushIfDue(key, batch), maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return pending.result();
+    }
+
+    @Override
+    public void close() {
+        List<Pending<T, R>> remaining = new ArrayList<>();
+        synchronized (lock) {
+            closed = true;
+            open.values().forEach(remaining::addAll);
+            open.clear();
+        }
+        remaining.forEach(p -> p.result().completeExceptionally(new IllegalStateException(name + " batcher is closed")));
+        timer.shutdownNow();
+        dispatcher.shutdown();
+    }
+
+    private int pendingCount() {
+        synchronized (lock) {
+            return open.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    /**
+     * A timer armed for a batch that was already dispatched full finds another (or no) batch open
+     * under its key and does nothing.
+     */
+    private void flushIfDue(Object key, List<Pending<T, R>> batch) {
+        synchronized (lock) {
+            if (open.get(key) != batch) {
+                return;
+            }
+            open.remove(key);
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(List<Pending<T, R>> batch) {
+        execute(batch, () -> handle(batch));
+    }
+
+    private void execute(List<Pending<T, R>> batch, Runnable task) {
+        try {
+            dispatcher.execute(task);
+        } catch (RejectedExecutionException ex) {
+            log.debug("{} rejected a batch of {}: every slot is busy", name, batch.size());
+            batch.forEach(p -> p.result().completeExceptionally(ex));
+        }
+    }
+
+    private void handle(List<Pending<T, R>> batch) {
+        long dispatchedAt = System.nanoTime();
+        List<Pending<T, R>> live = batch.stream().filter(p -> !p.result().isDone()).toList();
+        if (live.isEmpty()) {
+            return;
+        }
+        live.forEach(p -> batchWait.record(dispatchedAt - p.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSize.record(live.size());
+        process(live);
+    }
+
+    private void process(List<Pending<T, R>> live) {
+        try {
+            List<R> results = handler.apply(live.stream().map(Pending::item).toList());
+            if (results == null || results.size() != live.size()) {
+                throw new IllegalStateException(name + " batch returned "
+                        + (results == null ? "no" : results.size()) + " results for " + live.size() + " items");
+            }
+            for (int i = 0; i < live.size(); i++) {
+                live.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException ex) {
+            if (live.size() > 1 && retryOneByOne.test(ex)) {
+                log.debug("{} batch of {} failed, retrying its items one by one: {}", name, live.size(), ex.getMessage());
+                // The others go to idle slots, the first one stays on this thread
+                live.subList(1, live.size()).forEach(p -> execute(List.of(p), () -> process(List.of(p))));
+                process(List.of(live.get(0)));
+                return;
+            }
+            log.debug("{} batch of {} failed: {}", name, live.size(), ex.getMessage());
+            live.forEach(p -> p.result().completeExceptionally(ex));
+        }
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Pending<T, R>(T item, CompletableFuture<R> result, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.newwork.employee.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in the profile change feed, ordered by (tx_id ASC, profile id ASC).
+ *
+ * {@code baseline} is the feed horizon where the consumer's current catch-up run started: the
+ * changed fields of every profile in the run are reported from there, not from the page boundary,
+ * so a profile updated twice since the last sync lists both updates' fields. It is null during an
+ * initial full sync and moves up to the horizon once a run reaches the end of the feed.
+ */
+public record ProfileChangeCursor(long txId, UUID profileId, Long baseline) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Cursor for the end of the feed: every profile written below {@code horizon} has been
+     * served, so the next run reports changes from there.
+     */
+    public static ProfileChangeCursor caughtUp(long txId, UUID profileId, long horizon) {
+        return new ProfileChangeCursor(txId, profileId, horizon);
+    }
+
+    public String encode() {
+        String raw = txId + SEPARATOR + profileId + SEPARATOR + (baseline != null ? baseline : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously returned by {@link #encode()}.
+     *
+     * @return null for a null or blank cursor (start of the feed)
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static ProfileChangeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\" + SEPARATOR, -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            return new ProfileChangeCursor(
+                    Long.parseLong(parts[0]),
+                    UUID.fromString(parts[1]),
+                    parts[2].isEmpty() ? null : Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.newwork.employee.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position in a list ordered by (rank DESC, created_at DESC, id DESC), such as full-text
+ * search results. The rank is stored exactly as the database returned it (a {@code real}), so the
+ * next page resumes at the same row without re-ranking anything above it.
+ */
+public record RankedKeysetCursor(float rank, KeysetCursor position) {
+
+    private static final char SEPARATOR = '~';
+
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + position.encode();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously returned by {@link #encode()}.
+     *
+     * @return null for a null or blank cursor (first page)
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static RankedKeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        KeysetCursor position = KeysetCursor.decode(raw.substring(separator + 1));
+        if (position == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        // NumberFormatException is an IllegalArgumentException
+        return new RankedKeysetCursor(Float.parseFloat(raw.substring(0, separator)), position);
+    }
+}
@@ -0,0 +1,39 @@
+package com.newwork.employee.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in a list of skill search results ordered by (matched skill count DESC, user id ASC).
+ */
+public record SkillMatchCursor(int matchedSkills, UUID userId) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = Integer.toString(matchedSkills) + SEPARATOR + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously returned by {@link #encode()}.
+     *
+     * @return null for a null or blank cursor (first page)
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static SkillMatchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        // NumberFormatException is an IllegalArgumentException, as is a malformed UUID
+        return new SkillMatchCursor(
+                Integer.parseInt(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,9 @@
+-- btree_gist provides the GiST equality operator class for uuid needed by the exclusion constraint
+create extension if not exists btree_gist;
+
+-- A user cannot hold two live (pending or approved) absences covering the same day.
+-- Enforced by the index itself, so concurrent submissions need no application reads or locks.
+alter table employee_absences
+    add constraint ex_employee_absences_no_overlap
+    exclude using gist (user_id with =, period with &&)
+    where (status in ('PENDING', 'APPROVED'));
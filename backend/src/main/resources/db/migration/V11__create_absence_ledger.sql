@@ -0,0 +1,25 @@
+-- Append-only ledger of absence balance movements. employee_profiles.absence_balance_days
+-- is the incrementally maintained snapshot: it always equals sum(delta_days) per user.
+-- absence_id deliberately has no foreign key so entries survive absence archival.
+create table if not exists absence_ledger_entries (
+    id uuid primary key default uuid_generate_v4(),
+    user_id uuid not null references users(id) on delete cascade,
+    absence_id uuid,
+    entry_type varchar(32) not null,
+    delta_days numeric(6, 2) not null,
+    note varchar(255),
+    created_at timestamp not null default now()
+);
+
+create index if not exists idx_absence_ledger_user on absence_ledger_entries(user_id, created_at);
+
+-- At most one entry of each kind per absence, so retries cannot double-book
+create unique index if not exists ux_absence_ledger_absence_entry
+    on absence_ledger_entries(absence_id, entry_type)
+    where absence_id is not null;
+
+-- Seed the ledger with the current static balances
+insert into absence_ledger_entries (user_id, entry_type, delta_days, note)
+select user_id, 'OPENING_BALANCE', absence_balance_days, 'Balance at ledger introduction'
+from employee_profiles
+where absence_balance_days is not null;
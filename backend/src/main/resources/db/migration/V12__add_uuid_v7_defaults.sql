@@ -0,0 +1,21 @@
+-- Time-ordered UUIDv7 (RFC 9562) for rows inserted outside Hibernate (seeds, migrations, manual SQL).
+-- Hibernate assigns v7 IDs itself via @TimeOrderedUuid; this keeps SQL-side inserts consistent so
+-- new keys always land on the right-most page of the primary key index.
+create or replace function uuid_generate_v7() returns uuid as $$
+declare
+    value bytea;
+begin
+    -- 48-bit Unix epoch milliseconds followed by 10 random bytes
+    value = substring(int8send((extract(epoch from clock_timestamp()) * 1000)::bigint) from 3)
+            || substring(uuid_send(gen_random_uuid()) from 7 for 10);
+    -- version 7 in the high nibble of byte 6, RFC 4122 variant in the top bits of byte 8
+    value = set_byte(value, 6, (get_byte(value, 6) & 15) | 112);
+    value = set_byte(value, 8, (get_byte(value, 8) & 63) | 128);
+    return encode(value, 'hex')::uuid;
+end
+$$ language plpgsql volatile;
+
+alter table users alter column id set default uuid_generate_v7();
+alter table feedback alter column id set default uuid_generate_v7();
+alter table employee_absences alter column id set default uuid_generate_v7();
+alter table absence_ledger_entries alter column id set default uuid_generate_v7();
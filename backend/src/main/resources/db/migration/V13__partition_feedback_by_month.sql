@@ -0,0 +1,88 @@
+-- V13: Partition feedback by month (declarative range partitioning on created_at)
+-- Feeds read the most recent months, so each month gets its own heap and local indexes.
+-- Old months are detached into the feedback_archive schema, which keeps the hot indexes bounded.
+
+-- Move the existing heap out of the way
+ALTER TABLE feedback RENAME TO feedback_unpartitioned;
+ALTER INDEX feedback_pkey RENAME TO feedback_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_feedback_author_id;
+DROP INDEX IF EXISTS idx_feedback_recipient_id;
+DROP INDEX IF EXISTS idx_feedback_created_at;
+
+-- The partition key must be part of the primary key; ids are UUIDv7 and stay unique on their own
+CREATE TABLE feedback (
+    id UUID NOT NULL DEFAULT uuid_generate_v7(),
+    author_id UUID NOT NULL,
+    recipient_id UUID NOT NULL,
+    text TEXT NOT NULL,
+    ai_polished BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT feedback_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_feedback_author FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_feedback_recipient FOREIGN KEY (recipient_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_feedback_text_length CHECK (LENGTH(text) >= 1),
+    CONSTRAINT chk_feedback_not_self CHECK (author_id != recipient_id)
+) PARTITION BY RANGE (created_at);
+
+-- Partitioned indexes: every partition gets a local copy. The created_at suffix lets
+-- ORDER BY created_at DESC read partitions in order without a sort.
+CREATE INDEX idx_feedback_author_id ON feedback(author_id, created_at DESC);
+CREATE INDEX idx_feedback_recipient_id ON feedback(recipient_id, created_at DESC);
+CREATE INDEX idx_feedback_created_at ON feedback(created_at DESC);
+
+CREATE SCHEMA IF NOT EXISTS feedback_archive;
+
+-- Create the monthly partitions covering [from_month, to_month]; existing ones are skipped
+CREATE OR REPLACE FUNCTION feedback_create_partitions(from_month DATE, to_month DATE) RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= to_month LOOP
+        partition_name := 'feedback_' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF feedback FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month_start, (month_start + INTERVAL '1 month')::date);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END
+$$ LANGUAGE plpgsql;
+
+-- Detach every partition that ends on or before the cutoff and move it to feedback_archive
+CREATE OR REPLACE FUNCTION feedback_archive_partitions(cutoff DATE) RETURNS SETOF TEXT AS $$
+DECLARE
+    expired RECORD;
+BEGIN
+    FOR expired IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'feedback'::regclass
+          AND c.relname ~ '^feedback_[0-9]{4}_[0-9]{2}$'
+          AND (to_date(substring(c.relname FROM 10), 'YYYY_MM') + INTERVAL '1 month')::date <= cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE feedback DETACH PARTITION %I', expired.relname);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA feedback_archive', expired.relname);
+        RETURN NEXT expired.relname;
+    END LOOP;
+END
+$$ LANGUAGE plpgsql;
+
+-- Partitions for existing rows plus the next three months, then copy the data over
+SELECT feedback_create_partitions(
+    LEAST(COALESCE((SELECT MIN(created_at)::date FROM feedback_unpartitioned), CURRENT_DATE), CURRENT_DATE),
+    GREATEST(COALESCE((SELECT MAX(created_at)::date FROM feedback_unpartitioned), CURRENT_DATE),
+             (CURRENT_DATE + INTERVAL '3 months')::date)
+);
+
+INSERT INTO feedback (id, author_id, recipient_id, text, ai_polished, created_at)
+SELECT id, author_id, recipient_id, text, ai_polished, created_at
+FROM feedback_unpartitioned;
+
+DROP TABLE feedback_unpartitioned;
@@ -0,0 +1,23 @@
+-- Cold storage for closed absences. Rows are moved here (not copied) by the archival job,
+-- so the live table and its indexes only hold pending, approved and recently closed requests.
+create table if not exists employee_absences_archive (
+    id uuid primary key,
+    user_id uuid not null references users(id) on delete cascade,
+    manager_id uuid references users(id) on delete set null,
+    start_date date not null,
+    end_date date not null,
+    type varchar(32) not null,
+    status varchar(32) not null,
+    note text,
+    created_at timestamp not null,
+    updated_at timestamp not null,
+    archived_at timestamp not null default now()
+);
+
+create index if not exists idx_employee_absences_archive_user
+    on employee_absences_archive(user_id, start_date desc);
+
+-- Lets the archival batches find closed rows without scanning live ones
+create index if not exists idx_employee_absences_closed
+    on employee_absences(updated_at)
+    where status in ('COMPLETED', 'REJECTED');
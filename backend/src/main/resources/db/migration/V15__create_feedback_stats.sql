@@ -0,0 +1,22 @@
+-- V15: Per-user feedback counters
+-- One row per user, upserted in the same transaction as each feedback insert, so directory pages
+-- read given/received counts with a primary key lookup instead of counting feedback rows.
+-- Counts are lifetime totals and include feedback in archived partitions.
+CREATE TABLE IF NOT EXISTS feedback_stats (
+    user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    given_count BIGINT NOT NULL DEFAULT 0,
+    received_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_feedback_stats_non_negative CHECK (given_count >= 0 AND received_count >= 0)
+);
+
+INSERT INTO feedback_stats (user_id, given_count, received_count)
+SELECT user_id, SUM(given), SUM(received)
+FROM (
+    SELECT author_id AS user_id, COUNT(*) AS given, 0 AS received FROM feedback GROUP BY author_id
+    UNION ALL
+    SELECT recipient_id AS user_id, 0 AS given, COUNT(*) AS received FROM feedback GROUP BY recipient_id
+) counts
+GROUP BY user_id
+ON CONFLICT (user_id) DO NOTHING;
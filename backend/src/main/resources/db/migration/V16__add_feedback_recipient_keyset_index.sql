@@ -0,0 +1,6 @@
+-- V16: Keyset index for the manager team-feedback feed
+-- Matches ORDER BY created_at DESC, id DESC per recipient so each page is a bounded index range scan.
+-- Supersedes idx_feedback_recipient_id (recipient_id, created_at DESC), which is a prefix of it.
+-- Created on the partitioned parent, so every existing and future monthly partition gets it.
+CREATE INDEX IF NOT EXISTS idx_feedback_recipient_keyset ON feedback(recipient_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_feedback_recipient_id;
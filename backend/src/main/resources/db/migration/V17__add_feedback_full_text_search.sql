@@ -0,0 +1,8 @@
+-- V17: Full-text search over feedback text
+-- Stored generated tsvector, so it is always in sync with text and never recomputed at query time.
+-- Added on the partitioned parent: every existing and future monthly partition gets the column and index.
+ALTER TABLE feedback
+    ADD COLUMN IF NOT EXISTS text_search TSVECTOR
+        GENERATED ALWAYS AS (to_tsvector('english', text)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_feedback_text_search ON feedback USING GIN (text_search);
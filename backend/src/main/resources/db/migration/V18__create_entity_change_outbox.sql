@@ -0,0 +1,16 @@
+-- V18: Transactional outbox for cross-node cache invalidation
+-- Rows are written in the same transaction as the change they describe, so they become visible
+-- exactly when it commits; NOTIFY (also transactional) wakes listeners, and the table lets a node
+-- that missed a notification catch up. created_at uses clock_timestamp() rather than the
+-- transaction start time so listener lag measures insert-to-eviction.
+CREATE TABLE IF NOT EXISTS entity_change_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT clock_timestamp(),
+
+    CONSTRAINT chk_entity_change_outbox_type CHECK (entity_type IN ('USER', 'PROFILE', 'ABSENCE'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_entity_change_outbox_created ON entity_change_outbox(created_at, id);
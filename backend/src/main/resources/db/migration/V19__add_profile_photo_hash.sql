@@ -0,0 +1,5 @@
+-- V19: Uploaded profile photos
+-- Content hash of the photo in the content-addressed photo store; thumbnail URLs are derived from it.
+-- NULL when there is no photo or profile_photo_url points at an externally hosted image.
+ALTER TABLE employee_profiles
+    ADD COLUMN IF NOT EXISTS profile_photo_hash VARCHAR(64);
@@ -0,0 +1,53 @@
+-- V20: Normalized skills and their inverted index
+-- employee_profiles.skills stays the free-text source of truth as entered; these tables are derived
+-- from it on every profile update. The primary key of profile_skills (skill_id, user_id) is the
+-- posting list of each skill, so "who knows X" is an index range scan instead of splitting every profile.
+CREATE TABLE IF NOT EXISTS skills (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    name VARCHAR(100) NOT NULL,
+    -- Lower-cased with runs of whitespace collapsed; the first spelling seen is kept as name
+    normalized_name VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uq_skills_normalized_name UNIQUE (normalized_name)
+);
+
+CREATE TABLE IF NOT EXISTS profile_skills (
+    skill_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+
+    CONSTRAINT pk_profile_skills PRIMARY KEY (skill_id, user_id),
+    CONSTRAINT fk_profile_skills_skill FOREIGN KEY (skill_id) REFERENCES skills(id) ON DELETE CASCADE,
+    CONSTRAINT fk_profile_skills_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Forward index: the skills of one profile, used when re-indexing it
+CREATE INDEX IF NOT EXISTS idx_profile_skills_user ON profile_skills(user_id);
+
+-- Backfill with the same parsing as SkillNames: comma, semicolon or newline separated,
+-- optionally wrapped as a JSON array of strings
+WITH tokens AS (
+    SELECT p.user_id,
+           regexp_replace(btrim(t, E' \t\r"'), '\s+', ' ', 'g') AS name
+    FROM employee_profiles p
+    CROSS JOIN LATERAL regexp_split_to_table(btrim(p.skills, E' \t\r\n[]'), E'[,;\n]') AS t
+    WHERE p.skills IS NOT NULL
+),
+valid AS (
+    SELECT user_id, name, lower(name) AS normalized_name
+    FROM tokens
+    WHERE name <> '' AND length(name) <= 100
+)
+INSERT INTO skills (name, normalized_name)
+SELECT DISTINCT ON (normalized_name) name, normalized_name
+FROM valid
+ORDER BY normalized_name, name
+ON CONFLICT (normalized_name) DO NOTHING;
+
+INSERT INTO profile_skills (skill_id, user_id)
+SELECT DISTINCT s.id, p.user_id
+FROM employee_profiles p
+CROSS JOIN LATERAL regexp_split_to_table(btrim(p.skills, E' \t\r\n[]'), E'[,;\n]') AS t
+JOIN skills s ON s.normalized_name = lower(regexp_replace(btrim(t, E' \t\r"'), '\s+', ' ', 'g'))
+WHERE p.skills IS NOT NULL
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,25 @@
+-- V21: Field-level audit trail for profile and absence changes
+-- Rows are written asynchronously in batches after the audited transaction commits. ids are
+-- assigned when the change is recorded, so re-writing a batch replayed from the on-disk journal
+-- is a no-op (ON CONFLICT DO NOTHING) rather than a duplicate.
+CREATE TABLE IF NOT EXISTS audit_log (
+    id UUID PRIMARY KEY,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id UUID NOT NULL,
+    -- Employee the change is about
+    subject_user_id UUID NOT NULL,
+    -- Who made the change
+    actor_id UUID NOT NULL,
+    field VARCHAR(64) NOT NULL,
+    -- Both NULL for sensitive fields: only the fact that they changed is kept
+    old_value TEXT,
+    new_value TEXT,
+    sensitive BOOLEAN NOT NULL DEFAULT FALSE,
+    changed_at TIMESTAMP NOT NULL,
+    written_at TIMESTAMP NOT NULL DEFAULT clock_timestamp(),
+
+    CONSTRAINT chk_audit_log_entity_type CHECK (entity_type IN ('USER', 'PROFILE', 'ABSENCE'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_audit_log_subject ON audit_log(subject_user_id, changed_at DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_log_entity ON audit_log(entity_id, changed_at DESC);
@@ -0,0 +1,4 @@
+-- V22: Keyset index for the profile change feed
+-- Matches ORDER BY updated_at, id so each page of profileChanges is a bounded index range scan
+-- starting just after the consumer's cursor, however many profiles there are.
+CREATE INDEX IF NOT EXISTS idx_employee_profiles_updated_keyset ON employee_profiles(updated_at, id);
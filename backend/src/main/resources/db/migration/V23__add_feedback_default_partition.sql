@@ -0,0 +1,44 @@
+-- V23: Catch-all partition for feedback
+-- Without it an insert for a month with no partition fails, so a stalled maintenance job would
+-- break feedback creation once months-ahead runs out. Rows landing here are moved into their
+-- monthly partition by the next feedback_create_partitions call; the maintenance job alerts on them.
+CREATE TABLE IF NOT EXISTS feedback_default PARTITION OF feedback DEFAULT;
+
+-- A new range partition cannot be created while the default holds rows for its range, so those
+-- rows are moved out first: detach the default, create the month, route the rows through the
+-- parent into it and re-attach. Months without stray rows take the plain CREATE path.
+CREATE OR REPLACE FUNCTION feedback_create_partitions(from_month DATE, to_month DATE) RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    month_end DATE;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= to_month LOOP
+        partition_name := 'feedback_' || to_char(month_start, 'YYYY_MM');
+        month_end := (month_start + INTERVAL '1 month')::date;
+        IF to_regclass(partition_name) IS NULL THEN
+            IF EXISTS (SELECT 1 FROM feedback_default
+                       WHERE created_at >= month_start AND created_at < month_end) THEN
+                ALTER TABLE feedback DETACH PARTITION feedback_default;
+                EXECUTE format('CREATE TABLE %I PARTITION OF feedback FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, month_end);
+                WITH moved AS (
+                    DELETE FROM feedback_default
+                    WHERE created_at >= month_start AND created_at < month_end
+                    RETURNING id, author_id, recipient_id, text, ai_polished, created_at
+                )
+                INSERT INTO feedback (id, author_id, recipient_id, text, ai_polished, created_at)
+                SELECT id, author_id, recipient_id, text, ai_polished, created_at FROM moved;
+                ALTER TABLE feedback ATTACH PARTITION feedback_default DEFAULT;
+            ELSE
+                EXECUTE format('CREATE TABLE %I PARTITION OF feedback FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, month_end);
+            END IF;
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END
+$$ LANGUAGE plpgsql;
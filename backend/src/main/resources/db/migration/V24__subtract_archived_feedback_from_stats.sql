@@ -0,0 +1,68 @@
+-- V24: Keep feedback_stats in line with attached feedback
+-- Archiving a month detaches its partition, so its feedback no longer shows up anywhere in the
+-- application. The counters now drop it at the same moment: after the detach, the archived rows
+-- are counted per user and subtracted in the same transaction. Counters therefore cover the
+-- retention window (app.feedback.partitions.retention-months), not the lifetime of the user.
+CREATE OR REPLACE FUNCTION feedback_archive_partitions(cutoff DATE) RETURNS SETOF TEXT AS $$
+DECLARE
+    expired RECORD;
+BEGIN
+    FOR expired IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'feedback'::regclass
+          AND c.relname ~ '^feedback_[0-9]{4}_[0-9]{2}$'
+          AND (to_date(substring(c.relname FROM 10), 'YYYY_MM') + INTERVAL '1 month')::date <= cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE feedback DETACH PARTITION %I', expired.relname);
+        -- Lock counter rows in user_id order, like recordFeedback, so concurrent inserts cannot deadlock
+        EXECUTE format($sql$
+            WITH archived AS (
+                SELECT user_id, SUM(given) AS given, SUM(received) AS received
+                FROM (
+                    SELECT author_id AS user_id, COUNT(*) AS given, 0 AS received FROM %1$I GROUP BY author_id
+                    UNION ALL
+                    SELECT recipient_id AS user_id, 0 AS given, COUNT(*) AS received FROM %1$I GROUP BY recipient_id
+                ) counts
+                GROUP BY user_id
+            ),
+            locked AS (
+                SELECT s.user_id FROM feedback_stats s
+                WHERE s.user_id IN (SELECT user_id FROM archived)
+                ORDER BY s.user_id
+                FOR UPDATE
+            )
+            UPDATE feedback_stats s
+            SET given_count = GREATEST(0, s.given_count - a.given),
+                received_count = GREATEST(0, s.received_count - a.received),
+                updated_at = now()
+            FROM archived a
+            WHERE s.user_id = a.user_id
+              AND s.user_id IN (SELECT user_id FROM locked)
+            $sql$, expired.relname);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA feedback_archive', expired.relname);
+        RETURN NEXT expired.relname;
+    END LOOP;
+END
+$$ LANGUAGE plpgsql;
+
+-- Months archived before this migration are still counted; recount from attached feedback once
+WITH counts AS (
+    SELECT user_id, SUM(given) AS given, SUM(received) AS received
+    FROM (
+        SELECT author_id AS user_id, COUNT(*) AS given, 0 AS received FROM feedback GROUP BY author_id
+        UNION ALL
+        SELECT recipient_id AS user_id, 0 AS given, COUNT(*) AS received FROM feedback GROUP BY recipient_id
+    ) per_role
+    GROUP BY user_id
+)
+UPDATE feedback_stats s
+SET given_count = COALESCE(c.given, 0),
+    received_count = COALESCE(c.received, 0),
+    updated_at = now()
+FROM feedback_stats current_stats
+LEFT JOIN counts c ON c.user_id = current_stats.user_id
+WHERE s.user_id = current_stats.user_id
+  AND (s.given_count, s.received_count) IS DISTINCT FROM (COALESCE(c.given, 0), COALESCE(c.received, 0));
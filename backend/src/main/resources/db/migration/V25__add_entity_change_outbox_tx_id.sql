@@ -0,0 +1,9 @@
+-- V25: Record the writing transaction of every outbox row
+-- ids and created_at are assigned at insert time, so a long transaction can commit a row behind
+-- ones a listener already read. Every transaction older than the xmin of a snapshot has ended,
+-- so rows whose tx_id is below that horizon are final; listeners read from their last horizon
+-- instead of re-reading a fixed time window.
+ALTER TABLE entity_change_outbox
+    ADD COLUMN IF NOT EXISTS tx_id xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+CREATE INDEX IF NOT EXISTS idx_entity_change_outbox_tx ON entity_change_outbox(tx_id, id);
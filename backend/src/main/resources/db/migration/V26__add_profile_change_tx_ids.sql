@@ -0,0 +1,40 @@
+-- V26: Order the profile change feed by writing transaction
+-- updated_at is set before commit, so a slow transaction can commit a timestamp below a cursor a
+-- consumer has already passed. Like the outbox (V25), every profile version records the id of the
+-- transaction that wrote it, and the feed only reads below the xmin of a snapshot: every
+-- transaction older than that has ended, so those rows are final. The trigger only sets a column
+-- of the row being written, so it costs no extra write and takes no lock.
+ALTER TABLE employee_profiles
+    ADD COLUMN IF NOT EXISTS tx_id xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+CREATE OR REPLACE FUNCTION stamp_employee_profile_tx_id() RETURNS trigger AS $$
+BEGIN
+    NEW.tx_id := pg_current_xact_id();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_employee_profiles_tx_id
+    BEFORE UPDATE ON employee_profiles
+    FOR EACH ROW
+    EXECUTE FUNCTION stamp_employee_profile_tx_id();
+
+CREATE INDEX IF NOT EXISTS idx_employee_profiles_tx_keyset ON employee_profiles(tx_id, id);
+
+-- The transaction that wrote each audit row. Audit rows are written after the audited change
+-- commits, so this is always later than the change's own transaction: the feed reports the
+-- fields written since the horizon it last read up to and never misses one.
+ALTER TABLE audit_log
+    ADD COLUMN IF NOT EXISTS tx_id xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+-- Progress of each instance's audit writer, reported every few seconds: the oldest change time
+-- it has recorded but not yet written (in memory or in its journal), and the xmin at the time of
+-- the report, which covers transactions that had not recorded their changes yet. The feed holds
+-- back profiles updated since the former and transactions from the latter on, so it never serves
+-- a profile whose audit rows are still on their way.
+CREATE TABLE IF NOT EXISTS audit_writer_progress (
+    instance_id UUID PRIMARY KEY,
+    pending_since TIMESTAMP NOT NULL,
+    horizon_tx_id xid8 NOT NULL,
+    reported_at TIMESTAMP NOT NULL DEFAULT clock_timestamp()
+);
@@ -0,0 +1,9 @@
+-- V27: Carry GraphQL subscription events on the outbox
+-- Subscribers may be connected to any node, so absence and feedback events travel the same bus
+-- as cache invalidations: the DTO the subscription delivers goes into payload (NULL for plain
+-- invalidations), and every node's listener hands it to its local subscribers.
+ALTER TABLE entity_change_outbox ADD COLUMN IF NOT EXISTS payload jsonb;
+
+ALTER TABLE entity_change_outbox DROP CONSTRAINT IF EXISTS chk_entity_change_outbox_type;
+ALTER TABLE entity_change_outbox ADD CONSTRAINT chk_entity_change_outbox_type
+    CHECK (entity_type IN ('USER', 'PROFILE', 'ABSENCE', 'FEEDBACK'));
@@ -0,0 +1,79 @@
+-- Closure table for the reporting hierarchy (users.manager_id).
+-- One row per (ancestor, descendant) pair including the depth-0 self row, so
+-- "everyone under X" is a single index range scan on the primary key.
+create table if not exists user_hierarchy (
+    ancestor_id uuid not null references users(id) on delete cascade,
+    descendant_id uuid not null references users(id) on delete cascade,
+    depth integer not null check (depth >= 0),
+    primary key (ancestor_id, descendant_id)
+);
+
+create index if not exists idx_user_hierarchy_descendant on user_hierarchy(descendant_id, depth);
+
+-- Backfill from the existing manager links
+insert into user_hierarchy (ancestor_id, descendant_id, depth)
+with recursive tree (ancestor_id, descendant_id, depth) as (
+    select id, id, 0 from users
+    union all
+    select t.ancestor_id, u.id, t.depth + 1
+    from tree t
+    join users u on u.manager_id = t.descendant_id
+)
+select ancestor_id, descendant_id, depth from tree;
+
+-- New user: self row plus one row per ancestor of the manager
+create or replace function user_hierarchy_on_insert() returns trigger as $$
+begin
+    insert into user_hierarchy (ancestor_id, descendant_id, depth)
+    values (new.id, new.id, 0);
+
+    if new.manager_id is not null then
+        insert into user_hierarchy (ancestor_id, descendant_id, depth)
+        select h.ancestor_id, new.id, h.depth + 1
+        from user_hierarchy h
+        where h.descendant_id = new.manager_id;
+    end if;
+    return new;
+end;
+$$ language plpgsql;
+
+-- Manager change: detach the moved subtree from its old ancestors and attach it under the new manager
+create or replace function user_hierarchy_on_manager_change() returns trigger as $$
+begin
+    if new.manager_id is not null and exists (
+        select 1 from user_hierarchy
+        where ancestor_id = new.id and descendant_id = new.manager_id
+    ) then
+        raise exception 'Manager change would create a reporting cycle for user %', new.id;
+    end if;
+
+    delete from user_hierarchy h
+    using user_hierarchy subtree
+    where subtree.ancestor_id = new.id
+      and h.descendant_id = subtree.descendant_id
+      and h.ancestor_id in (
+          select ancestor_id from user_hierarchy
+          where descendant_id = new.id and ancestor_id <> new.id
+      );
+
+    if new.manager_id is not null then
+        insert into user_hierarchy (ancestor_id, descendant_id, depth)
+        select above.ancestor_id, subtree.descendant_id, above.depth + subtree.depth + 1
+        from user_hierarchy above
+        cross join user_hierarchy subtree
+        where above.descendant_id = new.manager_id
+          and subtree.ancestor_id = new.id;
+    end if;
+    return new;
+end;
+$$ language plpgsql;
+
+create trigger trg_user_hierarchy_insert
+    after insert on users
+    for each row execute function user_hierarchy_on_insert();
+
+create trigger trg_user_hierarchy_manager_change
+    after update of manager_id on users
+    for each row
+    when (old.manager_id is distinct from new.manager_id)
+    execute function user_hierarchy_on_manager_change();
@@ -0,0 +1,6 @@
+-- Inclusive date range of each absence, derived from start/end so it can never drift.
+-- The GiST index turns "who is out between X and Y" into an index range scan on &&.
+alter table employee_absences
+    add column period daterange generated always as (daterange(start_date, end_date, '[]')) stored;
+
+create index if not exists idx_employee_absences_period on employee_absences using gist (period);
@@ -90,7 +90,7 @@ class AbsenceControllerIntegrationTest {
     void submitAndApproveFlow() throws Exception {
         CreateAbsenceRequest request = new CreateAbsenceRequest(
                 LocalDate.now(),
-                LocalDate.now().plusDays(2),
+                LocalDate.now().plusDays(6),
                 AbsenceType.VACATION,
                 "Family trip"
         );
@@ -118,7 +118,7 @@ class AbsenceControllerIntegrationTest {
     void nonManagerCannotApprove() throws Exception {
         CreateAbsenceRequest request = new CreateAbsenceRequest(
                 LocalDate.now(),
-                LocalDate.now().plusDays(1),
+                LocalDate.now().plusDays(6),
                 AbsenceType.SICK,
                 "Flu"
         );
@@ -144,7 +144,7 @@ class AbsenceControllerIntegrationTest {
     void managerCanRejectWithNote() throws Exception {
         CreateAbsenceRequest request = new CreateAbsenceRequest(
                 LocalDate.now(),
-                LocalDate.now().plusDays(1),
+                LocalDate.now().plusDays(6),
                 AbsenceType.SICK,
                 "Flu"
         );
@@ -37,6 +37,7 @@ import java.time.LocalDate;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -241,7 +242,7 @@ class FeedbackControllerIntegrationTest {
     @Test
     @DisplayName("Should polish feedback text using AI service")
     void shouldPolishFeedback() throws Exception {
-        when(feedbackPolishService.polish("Great teamwork from the whole team!"))
+        when(feedbackPolishService.polish(employee1.getId(), "Great teamwork from the whole team!"))
                 .thenReturn(new PolishFeedbackResponse("Great teamwork from the whole team!", "Great teamwork from the whole team! Keep it up."));
 
         PolishFeedbackRequest request = new PolishFeedbackRequest();
@@ -269,7 +270,7 @@ class FeedbackControllerIntegrationTest {
     @Test
     @DisplayName("Should return 502 when AI service fails")
     void shouldHandleAiServiceFailure() throws Exception {
-        when(feedbackPolishService.polish(anyString()))
+        when(feedbackPolishService.polish(any(), anyString()))
                 .thenThrow(new AiServiceException("AI unavailable"));
 
         mockMvc.perform(post("/api/feedback/polish")
@@ -158,8 +158,40 @@ class ProfileControllerIntegrationTest {
         return response.getToken();
     }
 
-    // NOTE: GET endpoint tests removed - profile queries now use GraphQL
-    // See ProfileGraphQLControllerIntegrationTest for GraphQL query tests
+    @Test
+    @DisplayName("Should get coworker profile without sensitive fields")
+    void shouldGetCoworkerProfileWithoutSensitiveFields() throws Exception {
+        mockMvc.perform(get("/api/profiles/{userId}", employee2.getId())
+                        .header("Authorization", "Bearer " + employee1Token))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.jobTitle").value("Software Engineer"))
+                .andExpect(jsonPath("$.personalEmail").doesNotExist())
+                .andExpect(jsonPath("$.metadata.relationship").value("OTHER"));
+    }
+
+    @Test
+    @DisplayName("Should serve the updated profile after a PATCH")
+    void shouldServeUpdatedProfileAfterPatch() throws Exception {
+        mockMvc.perform(get("/api/profiles/{userId}", employee1.getId())
+                        .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobTitle").value("Senior Software Engineer"))
+                .andExpect(jsonPath("$.salary").value(100000.00));
+
+        mockMvc.perform(patch("/api/profiles/{userId}", employee1.getId())
+                        .header("Authorization", "Bearer " + managerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                ProfileUpdateDTO.builder().jobTitle("Staff Engineer").build())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/profiles/{userId}", employee1.getId())
+                        .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobTitle").value("Staff Engineer"))
+                .andExpect(jsonPath("$.metadata.relationship").value("MANAGER"));
+    }
 
     @Test
     @DisplayName("Should update own non-sensitive fields (SELF)")
@@ -91,8 +91,10 @@ class EmployeeProfileRepositoryTest {
         managerProfile = createProfile(manager, "Engineering", EmploymentStatus.ACTIVE);
         employee1Profile = createProfile(employee1, "Engineering", EmploymentStatus.ACTIVE);
         employee2Profile = createProfile(employee2, "Sales", EmploymentStatus.ON_LEAVE);
-
         entityManager.flush();
+        // The balance snapshot is only ever written in SQL, by the absence ledger
+        setAbsenceBalance(new BigDecimal("15.00"));
+
         entityManager.clear();
     }
 
@@ -118,12 +120,18 @@ class EmployeeProfileRepositoryTest {
                 .personalEmail(user.getEmail().replace("@test", ".personal@test"))
                 .personalPhone("+1-555-9999")
                 .dateOfBirth(LocalDate.of(1990, 1, 1))
-                .absenceBalanceDays(new BigDecimal("15.00"))
                 .salary(new BigDecimal("100000.00"))
                 .performanceRating("Exceeds Expectations")
                 .build());
     }
 
+    private void setAbsenceBalance(BigDecimal balance) {
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE employee_profiles SET absence_balance_days = :balance")
+                .setParameter("balance", balance)
+                .executeUpdate();
+    }
+
     @Test
     @DisplayName("Should save and retrieve employee profile")
     void shouldSaveAndRetrieveProfile() {
@@ -272,6 +280,26 @@ class EmployeeProfileRepositoryTest {
         assertThat(retrieved.getWorkLocationType()).isEqualTo(WorkLocationType.REMOTE);
     }
 
+    @Test
+    @DisplayName("Saving a profile loaded before an approval should keep the approval's balance")
+    void profileUpdateShouldNotOverwriteLedgerBalance() {
+        // Given - a PATCH loads the profile, then an approval debits the balance
+        EmployeeProfile stale = profileRepository.findByUserId(employee1.getId()).get();
+        assertThat(stale.getAbsenceBalanceDays()).isEqualByComparingTo("15.00");
+        setAbsenceBalance(new BigDecimal("12.50"));
+
+        // When - the PATCH saves its copy
+        stale.setBio("Patched bio");
+        profileRepository.save(stale);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        EmployeeProfile retrieved = profileRepository.findById(stale.getId()).get();
+        assertThat(retrieved.getBio()).isEqualTo("Patched bio");
+        assertThat(retrieved.getAbsenceBalanceDays()).isEqualByComparingTo("12.50");
+    }
+
     @Test
     @DisplayName("Should delete profile by ID")
     void shouldDeleteProfileById() {
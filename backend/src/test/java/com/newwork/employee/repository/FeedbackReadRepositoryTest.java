@@ -0,0 +1,236 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.dto.FeedbackDTO;
+import com.newwork.employee.entity.EmployeeProfile;
+import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.EmploymentStatus;
+import com.newwork.employee.entity.enums.Role;
+import com.newwork.employee.util.KeysetCursor;
+import com.newwork.employee.util.RankedKeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FeedbackReadRepository.class)
+@DisplayName("FeedbackReadRepository Tests")
+class FeedbackReadRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FeedbackReadRepository feedbackReadRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmployeeProfileRepository profileRepository;
+
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    private User manager;
+    private User report1;
+    private User report2;
+    private User otherManager;
+    private User otherReport;
+
+    @BeforeEach
+    void setUp() {
+        manager = createUser("FR-MGR-1", null, Role.MANAGER);
+        report1 = createUser("FR-EMP-1", manager, Role.EMPLOYEE);
+        report2 = createUser("FR-EMP-2", manager, Role.EMPLOYEE);
+        otherManager = createUser("FR-MGR-2", null, Role.MANAGER);
+        otherReport = createUser("FR-EMP-3", otherManager, Role.EMPLOYEE);
+        createProfile(report1, "Ada");
+        createProfile(otherManager, null);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User createUser(String employeeId, User managerUser, Role role) {
+        return userRepository.save(User.builder()
+                .employeeId(employeeId)
+                .email(employeeId.toLowerCase() + "@test.com")
+                .password("hashedPassword")
+                .role(role)
+                .manager(managerUser)
+                .build());
+    }
+
+    private void createProfile(User user, String preferredName) {
+        profileRepository.save(EmployeeProfile.builder()
+                .user(user)
+                .legalFirstName("First_" + user.getEmployeeId())
+                .legalLastName("Last_" + user.getEmployeeId())
+                .employmentStatus(EmploymentStatus.ACTIVE)
+                .hireDate(LocalDate.of(2020, 1, 1))
+                .preferredName(preferredName)
+                .build());
+    }
+
+    private UUID insertFeedback(UUID id, User author, User recipient, String text, LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO feedback (id, author_id, recipient_id, text, created_at)
+                        VALUES (:id, :authorId, :recipientId, :text, :createdAt)
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("authorId", author.getId())
+                        .addValue("recipientId", recipient.getId())
+                        .addValue("text", text)
+                        .addValue("createdAt", createdAt));
+        return id;
+    }
+
+    private static UUID id(long n) {
+        return new UUID(0, n);
+    }
+
+    private static KeysetCursor cursorOf(FeedbackDTO last) {
+        return new KeysetCursor(last.getCreatedAt().toLocalDateTime(), last.getId());
+    }
+
+    private List<UUID> searchIds(User viewer, String query) {
+        return feedbackReadRepository.search(viewer.getId(), query, null, 10).stream()
+                .map(hit -> hit.feedback().getId())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Team feed should only contain feedback about direct reports, newest first")
+    void teamFeedShouldContainDirectReportsOnly() {
+        UUID older = insertFeedback(id(1), otherManager, report1, "Solid design review", now.minusHours(2));
+        UUID newer = insertFeedback(id(2), report1, report2, "Thanks for pairing", now.minusHours(1));
+        insertFeedback(id(3), report1, manager, "Feedback about the manager", now.minusMinutes(30));
+        insertFeedback(id(4), report1, otherReport, "Feedback for another team", now.minusMinutes(20));
+
+        List<FeedbackDTO> page = feedbackReadRepository.findTeamPage(manager.getId(), null, 10);
+
+        assertThat(page).extracting(FeedbackDTO::getId).containsExactly(newer, older);
+        assertThat(page.get(1).getAuthorName()).isEqualTo("First_FR-MGR-2 Last_FR-MGR-2");
+        assertThat(page.get(1).getRecipientName()).isEqualTo("Ada");
+        assertThat(page.get(0).getRecipientName()).isEqualTo("Unknown User");
+    }
+
+    @Test
+    @DisplayName("Team feed should include every attached month, not just the latest year")
+    void teamFeedShouldIncludeOlderMonths() {
+        UUID old = insertFeedback(id(1), otherManager, report1, "Two years ago", now.minusMonths(24));
+        UUID recent = insertFeedback(id(2), otherManager, report1, "Yesterday", now.minusDays(1));
+
+        List<FeedbackDTO> page = feedbackReadRepository.findTeamPage(manager.getId(), null, 10);
+
+        assertThat(page).extracting(FeedbackDTO::getId).containsExactly(recent, old);
+    }
+
+    @Test
+    @DisplayName("Team feed pages should break created_at ties by id without skipping or repeating rows")
+    void teamFeedPagesShouldHandleTiesOnCreatedAt() {
+        LocalDateTime tie = now.minusHours(1);
+        insertFeedback(id(10), otherManager, report1, "Tie A", tie);
+        insertFeedback(id(11), otherManager, report2, "Tie B", tie);
+        insertFeedback(id(12), otherManager, report1, "Tie C", tie);
+        insertFeedback(id(5), otherManager, report2, "Oldest", tie.minusMinutes(1));
+
+        List<UUID> seen = new ArrayList<>();
+        KeysetCursor after = null;
+        List<FeedbackDTO> page;
+        do {
+            page = feedbackReadRepository.findTeamPage(manager.getId(), after, 2);
+            page.forEach(feedback -> seen.add(feedback.getId()));
+            after = page.isEmpty() ? null : cursorOf(page.get(page.size() - 1));
+        } while (page.size() == 2);
+
+        assertThat(seen).containsExactly(id(12), id(11), id(10), id(5));
+    }
+
+    @Test
+    @DisplayName("Team feed should return an empty page after the last row")
+    void teamFeedShouldReturnEmptyPageAfterLastRow() {
+        UUID only = insertFeedback(id(1), otherManager, report1, "Only feedback", now.minusHours(1));
+
+        List<FeedbackDTO> page = feedbackReadRepository.findTeamPage(manager.getId(),
+                new KeysetCursor(now.minusHours(1), only), 10);
+
+        assertThat(page).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Search should only return feedback the viewer is author, recipient or recipient's manager of")
+    void searchShouldApplyVisibility() {
+        UUID aboutReport = insertFeedback(id(1), otherManager, report1, "Great database migration work", now.minusHours(3));
+        UUID byManager = insertFeedback(id(2), manager, otherReport, "Great database tuning", now.minusHours(2));
+        insertFeedback(id(3), otherManager, otherReport, "Great database backups", now.minusHours(1));
+
+        assertThat(searchIds(manager, "database")).containsExactlyInAnyOrder(aboutReport, byManager);
+        assertThat(searchIds(report1, "database")).containsExactly(aboutReport);
+        assertThat(searchIds(report2, "database")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Search should support web-search syntax and stemming")
+    void searchShouldSupportWebSearchSyntax() {
+        UUID phrase = insertFeedback(id(1), otherManager, report1, "Led the release planning calmly", now.minusHours(3));
+        UUID reversed = insertFeedback(id(2), otherManager, report1, "Planning the release was chaotic", now.minusHours(2));
+        UUID mentoring = insertFeedback(id(3), otherManager, report2, "Mentored two new hires", now.minusHours(1));
+
+        assertThat(searchIds(manager, "\"release planning\"")).containsExactly(phrase);
+        assertThat(searchIds(manager, "release -chaotic")).containsExactly(phrase);
+        assertThat(searchIds(manager, "chaotic or mentoring")).containsExactlyInAnyOrder(reversed, mentoring);
+        assertThat(searchIds(manager, "the")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Search should rank better matches first and page through equal ranks by recency")
+    void searchPagesShouldHandleEqualRanks() {
+        UUID best = insertFeedback(id(1), otherManager, report1, "Testing, testing and more testing", now.minusHours(5));
+        insertFeedback(id(2), otherManager, report1, "Improved testing", now.minusHours(4));
+        insertFeedback(id(3), otherManager, report2, "Improved testing", now.minusHours(3));
+        insertFeedback(id(4), otherManager, report2, "Improved testing", now.minusHours(3));
+
+        List<UUID> seen = new ArrayList<>();
+        RankedKeysetCursor after = null;
+        List<FeedbackReadRepository.SearchHit> page;
+        do {
+            page = feedbackReadRepository.search(manager.getId(), "testing", after, 2);
+            page.forEach(hit -> seen.add(hit.feedback().getId()));
+            if (!page.isEmpty()) {
+                FeedbackReadRepository.SearchHit last = page.get(page.size() - 1);
+                after = new RankedKeysetCursor(last.rank(), cursorOf(last.feedback()));
+            }
+        } while (page.size() == 2);
+
+        assertThat(seen).containsExactly(best, id(4), id(3), id(2));
+    }
+}
@@ -0,0 +1,286 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.entity.EmployeeProfile;
+import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.EmploymentStatus;
+import com.newwork.employee.entity.enums.Role;
+import com.newwork.employee.util.ProfileChangeCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProfileChangeRepository.class)
+@DisplayName("ProfileChangeRepository Tests")
+class ProfileChangeRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProfileChangeRepository profileChangeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmployeeProfileRepository profileRepository;
+
+    // Later than every transaction that seeded the demo profiles, so test rows sit at the end of the feed
+    private final long base = 1L << 40;
+    private final long horizon = base + 1000;
+    // Just before the first test row
+    private final ProfileChangeCursor start = new ProfileChangeCursor(base - 1, new UUID(0, 0), null);
+
+    private User manager;
+    private EmployeeProfile first;
+    private EmployeeProfile second;
+    private EmployeeProfile third;
+
+    @BeforeEach
+    void setUp() {
+        manager = createUser("PC-MGR-1", null, Role.MANAGER);
+        first = createProfile(createUser("PC-EMP-1", manager, Role.EMPLOYEE));
+        second = createProfile(createUser("PC-EMP-2", manager, Role.EMPLOYEE));
+        third = createProfile(createUser("PC-EMP-3", manager, Role.EMPLOYEE));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Every row of a test shares its transaction, so give them distinct ones by hand;
+        // disabling the trigger is rolled back with the test
+        jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE employee_profiles DISABLE TRIGGER trg_employee_profiles_tx_id");
+        setTxId(first, base);
+        setTxId(second, base + 1);
+        setTxId(third, base + 2);
+    }
+
+    private User createUser(String employeeId, User managerUser, Role role) {
+        return userRepository.save(User.builder()
+                .employeeId(employeeId)
+                .email(employeeId.toLowerCase() + "@test.com")
+                .password("hashedPassword")
+                .role(role)
+                .manager(managerUser)
+                .build());
+    }
+
+    private EmployeeProfile createProfile(User user) {
+        return profileRepository.save(EmployeeProfile.builder()
+                .user(user)
+                .legalFirstName("First_" + user.getEmployeeId())
+                .legalLastName("Last_" + user.getEmployeeId())
+                .employmentStatus(EmploymentStatus.ACTIVE)
+                .hireDate(LocalDate.of(2020, 1, 1))
+                .build());
+    }
+
+    private void setTxId(EmployeeProfile profile, long txId) {
+        jdbcTemplate.update("UPDATE employee_profiles SET tx_id = CAST(CAST(:txId AS text) AS xid8) WHERE id = :id",
+                new MapSqlParameterSource()
+                        .addValue("txId", txId)
+                        .addValue("id", profile.getId()));
+    }
+
+    private void setUpdatedAt(EmployeeProfile profile, LocalDateTime updatedAt) {
+        jdbcTemplate.update("UPDATE employee_profiles SET updated_at = :updatedAt WHERE id = :id",
+                new MapSqlParameterSource()
+                        .addValue("updatedAt", updatedAt)
+                        .addValue("id", profile.getId()));
+    }
+
+    private void reportProgress(LocalDateTime pendingSince, long horizonTxId, LocalDateTime reportedAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO audit_writer_progress (instance_id, pending_since, horizon_tx_id, reported_at)
+                        VALUES (:instanceId, :pendingSince, CAST(CAST(:horizonTxId AS text) AS xid8), :reportedAt)
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("instanceId", UUID.randomUUID())
+                        .addValue("pendingSince", pendingSince)
+                        .addValue("horizonTxId", horizonTxId)
+                        .addValue("reportedAt", reportedAt));
+    }
+
+    private LocalDateTime databaseNow() {
+        return jdbcTemplate.getJdbcTemplate().queryForObject("SELECT CAST(clock_timestamp() AS timestamp)", LocalDateTime.class);
+    }
+
+    private void insertAudit(String entityType, EmployeeProfile profile, String field, boolean sensitive, long txId) {
+        jdbcTemplate.update("""
+                        INSERT INTO audit_log (id, entity_type, entity_id, subject_user_id, actor_id, field,
+                                               old_value, new_value, sensitive, changed_at, tx_id)
+                        VALUES (:id, :entityType, :entityId, :subjectUserId, :actorId, :field,
+                                NULL, NULL, :sensitive, :changedAt, CAST(CAST(:txId AS text) AS xid8))
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("id", UUID.randomUUID())
+                        .addValue("entityType", entityType)
+                        .addValue("entityId", profile.getId())
+                        .addValue("subjectUserId", profile.getUser().getId())
+                        .addValue("actorId", manager.getId())
+                        .addValue("field", field)
+                        .addValue("sensitive", sensitive)
+                        .addValue("changedAt", LocalDateTime.of(2026, 3, 1, 9, 0))
+                        .addValue("txId", txId));
+    }
+
+    private static List<UUID> profileIds(List<ProfileChangeRepository.ProfileChangeRow> rows) {
+        return rows.stream().map(ProfileChangeRepository.ProfileChangeRow::profileId).toList();
+    }
+
+    @Test
+    @DisplayName("Initial sync should list profiles in transaction order without changed fields")
+    void initialSyncShouldListProfilesInTransactionOrder() {
+        insertAudit("PROFILE", first, "jobTitle", false, base + 3);
+
+        List<ProfileChangeRepository.ProfileChangeRow> rows =
+                profileChangeRepository.findPage(null, null, horizon, 500);
+
+        assertThat(profileIds(rows)).endsWith(first.getId(), second.getId(), third.getId());
+        ProfileChangeRepository.ProfileChangeRow last = rows.get(rows.size() - 1);
+        assertThat(last.txId()).isEqualTo(base + 2);
+        assertThat(last.userId()).isEqualTo(third.getUser().getId());
+        assertThat(last.managerId()).isEqualTo(manager.getId());
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.fields()).isEmpty();
+            assertThat(row.sensitiveFields()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Profiles written by transactions from the until bound on should be held back")
+    void shouldHoldBackProfilesFromUntil() {
+        List<ProfileChangeRepository.ProfileChangeRow> rows =
+                profileChangeRepository.findPage(start, null, base + 2, 10);
+
+        assertThat(profileIds(rows)).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("Pages should break tx_id ties by id without skipping or repeating profiles")
+    void pagesShouldHandleTiesOnTxId() {
+        setTxId(second, base);
+        setTxId(third, base);
+
+        List<UUID> seen = new ArrayList<>();
+        ProfileChangeCursor after = start;
+        List<ProfileChangeRepository.ProfileChangeRow> page;
+        do {
+            page = profileChangeRepository.findPage(after, null, horizon, 2);
+            page.forEach(row -> seen.add(row.profileId()));
+            if (!page.isEmpty()) {
+                ProfileChangeRepository.ProfileChangeRow last = page.get(page.size() - 1);
+                after = new ProfileChangeCursor(last.txId(), last.profileId(), null);
+            }
+        } while (page.size() == 2);
+
+        // PostgreSQL orders uuid bytes unsigned, like their hex strings; UUID#compareTo is signed
+        assertThat(seen).containsExactlyElementsOf(List.of(first.getId(), second.getId(), third.getId()).stream()
+                .sorted(Comparator.comparing(UUID::toString))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("A page after the last profile should be empty")
+    void shouldReturnEmptyPageAfterLastProfile() {
+        ProfileChangeCursor end = ProfileChangeCursor.caughtUp(base + 2, third.getId(), horizon);
+
+        assertThat(profileChangeRepository.findPage(end, end.baseline(), horizon, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Changed fields should come from profile audit rows written from the baseline on, split by sensitivity")
+    void shouldReportFieldsWrittenFromBaseline() {
+        long baseline = base - 10;
+        insertAudit("PROFILE", first, "jobTitle", false, baseline);
+        insertAudit("PROFILE", first, "jobTitle", false, base + 5);
+        insertAudit("PROFILE", first, "bio", false, base + 5);
+        insertAudit("PROFILE", first, "personalEmail", true, base + 5);
+        // Written before the baseline: already reported by the previous sync
+        insertAudit("PROFILE", first, "skills", false, baseline - 1);
+        // Not a profile change
+        insertAudit("ABSENCE", first, "status", false, base + 5);
+        insertAudit("PROFILE", second, "homeAddress", true, base + 6);
+
+        List<ProfileChangeRepository.ProfileChangeRow> rows =
+                profileChangeRepository.findPage(start, baseline, horizon, 10);
+
+        assertThat(profileIds(rows)).containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(rows.get(0).fields()).containsExactlyInAnyOrder("jobTitle", "bio");
+        assertThat(rows.get(0).sensitiveFields()).containsExactly("personalEmail");
+        assertThat(rows.get(1).fields()).isEmpty();
+        assertThat(rows.get(1).sensitiveFields()).containsExactly("homeAddress");
+        assertThat(rows.get(2).fields()).isEmpty();
+        assertThat(rows.get(2).sensitiveFields()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The feed horizon should stay at or below the current xmin")
+    void feedHorizonShouldStayBelowRunningTransactions() {
+        long ownTxId = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT CAST(CAST(pg_current_xact_id() AS text) AS bigint)", Long.class);
+
+        // This test's own transaction is still running
+        assertThat(profileChangeRepository.feedHorizon(Duration.ofSeconds(1), Duration.ofMinutes(5)))
+                .isLessThanOrEqualTo(ownTxId);
+    }
+
+    @Test
+    @DisplayName("The feed horizon should wait for live audit writers and ignore silent ones")
+    void feedHorizonShouldWaitForLiveAuditWriters() {
+        LocalDateTime now = databaseNow();
+        // Demo profiles are seeded long before any writer's pending change
+        LocalDateTime longAgo = now.minusYears(10);
+        jdbcTemplate.update("UPDATE employee_profiles SET updated_at = :longAgo WHERE updated_at > :longAgo",
+                new MapSqlParameterSource("longAgo", longAgo));
+
+        // Reported an xmin below everything else
+        reportProgress(now, 5, now);
+        assertThat(profileChangeRepository.feedHorizon(Duration.ofSeconds(1), Duration.ofMinutes(5))).isEqualTo(5);
+
+        // Silent for longer than the timeout: no longer waited for
+        jdbcTemplate.getJdbcTemplate().update("DELETE FROM audit_writer_progress");
+        reportProgress(now, 5, now.minusMinutes(10));
+        assertThat(profileChangeRepository.feedHorizon(Duration.ofSeconds(1), Duration.ofMinutes(5))).isGreaterThan(5);
+
+        // Still writing a change from a minute ago: profiles updated since then are held back,
+        // including one updated by an instance whose clock runs up to clockSkew behind
+        setTxId(first, 7);
+        setUpdatedAt(first, now.minusMinutes(1).minusSeconds(2));
+        setTxId(second, 9);
+        setUpdatedAt(second, now.minusMinutes(1));
+        reportProgress(now.minusMinutes(1), base, now);
+        assertThat(profileChangeRepository.feedHorizon(Duration.ofSeconds(1), Duration.ofMinutes(5))).isEqualTo(9);
+        assertThat(profileChangeRepository.feedHorizon(Duration.ofSeconds(3), Duration.ofMinutes(5))).isEqualTo(7);
+    }
+}
@@ -0,0 +1,192 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.entity.EmployeeProfile;
+import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.EmploymentStatus;
+import com.newwork.employee.entity.enums.Role;
+import com.newwork.employee.service.skill.SkillNames;
+import com.newwork.employee.util.SkillMatchCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SkillIndexRepository.class)
+@DisplayName("SkillIndexRepository Tests")
+class SkillIndexRepositoryTest {
+
+    // Names no seeded demo profile lists
+    private static final String COBOL = "cobol zx";
+    private static final String FORTRAN = "fortran zx";
+    private static final String ADA = "ada zx";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SkillIndexRepository skillIndexRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmployeeProfileRepository profileRepository;
+
+    private User viewer;
+    private User allThree;
+    private User cobolAndFortran;
+    private User fortranAndAda;
+    private User cobolOnly;
+    private User onLeave;
+
+    @BeforeEach
+    void setUp() {
+        viewer = createPerson("SK-000", EmploymentStatus.ACTIVE, "COBOL ZX, Fortran ZX, Ada ZX");
+        allThree = createPerson("SK-001", EmploymentStatus.ACTIVE, "Cobol  zx; FORTRAN zx\nada zx");
+        cobolAndFortran = createPerson("SK-002", EmploymentStatus.ACTIVE, "[\"cobol zx\", \"fortran zx\"]");
+        fortranAndAda = createPerson("SK-003", EmploymentStatus.ACTIVE, "fortran zx, ada zx");
+        cobolOnly = createPerson("SK-004", EmploymentStatus.ACTIVE, "cobol zx");
+        onLeave = createPerson("SK-005", EmploymentStatus.ON_LEAVE, "cobol zx, fortran zx, ada zx");
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User createPerson(String employeeId, EmploymentStatus status, String skills) {
+        User user = userRepository.save(User.builder()
+                .employeeId(employeeId)
+                .email(employeeId.toLowerCase() + "@test.com")
+                .password("hashedPassword")
+                .role(Role.EMPLOYEE)
+                .build());
+        profileRepository.save(EmployeeProfile.builder()
+                .user(user)
+                .legalFirstName("First_" + employeeId)
+                .legalLastName("Last_" + employeeId)
+                .employmentStatus(status)
+                .hireDate(LocalDate.of(2020, 1, 1))
+                .skills(skills)
+                .build());
+        entityManager.flush();
+        skillIndexRepository.replaceProfileSkills(user.getId(), SkillNames.parse(skills));
+        return user;
+    }
+
+    private static List<UUID> sortedIds(User... users) {
+        List<UUID> ids = new ArrayList<>();
+        for (User user : users) {
+            ids.add(user.getId());
+        }
+        // PostgreSQL orders uuid bytes unsigned, like their hex strings; UUID#compareTo is signed
+        ids.sort(Comparator.comparing(UUID::toString));
+        return ids;
+    }
+
+    @Test
+    @DisplayName("ALL should only match active people other than the viewer listing every skill")
+    void allShouldRequireEverySkill() {
+        List<SkillIndexRepository.SkillMatchRow> rows =
+                skillIndexRepository.findPage(viewer.getId(), List.of(COBOL, FORTRAN), 2, null, 10);
+
+        assertThat(rows).extracting(SkillIndexRepository.SkillMatchRow::userId)
+                .containsExactlyElementsOf(sortedIds(allThree, cobolAndFortran));
+        assertThat(rows).allSatisfy(row -> assertThat(row.matchedSkills()).isEqualTo(2));
+        assertThat(skillIndexRepository.count(viewer.getId(), List.of(COBOL, FORTRAN), 2)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ANY should rank people by number of matched skills, then by user id")
+    void anyShouldRankByMatchedSkills() {
+        List<SkillIndexRepository.SkillMatchRow> rows =
+                skillIndexRepository.findPage(viewer.getId(), List.of(COBOL, FORTRAN, ADA), 1, null, 10);
+
+        List<UUID> twoMatches = sortedIds(cobolAndFortran, fortranAndAda);
+        assertThat(rows).extracting(SkillIndexRepository.SkillMatchRow::userId, SkillIndexRepository.SkillMatchRow::matchedSkills)
+                .containsExactly(
+                        tuple(allThree.getId(), 3),
+                        tuple(twoMatches.get(0), 2),
+                        tuple(twoMatches.get(1), 2),
+                        tuple(cobolOnly.getId(), 1));
+        assertThat(rows.get(0).employeeId()).isEqualTo("SK-001");
+        assertThat(rows.get(0).legalFirstName()).isEqualTo("First_SK-001");
+    }
+
+    @Test
+    @DisplayName("Pages should resume after the cursor without skipping or repeating people")
+    void pagesShouldResumeAfterCursor() {
+        List<String> skills = List.of(COBOL, FORTRAN, ADA);
+        List<UUID> seen = new ArrayList<>();
+        SkillMatchCursor after = null;
+        List<SkillIndexRepository.SkillMatchRow> page;
+        do {
+            page = skillIndexRepository.findPage(viewer.getId(), skills, 1, after, 1);
+            page.forEach(row -> seen.add(row.userId()));
+            if (!page.isEmpty()) {
+                SkillIndexRepository.SkillMatchRow last = page.get(page.size() - 1);
+                after = new SkillMatchCursor(last.matchedSkills(), last.userId());
+            }
+        } while (!page.isEmpty());
+
+        assertThat(seen).containsExactlyElementsOf(
+                skillIndexRepository.findPage(viewer.getId(), skills, 1, null, 10).stream()
+                        .map(SkillIndexRepository.SkillMatchRow::userId)
+                        .toList());
+        assertThat(seen).hasSize((int) skillIndexRepository.count(viewer.getId(), skills, 1));
+    }
+
+    @Test
+    @DisplayName("Replacing a profile's skills should drop stale postings and keep shared skills")
+    void replaceShouldDropStalePostings() {
+        skillIndexRepository.replaceProfileSkills(cobolOnly.getId(), SkillNames.parse("Ada ZX"));
+
+        assertThat(skillIndexRepository.findPage(viewer.getId(), List.of(COBOL), 1, null, 10))
+                .extracting(SkillIndexRepository.SkillMatchRow::userId)
+                .doesNotContain(cobolOnly.getId())
+                .contains(allThree.getId());
+        assertThat(skillIndexRepository.findPage(viewer.getId(), List.of(ADA), 1, null, 10))
+                .extracting(SkillIndexRepository.SkillMatchRow::userId)
+                .contains(cobolOnly.getId());
+
+        skillIndexRepository.replaceProfileSkills(cobolOnly.getId(), List.of());
+
+        assertThat(skillIndexRepository.count(viewer.getId(), List.of(ADA), 1)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Headcounts should only count active profiles and omit unknown skills")
+    void headcountsShouldCountActiveProfilesOnly() {
+        List<SkillIndexRepository.SkillCountRow> counts =
+                skillIndexRepository.countPeopleBySkill(List.of(COBOL, ADA, "unknown zx"));
+
+        assertThat(counts).extracting(SkillIndexRepository.SkillCountRow::normalizedName,
+                        SkillIndexRepository.SkillCountRow::name,
+                        SkillIndexRepository.SkillCountRow::people)
+                .containsExactlyInAnyOrder(
+                        tuple(COBOL, "COBOL ZX", 4L),
+                        tuple(ADA, "Ada ZX", 3L));
+    }
+}
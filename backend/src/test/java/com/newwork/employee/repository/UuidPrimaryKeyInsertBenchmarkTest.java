@@ -0,0 +1,112 @@
+package com.newwork.employee.repository;
+
+import com.newwork.employee.util.UuidV7;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput of random (v4) versus time-ordered (v7) UUID primary keys on a large table.
+ *
+ * Run explicitly: {@code mvn test -Pbenchmarks -Dtest=UuidPrimaryKeyInsertBenchmarkTest [-Dbenchmarks.rows=2000000]}
+ */
+@Testcontainers
+@Slf4j
+@Tag("benchmark")
+@DisplayName("UUID primary key insert benchmark")
+class UuidPrimaryKeyInsertBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmarks.rows", 1_000_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "shared_buffers=128MB");
+
+    @Test
+    void timeOrderedKeysShouldProduceSmallerIndexAndLessWal() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+            connection.setAutoCommit(false);
+
+            Result v4 = run(connection, "bench_uuid_v4", UUID::randomUUID);
+            Result v7 = run(connection, "bench_uuid_v7", UuidV7::randomUuid);
+
+            log.info("{} rows\n{}\n{}", ROWS, v4, v7);
+            assertThat(v7.indexBytes()).isLessThan(v4.indexBytes());
+            assertThat(v7.walBytes()).isLessThan(v4.walBytes());
+        }
+    }
+
+    private static Result run(Connection connection, String table, Supplier<UUID> ids) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table
+                    + " (id uuid PRIMARY KEY, created_at timestamp NOT NULL DEFAULT now(), payload text NOT NULL)");
+            statement.execute("CHECKPOINT");
+        }
+        connection.commit();
+
+        long walStart = walPosition(connection);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+            for (int row = 1; row <= ROWS; row++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "feedback body " + row);
+                insert.addBatch();
+                if (row % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long walBytes = walPosition(connection) - walStart;
+
+        long indexBytes;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            rs.next();
+            indexBytes = rs.getLong(1);
+        }
+        connection.commit();
+        return new Result(table, elapsedNanos, indexBytes, walBytes);
+    }
+
+    private static long walPosition(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_current_wal_lsn() - '0/0'::pg_lsn")) {
+            rs.next();
+            long position = rs.getLong(1);
+            connection.commit();
+            return position;
+        }
+    }
+
+    private record Result(String table, long elapsedNanos, long indexBytes, long walBytes) {
+
+        @Override
+        public String toString() {
+            double seconds = elapsedNanos / 1e9;
+            return "%-14s %8.2f s  %,10.0f rows/s  pkey %,8d KiB  WAL %,8d KiB".formatted(
+                    table, seconds, ROWS / seconds, indexBytes / 1024, walBytes / 1024);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.newwork.employee.security;
+
+import com.newwork.employee.config.properties.SecurityProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveBCryptPasswordEncoder.
+ * Tests cost parsing, upgrade detection, and calibration bounds.
+ */
+class AdaptiveBCryptPasswordEncoderTest {
+
+    @Test
+    void encodesAtTargetCost() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+        String hash = encoder.encode("secret");
+
+        assertEquals(5, AdaptiveBCryptPasswordEncoder.costOf(hash));
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void verifiesAndFlagsHashesAtOtherCosts() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+        String legacyHash = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertTrue(encoder.matches("secret", legacyHash));
+        assertTrue(encoder.upgradeEncoding(legacyHash));
+        // Seeded demo users carry cost-12 hashes
+        assertTrue(encoder.upgradeEncoding("$2a$12$YktM6ODfqOzX0bOardbHq.16AjW8UaKiuPE.nxzO8/G9mnS5xD4X2"));
+    }
+
+    @Test
+    void calibratedCostOnlyFlagsWeakerHashes() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5, false);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret")));
+        // Hashed by a node that calibrated higher: never downgraded
+        assertFalse(encoder.upgradeEncoding("$2a$12$YktM6ODfqOzX0bOardbHq.16AjW8UaKiuPE.nxzO8/G9mnS5xD4X2"));
+    }
+
+    @Test
+    void doesNotFlagNonBCryptValues() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+        assertEquals(-1, AdaptiveBCryptPasswordEncoder.costOf("plain-text"));
+        assertEquals(-1, AdaptiveBCryptPasswordEncoder.costOf(null));
+        assertFalse(encoder.upgradeEncoding("plain-text"));
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        assertEquals(4, AdaptiveBCryptPasswordEncoder.calibrate(Duration.ZERO, 4, 6));
+        assertEquals(6, AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofMinutes(1), 4, 6));
+    }
+
+    @Test
+    void configuredCostSkipsCalibration() {
+        SecurityProperties.Hashing hashing = new SecurityProperties.Hashing();
+        hashing.setCost(7);
+
+        AdaptiveBCryptPasswordEncoder encoder = AdaptiveBCryptPasswordEncoder.fromProperties(hashing);
+        assertEquals(7, encoder.getTargetCost());
+        // Pinned: stronger hashes are brought down to the configured cost
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(8).encode("secret")));
+    }
+
+    @Test
+    void calibratedCostIsNotPinned() {
+        SecurityProperties.Hashing hashing = new SecurityProperties.Hashing();
+        hashing.setMinCost(4);
+        hashing.setMaxCost(4);
+
+        AdaptiveBCryptPasswordEncoder encoder = AdaptiveBCryptPasswordEncoder.fromProperties(hashing);
+        assertEquals(4, encoder.getTargetCost());
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret")));
+    }
+}
@@ -0,0 +1,176 @@
+package com.newwork.employee.security;
+
+import com.newwork.employee.config.properties.SecurityProperties;
+import com.newwork.employee.exception.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedPasswordEncoder.
+ * Tests delegation, load shedding when the pool is saturated, and metrics.
+ */
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        SecurityProperties.Login login = new SecurityProperties.Login();
+        login.setVerificationThreads(1);
+        login.setQueueCapacity(1);
+        login.setMaxWait(Duration.ofSeconds(5));
+        login.setRetryAfter(Duration.ofSeconds(3));
+
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), login, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void delegatesWhenPoolHasCapacity() {
+        release.countDown();
+
+        assertEquals("hashed:secret", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "hashed:secret"));
+        assertFalse(encoder.matches("wrong", "hashed:secret"));
+        assertEquals(3, meterRegistry.get("auth.password.hash").timer().count());
+    }
+
+    @Test
+    void whenPoolAndQueueAreFull_RejectsWithRetryAfter() throws Exception {
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "hashed:a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "hashed:b"));
+        waitForQueueDepth(1);
+
+        LoginThrottledException ex = assertThrows(LoginThrottledException.class,
+                () -> encoder.matches("c", "hashed:c"));
+
+        assertEquals(Duration.ofSeconds(3), ex.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void whenVerificationExceedsMaxWait_RejectsWithRetryAfter() {
+        SecurityProperties.Login login = new SecurityProperties.Login();
+        login.setVerificationThreads(1);
+        login.setMaxWait(Duration.ofMillis(50));
+        BoundedPasswordEncoder impatient = new BoundedPasswordEncoder(new BlockingEncoder(), login, new SimpleMeterRegistry());
+
+        try {
+            assertThrows(LoginThrottledException.class, () -> impatient.matches("a", "hashed:a"));
+        } finally {
+            impatient.destroy();
+        }
+    }
+
+    @Test
+    void whenRunningVerificationTimesOut_CountsItAsBusyUntilItFinishes() throws Exception {
+        SecurityProperties.Login login = new SecurityProperties.Login();
+        login.setVerificationThreads(1);
+        login.setMaxWait(Duration.ofMillis(50));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder impatient = new BoundedPasswordEncoder(new UninterruptibleEncoder(), login, registry);
+
+        try {
+            assertThrows(LoginThrottledException.class, () -> impatient.matches("a", "hashed:a"));
+
+            assertEquals(1.0, registry.get("auth.password.abandoned").gauge().value());
+            assertEquals(1.0, registry.get("auth.password.active").gauge().value());
+
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (registry.get("auth.password.abandoned").gauge().value() > 0) {
+                if (System.nanoTime() > deadline) {
+                    fail("Abandoned verification never released its thread");
+                }
+                Thread.sleep(10);
+            }
+        } finally {
+            impatient.destroy();
+        }
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                fail("Queue never reached depth " + expected);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Fake encoder that, like BCrypt, keeps running when its thread is interrupted.
+     */
+    private class UninterruptibleEncoder extends BlockingEncoder {
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return ("hashed:" + rawPassword).equals(encodedPassword);
+        }
+    }
+
+    /**
+     * Fake encoder that blocks until the test releases it, standing in for slow BCrypt work.
+     */
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return ("hashed:" + rawPassword).equals(encodedPassword);
+        }
+
+        private void await() {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.newwork.employee.security;
+
+import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.server.WebSocketGraphQlRequest;
+import org.springframework.graphql.server.WebSocketSessionInfo;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GraphQlWebSocketAuthInterceptorTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private GraphQlWebSocketAuthInterceptor interceptor;
+    private WebSocketSessionInfo sessionInfo;
+    private final Map<String, Object> attributes = new HashMap<>();
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(
+                "test-secret-key-for-unit-testing-must-be-at-least-256-bits-long-for-hmac-sha256-algorithm",
+                3600000L
+        );
+        interceptor = new GraphQlWebSocketAuthInterceptor(jwtTokenProvider);
+        sessionInfo = mock(WebSocketSessionInfo.class);
+        when(sessionInfo.getId()).thenReturn("session-1");
+        when(sessionInfo.getAttributes()).thenReturn(attributes);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .employeeId("EMP_001")
+                .email("employee@testcompany.com")
+                .role(Role.EMPLOYEE)
+                .build();
+    }
+
+    @Test
+    void shouldAuthenticateSessionFromConnectionInitPayload() {
+        String token = jwtTokenProvider.generateToken(user);
+
+        interceptor.handleConnectionInitialization(sessionInfo, Map.of("Authorization", "Bearer " + token)).block();
+
+        Authentication authentication = (Authentication) attributes.get(GraphQlWebSocketAuthInterceptor.AUTHENTICATION_ATTRIBUTE);
+        assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(AuthenticatedUser.class,
+                principal -> assertThat(principal.getUserId()).isEqualTo(user.getId()));
+    }
+
+    @Test
+    void shouldRejectMissingOrInvalidToken() {
+        assertThatThrownBy(() -> interceptor.handleConnectionInitialization(sessionInfo, Map.of()).block())
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> interceptor.handleConnectionInitialization(
+                sessionInfo, Map.of("Authorization", "Bearer not-a-token")).block())
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(attributes).isEmpty();
+    }
+
+    @Test
+    void shouldExposeSessionPrincipalToEveryOperation() {
+        String token = jwtTokenProvider.generateToken(user);
+        interceptor.handleConnectionInitialization(sessionInfo, Map.of("Authorization", token)).block();
+        WebSocketGraphQlRequest request = mock(WebSocketGraphQlRequest.class);
+        when(request.getSessionInfo()).thenReturn(sessionInfo);
+
+        AtomicReference<SecurityContext> seen = new AtomicReference<>();
+        interceptor.intercept(request, next -> Mono.deferContextual(context -> {
+            seen.set(context.get(SecurityContext.class.getName()));
+            return Mono.just(mock(WebGraphQlResponse.class));
+        })).block();
+
+        assertThat(seen.get().getAuthentication().getPrincipal()).isInstanceOfSatisfying(AuthenticatedUser.class,
+                principal -> assertThat(principal.getUserId()).isEqualTo(user.getId()));
+    }
+}
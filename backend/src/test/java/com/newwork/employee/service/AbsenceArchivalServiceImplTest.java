@@ -0,0 +1,79 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.config.properties.AbsenceArchiveProperties;
+import com.newwork.employee.repository.AbsenceArchiveRepository;
+import com.newwork.employee.service.impl.AbsenceArchivalServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AbsenceArchivalServiceImplTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+    private static final LocalDateTime CLOSED_BEFORE = LocalDateTime.of(2025, 10, 18, 0, 0);
+
+    @Mock
+    private AbsenceArchiveRepository archiveRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private AbsenceArchiveProperties properties;
+    private AbsenceArchivalService archivalService;
+
+    @BeforeEach
+    void setup() {
+        properties = new AbsenceArchiveProperties();
+        properties.setBatchSize(100);
+        properties.setPauseBetweenBatches(Duration.ZERO);
+        archivalService = new AbsenceArchivalServiceImpl(archiveRepository, transactionTemplate, properties);
+    }
+
+    @Test
+    void shouldMoveBatchesUntilAPartialBatch() {
+        stubTransactions();
+        when(archiveRepository.archiveBatch(CLOSED_BEFORE, 100)).thenReturn(100, 100, 42);
+
+        assertThat(archivalService.archiveClosedAbsences(TODAY)).isEqualTo(242);
+        verify(archiveRepository, times(3)).archiveBatch(CLOSED_BEFORE, 100);
+    }
+
+    @Test
+    void shouldStopAtMaxBatchesPerRun() {
+        properties.setMaxBatchesPerRun(2);
+        stubTransactions();
+        when(archiveRepository.archiveBatch(CLOSED_BEFORE, 100)).thenReturn(100);
+
+        assertThat(archivalService.archiveClosedAbsences(TODAY)).isEqualTo(200);
+        verify(archiveRepository, times(2)).archiveBatch(CLOSED_BEFORE, 100);
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        properties.setEnabled(false);
+
+        assertThat(archivalService.archiveClosedAbsences(TODAY)).isZero();
+        verifyNoInteractions(archiveRepository, transactionTemplate);
+    }
+
+    private void stubTransactions() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
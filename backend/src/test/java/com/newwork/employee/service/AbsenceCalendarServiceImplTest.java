@@ -0,0 +1,163 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.dto.AbsenceCalendarDTO;
+import com.newwork.employee.dto.AbsenceCalendarRow;
+import com.newwork.employee.entity.EmployeeProfile;
+import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.AbsenceStatus;
+import com.newwork.employee.entity.enums.AbsenceType;
+import com.newwork.employee.entity.enums.EmploymentStatus;
+import com.newwork.employee.repository.AbsenceCalendarRepository;
+import com.newwork.employee.repository.EmployeeProfileRepository;
+import com.newwork.employee.repository.UserHierarchyRepository;
+import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.service.impl.AbsenceCalendarServiceImpl;
+import com.newwork.employee.service.impl.PermissionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AbsenceCalendarServiceImplTest {
+
+    private static final LocalDate FROM = LocalDate.of(2030, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2030, 3, 7);
+
+    @Mock
+    private AbsenceCalendarRepository calendarRepository;
+
+    @Mock
+    private EmployeeProfileRepository profileRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserHierarchyRepository userHierarchyRepository;
+
+    private AbsenceCalendarServiceImpl calendarService;
+
+    private User manager;
+    private User report;
+    private User peer;
+
+    @BeforeEach
+    void setUp() {
+        calendarService = new AbsenceCalendarServiceImpl(calendarRepository, profileRepository, userRepository,
+                new PermissionServiceImpl(userRepository, userHierarchyRepository));
+
+        manager = User.builder().id(UUID.randomUUID()).employeeId("MGR-1").email("mgr@test.com").build();
+        report = User.builder().id(UUID.randomUUID()).employeeId("EMP-1").email("emp1@test.com").manager(manager).build();
+        peer = User.builder().id(UUID.randomUUID()).employeeId("EMP-2").email("emp2@test.com").manager(manager).build();
+    }
+
+    @Test
+    void managerSeesWholeTreeWithTypesAndClippedOccupancy() {
+        when(userHierarchyRepository.findDescendantIds(manager.getId())).thenReturn(Set.of(report.getId(), peer.getId()));
+        when(profileRepository.findActiveInReportingTree(manager.getId(), Integer.MAX_VALUE))
+                .thenReturn(List.of(profile(report, "Alice"), profile(peer, "Bob")));
+        when(calendarRepository.findOverlappingInReportingTree(manager.getId(), Integer.MAX_VALUE, FROM, TO))
+                .thenReturn(List.of(
+                        new AbsenceCalendarRow(report.getId(), FROM.minusDays(3), FROM.plusDays(1),
+                                AbsenceType.VACATION, AbsenceStatus.APPROVED),
+                        // Overlapping request of the same person must not double count
+                        new AbsenceCalendarRow(report.getId(), FROM.plusDays(1), FROM.plusDays(2),
+                                AbsenceType.PERSONAL, AbsenceStatus.PENDING),
+                        new AbsenceCalendarRow(peer.getId(), FROM.plusDays(2), TO.plusDays(5),
+                                AbsenceType.SICK, AbsenceStatus.APPROVED)));
+
+        AbsenceCalendarDTO calendar = calendarService.getCalendar(manager.getId(), FROM, TO, null);
+
+        assertThat(calendar.getOccupancy()).containsExactly(1, 1, 2, 1, 1, 1, 1);
+        assertThat(calendar.getMembers()).extracting(AbsenceCalendarDTO.Member::getDisplayName)
+                .containsExactly("Alice", "Bob");
+        assertThat(calendar.getAbsences().get(0).getStartDate()).isEqualTo(FROM);
+        assertThat(calendar.getAbsences().get(2).getEndDate()).isEqualTo(TO);
+        assertThat(calendar.getAbsences()).extracting(AbsenceCalendarDTO.Absence::getType)
+                .containsExactly(AbsenceType.VACATION, AbsenceType.PERSONAL, AbsenceType.SICK);
+    }
+
+    @Test
+    void skipLevelManagerSeesIndirectReportsWithoutTypes() {
+        User director = User.builder().id(UUID.randomUUID()).employeeId("DIR-1").email("dir@test.com").build();
+        manager.setManager(director);
+        when(userHierarchyRepository.findDescendantIds(director.getId()))
+                .thenReturn(Set.of(manager.getId(), report.getId()));
+        when(profileRepository.findActiveInReportingTree(director.getId(), Integer.MAX_VALUE))
+                .thenReturn(List.of(profile(manager, "Maria"), profile(report, "Alice")));
+        when(calendarRepository.findOverlappingInReportingTree(director.getId(), Integer.MAX_VALUE, FROM, TO))
+                .thenReturn(List.of(
+                        new AbsenceCalendarRow(manager.getId(), FROM, FROM, AbsenceType.VACATION, AbsenceStatus.APPROVED),
+                        new AbsenceCalendarRow(report.getId(), FROM, FROM, AbsenceType.SICK, AbsenceStatus.APPROVED)));
+
+        AbsenceCalendarDTO calendar = calendarService.getCalendar(director.getId(), FROM, TO, null);
+
+        assertThat(calendar.getAbsences()).extracting(AbsenceCalendarDTO.Absence::getType)
+                .containsExactly(AbsenceType.VACATION, null);
+    }
+
+    @Test
+    void individualContributorSeesManagersTeamWithoutPeerTypes() {
+        when(userRepository.findById(report.getId())).thenReturn(Optional.of(report));
+        when(profileRepository.findActiveInReportingTree(manager.getId(), 1))
+                .thenReturn(List.of(profile(report, "Alice"), profile(peer, "Bob"), profile(manager, "Maria")));
+        when(calendarRepository.findOverlappingInReportingTree(manager.getId(), 1, FROM, TO))
+                .thenReturn(List.of(
+                        new AbsenceCalendarRow(report.getId(), FROM, FROM, AbsenceType.VACATION, AbsenceStatus.PENDING),
+                        new AbsenceCalendarRow(peer.getId(), FROM, FROM, AbsenceType.SICK, AbsenceStatus.APPROVED)));
+
+        AbsenceCalendarDTO calendar = calendarService.getCalendar(report.getId(), FROM, TO, null);
+
+        assertThat(calendar.getOccupancy().get(0)).isEqualTo(2);
+        assertThat(calendar.getAbsences().get(0).getType()).isEqualTo(AbsenceType.VACATION);
+        assertThat(calendar.getAbsences().get(1).getType()).isNull();
+        assertThat(calendar.getAbsences().get(1).getStatus()).isEqualTo(AbsenceStatus.APPROVED);
+    }
+
+    @Test
+    void departmentCalendarQueriesByDepartment() {
+        when(profileRepository.findActiveByDepartment("Engineering")).thenReturn(List.of(profile(peer, "Bob")));
+        when(calendarRepository.findOverlappingInDepartment("Engineering", FROM, TO)).thenReturn(List.of());
+
+        AbsenceCalendarDTO calendar = calendarService.getCalendar(report.getId(), FROM, TO, " Engineering ");
+
+        assertThat(calendar.getOccupancy()).hasSize(7).containsOnly(0);
+        verify(calendarRepository).findOverlappingInDepartment("Engineering", FROM, TO);
+    }
+
+    @Test
+    void rejectsInvalidOrOversizedWindows() {
+        assertThatThrownBy(() -> calendarService.getCalendar(manager.getId(), TO, FROM, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calendarService.getCalendar(manager.getId(), FROM, FROM.plusDays(93), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("93");
+        verifyNoInteractions(calendarRepository);
+    }
+
+    private static EmployeeProfile profile(User user, String preferredName) {
+        return EmployeeProfile.builder()
+                .user(user)
+                .legalFirstName(preferredName)
+                .legalLastName("Doe")
+                .preferredName(preferredName)
+                .department("Engineering")
+                .employmentStatus(EmploymentStatus.ACTIVE)
+                .hireDate(LocalDate.of(2020, 1, 1))
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.config.properties.AbsenceLedgerProperties;
+import com.newwork.employee.dto.AbsenceLedgerDebit;
+import com.newwork.employee.entity.EmployeeAbsence;
+import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.AbsenceStatus;
+import com.newwork.employee.entity.enums.AbsenceType;
+import com.newwork.employee.repository.AbsenceLedgerBatchRepository;
+import com.newwork.employee.repository.AbsenceLedgerRepository;
+import com.newwork.employee.service.impl.AbsenceLedgerServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AbsenceLedgerServiceImplTest {
+
+    @Mock
+    private AbsenceLedgerRepository ledgerRepository;
+
+    @Mock
+    private AbsenceLedgerBatchRepository ledgerBatchRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private AbsenceLedgerProperties properties;
+    private AbsenceLedgerService ledgerService;
+    private User employee;
+
+    @BeforeEach
+    void setup() {
+        properties = new AbsenceLedgerProperties();
+        ledgerService = new AbsenceLedgerServiceImpl(ledgerRepository, ledgerBatchRepository, transactionTemplate, properties);
+        employee = User.builder().id(UUID.randomUUID()).email("emp@test.com").build();
+    }
+
+    @Test
+    void recordApprovalsShouldDebitVacationDaysInOneBatch() {
+        EmployeeAbsence first = absence(AbsenceType.VACATION, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 4));
+        EmployeeAbsence second = absence(AbsenceType.VACATION, LocalDate.of(2026, 4, 6), LocalDate.of(2026, 4, 6));
+
+        ledgerService.recordApprovals(List.of(first, second), Map.of(first.getId(), 3, second.getId(), 1));
+
+        ArgumentCaptor<List<AbsenceLedgerDebit>> debits = ArgumentCaptor.captor();
+        verify(ledgerBatchRepository).appendApprovals(debits.capture());
+        assertThat(debits.getValue())
+                .extracting(AbsenceLedgerDebit::userId, AbsenceLedgerDebit::absenceId, AbsenceLedgerDebit::note)
+                .containsExactly(
+                        tuple(employee.getId(), first.getId(), "VACATION 2026-03-02..2026-03-04"),
+                        tuple(employee.getId(), second.getId(), "VACATION 2026-04-06..2026-04-06"));
+        assertThat(debits.getValue().get(0).deltaDays()).isEqualByComparingTo("-3");
+        assertThat(debits.getValue().get(1).deltaDays()).isEqualByComparingTo("-1");
+    }
+
+    @Test
+    void recordApprovalsShouldIgnoreSickLeaveAndEmptyRanges() {
+        EmployeeAbsence sick = absence(AbsenceType.SICK, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 4));
+        EmployeeAbsence weekend = absence(AbsenceType.VACATION, LocalDate.of(2026, 3, 7), LocalDate.of(2026, 3, 8));
+
+        ledgerService.recordApprovals(List.of(sick, weekend), Map.of(sick.getId(), 3, weekend.getId(), 0));
+
+        verifyNoInteractions(ledgerRepository, ledgerBatchRepository);
+    }
+
+    @Test
+    void reconcileSnapshotsShouldReplayInChunks() {
+        properties.setReconcileChunkSize(2);
+        properties.setReconcileParallelism(2);
+        List<UUID> userIds = IntStream.range(0, 5).mapToObj(i -> UUID.randomUUID()).toList();
+        when(ledgerRepository.findAllUserIds()).thenReturn(userIds);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(ledgerRepository.reconcileSnapshots(anyCollection())).thenReturn(1);
+
+        int corrected = ledgerService.reconcileSnapshots();
+
+        assertThat(corrected).isEqualTo(3);
+        verify(ledgerRepository, times(3)).lockSnapshots(anyCollection());
+        verify(ledgerRepository, times(3)).reconcileSnapshots(anyCollection());
+    }
+
+    private EmployeeAbsence absence(AbsenceType type, LocalDate start, LocalDate end) {
+        return EmployeeAbsence.builder()
+                .id(UUID.randomUUID())
+                .user(employee)
+                .status(AbsenceStatus.APPROVED)
+                .type(type)
+                .startDate(start)
+                .endDate(end)
+                .build();
+    }
+}
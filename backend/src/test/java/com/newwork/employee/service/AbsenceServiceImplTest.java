@@ -1,32 +1,58 @@
 package com.newwork.employee.service;
 
+import com.newwork.employee.dto.AbsenceStatusTransitionRow;
+import com.newwork.employee.dto.AuditRecord;
+import com.newwork.employee.dto.BulkAbsenceStatusResultDTO;
+import com.newwork.employee.dto.EmployeeAbsenceDTO;
+import com.newwork.employee.dto.request.BulkUpdateAbsenceStatusRequest;
 import com.newwork.employee.dto.request.CreateAbsenceRequest;
 import com.newwork.employee.dto.request.UpdateAbsenceStatusRequest;
+import com.newwork.employee.entity.ArchivedEmployeeAbsence;
 import com.newwork.employee.entity.EmployeeAbsence;
+import com.newwork.employee.entity.EmployeeProfile;
 import com.newwork.employee.entity.User;
 import com.newwork.employee.entity.enums.AbsenceStatus;
 import com.newwork.employee.entity.enums.AbsenceType;
+import com.newwork.employee.entity.enums.ChangedEntity;
 import com.newwork.employee.entity.enums.Role;
+import com.newwork.employee.exception.ConflictException;
+import com.newwork.employee.repository.AbsenceStatusTransitionRepository;
+import com.newwork.employee.repository.ArchivedEmployeeAbsenceRepository;
 import com.newwork.employee.repository.EmployeeAbsenceRepository;
+import com.newwork.employee.repository.EmployeeProfileRepository;
 import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.service.calendar.WorkingDayCalendar;
 import com.newwork.employee.service.impl.AbsenceServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +64,27 @@ class AbsenceServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private EmployeeProfileRepository profileRepository;
+
+    @Mock
+    private AbsenceStatusTransitionRepository statusTransitionRepository;
+
+    @Mock
+    private ArchivedEmployeeAbsenceRepository archivedAbsenceRepository;
+
+    @Mock
+    private AbsenceLedgerService absenceLedgerService;
+
+    @Mock
+    private WorkingDayCalendar workingDayCalendar;
+
+    @Mock
+    private EntityChangePublisher entityChangePublisher;
+
+    @Mock
+    private AuditTrail auditTrail;
+
     @InjectMocks
     private AbsenceServiceImpl absenceService;
 
@@ -60,6 +107,9 @@ class AbsenceServiceImplTest {
                 .role(Role.EMPLOYEE)
                 .manager(manager)
                 .build();
+
+        lenient().when(workingDayCalendar.regionFor(any())).thenReturn("DE");
+        lenient().when(workingDayCalendar.businessDays(any(), any(), any())).thenReturn(3);
     }
 
     @Test
@@ -81,66 +131,185 @@ class AbsenceServiceImplTest {
         assertThat(result.getStatus()).isEqualTo(AbsenceStatus.PENDING);
     }
 
+    @Test
+    void submitShouldMapOverlapViolationToConflict() {
+        CreateAbsenceRequest dto = new CreateAbsenceRequest(
+                LocalDate.now(),
+                LocalDate.now().plusDays(2),
+                AbsenceType.VACATION,
+                "Overlapping"
+        );
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        when(absenceRequestRepository.save(any(EmployeeAbsence.class)))
+                .thenAnswer(inv -> inv.getArgument(0));
+        doThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLException("conflicting key value violates exclusion constraint", "23P01")))
+                .when(absenceRequestRepository).flush();
+
+        assertThatThrownBy(() -> absenceService.submit(employee.getId(), dto))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("overlaps");
+    }
+
+    @Test
+    void submitShouldRethrowOtherIntegrityViolations() {
+        CreateAbsenceRequest dto = new CreateAbsenceRequest(
+                LocalDate.now(),
+                LocalDate.now().plusDays(2),
+                AbsenceType.VACATION,
+                null
+        );
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        when(absenceRequestRepository.save(any(EmployeeAbsence.class)))
+                .thenAnswer(inv -> inv.getArgument(0));
+        doThrow(new DataIntegrityViolationException("not null", new SQLException("null value", "23502")))
+                .when(absenceRequestRepository).flush();
+
+        assertThatThrownBy(() -> absenceService.submit(employee.getId(), dto))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     @Test
     void updateStatusShouldApprove() {
-        EmployeeAbsence request = EmployeeAbsence.builder()
-                .id(UUID.randomUUID())
-                .user(employee)
-                .manager(manager)
-                .status(AbsenceStatus.PENDING)
-                .startDate(LocalDate.now())
-                .endDate(LocalDate.now())
-                .type(AbsenceType.SICK)
-                .build();
-        when(absenceRequestRepository.findByIdWithUserAndManager(request.getId()))
-                .thenReturn(Optional.of(request));
-        when(absenceRequestRepository.save(any(EmployeeAbsence.class))).thenAnswer(inv -> inv.getArgument(0));
+        UUID requestId = UUID.randomUUID();
+        when(statusTransitionRepository.transitionPending(manager.getId(), List.of(requestId), AbsenceStatus.APPROVED, null))
+                .thenReturn(List.of(updatedRow(requestId, AbsenceStatus.APPROVED, null)));
 
-        var result = absenceService.updateStatus(manager.getId(), request.getId(),
+        var result = absenceService.updateStatus(manager.getId(), requestId,
                 UpdateAbsenceStatusRequest.builder().action("APPROVE").build());
 
         assertThat(result.getStatus()).isEqualTo(AbsenceStatus.APPROVED);
+        assertThat(result.getBusinessDays()).isEqualTo(3);
+        ArgumentCaptor<List<EmployeeAbsence>> approved = ArgumentCaptor.captor();
+        verify(absenceLedgerService).recordApprovals(approved.capture(), eq(Map.of(requestId, 3)));
+        assertThat(approved.getValue()).singleElement().satisfies(absence -> {
+            assertThat(absence.getId()).isEqualTo(requestId);
+            assertThat(absence.getUser().getId()).isEqualTo(employee.getId());
+        });
+        verify(entityChangePublisher).publishAll(ChangedEntity.ABSENCE, Map.of(requestId, employee.getId()),
+                Map.of(requestId, result));
     }
 
     @Test
     void updateStatusShouldRejectNonManager() {
-        EmployeeAbsence request = EmployeeAbsence.builder()
-                .id(UUID.randomUUID())
-                .user(employee)
-                .manager(manager)
-                .status(AbsenceStatus.PENDING)
-                .startDate(LocalDate.now())
-                .endDate(LocalDate.now())
-                .type(AbsenceType.SICK)
-                .build();
-        when(absenceRequestRepository.findByIdWithUserAndManager(request.getId()))
-                .thenReturn(Optional.of(request));
+        UUID requestId = UUID.randomUUID();
+        when(statusTransitionRepository.transitionPending(any(), any(), any(), any()))
+                .thenReturn(List.of(outcomeRow(requestId, BulkAbsenceStatusResultDTO.Outcome.FORBIDDEN)));
 
-        assertThatThrownBy(() -> absenceService.updateStatus(UUID.randomUUID(), request.getId(),
+        assertThatThrownBy(() -> absenceService.updateStatus(UUID.randomUUID(), requestId,
                         UpdateAbsenceStatusRequest.builder().action("APPROVE").build()))
                 .isInstanceOf(AccessDeniedException.class);
     }
 
     @Test
     void updateStatusShouldRejectWithNote() {
-        EmployeeAbsence request = EmployeeAbsence.builder()
-                .id(UUID.randomUUID())
-                .user(employee)
-                .manager(manager)
-                .status(AbsenceStatus.PENDING)
-                .startDate(LocalDate.now())
-                .endDate(LocalDate.now())
-                .type(AbsenceType.SICK)
-                .build();
-        when(absenceRequestRepository.findByIdWithUserAndManager(request.getId()))
-                .thenReturn(Optional.of(request));
-        when(absenceRequestRepository.save(any(EmployeeAbsence.class))).thenAnswer(inv -> inv.getArgument(0));
+        UUID requestId = UUID.randomUUID();
+        when(statusTransitionRepository.transitionPending(manager.getId(), List.of(requestId), AbsenceStatus.REJECTED, "Need coverage"))
+                .thenReturn(List.of(updatedRow(requestId, AbsenceStatus.REJECTED, "Need coverage")));
 
-        var result = absenceService.updateStatus(manager.getId(), request.getId(),
+        var result = absenceService.updateStatus(manager.getId(), requestId,
                 UpdateAbsenceStatusRequest.builder().action("REJECT").note("Need coverage").build());
 
         assertThat(result.getStatus()).isEqualTo(AbsenceStatus.REJECTED);
         assertThat(result.getNote()).isEqualTo("Need coverage");
+        verifyNoInteractions(absenceLedgerService);
+
+        ArgumentCaptor<List<AuditRecord>> audited = ArgumentCaptor.captor();
+        verify(auditTrail).record(audited.capture());
+        assertThat(audited.getValue())
+                .extracting(AuditRecord::field, AuditRecord::oldValue, AuditRecord::newValue, AuditRecord::actorId)
+                .containsExactly(
+                        tuple("status", "PENDING", "REJECTED", manager.getId()),
+                        tuple("note", null, "Need coverage", manager.getId()));
+    }
+
+    @Test
+    void updateStatusShouldReportLostRaceAsConflict() {
+        UUID requestId = UUID.randomUUID();
+        when(statusTransitionRepository.transitionPending(any(), any(), any(), any()))
+                .thenReturn(List.of(outcomeRow(requestId, BulkAbsenceStatusResultDTO.Outcome.NOT_PENDING)));
+
+        assertThatThrownBy(() -> absenceService.updateStatus(manager.getId(), requestId,
+                        UpdateAbsenceStatusRequest.builder().action("APPROVE").build()))
+                .isInstanceOf(ConflictException.class);
+        verifyNoInteractions(absenceLedgerService);
+    }
+
+    @Test
+    void updateStatusesShouldReportOutcomePerId() {
+        UUID approvedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        UUID otherTeamId = UUID.randomUUID();
+        List<UUID> ids = List.of(approvedId, missingId, otherTeamId);
+        when(statusTransitionRepository.transitionPending(manager.getId(), ids, AbsenceStatus.APPROVED, null))
+                .thenReturn(List.of(
+                        updatedRow(approvedId, AbsenceStatus.APPROVED, null),
+                        outcomeRow(missingId, BulkAbsenceStatusResultDTO.Outcome.NOT_FOUND),
+                        outcomeRow(otherTeamId, BulkAbsenceStatusResultDTO.Outcome.FORBIDDEN)));
+
+        var result = absenceService.updateStatuses(manager.getId(),
+                BulkUpdateAbsenceStatusRequest.builder().ids(ids).action("approve").build());
+
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getResults())
+                .extracting(BulkAbsenceStatusResultDTO.Item::getId, BulkAbsenceStatusResultDTO.Item::getOutcome)
+                .containsExactly(
+                        tuple(approvedId, BulkAbsenceStatusResultDTO.Outcome.UPDATED),
+                        tuple(missingId, BulkAbsenceStatusResultDTO.Outcome.NOT_FOUND),
+                        tuple(otherTeamId, BulkAbsenceStatusResultDTO.Outcome.FORBIDDEN));
+        assertThat(result.getResults().get(0).getAbsence().getStatus()).isEqualTo(AbsenceStatus.APPROVED);
+        assertThat(result.getResults().get(1).getAbsence()).isNull();
+        // One ledger call for the whole batch, not one per approved row
+        verify(absenceLedgerService).recordApprovals(anyList(), eq(Map.of(approvedId, 3)));
+    }
+
+    @Test
+    void updateStatusesShouldRejectOversizedBatches() {
+        List<UUID> ids = IntStream.rangeClosed(0, AbsenceService.MAX_BULK_UPDATE).mapToObj(i -> UUID.randomUUID()).toList();
+
+        assertThatThrownBy(() -> absenceService.updateStatuses(manager.getId(),
+                        BulkUpdateAbsenceStatusRequest.builder().ids(ids).action("APPROVE").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(statusTransitionRepository);
+    }
+
+    @Test
+    void submitShouldRejectRangesWithoutWorkingDays() {
+        CreateAbsenceRequest dto = new CreateAbsenceRequest(
+                LocalDate.now(),
+                LocalDate.now().plusDays(1),
+                AbsenceType.PERSONAL,
+                "Weekend"
+        );
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        when(workingDayCalendar.businessDays(any(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> absenceService.submit(employee.getId(), dto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("working day");
+    }
+
+    @Test
+    void submitShouldRejectVacationExceedingBalance() {
+        CreateAbsenceRequest dto = new CreateAbsenceRequest(
+                LocalDate.now(),
+                LocalDate.now().plusDays(4),
+                AbsenceType.VACATION,
+                "Long trip"
+        );
+        EmployeeProfile profile = EmployeeProfile.builder()
+                .user(employee)
+                .officeLocation("Munich Office")
+                .absenceBalanceDays(new BigDecimal("2.5"))
+                .build();
+        when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+        when(profileRepository.findByUserId(employee.getId())).thenReturn(Optional.of(profile));
+        when(workingDayCalendar.regionFor("Munich Office")).thenReturn("DE-BY");
+        when(workingDayCalendar.businessDays(eq("DE-BY"), any(), any())).thenReturn(3);
+
+        assertThatThrownBy(() -> absenceService.submit(employee.getId(), dto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("balance of 2.5");
     }
 
     @Test
@@ -201,6 +370,72 @@ class AbsenceServiceImplTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void submitShouldRejectAbsencesLongerThanAYear() {
+        CreateAbsenceRequest dto = new CreateAbsenceRequest(
+                LocalDate.now(),
+                LocalDate.MAX,
+                AbsenceType.PERSONAL,
+                "Forever"
+        );
+
+        assertThatThrownBy(() -> absenceService.submit(employee.getId(), dto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("span");
+        verifyNoInteractions(workingDayCalendar);
+    }
+
+    @Test
+    void submitShouldRejectSickLeaveStartingMoreThanAYearAgo() {
+        CreateAbsenceRequest dto = new CreateAbsenceRequest(
+                LocalDate.MIN,
+                LocalDate.MIN.plusDays(1),
+                AbsenceType.SICK,
+                "Long ago"
+        );
+
+        assertThatThrownBy(() -> absenceService.submit(employee.getId(), dto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Sick leave");
+        verifyNoInteractions(workingDayCalendar);
+    }
+
+    @Test
+    void getMyRequestsShouldOnlyReadArchiveWhenHistoryRequested() {
+        EmployeeAbsence live = EmployeeAbsence.builder()
+                .id(UUID.randomUUID())
+                .user(employee)
+                .manager(manager)
+                .status(AbsenceStatus.PENDING)
+                .startDate(LocalDate.now().plusDays(7))
+                .endDate(LocalDate.now().plusDays(8))
+                .type(AbsenceType.VACATION)
+                .build();
+        ArchivedEmployeeAbsence archived = ArchivedEmployeeAbsence.builder()
+                .id(UUID.randomUUID())
+                .userId(employee.getId())
+                .managerId(manager.getId())
+                .status(AbsenceStatus.COMPLETED)
+                .startDate(LocalDate.now().minusYears(2))
+                .endDate(LocalDate.now().minusYears(2).plusDays(2))
+                .type(AbsenceType.VACATION)
+                .build();
+        when(absenceRequestRepository.findAllByUserId(employee.getId())).thenReturn(List.of(live));
+        when(archivedAbsenceRepository.findAllByUserIdOrderByStartDateDesc(employee.getId()))
+                .thenReturn(List.of(archived));
+
+        assertThat(absenceService.getMyRequests(employee.getId()))
+                .extracting(EmployeeAbsenceDTO::getId)
+                .containsExactly(live.getId());
+        verifyNoInteractions(archivedAbsenceRepository);
+
+        assertThat(absenceService.getMyRequests(employee.getId(), true))
+                .extracting(EmployeeAbsenceDTO::getId, EmployeeAbsenceDTO::getStatus)
+                .containsExactly(
+                        tuple(live.getId(), AbsenceStatus.PENDING),
+                        tuple(archived.getId(), AbsenceStatus.COMPLETED));
+    }
+
     @Test
     void completeExpiredApprovedShouldMarkCompleted() {
         EmployeeAbsence approved = EmployeeAbsence.builder()
@@ -221,4 +456,14 @@ class AbsenceServiceImplTest {
         assertThat(count).isEqualTo(1);
         assertThat(approved.getStatus()).isEqualTo(AbsenceStatus.COMPLETED);
     }
+
+    private AbsenceStatusTransitionRow updatedRow(UUID id, AbsenceStatus status, String note) {
+        return new AbsenceStatusTransitionRow(id, BulkAbsenceStatusResultDTO.Outcome.UPDATED,
+                employee.getId(), manager.getId(), LocalDate.now(), LocalDate.now().plusDays(2),
+                AbsenceType.VACATION, status, note);
+    }
+
+    private static AbsenceStatusTransitionRow outcomeRow(UUID id, BulkAbsenceStatusResultDTO.Outcome outcome) {
+        return new AbsenceStatusTransitionRow(id, outcome, null, null, null, null, null, null, null);
+    }
 }
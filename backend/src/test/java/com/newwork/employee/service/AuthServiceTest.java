@@ -5,9 +5,11 @@ import com.newwork.employee.dto.response.AuthResponse;
 import com.newwork.employee.entity.User;
 import com.newwork.employee.entity.enums.Role;
 import com.newwork.employee.exception.InvalidCredentialsException;
+import com.newwork.employee.exception.LoginThrottledException;
 import com.newwork.employee.mapper.AuthMapper;
 import com.newwork.employee.repository.UserRepository;
 import com.newwork.employee.security.JwtTokenProvider;
+import com.newwork.employee.security.UserAccountDetails;
 import com.newwork.employee.service.impl.AuthServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +24,8 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -134,6 +138,33 @@ class AuthServiceTest {
             verify(jwtTokenProvider, never()).generateToken(any());
         }
 
+        @Test
+        void withAuthenticatedPrincipal_ReusesLoadedUser() {
+            Authentication authentication = new UsernamePasswordAuthenticationToken(
+                    new UserAccountDetails(testUser), null, List.of());
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                    .thenReturn(authentication);
+            when(jwtTokenProvider.generateToken(testUser))
+                    .thenReturn("mock.jwt.token");
+            when(authMapper.toAuthResponse(testUser, "mock.jwt.token"))
+                    .thenReturn(expectedResponse);
+
+            AuthResponse result = authService.login(loginRequest);
+
+            assertEquals(expectedResponse.getToken(), result.getToken());
+            verify(userRepository, never()).findByEmail(any());
+        }
+
+        @Test
+        void whenThrottled_PropagatesWithoutMaskingAsInvalidCredentials() {
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                    .thenThrow(new LoginThrottledException("Too many concurrent logins", Duration.ofSeconds(2)));
+
+            assertThrows(LoginThrottledException.class, () -> authService.login(loginRequest));
+
+            verify(jwtTokenProvider, never()).generateToken(any());
+        }
+
         @Test
         void callsAuthMapperWithCorrectParameters() {
             Authentication authentication = mock(Authentication.class);
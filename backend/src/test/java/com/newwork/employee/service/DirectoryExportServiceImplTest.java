@@ -0,0 +1,148 @@
+package com.newwork.employee.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newwork.employee.dto.DirectoryExportRow;
+import com.newwork.employee.repository.DirectoryExportRepository;
+import com.newwork.employee.repository.UserHierarchyRepository;
+import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.service.export.ExportFormat;
+import com.newwork.employee.service.impl.DirectoryExportServiceImpl;
+import com.newwork.employee.service.impl.PermissionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DirectoryExportServiceImplTest {
+
+    @Mock
+    private DirectoryExportRepository exportRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserHierarchyRepository userHierarchyRepository;
+
+    private DirectoryExportServiceImpl exportService;
+
+    private final UUID managerId = UUID.randomUUID();
+    private final UUID reportId = UUID.randomUUID();
+    private final UUID peerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        exportService = new DirectoryExportServiceImpl(exportRepository, new PermissionServiceImpl(userRepository, userHierarchyRepository));
+    }
+
+    @Test
+    void ndjsonShouldIncludeSensitiveFieldsOnlyForDirectReports() throws Exception {
+        streamRows(row(reportId, managerId, "Alice", "alice@home.test"),
+                row(peerId, null, "Bob", "bob@home.test"));
+
+        String output = export(managerId, ExportFormat.NDJSON);
+        List<String> lines = output.lines().toList();
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode report = mapper.readTree(lines.get(0));
+        JsonNode peer = mapper.readTree(lines.get(1));
+
+        assertThat(lines).hasSize(2);
+        assertThat(report.get("relationship").asText()).isEqualTo("MANAGER");
+        assertThat(report.get("personalEmail").asText()).isEqualTo("alice@home.test");
+        assertThat(report.get("salary").decimalValue()).isEqualByComparingTo("1000.00");
+        assertThat(peer.get("relationship").asText()).isEqualTo("OTHER");
+        assertThat(peer.has("personalEmail")).isFalse();
+        assertThat(peer.has("salary")).isFalse();
+        assertThat(peer.get("jobTitle").asText()).isEqualTo("Engineer");
+        // Identity and userId never filtered
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void csvShouldWriteHeaderBlankHiddenCellsAndEscapeValues() throws Exception {
+        DirectoryExportRow peer = row(peerId, null, "=HYPERLINK(\"x\")", "bob@home.test");
+        streamRows(peer);
+
+        String output = export(managerId, ExportFormat.CSV);
+        List<String> lines = output.lines().toList();
+
+        assertThat(lines.get(0)).startsWith("userId,employeeId,email,legalFirstName").endsWith(",relationship");
+        assertThat(lines.get(1))
+                .contains("\"'=HYPERLINK(\"\"x\"\")\"")
+                .doesNotContain("bob@home.test")
+                .endsWith(",OTHER");
+    }
+
+    @Test
+    void shouldTreatOwnRowAsSelf() throws Exception {
+        streamRows(row(peerId, managerId, "Bob", "bob@home.test"));
+
+        String output = export(peerId, ExportFormat.NDJSON);
+
+        assertThat(output).contains("\"relationship\":\"SELF\"").contains("bob@home.test");
+    }
+
+    @Test
+    void shouldTreatIndirectReportsAsSkipLevelWithoutSensitiveFields() throws Exception {
+        UUID skipLevelReportId = UUID.randomUUID();
+        when(userHierarchyRepository.findDescendantIds(managerId)).thenReturn(Set.of(reportId, skipLevelReportId));
+        streamRows(row(skipLevelReportId, reportId, "Carol", "carol@home.test"));
+
+        String output = export(managerId, ExportFormat.NDJSON);
+
+        assertThat(output).contains("\"relationship\":\"SKIP_LEVEL_MANAGER\"").doesNotContain("carol@home.test");
+    }
+
+    @Test
+    void shouldRejectUnknownFormat() {
+        assertThatThrownBy(() -> ExportFormat.fromParameter("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ExportFormat.fromParameter(null)).isEqualTo(ExportFormat.NDJSON);
+    }
+
+    private String export(UUID viewerId, ExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportDirectory(viewerId, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamRows(DirectoryExportRow... rows) {
+        doAnswer(invocation -> {
+            Consumer<DirectoryExportRow> consumer = invocation.getArgument(0);
+            for (DirectoryExportRow row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(exportRepository).forEachActiveProfile(any(Consumer.class));
+    }
+
+    private static DirectoryExportRow row(UUID userId, UUID managerId, String firstName, String personalEmail) {
+        return new DirectoryExportRow(
+                userId, "EMP-" + firstName.length(), firstName.toLowerCase() + "@company.test", managerId,
+                firstName, "Doe", "Engineering", "ENG-1", "Engineering", "L2", "ACTIVE",
+                LocalDate.of(2020, 1, 1), null, new BigDecimal("1.00"),
+                null, "Engineer", "Berlin", null, "REMOTE", null, "Java", null,
+                personalEmail, null, null, null, null, null, LocalDate.of(1990, 1, 1), null,
+                new BigDecimal("20.00"), new BigDecimal("1000.00"), "Strong");
+    }
+}
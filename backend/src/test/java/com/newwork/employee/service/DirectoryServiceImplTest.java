@@ -3,6 +3,7 @@ package com.newwork.employee.service;
 import com.newwork.employee.dto.CoworkerDTO;
 import com.newwork.employee.entity.EmployeeProfile;
 import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.AbsenceStatus;
 import com.newwork.employee.entity.enums.EmploymentStatus;
 import com.newwork.employee.entity.enums.Relationship;
 import com.newwork.employee.entity.enums.WorkLocationType;
@@ -20,10 +21,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -102,12 +106,11 @@ class DirectoryServiceImplTest {
         when(userRepository.findById(viewer.getId())).thenReturn(Optional.of(viewer));
         when(profileRepository.findAllActiveProfilesWithUserAndManager())
                 .thenReturn(List.of(directReportProfile, coworkerProfile));
-        when(permissionService.determineRelationship(viewer, directReportUser))
+        when(permissionService.getReportingTree(viewer.getId())).thenReturn(Set.of(directReportUser.getId()));
+        when(permissionService.determineRelationship(eq(viewer), eq(directReportUser), anySet()))
                 .thenReturn(Relationship.MANAGER);
-        when(permissionService.determineRelationship(viewer, coworkerUser))
+        when(permissionService.determineRelationship(eq(viewer), eq(coworkerUser), anySet()))
                 .thenReturn(Relationship.COWORKER);
-        when(absenceRequestRepository.countByManagerAndUserAndStatus(any(), any(), any()))
-                .thenReturn(0L);
 
         List<CoworkerDTO> result = directoryService.getDirectory(viewer.getId(), null, null, null);
 
@@ -130,7 +133,7 @@ class DirectoryServiceImplTest {
         when(userRepository.findById(viewer.getId())).thenReturn(Optional.of(viewer));
         when(profileRepository.findAllActiveProfilesWithUserAndManager())
                 .thenReturn(List.of(directReportProfile, coworkerProfile));
-        when(permissionService.determineRelationship(any(User.class), any(User.class)))
+        when(permissionService.determineRelationship(any(User.class), any(User.class), anySet()))
                 .thenReturn(Relationship.COWORKER);
 
         List<CoworkerDTO> result = directoryService.getDirectory(
@@ -149,12 +152,13 @@ class DirectoryServiceImplTest {
         when(userRepository.findById(viewer.getId())).thenReturn(Optional.of(viewer));
         when(profileRepository.findAllActiveProfilesWithUserAndManager())
                 .thenReturn(List.of(directReportProfile, coworkerProfile));
-        when(permissionService.determineRelationship(viewer, directReportUser))
+        when(permissionService.getReportingTree(viewer.getId())).thenReturn(Set.of(directReportUser.getId()));
+        when(permissionService.determineRelationship(eq(viewer), eq(directReportUser), anySet()))
                 .thenReturn(Relationship.MANAGER);
-        when(permissionService.determineRelationship(viewer, coworkerUser))
+        when(permissionService.determineRelationship(eq(viewer), eq(coworkerUser), anySet()))
                 .thenReturn(Relationship.COWORKER);
-        when(absenceRequestRepository.countByManagerAndUserAndStatus(any(), any(), any()))
-                .thenReturn(2L);
+        when(absenceRequestRepository.countByReportingTreeAndStatus(viewer.getId(), AbsenceStatus.PENDING))
+                .thenReturn(List.of(userCount(directReportUser.getId(), 2L)));
 
         List<CoworkerDTO> result = directoryService.getDirectory(viewer.getId(), null, null, true);
 
@@ -165,4 +169,56 @@ class DirectoryServiceImplTest {
                     assertThat(dto.getPendingAbsenceCount()).isEqualTo(2);
                 });
     }
+
+    @Test
+    void shouldIncludeSkipLevelReportsWhenAllReportsRequested() {
+        User skipLevelUser = User.builder()
+                .id(UUID.randomUUID())
+                .employeeId("EMP-030")
+                .email("emp30@test.com")
+                .manager(directReportUser)
+                .build();
+        EmployeeProfile skipLevelProfile = EmployeeProfile.builder()
+                .user(skipLevelUser)
+                .legalFirstName("Carol")
+                .legalLastName("Clark")
+                .department("Engineering")
+                .employmentStatus(EmploymentStatus.ACTIVE)
+                .hireDate(LocalDate.of(2021, 3, 1))
+                .build();
+
+        when(userRepository.findById(viewer.getId())).thenReturn(Optional.of(viewer));
+        when(profileRepository.findAllActiveProfilesWithUserAndManager())
+                .thenReturn(List.of(directReportProfile, coworkerProfile, skipLevelProfile));
+        when(permissionService.getReportingTree(viewer.getId()))
+                .thenReturn(Set.of(directReportUser.getId(), skipLevelUser.getId()));
+        when(permissionService.determineRelationship(eq(viewer), eq(directReportUser), anySet()))
+                .thenReturn(Relationship.MANAGER);
+        when(permissionService.determineRelationship(eq(viewer), eq(skipLevelUser), anySet()))
+                .thenReturn(Relationship.SKIP_LEVEL_MANAGER);
+        when(absenceRequestRepository.countByReportingTreeAndStatus(viewer.getId(), AbsenceStatus.PENDING))
+                .thenReturn(List.of(userCount(skipLevelUser.getId(), 1L)));
+
+        List<CoworkerDTO> result = directoryService.getDirectory(viewer.getId(), null, null, null, true);
+
+        assertThat(result).extracting(CoworkerDTO::getEmployeeId).containsExactly("EMP-010", "EMP-030");
+        assertThat(result.get(0).getPendingAbsenceCount()).isZero();
+        assertThat(result.get(1).getRelationship()).isEqualTo("SKIP_LEVEL_MANAGER");
+        assertThat(result.get(1).isDirectReport()).isFalse();
+        assertThat(result.get(1).getPendingAbsenceCount()).isEqualTo(1);
+    }
+
+    private static EmployeeAbsenceRepository.UserCount userCount(UUID userId, long total) {
+        return new EmployeeAbsenceRepository.UserCount() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
 }
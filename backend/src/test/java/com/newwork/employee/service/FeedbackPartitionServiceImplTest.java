@@ -0,0 +1,78 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.config.properties.FeedbackPartitionProperties;
+import com.newwork.employee.repository.FeedbackPartitionRepository;
+import com.newwork.employee.service.impl.FeedbackPartitionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackPartitionServiceImplTest {
+
+    @Mock
+    private FeedbackPartitionRepository partitionRepository;
+
+    private FeedbackPartitionProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private FeedbackPartitionService partitionService;
+
+    @BeforeEach
+    void setup() {
+        properties = new FeedbackPartitionProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        partitionService = new FeedbackPartitionServiceImpl(partitionRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void ensurePartitionsShouldCoverCurrentMonthAndMonthsAhead() {
+        when(partitionRepository.createPartitions(LocalDate.of(2026, 10, 1), LocalDate.of(2027, 1, 1)))
+                .thenReturn(1);
+
+        assertThat(partitionService.ensurePartitions(LocalDate.of(2026, 10, 18))).isEqualTo(1);
+    }
+
+    @Test
+    void ensurePartitionsShouldDrainDefaultPartitionAndReportStrayRows() {
+        when(partitionRepository.countDefaultPartitionRows()).thenReturn(4L);
+        when(partitionRepository.findDefaultPartitionMonths()).thenReturn(Optional.of(
+                new FeedbackPartitionRepository.MonthRange(LocalDate.of(2027, 2, 1), LocalDate.of(2027, 3, 1))));
+        when(partitionRepository.createPartitions(LocalDate.of(2027, 2, 1), LocalDate.of(2027, 3, 1)))
+                .thenReturn(2);
+        when(partitionRepository.createPartitions(LocalDate.of(2026, 10, 1), LocalDate.of(2027, 1, 1)))
+                .thenReturn(0);
+
+        assertThat(partitionService.ensurePartitions(LocalDate.of(2026, 10, 18))).isEqualTo(2);
+        assertThat(meterRegistry.get("feedback.partitions.default.rows").gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    void archiveShouldKeepRetentionWindowIncludingCurrentMonth() {
+        properties.setRetentionMonths(12);
+        when(partitionRepository.archivePartitions(LocalDate.of(2025, 11, 1)))
+                .thenReturn(List.of("feedback_2025_09", "feedback_2025_10"));
+
+        List<String> archived = partitionService.archiveExpiredPartitions(LocalDate.of(2026, 10, 18));
+
+        assertThat(archived).containsExactly("feedback_2025_09", "feedback_2025_10");
+    }
+
+    @Test
+    void archiveShouldBeDisabledWithoutRetention() {
+        properties.setRetentionMonths(0);
+
+        assertThat(partitionService.archiveExpiredPartitions(LocalDate.of(2026, 10, 18))).isEmpty();
+        verifyNoInteractions(partitionRepository);
+    }
+}
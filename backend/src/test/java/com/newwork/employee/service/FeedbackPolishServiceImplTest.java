@@ -12,6 +12,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
@@ -19,6 +21,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class FeedbackPolishServiceImplTest {
 
+    private static final UUID AUTHOR_ID = UUID.randomUUID();
+
     @Mock
     private HuggingFaceClient huggingFaceClient;
 
@@ -35,10 +39,10 @@ class FeedbackPolishServiceImplTest {
 
     @Test
     void polish_ShouldReturnResponse() {
-        when(huggingFaceClient.polish("Great teamwork!"))
+        when(huggingFaceClient.polish(AUTHOR_ID, "Great teamwork!"))
                 .thenReturn("Great teamwork! Keep it up.");
 
-        PolishFeedbackResponse response = feedbackPolishService.polish("Great teamwork!");
+        PolishFeedbackResponse response = feedbackPolishService.polish(AUTHOR_ID, "Great teamwork!");
 
         assertThat(response.getOriginalText()).isEqualTo("Great teamwork!");
         assertThat(response.getPolishedText()).isEqualTo("Great teamwork! Keep it up.");
@@ -48,14 +52,14 @@ class FeedbackPolishServiceImplTest {
     void polish_ShouldThrowWhenDisabled() {
         properties.setEnabled(false);
 
-        assertThatThrownBy(() -> feedbackPolishService.polish("Great teamwork!"))
+        assertThatThrownBy(() -> feedbackPolishService.polish(AUTHOR_ID, "Great teamwork!"))
                 .isInstanceOf(AiServiceException.class)
                 .hasMessageContaining("disabled");
     }
 
     @Test
     void polish_ShouldValidateMinimumLength() {
-        assertThatThrownBy(() -> feedbackPolishService.polish("short"))
+        assertThatThrownBy(() -> feedbackPolishService.polish(AUTHOR_ID, "short"))
                 .isInstanceOf(IllegalArgumentException.class);
     }
 }
@@ -13,8 +13,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -26,6 +29,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("Feedback Polish Service Integration Tests")
 class FeedbackPolishServiceIntegrationTest {
 
+    private static final UUID AUTHOR_ID = UUID.randomUUID();
+
     @Mock
     private HuggingFaceClient huggingFaceClient;
 
@@ -53,14 +58,14 @@ class FeedbackPolishServiceIntegrationTest {
             String originalText = "You did great on the project, I think you should keep it up!";
             String polishedText = "You did great on the project! Keep up the excellent work.";
 
-            when(huggingFaceClient.polish(originalText)).thenReturn(polishedText);
+            when(huggingFaceClient.polish(AUTHOR_ID, originalText)).thenReturn(polishedText);
 
-            PolishFeedbackResponse response = polishService.polish(originalText);
+            PolishFeedbackResponse response = polishService.polish(AUTHOR_ID, originalText);
 
             assertThat(response).isNotNull();
             assertThat(response.getOriginalText()).isEqualTo(originalText);
             assertThat(response.getPolishedText()).isEqualTo(polishedText);
-            verify(huggingFaceClient, times(1)).polish(originalText);
+            verify(huggingFaceClient, times(1)).polish(AUTHOR_ID, originalText);
         }
 
         @Test
@@ -70,13 +75,13 @@ class FeedbackPolishServiceIntegrationTest {
             String longTextTrimmed = longText.trim();
             String polishedText = "Great teamwork! You consistently showed excellent collaboration skills.";
 
-            when(huggingFaceClient.polish(longTextTrimmed)).thenReturn(polishedText);
+            when(huggingFaceClient.polish(AUTHOR_ID, longTextTrimmed)).thenReturn(polishedText);
 
-            PolishFeedbackResponse response = polishService.polish(longText);
+            PolishFeedbackResponse response = polishService.polish(AUTHOR_ID, longText);
 
             assertThat(response).isNotNull();
             assertThat(response.getPolishedText()).isEqualTo(polishedText);
-            verify(huggingFaceClient).polish(longTextTrimmed);
+            verify(huggingFaceClient).polish(AUTHOR_ID, longTextTrimmed);
         }
 
         @Test
@@ -85,9 +90,9 @@ class FeedbackPolishServiceIntegrationTest {
             String textWithSpecialChars = "Great work on the Q&A session! Your expertise in C++ & Java really shone through.";
             String polishedText = "Great work on the Q&A session! Your C++ and Java expertise truly shone through.";
 
-            when(huggingFaceClient.polish(textWithSpecialChars)).thenReturn(polishedText);
+            when(huggingFaceClient.polish(AUTHOR_ID, textWithSpecialChars)).thenReturn(polishedText);
 
-            PolishFeedbackResponse response = polishService.polish(textWithSpecialChars);
+            PolishFeedbackResponse response = polishService.polish(AUTHOR_ID, textWithSpecialChars);
 
             assertThat(response.getPolishedText()).isEqualTo(polishedText);
         }
@@ -102,11 +107,11 @@ class FeedbackPolishServiceIntegrationTest {
         void polish_ServiceDisabled() {
             properties.setEnabled(false);
 
-            assertThatThrownBy(() -> polishService.polish("Great job!"))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, "Great job!"))
                     .isInstanceOf(AiServiceException.class)
                     .hasMessageContaining("disabled");
 
-            verify(huggingFaceClient, never()).polish(anyString());
+            verify(huggingFaceClient, never()).polish(any(), anyString());
         }
 
         @Test
@@ -114,42 +119,42 @@ class FeedbackPolishServiceIntegrationTest {
         void polish_TextTooShort() {
             String shortText = "ok";
 
-            assertThatThrownBy(() -> polishService.polish(shortText))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, shortText))
                     .isInstanceOf(IllegalArgumentException.class);
 
-            verify(huggingFaceClient, never()).polish(anyString());
+            verify(huggingFaceClient, never()).polish(any(), anyString());
         }
 
         @Test
         @DisplayName("Should throw exception for null text")
         void polish_NullText() {
-            assertThatThrownBy(() -> polishService.polish(null))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, null))
                     .isInstanceOf(IllegalArgumentException.class);
 
-            verify(huggingFaceClient, never()).polish(anyString());
+            verify(huggingFaceClient, never()).polish(any(), anyString());
         }
 
         @Test
         @DisplayName("Should throw exception for blank text")
         void polish_BlankText() {
-            assertThatThrownBy(() -> polishService.polish("   "))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, "   "))
                     .isInstanceOf(IllegalArgumentException.class);
 
-            verify(huggingFaceClient, never()).polish(anyString());
+            verify(huggingFaceClient, never()).polish(any(), anyString());
         }
 
         @Test
         @DisplayName("Should propagate AI service exceptions")
         void polish_AiServiceError() {
             String text = "Great job on the presentation!";
-            when(huggingFaceClient.polish(text))
+            when(huggingFaceClient.polish(AUTHOR_ID, text))
                     .thenThrow(new AiServiceException("API rate limit exceeded"));
 
-            assertThatThrownBy(() -> polishService.polish(text))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, text))
                     .isInstanceOf(AiServiceException.class)
                     .hasMessageContaining("rate limit");
 
-            verify(huggingFaceClient).polish(text);
+            verify(huggingFaceClient).polish(AUTHOR_ID, text);
         }
     }
 
@@ -163,9 +168,9 @@ class FeedbackPolishServiceIntegrationTest {
             String original = "Excellent work on the API design!";
             String polished = "Excellent work on the API design! Your architecture choices were spot-on.";
 
-            when(huggingFaceClient.polish(original)).thenReturn(polished);
+            when(huggingFaceClient.polish(AUTHOR_ID, original)).thenReturn(polished);
 
-            PolishFeedbackResponse response = polishService.polish(original);
+            PolishFeedbackResponse response = polishService.polish(AUTHOR_ID, original);
 
             assertThat(response.getOriginalText()).isEqualTo(original);
             assertThat(response.getPolishedText()).isNotEqualTo(original);
@@ -176,9 +181,9 @@ class FeedbackPolishServiceIntegrationTest {
         void polish_UnchangedText() {
             String text = "Perfect feedback that needs no improvement.";
 
-            when(huggingFaceClient.polish(text)).thenReturn(text);
+            when(huggingFaceClient.polish(AUTHOR_ID, text)).thenReturn(text);
 
-            PolishFeedbackResponse response = polishService.polish(text);
+            PolishFeedbackResponse response = polishService.polish(AUTHOR_ID, text);
 
             assertThat(response.getOriginalText()).isEqualTo(text);
             assertThat(response.getPolishedText()).isEqualTo(text);
@@ -190,9 +195,9 @@ class FeedbackPolishServiceIntegrationTest {
             String original = "Good work on the documentation!";
             String polishedText = "Good work on the documentation! Very thorough and well-structured.";
 
-            when(huggingFaceClient.polish(original)).thenReturn(polishedText);
+            when(huggingFaceClient.polish(AUTHOR_ID, original)).thenReturn(polishedText);
 
-            PolishFeedbackResponse response = polishService.polish(original);
+            PolishFeedbackResponse response = polishService.polish(AUTHOR_ID, original);
 
             assertThat(response.getPolishedText()).isEqualTo(polishedText);
         }
@@ -207,12 +212,12 @@ class FeedbackPolishServiceIntegrationTest {
         void respectsEnabledFlag() {
             properties.setEnabled(true);
 
-            when(huggingFaceClient.polish(anyString())).thenReturn("Polished text");
+            when(huggingFaceClient.polish(any(), anyString())).thenReturn("Polished text");
 
-            PolishFeedbackResponse response = polishService.polish("Great teamwork!");
+            PolishFeedbackResponse response = polishService.polish(AUTHOR_ID, "Great teamwork!");
 
             assertThat(response).isNotNull();
-            verify(huggingFaceClient).polish(anyString());
+            verify(huggingFaceClient).polish(any(), anyString());
         }
 
         @Test
@@ -220,10 +225,10 @@ class FeedbackPolishServiceIntegrationTest {
         void doesNotCallWhenDisabled() {
             properties.setEnabled(false);
 
-            assertThatThrownBy(() -> polishService.polish("Great teamwork!"))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, "Great teamwork!"))
                     .isInstanceOf(AiServiceException.class);
 
-            verify(huggingFaceClient, never()).polish(anyString());
+            verify(huggingFaceClient, never()).polish(any(), anyString());
         }
     }
 }
@@ -24,6 +24,8 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
@@ -38,6 +40,8 @@ import static org.mockito.Mockito.when;
 @DisplayName("Feedback Polish Service True Integration Tests")
 class FeedbackPolishTrueIntegrationTest {
 
+    private static final UUID AUTHOR_ID = UUID.randomUUID();
+
     @Container
     @ServiceConnection
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
@@ -102,10 +106,10 @@ class FeedbackPolishTrueIntegrationTest {
             String polishedText = "You did great on the project! Keep up the excellent work.";
 
             // Mock HuggingFace client response
-            when(huggingFaceClient.polish(originalText)).thenReturn(polishedText);
+            when(huggingFaceClient.polish(AUTHOR_ID, originalText)).thenReturn(polishedText);
 
             // Execute polish operation
-            PolishFeedbackResponse response = polishService.polish(originalText);
+            PolishFeedbackResponse response = polishService.polish(AUTHOR_ID, originalText);
 
             // Verify response
             assertThat(response).isNotNull();
@@ -136,9 +140,9 @@ class FeedbackPolishTrueIntegrationTest {
             String longText = "Great teamwork! " + "You showed excellent collaboration skills. ".repeat(20);
             String polishedText = "Great teamwork! You consistently demonstrated excellent collaboration skills.";
 
-            when(huggingFaceClient.polish(longText.trim())).thenReturn(polishedText);
+            when(huggingFaceClient.polish(AUTHOR_ID, longText.trim())).thenReturn(polishedText);
 
-            PolishFeedbackResponse response = polishService.polish(longText);
+            PolishFeedbackResponse response = polishService.polish(AUTHOR_ID, longText);
 
             assertThat(response.getOriginalText()).isEqualTo(longText.trim());
             assertThat(response.getPolishedText()).isEqualTo(polishedText);
@@ -150,9 +154,9 @@ class FeedbackPolishTrueIntegrationTest {
             String textWithSpecialChars = "Great work on the Q&A session! Your expertise in C++ & Java really shone through.";
             String polishedText = "Great work on the Q&A session! Your C++ and Java expertise truly shone through.";
 
-            when(huggingFaceClient.polish(textWithSpecialChars)).thenReturn(polishedText);
+            when(huggingFaceClient.polish(AUTHOR_ID, textWithSpecialChars)).thenReturn(polishedText);
 
-            PolishFeedbackResponse response = polishService.polish(textWithSpecialChars);
+            PolishFeedbackResponse response = polishService.polish(AUTHOR_ID, textWithSpecialChars);
 
             assertThat(response.getPolishedText()).isEqualTo(polishedText);
         }
@@ -167,10 +171,10 @@ class FeedbackPolishTrueIntegrationTest {
         void polish_AiServiceError() {
             String text = "Great job on the presentation!";
 
-            when(huggingFaceClient.polish(text))
+            when(huggingFaceClient.polish(AUTHOR_ID, text))
                     .thenThrow(new AiServiceException("AI service error: rate limit exceeded"));
 
-            assertThatThrownBy(() -> polishService.polish(text))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, text))
                     .isInstanceOf(AiServiceException.class)
                     .hasMessageContaining("rate limit exceeded");
         }
@@ -180,10 +184,10 @@ class FeedbackPolishTrueIntegrationTest {
         void polish_EmptyAiResponse() {
             String text = "Great teamwork on the project!";
 
-            when(huggingFaceClient.polish(text))
+            when(huggingFaceClient.polish(AUTHOR_ID, text))
                     .thenThrow(new AiServiceException("AI service returned empty completion"));
 
-            assertThatThrownBy(() -> polishService.polish(text))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, text))
                     .isInstanceOf(AiServiceException.class)
                     .hasMessageContaining("empty completion");
         }
@@ -191,7 +195,7 @@ class FeedbackPolishTrueIntegrationTest {
         @Test
         @DisplayName("Should throw exception for text below minimum length")
         void polish_TextTooShort() {
-            assertThatThrownBy(() -> polishService.polish("ok"))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, "ok"))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("at least 10 characters");
         }
@@ -199,14 +203,14 @@ class FeedbackPolishTrueIntegrationTest {
         @Test
         @DisplayName("Should throw exception for null text")
         void polish_NullText() {
-            assertThatThrownBy(() -> polishService.polish(null))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, null))
                     .isInstanceOf(IllegalArgumentException.class);
         }
 
         @Test
         @DisplayName("Should throw exception for blank text")
         void polish_BlankText() {
-            assertThatThrownBy(() -> polishService.polish("   "))
+            assertThatThrownBy(() -> polishService.polish(AUTHOR_ID, "   "))
                     .isInstanceOf(IllegalArgumentException.class);
         }
     }
@@ -221,10 +225,10 @@ class FeedbackPolishTrueIntegrationTest {
             String originalText = "Nice job on the feature implementation!";
             String polishedText = "Nice job on the feature implementation! Your attention to detail was impressive.";
 
-            when(huggingFaceClient.polish(originalText)).thenReturn(polishedText);
+            when(huggingFaceClient.polish(AUTHOR_ID, originalText)).thenReturn(polishedText);
 
             // Polish the text
-            PolishFeedbackResponse polishResponse = polishService.polish(originalText);
+            PolishFeedbackResponse polishResponse = polishService.polish(AUTHOR_ID, originalText);
 
             // Create feedback with polished text using test builder
             Feedback feedback = FeedbackTestBuilder.aFeedback()
@@ -253,12 +257,12 @@ class FeedbackPolishTrueIntegrationTest {
             String polished1 = "Great work on the frontend! Your UI design was clean and intuitive.";
             String polished2 = "Excellent backend implementation! Your API design was well-structured.";
 
-            when(huggingFaceClient.polish(text1)).thenReturn(polished1);
-            when(huggingFaceClient.polish(text2)).thenReturn(polished2);
+            when(huggingFaceClient.polish(AUTHOR_ID, text1)).thenReturn(polished1);
+            when(huggingFaceClient.polish(AUTHOR_ID, text2)).thenReturn(polished2);
 
             // Execute both polish operations
-            PolishFeedbackResponse response1 = polishService.polish(text1);
-            PolishFeedbackResponse response2 = polishService.polish(text2);
+            PolishFeedbackResponse response1 = polishService.polish(AUTHOR_ID, text1);
+            PolishFeedbackResponse response2 = polishService.polish(AUTHOR_ID, text2);
 
             assertThat(response1.getPolishedText()).isEqualTo(polished1);
             assertThat(response2.getPolishedText()).isEqualTo(polished2);
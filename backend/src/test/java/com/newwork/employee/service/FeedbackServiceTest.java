@@ -1,16 +1,22 @@
 package com.newwork.employee.service;
 
 import com.newwork.employee.dto.FeedbackDTO;
+import com.newwork.employee.dto.FeedbackPage;
 import com.newwork.employee.dto.request.CreateFeedbackRequest;
 import com.newwork.employee.entity.Feedback;
 import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.ChangedEntity;
 import com.newwork.employee.entity.enums.Role;
 import com.newwork.employee.exception.ForbiddenException;
 import com.newwork.employee.exception.ResourceNotFoundException;
 import com.newwork.employee.mapper.FeedbackMapper;
 import com.newwork.employee.repository.FeedbackRepository;
+import com.newwork.employee.repository.FeedbackStatsRepository;
+import com.newwork.employee.repository.FeedbackReadRepository;
 import com.newwork.employee.repository.UserRepository;
 import com.newwork.employee.service.impl.FeedbackServiceImpl;
+import com.newwork.employee.util.KeysetCursor;
+import com.newwork.employee.util.RankedKeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,6 +36,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,12 +47,21 @@ class FeedbackServiceTest {
     @Mock
     private FeedbackRepository feedbackRepository;
 
+    @Mock
+    private FeedbackStatsRepository feedbackStatsRepository;
+
+    @Mock
+    private FeedbackReadRepository feedbackReadRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private FeedbackMapper feedbackMapper;
 
+    @Mock
+    private EntityChangePublisher entityChangePublisher;
+
     @InjectMocks
     private FeedbackServiceImpl feedbackService;
 
@@ -146,6 +163,8 @@ class FeedbackServiceTest {
             assertThat(result.getAiPolished()).isFalse();
 
             verify(feedbackRepository).save(any(Feedback.class));
+            verify(feedbackStatsRepository).recordFeedback(author.getId(), recipient.getId());
+            verify(entityChangePublisher).publish(ChangedEntity.FEEDBACK, feedback.getId(), recipient.getId(), feedbackDTO);
         }
 
         @Test
@@ -371,4 +390,95 @@ class FeedbackServiceTest {
                     .hasMessage("Recipient not found");
         }
     }
+
+    @Nested
+    @DisplayName("Team Feedback Tests")
+    class TeamFeedbackTests {
+
+        private FeedbackDTO teamFeedback(int minutesAgo) {
+            FeedbackDTO dto = new FeedbackDTO();
+            dto.setId(UUID.randomUUID());
+            dto.setRecipientId(recipient.getId());
+            dto.setCreatedAt(OffsetDateTime.of(LocalDateTime.of(2026, 3, 2, 12, 0).minusMinutes(minutesAgo), ZoneOffset.UTC));
+            return dto;
+        }
+
+        @Test
+        @DisplayName("Should fetch one extra row to detect the next page")
+        void shouldReturnFirstPageWithCursor() {
+            FeedbackDTO newest = teamFeedback(1);
+            FeedbackDTO second = teamFeedback(2);
+            FeedbackDTO extra = teamFeedback(3);
+            when(feedbackReadRepository.findTeamPage(eq(author.getId()), isNull(), eq(3)))
+                    .thenReturn(List.of(newest, second, extra));
+
+            FeedbackPage page = feedbackService.getTeamFeedback(author.getId(), 2, null);
+
+            assertThat(page.getItems()).containsExactly(newest, second);
+            assertThat(page.isHasNextPage()).isTrue();
+            assertThat(KeysetCursor.decode(page.getEndCursor()))
+                    .isEqualTo(new KeysetCursor(second.getCreatedAt().toLocalDateTime(), second.getId()));
+        }
+
+        @Test
+        @DisplayName("Should continue after the given cursor")
+        void shouldContinueAfterCursor() {
+            KeysetCursor after = new KeysetCursor(LocalDateTime.of(2026, 3, 1, 9, 30), UUID.randomUUID());
+            FeedbackDTO older = teamFeedback(2000);
+            when(feedbackReadRepository.findTeamPage(author.getId(), after, FeedbackService.DEFAULT_PAGE_SIZE + 1))
+                    .thenReturn(List.of(older));
+
+            FeedbackPage page = feedbackService.getTeamFeedback(author.getId(), null, after.encode());
+
+            assertThat(page.getItems()).containsExactly(older);
+            assertThat(page.isHasNextPage()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject page sizes above the maximum")
+        void shouldRejectOversizedPage() {
+            assertThatThrownBy(() -> feedbackService.getTeamFeedback(author.getId(), FeedbackService.MAX_PAGE_SIZE + 1, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            verifyNoInteractions(feedbackReadRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Feedback Tests")
+    class SearchFeedbackTests {
+
+        @Test
+        @DisplayName("Should page ranked hits with a rank-aware cursor")
+        void shouldPageRankedHits() {
+            FeedbackDTO best = new FeedbackDTO();
+            best.setId(UUID.randomUUID());
+            best.setCreatedAt(OffsetDateTime.of(2026, 3, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+            FeedbackDTO extra = new FeedbackDTO();
+            extra.setId(UUID.randomUUID());
+            extra.setCreatedAt(OffsetDateTime.of(2026, 2, 1, 9, 0, 0, 0, ZoneOffset.UTC));
+            when(feedbackReadRepository.search(eq(author.getId()), eq("release planning"), isNull(), eq(2)))
+                    .thenReturn(List.of(new FeedbackReadRepository.SearchHit(best, 0.4f),
+                            new FeedbackReadRepository.SearchHit(extra, 0.1f)));
+
+            FeedbackPage page = feedbackService.searchFeedback(author.getId(), "  release planning ", 1, null);
+
+            assertThat(page.getItems()).containsExactly(best);
+            assertThat(page.isHasNextPage()).isTrue();
+            assertThat(RankedKeysetCursor.decode(page.getEndCursor())).isEqualTo(new RankedKeysetCursor(0.4f,
+                    new KeysetCursor(best.getCreatedAt().toLocalDateTime(), best.getId())));
+        }
+
+        @Test
+        @DisplayName("Should reject blank and overlong queries")
+        void shouldRejectInvalidQueries() {
+            assertThatThrownBy(() -> feedbackService.searchFeedback(author.getId(), " ", null, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> feedbackService.searchFeedback(author.getId(),
+                    "x".repeat(FeedbackService.MAX_SEARCH_QUERY_LENGTH + 1), null, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            verifyNoInteractions(feedbackReadRepository);
+        }
+    }
 }
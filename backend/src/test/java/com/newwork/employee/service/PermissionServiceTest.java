@@ -5,6 +5,7 @@ import com.newwork.employee.entity.enums.FieldType;
 import com.newwork.employee.entity.enums.Relationship;
 import com.newwork.employee.entity.enums.Role;
 import com.newwork.employee.exception.UserNotFoundException;
+import com.newwork.employee.repository.UserHierarchyRepository;
 import com.newwork.employee.repository.UserRepository;
 import com.newwork.employee.service.impl.PermissionServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +32,9 @@ class PermissionServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserHierarchyRepository userHierarchyRepository;
+
     @InjectMocks
     private PermissionServiceImpl permissionService;
 
@@ -140,6 +145,36 @@ class PermissionServiceTest {
                     .hasMessageContaining("Profile owner not found");
         }
 
+        @Test
+        @DisplayName("Should detect SKIP_LEVEL_MANAGER when profile owner is deeper in the reporting tree")
+        void shouldDetectSkipLevelManagerRelationship() {
+            UUID directorId = UUID.randomUUID();
+            when(userRepository.findById(employee.getId())).thenReturn(Optional.of(employee));
+            when(userHierarchyRepository.findDepth(directorId, employee.getId())).thenReturn(Optional.of(2));
+
+            Relationship result = permissionService.determineRelationship(directorId, employee.getId());
+            assertThat(result).isEqualTo(Relationship.SKIP_LEVEL_MANAGER);
+        }
+
+        @Test
+        @DisplayName("Should detect SKIP_LEVEL_MANAGER from a preloaded reporting tree without queries")
+        void shouldDetectSkipLevelManagerFromReportingTree() {
+            User director = User.builder().id(UUID.randomUUID()).email("director@company.com").build();
+            manager.setManager(director);
+            Set<UUID> reportingTree = Set.of(manager.getId(), employee.getId(), coworker.getId());
+
+            assertThat(permissionService.determineRelationship(director, manager, reportingTree))
+                    .isEqualTo(Relationship.MANAGER);
+
+            assertThat(permissionService.determineRelationship(director, employee, reportingTree))
+                    .isEqualTo(Relationship.SKIP_LEVEL_MANAGER);
+            assertThat(permissionService.determineRelationship(coworker, employee, Set.of()))
+                    .isEqualTo(Relationship.COWORKER);
+            assertThat(permissionService.determineRelationship(
+                    director.getId(), employee.getId(), manager.getId(), reportingTree))
+                    .isEqualTo(Relationship.SKIP_LEVEL_MANAGER);
+        }
+
         @Test
         @DisplayName("Should detect COWORKER when profile owner has no manager")
         void shouldDetectCoworkerWhenProfileOwnerHasNoManager() {
@@ -287,6 +322,14 @@ class PermissionServiceTest {
             assertThat(permissionService.canEdit(Relationship.COWORKER, FieldType.NON_SENSITIVE)).isFalse();
             assertThat(permissionService.canView(Relationship.COWORKER, FieldType.SENSITIVE)).isFalse();
             assertThat(permissionService.canEdit(Relationship.COWORKER, FieldType.SENSITIVE)).isFalse();
+
+            // SKIP_LEVEL_MANAGER permissions (read-only, no sensitive fields)
+            assertThat(permissionService.canView(Relationship.SKIP_LEVEL_MANAGER, FieldType.SYSTEM_MANAGED)).isTrue();
+            assertThat(permissionService.canEdit(Relationship.SKIP_LEVEL_MANAGER, FieldType.SYSTEM_MANAGED)).isFalse();
+            assertThat(permissionService.canView(Relationship.SKIP_LEVEL_MANAGER, FieldType.NON_SENSITIVE)).isTrue();
+            assertThat(permissionService.canEdit(Relationship.SKIP_LEVEL_MANAGER, FieldType.NON_SENSITIVE)).isFalse();
+            assertThat(permissionService.canView(Relationship.SKIP_LEVEL_MANAGER, FieldType.SENSITIVE)).isFalse();
+            assertThat(permissionService.canEdit(Relationship.SKIP_LEVEL_MANAGER, FieldType.SENSITIVE)).isFalse();
         }
     }
 }
@@ -0,0 +1,119 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.config.properties.PhotoProperties;
+import com.newwork.employee.dto.ProfilePhotoDTO;
+import com.newwork.employee.entity.EmployeeProfile;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import com.newwork.employee.entity.enums.FieldType;
+import com.newwork.employee.entity.enums.Relationship;
+import com.newwork.employee.exception.ForbiddenException;
+import com.newwork.employee.repository.EmployeeProfileRepository;
+import com.newwork.employee.service.impl.PhotoServiceImpl;
+import com.newwork.employee.service.photo.PhotoStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoServiceImplTest {
+
+    private static final String HASH = "ab".repeat(32);
+
+    @Mock
+    private EmployeeProfileRepository profileRepository;
+
+    @Mock
+    private PermissionService permissionService;
+
+    @Mock
+    private EntityChangePublisher entityChangePublisher;
+
+    @Mock
+    private AuditTrail auditTrail;
+
+    @Mock
+    private PhotoStore photoStore;
+
+    @Spy
+    private PhotoProperties photoProperties = new PhotoProperties();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private PhotoServiceImpl photoService;
+
+    private final UUID viewerId = UUID.randomUUID();
+    private final UUID ownerId = UUID.randomUUID();
+    private final byte[] content = {1, 2, 3};
+
+    @Test
+    void shouldStorePhotoAndPointProfileAtMediumThumbnail() {
+        EmployeeProfile profile = EmployeeProfile.builder().id(UUID.randomUUID()).build();
+        when(profileRepository.existsByUserId(ownerId)).thenReturn(true);
+        when(profileRepository.findByUserId(ownerId)).thenReturn(Optional.of(profile));
+        when(permissionService.determineRelationship(viewerId, ownerId)).thenReturn(Relationship.MANAGER);
+        when(permissionService.canEdit(Relationship.MANAGER, FieldType.NON_SENSITIVE)).thenReturn(true);
+        when(photoStore.store(content)).thenReturn(HASH);
+        doAnswer(inv -> {
+            inv.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        ProfilePhotoDTO result = photoService.uploadProfilePhoto(viewerId, ownerId, content);
+
+        assertThat(result.getContentHash()).isEqualTo(HASH);
+        assertThat(result.getSmallUrl()).isEqualTo("/api/photos/" + HASH + "/small");
+        assertThat(result.getOriginalUrl()).isEqualTo("/api/photos/" + HASH + "/original");
+        assertThat(profile.getProfilePhotoHash()).isEqualTo(HASH);
+        assertThat(profile.getProfilePhotoUrl()).isEqualTo(result.getMediumUrl());
+        verify(profileRepository).save(profile);
+        verify(entityChangePublisher).publish(ChangedEntity.PROFILE, profile.getId(), ownerId);
+        var order = inOrder(photoStore, transactionTemplate);
+        order.verify(photoStore).store(content);
+        order.verify(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldRejectCoworkerBeforeTouchingStorage() {
+        when(profileRepository.existsByUserId(ownerId)).thenReturn(true);
+        when(permissionService.determineRelationship(viewerId, ownerId)).thenReturn(Relationship.COWORKER);
+        when(permissionService.canEdit(Relationship.COWORKER, FieldType.NON_SENSITIVE)).thenReturn(false);
+
+        assertThatThrownBy(() -> photoService.uploadProfilePhoto(viewerId, ownerId, content))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(photoStore, transactionTemplate, entityChangePublisher, auditTrail);
+        verify(profileRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectEmptyAndOversizedUploads() {
+        photoProperties.setMaxUploadSize(DataSize.ofBytes(2));
+
+        assertThatThrownBy(() -> photoService.uploadProfilePhoto(viewerId, ownerId, new byte[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> photoService.uploadProfilePhoto(viewerId, ownerId, content))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("too large");
+        verifyNoInteractions(profileRepository, photoStore);
+    }
+}
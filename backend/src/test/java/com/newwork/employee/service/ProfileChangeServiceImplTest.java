@@ -0,0 +1,137 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.config.properties.AuditProperties;
+import com.newwork.employee.config.properties.ProfileChangeFeedProperties;
+import com.newwork.employee.dto.ProfileChangesPage;
+import com.newwork.employee.entity.enums.FieldType;
+import com.newwork.employee.entity.enums.Relationship;
+import com.newwork.employee.repository.ProfileChangeRepository;
+import com.newwork.employee.service.impl.ProfileChangeServiceImpl;
+import com.newwork.employee.util.ProfileChangeCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileChangeServiceImplTest {
+
+    @Mock
+    private ProfileChangeRepository profileChangeRepository;
+
+    @Mock
+    private PermissionService permissionService;
+
+    @Spy
+    private ProfileChangeFeedProperties properties = new ProfileChangeFeedProperties();
+
+    @Spy
+    private AuditProperties auditProperties = new AuditProperties();
+
+    @InjectMocks
+    private ProfileChangeServiceImpl profileChangeService;
+
+    private final UUID viewerId = UUID.randomUUID();
+    private final long lastSync = 5_000_000_000L;
+    private final long horizon = lastSync + 1000;
+    private final LocalDateTime updatedAt = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Test
+    void initialSyncShouldSkipChangedFieldsAndReadBelowTheHorizon() {
+        properties.setClockSkew(Duration.ofSeconds(3));
+        auditProperties.setProgressTimeout(Duration.ofMinutes(2));
+        when(profileChangeRepository.feedHorizon(Duration.ofSeconds(3), Duration.ofMinutes(2))).thenReturn(horizon);
+        ProfileChangeRepository.ProfileChangeRow first = row(lastSync, List.of(), List.of());
+        ProfileChangeRepository.ProfileChangeRow second = row(lastSync + 1, List.of(), List.of());
+        when(profileChangeRepository.findPage(isNull(), isNull(), anyLong(), eq(2)))
+                .thenReturn(List.of(first, second));
+
+        ProfileChangesPage page = profileChangeService.getChanges(viewerId, null, 1);
+
+        verify(profileChangeRepository).findPage(isNull(), isNull(), eq(horizon), eq(2));
+        assertThat(page.getItems()).extracting(ProfileChangesPage.Change::getProfileId).containsExactly(first.profileId());
+        assertThat(page.getItems().get(0).getChangedFields()).isEmpty();
+        assertThat(page.isHasNextPage()).isTrue();
+        // Still mid-way through the initial sync: no baseline yet
+        assertThat(ProfileChangeCursor.decode(page.getEndCursor()))
+                .isEqualTo(new ProfileChangeCursor(first.txId(), first.profileId(), null));
+        verifyNoInteractions(permissionService);
+    }
+
+    @Test
+    void shouldReportFieldsSinceBaselineAndHideSensitiveOnesFromCoworkers() {
+        ProfileChangeCursor since = ProfileChangeCursor.caughtUp(lastSync - 10, UUID.randomUUID(), lastSync);
+        ProfileChangeRepository.ProfileChangeRow report =
+                row(lastSync + 1, List.of("jobTitle"), List.of("personalEmail"));
+        ProfileChangeRepository.ProfileChangeRow peer =
+                row(lastSync + 2, List.of("skills", "bio"), List.of("homeAddress"));
+        when(profileChangeRepository.feedHorizon(any(), any())).thenReturn(horizon);
+        when(profileChangeRepository.findPage(eq(since), eq(lastSync), eq(horizon), anyInt()))
+                .thenReturn(List.of(report, peer));
+        when(permissionService.getReportingTree(viewerId)).thenReturn(Set.of(report.userId()));
+        when(permissionService.determineRelationship(viewerId, report.userId(), report.managerId(), Set.of(report.userId())))
+                .thenReturn(Relationship.MANAGER);
+        when(permissionService.determineRelationship(viewerId, peer.userId(), peer.managerId(), Set.of(report.userId())))
+                .thenReturn(Relationship.COWORKER);
+        when(permissionService.canView(Relationship.MANAGER, FieldType.SENSITIVE)).thenReturn(true);
+        when(permissionService.canView(Relationship.COWORKER, FieldType.SENSITIVE)).thenReturn(false);
+
+        ProfileChangesPage page = profileChangeService.getChanges(viewerId, since.encode(), null);
+
+        assertThat(page.getItems()).extracting(ProfileChangesPage.Change::getChangedFields).containsExactly(
+                List.of("jobTitle", "personalEmail"),
+                List.of("bio", "skills"));
+        assertThat(page.isHasNextPage()).isFalse();
+        // End of the feed: the next sync reports changes from the horizon this one read up to
+        assertThat(ProfileChangeCursor.decode(page.getEndCursor()))
+                .isEqualTo(ProfileChangeCursor.caughtUp(peer.txId(), peer.profileId(), horizon));
+    }
+
+    @Test
+    void emptyPageShouldKeepConsumerPosition() {
+        ProfileChangeCursor since = new ProfileChangeCursor(lastSync, UUID.randomUUID(), lastSync - 100);
+        when(profileChangeRepository.feedHorizon(any(), any())).thenReturn(horizon);
+        when(profileChangeRepository.findPage(eq(since), eq(since.baseline()), eq(horizon), anyInt())).thenReturn(List.of());
+
+        ProfileChangesPage page = profileChangeService.getChanges(viewerId, since.encode(), 10);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(ProfileChangeCursor.decode(page.getEndCursor()))
+                .isEqualTo(ProfileChangeCursor.caughtUp(since.txId(), since.profileId(), horizon));
+    }
+
+    @Test
+    void shouldRejectInvalidPageSizeAndCursor() {
+        assertThatThrownBy(() -> profileChangeService.getChanges(viewerId, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> profileChangeService.getChanges(viewerId, null, ProfileChangeService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> profileChangeService.getChanges(viewerId, "not-a-cursor", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(profileChangeRepository);
+    }
+
+    private ProfileChangeRepository.ProfileChangeRow row(long txId, List<String> fields, List<String> sensitiveFields) {
+        return new ProfileChangeRepository.ProfileChangeRow(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                updatedAt, txId, fields, sensitiveFields);
+    }
+}
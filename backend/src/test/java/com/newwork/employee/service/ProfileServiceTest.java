@@ -1,9 +1,12 @@
 package com.newwork.employee.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newwork.employee.dto.AuditRecord;
 import com.newwork.employee.dto.ProfileDTO;
 import com.newwork.employee.dto.ProfileUpdateDTO;
 import com.newwork.employee.entity.EmployeeProfile;
 import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.ChangedEntity;
 import com.newwork.employee.entity.enums.EmploymentStatus;
 import com.newwork.employee.entity.enums.FieldType;
 import com.newwork.employee.entity.enums.Relationship;
@@ -14,23 +17,30 @@ import com.newwork.employee.exception.ResourceNotFoundException;
 import com.newwork.employee.mapper.ProfileMapper;
 import com.newwork.employee.repository.EmployeeProfileRepository;
 import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.service.cache.ProfileJsonCache;
 import com.newwork.employee.service.impl.ProfileServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
@@ -52,6 +62,21 @@ class ProfileServiceTest {
     @Mock
     private ProfileMapper profileMapper;
 
+    @Mock
+    private EntityChangePublisher entityChangePublisher;
+
+    @Mock
+    private SkillService skillService;
+
+    @Mock
+    private AuditTrail auditTrail;
+
+    @Mock
+    private ProfileJsonCache profileJsonCache;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private ProfileServiceImpl profileService;
 
@@ -163,6 +188,74 @@ class ProfileServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Profile JSON")
+    class GetProfileJsonTests {
+
+        private final LocalDateTime version = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+        @Test
+        @DisplayName("Should return cached JSON without mapping the profile")
+        void shouldReturnCachedJson() {
+            byte[] cached = "{}".getBytes(StandardCharsets.UTF_8);
+            when(profileRepository.findCacheVersionByUserId(profileOwnerId)).thenReturn(Optional.of(version));
+            when(permissionService.determineRelationship(viewerId, profileOwnerId)).thenReturn(Relationship.COWORKER);
+            when(profileJsonCache.get(profileOwnerId, Relationship.COWORKER, version)).thenReturn(Optional.of(cached));
+
+            byte[] result = profileService.getProfileJson(viewerId, profileOwnerId);
+
+            assertThat(result).isSameAs(cached);
+            verify(profileRepository, never()).findByUserId(any());
+            verifyNoInteractions(profileMapper);
+        }
+
+        @Test
+        @DisplayName("Should serialize and cache under the rendered version on a miss")
+        void shouldSerializeAndCacheOnMiss() throws Exception {
+            LocalDateTime renderedVersion = version.plusSeconds(1);
+            profile.setUpdatedAt(renderedVersion);
+            when(profileRepository.findCacheVersionByUserId(profileOwnerId)).thenReturn(Optional.of(version));
+            when(permissionService.determineRelationship(viewerId, profileOwnerId)).thenReturn(Relationship.COWORKER);
+            when(profileJsonCache.get(profileOwnerId, Relationship.COWORKER, version)).thenReturn(Optional.empty());
+            when(profileRepository.findByUserId(profileOwnerId)).thenReturn(Optional.of(profile));
+            when(profileMapper.toDTO(eq(profile), anySet())).thenReturn(profileDTO);
+
+            byte[] result = profileService.getProfileJson(viewerId, profileOwnerId);
+
+            ProfileDTO written = objectMapper.readValue(result, ProfileDTO.class);
+            assertThat(written.getPreferredName()).isEqualTo("Johnny");
+            assertThat(written.getMetadata().getRelationship()).isEqualTo("OTHER");
+            verify(profileJsonCache).put(profileOwnerId, Relationship.COWORKER, renderedVersion, result);
+        }
+
+        @Test
+        @DisplayName("Should cache under the user's version when the user row changed last")
+        void shouldCacheUnderUserVersionWhenNewer() {
+            LocalDateTime userVersion = version.plusMinutes(5);
+            profile.setUpdatedAt(version);
+            profile.getUser().setUpdatedAt(userVersion);
+            when(profileRepository.findCacheVersionByUserId(profileOwnerId)).thenReturn(Optional.of(userVersion));
+            when(permissionService.determineRelationship(viewerId, profileOwnerId)).thenReturn(Relationship.COWORKER);
+            when(profileJsonCache.get(profileOwnerId, Relationship.COWORKER, userVersion)).thenReturn(Optional.empty());
+            when(profileRepository.findByUserId(profileOwnerId)).thenReturn(Optional.of(profile));
+            when(profileMapper.toDTO(eq(profile), anySet())).thenReturn(profileDTO);
+
+            byte[] result = profileService.getProfileJson(viewerId, profileOwnerId);
+
+            verify(profileJsonCache).put(profileOwnerId, Relationship.COWORKER, userVersion, result);
+        }
+
+        @Test
+        @DisplayName("Should throw when profile does not exist")
+        void shouldThrowWhenProfileMissing() {
+            when(profileRepository.findCacheVersionByUserId(profileOwnerId)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> profileService.getProfileJson(viewerId, profileOwnerId))
+                    .isInstanceOf(ResourceNotFoundException.class);
+            verifyNoInteractions(profileJsonCache);
+        }
+    }
+
     @Nested
     @DisplayName("Update Profile")
     class UpdateProfileTests {
@@ -187,8 +280,29 @@ class ProfileServiceTest {
 
             assertThat(result).isNotNull();
             verify(profileRepository).save(any(EmployeeProfile.class));
+            verify(entityChangePublisher).publish(ChangedEntity.PROFILE, profile.getId(), profileOwnerId);
             assertThat(profile.getPreferredName()).isEqualTo("Updated Name");
             assertThat(profile.getBio()).isEqualTo("Updated bio");
+            verifyNoInteractions(skillService);
+        }
+
+        @Test
+        @DisplayName("Should re-index skills when the skills field changes")
+        void shouldReindexSkillsWhenSkillsUpdated() {
+            ProfileUpdateDTO updateDTO = ProfileUpdateDTO.builder()
+                    .skills("Java, Kubernetes")
+                    .build();
+
+            when(profileRepository.findByUserId(profileOwnerId)).thenReturn(Optional.of(profile));
+            when(permissionService.determineRelationship(profileOwnerId, profileOwnerId))
+                    .thenReturn(Relationship.SELF);
+            when(permissionService.canEdit(Relationship.SELF, FieldType.NON_SENSITIVE)).thenReturn(true);
+            when(profileRepository.save(any(EmployeeProfile.class))).thenReturn(profile);
+            when(profileMapper.toDTO(eq(profile), anySet())).thenReturn(profileDTO);
+
+            profileService.updateProfile(profileOwnerId, profileOwnerId, updateDTO);
+
+            verify(skillService).reindexProfile(profileOwnerId, "Java, Kubernetes");
         }
 
         @Test
@@ -215,6 +329,40 @@ class ProfileServiceTest {
             assertThat(profile.getPersonalPhone()).isEqualTo("+1-555-9999");
         }
 
+        @Test
+        @DisplayName("Should audit changed fields only, without sensitive values")
+        void shouldAuditChangedFieldsWithoutSensitiveValues() {
+            String previousBio = profile.getBio();
+            ProfileUpdateDTO updateDTO = ProfileUpdateDTO.builder()
+                    .jobTitle(profile.getJobTitle())
+                    .bio("Updated bio")
+                    .personalEmail("new.email@test.com")
+                    .build();
+
+            when(profileRepository.findByUserId(profileOwnerId)).thenReturn(Optional.of(profile));
+            when(permissionService.determineRelationship(profileOwnerId, profileOwnerId))
+                    .thenReturn(Relationship.SELF);
+            when(permissionService.canEdit(Relationship.SELF, FieldType.NON_SENSITIVE)).thenReturn(true);
+            when(permissionService.canEdit(Relationship.SELF, FieldType.SENSITIVE)).thenReturn(true);
+            when(profileRepository.save(any(EmployeeProfile.class))).thenReturn(profile);
+            when(profileMapper.toDTO(eq(profile), anySet())).thenReturn(profileDTO);
+
+            profileService.updateProfile(profileOwnerId, profileOwnerId, updateDTO);
+
+            ArgumentCaptor<List<AuditRecord>> audited = ArgumentCaptor.captor();
+            verify(auditTrail).record(audited.capture());
+            assertThat(audited.getValue())
+                    .extracting(AuditRecord::field, AuditRecord::oldValue, AuditRecord::newValue, AuditRecord::sensitive)
+                    .containsExactly(
+                            tuple("bio", previousBio, "Updated bio", false),
+                            tuple("personalEmail", null, null, true));
+            assertThat(audited.getValue()).allSatisfy(record -> {
+                assertThat(record.actorId()).isEqualTo(profileOwnerId);
+                assertThat(record.subjectUserId()).isEqualTo(profileOwnerId);
+                assertThat(record.entityType()).isEqualTo(ChangedEntity.PROFILE);
+            });
+        }
+
         @Test
         @DisplayName("Should update non-sensitive fields as MANAGER for direct report")
         void shouldUpdateNonSensitiveFieldsAsManager() {
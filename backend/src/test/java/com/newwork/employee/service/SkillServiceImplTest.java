@@ -0,0 +1,126 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.dto.PeopleBySkillsPage;
+import com.newwork.employee.repository.SkillIndexRepository;
+import com.newwork.employee.repository.UserHierarchyRepository;
+import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.service.impl.PermissionServiceImpl;
+import com.newwork.employee.service.impl.SkillServiceImpl;
+import com.newwork.employee.service.skill.SkillMatchMode;
+import com.newwork.employee.service.skill.SkillNames;
+import com.newwork.employee.util.SkillMatchCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SkillServiceImplTest {
+
+    @Mock
+    private SkillIndexRepository skillIndexRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserHierarchyRepository userHierarchyRepository;
+
+    private SkillServiceImpl skillService;
+
+    private final UUID viewerId = UUID.randomUUID();
+    private final UUID reportId = UUID.randomUUID();
+    private final UUID peerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        skillService = new SkillServiceImpl(skillIndexRepository,
+                new PermissionServiceImpl(userRepository, userHierarchyRepository));
+    }
+
+    @Test
+    void reindexShouldReplaceProfileSkillsWithParsedNames() {
+        skillService.reindexProfile(reportId, "Java, Kubernetes, java");
+
+        verify(skillIndexRepository).replaceProfileSkills(reportId, List.of(
+                new SkillNames.Skill("Java", "java"),
+                new SkillNames.Skill("Kubernetes", "kubernetes")));
+    }
+
+    @Test
+    void allModeShouldRequireEveryDistinctSkillAndPageByCursor() {
+        Set<String> keys = Set.of("kubernetes", "java");
+        when(skillIndexRepository.findPage(eq(viewerId), eq(keys), eq(2), eq(null), eq(2)))
+                .thenReturn(List.of(row(reportId, viewerId, 2), row(peerId, null, 2)));
+        when(skillIndexRepository.count(eq(viewerId), eq(keys), eq(2))).thenReturn(7L);
+        when(skillIndexRepository.countPeopleBySkill(any())).thenReturn(List.of(
+                new SkillIndexRepository.SkillCountRow("Java", "java", 12)));
+        when(userHierarchyRepository.findDescendantIds(viewerId)).thenReturn(Set.of(reportId));
+
+        PeopleBySkillsPage page = skillService.findPeopleBySkills(
+                viewerId, List.of("Kubernetes", " JAVA ", "kubernetes"), null, 1, null);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getPerson().getUserId()).isEqualTo(reportId);
+        assertThat(page.getItems().get(0).getPerson().getRelationship()).isEqualTo("MANAGER");
+        assertThat(page.getItems().get(0).getMatchedSkills()).isEqualTo(2);
+        assertThat(page.isHasNextPage()).isTrue();
+        assertThat(page.getTotalCount()).isEqualTo(7L);
+        assertThat(SkillMatchCursor.decode(page.getEndCursor())).isEqualTo(new SkillMatchCursor(2, reportId));
+        assertThat(page.getSkillCounts())
+                .extracting(PeopleBySkillsPage.SkillCount::getSkill, PeopleBySkillsPage.SkillCount::getPeopleCount)
+                .containsExactly(
+                        tuple("Kubernetes", 0L),
+                        tuple("Java", 12L));
+    }
+
+    @Test
+    void anyModeShouldRequireOneSkillAndResumeAfterCursor() {
+        SkillMatchCursor after = new SkillMatchCursor(2, reportId);
+        when(skillIndexRepository.findPage(eq(viewerId), any(), eq(1), eq(after), anyInt()))
+                .thenReturn(List.of(row(peerId, null, 1)));
+        when(userHierarchyRepository.findDescendantIds(viewerId)).thenReturn(Set.of());
+
+        PeopleBySkillsPage page = skillService.findPeopleBySkills(
+                viewerId, List.of("Go", "Rust"), SkillMatchMode.ANY, null, after.encode());
+
+        assertThat(page.getItems()).extracting(match -> match.getPerson().getRelationship()).containsExactly("OTHER");
+        assertThat(page.isHasNextPage()).isFalse();
+    }
+
+    @Test
+    void shouldRejectEmptyOrTooManySkills() {
+        List<String> tooMany = IntStream.rangeClosed(0, SkillService.MAX_QUERY_SKILLS)
+                .mapToObj(i -> "skill" + i)
+                .toList();
+
+        assertThatThrownBy(() -> skillService.findPeopleBySkills(viewerId, List.of(" "), null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> skillService.findPeopleBySkills(viewerId, tooMany, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> skillService.findPeopleBySkills(viewerId, List.of("Go"), null, 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(skillIndexRepository);
+    }
+
+    private static SkillIndexRepository.SkillMatchRow row(UUID userId, UUID managerId, int matched) {
+        return new SkillIndexRepository.SkillMatchRow(userId, matched, "E-" + matched, managerId,
+                null, "First", "Last", "Engineer", "Engineering", "REMOTE", null, null);
+    }
+}
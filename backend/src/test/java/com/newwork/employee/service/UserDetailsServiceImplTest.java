@@ -0,0 +1,89 @@
+package com.newwork.employee.service;
+
+import com.newwork.employee.entity.User;
+import com.newwork.employee.entity.enums.Role;
+import com.newwork.employee.repository.UserRepository;
+import com.newwork.employee.security.UserAccountDetails;
+import com.newwork.employee.service.impl.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserDetailsServiceImpl.
+ * Tests principal loading and password hash upgrades.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    private static final String COST_12_HASH = "$2a$12$YktM6ODfqOzX0bOardbHq.16AjW8UaKiuPE.nxzO8/G9mnS5xD4X2";
+    private static final String COST_10_HASH = "$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ01";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDetailsServiceImpl userDetailsService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsService = new UserDetailsServiceImpl(userRepository, meterRegistry);
+        testUser = User.builder()
+                .id(UUID.randomUUID())
+                .employeeId("TEST_001")
+                .email("test.user@testcompany.com")
+                .password(COST_12_HASH)
+                .role(Role.EMPLOYEE)
+                .build();
+    }
+
+    @Test
+    void loadUserByUsername_ReturnsPrincipalCarryingUser() {
+        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+
+        UserDetails details = userDetailsService.loadUserByUsername(testUser.getEmail());
+
+        assertInstanceOf(UserAccountDetails.class, details);
+        assertSame(testUser, ((UserAccountDetails) details).getUser());
+        assertEquals(testUser.getId().toString(), details.getUsername());
+    }
+
+    @Test
+    void loadUserByUsername_WhenMissing_Throws() {
+        when(userRepository.findByEmail("missing@testcompany.com")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("missing@testcompany.com"));
+    }
+
+    @Test
+    void updatePassword_PersistsNewHashAndCountsUpgrade() {
+        UserDetails updated = userDetailsService.updatePassword(new UserAccountDetails(testUser), COST_10_HASH);
+
+        verify(userRepository).updatePassword(eq(testUser.getId()), eq(COST_10_HASH), any(LocalDateTime.class));
+        assertEquals(COST_10_HASH, updated.getPassword());
+        assertSame(testUser, ((UserAccountDetails) updated).getUser());
+        assertEquals(1.0, meterRegistry.get("auth.password.rehash")
+                .tag("from_cost", "12")
+                .tag("to_cost", "10")
+                .counter()
+                .count());
+    }
+}
@@ -0,0 +1,250 @@
+package com.newwork.employee.service.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newwork.employee.config.properties.AuditProperties;
+import com.newwork.employee.dto.AuditRecord;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import com.newwork.employee.repository.AuditLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditTrailWriterTest {
+
+    @TempDir
+    Path journalDir;
+
+    private final FakeAuditLogRepository repository = new FakeAuditLogRepository();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuditTrailWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        AuditProperties properties = new AuditProperties();
+        properties.setQueueCapacity(3);
+        properties.setBatchSize(2);
+        properties.setFlushInterval(Duration.ofMillis(10));
+        properties.setJournalDir(journalDir);
+        properties.setShutdownTimeout(Duration.ofMillis(100));
+        writer = new AuditTrailWriter(repository, properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldWriteQueuedRecordsInBatches() throws InterruptedException {
+        List<AuditRecord> records = records(3);
+        writer.record(records);
+
+        assertThat(meterRegistry.get("audit.queue.depth").gauge().value()).isEqualTo(3);
+        assertThat(writer.writeNextBatch(0)).isEqualTo(2);
+        assertThat(writer.writeNextBatch(0)).isEqualTo(1);
+
+        assertThat(repository.batches).containsExactly(records.subList(0, 2), records.subList(2, 3));
+        assertThat(meterRegistry.get("audit.records").tag("outcome", "written").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("audit.flush").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("audit.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldOnlyQueueRecordsOnceTheTransactionCommits() throws InterruptedException {
+        TransactionSynchronizationManager.initSynchronization();
+        writer.record(records(1));
+
+        assertThat(writer.writeNextBatch(0)).isZero();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(writer.writeNextBatch(0)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldJournalOverflowAndReplayItLater() throws InterruptedException {
+        List<AuditRecord> records = records(5);
+        writer.record(records);
+
+        assertThat(segments()).hasSize(1);
+        assertThat(meterRegistry.get("audit.records").tag("outcome", "journaled").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("audit.journal.segments").gauge().value()).isEqualTo(1);
+
+        assertThat(writer.replayJournal()).isEqualTo(2);
+        while (writer.writeNextBatch(0) > 0) {
+            // drain the queued part
+        }
+
+        assertThat(repository.written()).containsExactlyInAnyOrderElementsOf(records);
+        assertThat(segments()).isEmpty();
+    }
+
+    @Test
+    void shouldJournalBatchesTheDatabaseRejectsAndKeepThemUntilReplaySucceeds() throws InterruptedException {
+        List<AuditRecord> records = records(2);
+        writer.record(records);
+        repository.failing = true;
+
+        writer.writeNextBatch(0);
+
+        assertThat(repository.written()).isEmpty();
+        assertThat(writer.replayJournal()).isZero();
+        assertThat(segments()).hasSize(1);
+
+        repository.failing = false;
+        assertThat(writer.replayJournal()).isEqualTo(2);
+        assertThat(repository.written()).containsExactlyElementsOf(records);
+        assertThat(segments()).isEmpty();
+    }
+
+    @Test
+    void shouldJournalQueuedAndLateRecordsOnStopAndReplayThemOnStart() {
+        List<AuditRecord> queued = records(2);
+        writer.record(queued);
+        writer.stop();
+        List<AuditRecord> late = records(1);
+        writer.record(late);
+
+        assertThat(repository.written()).isEmpty();
+        assertThat(meterRegistry.get("audit.records").tag("outcome", "journaled").counter().count()).isEqualTo(3);
+
+        writer.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (repository.written().size() < 3 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            writer.stop();
+        }
+        assertThat(repository.written()).containsExactlyInAnyOrderElementsOf(
+                Stream.concat(queued.stream(), late.stream()).toList());
+    }
+
+    @Test
+    void pendingSinceShouldCoverUncommittedQueuedAndJournaledRecords() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 2, 12, 0);
+        assertThat(writer.pendingSince(now)).isEqualTo(now);
+
+        // Recorded but not committed yet: the change may become visible any moment
+        TransactionSynchronizationManager.initSynchronization();
+        writer.record(records(1, now.minusMinutes(1)));
+        assertThat(writer.pendingSince(now)).isEqualTo(now.minusMinutes(1));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(writer.pendingSince(now)).isEqualTo(now);
+
+        // Fills the queue, so the older record that follows is journaled
+        writer.record(records(3, now.minusMinutes(2)));
+        writer.record(records(1, now.minusMinutes(3)));
+        assertThat(segments()).hasSize(1);
+        assertThat(writer.pendingSince(now)).isEqualTo(now.minusMinutes(3));
+
+        while (writer.writeNextBatch(0) > 0) {
+            // drain the queue
+        }
+        // The journaled record is still waiting for replay
+        assertThat(writer.pendingSince(now)).isEqualTo(now.minusMinutes(3));
+        writer.replayJournal();
+        assertThat(writer.pendingSince(now)).isEqualTo(now);
+    }
+
+    @Test
+    void shouldReportProgressAndClearItOnceNothingIsLeft() {
+        writer.record(records(1, LocalDateTime.of(2026, 3, 2, 9, 0)));
+
+        writer.reportProgress();
+        assertThat(repository.progress).containsExactly(LocalDateTime.of(2026, 3, 2, 9, 0));
+
+        writer.stop();
+        assertThat(repository.progressDeleted).isFalse();
+
+        writer.replayJournal();
+        writer.stop();
+        assertThat(repository.progressDeleted).isTrue();
+    }
+
+    private List<Path> segments() {
+        try (var files = Files.list(journalDir)) {
+            return files.toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static List<AuditRecord> records(int count) {
+        return records(count, LocalDateTime.of(2026, 3, 2, 9, 0));
+    }
+
+    private static List<AuditRecord> records(int count, LocalDateTime changedAt) {
+        UUID userId = UUID.randomUUID();
+        return IntStream.range(0, count)
+                .mapToObj(i -> new AuditRecord(UUID.randomUUID(), ChangedEntity.PROFILE, UUID.randomUUID(), userId,
+                        userId, "bio", "before " + i, "after " + i, false, changedAt))
+                .toList();
+    }
+
+    private static class FakeAuditLogRepository extends AuditLogRepository {
+
+        private final List<List<AuditRecord>> batches = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+        private final List<LocalDateTime> progress = new CopyOnWriteArrayList<>();
+        private volatile boolean progressDeleted;
+
+        FakeAuditLogRepository() {
+            super(null);
+        }
+
+        @Override
+        public void insertAll(List<AuditRecord> records) {
+            if (failing) {
+                throw new DataAccessResourceFailureException("database unavailable");
+            }
+            batches.add(List.copyOf(records));
+        }
+
+        @Override
+        public void reportProgress(UUID instanceId, LocalDateTime pendingSince) {
+            progress.add(pendingSince);
+        }
+
+        @Override
+        public void deleteProgress(UUID instanceId) {
+            progressDeleted = true;
+        }
+
+        @Override
+        public int pruneProgress(Duration silence) {
+            return 0;
+        }
+
+        List<AuditRecord> written() {
+            List<AuditRecord> all = new ArrayList<>();
+            batches.forEach(all::addAll);
+            return all;
+        }
+    }
+}
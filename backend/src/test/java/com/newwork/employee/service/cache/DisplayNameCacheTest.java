@@ -0,0 +1,104 @@
+package com.newwork.employee.service.cache;
+
+import com.newwork.employee.config.properties.CacheProperties;
+import com.newwork.employee.dto.EntityChange;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DisplayNameCacheTest {
+
+    private final CacheProperties properties = new CacheProperties();
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<UUID, String> loader = id -> "name-" + loads.incrementAndGet();
+    private DisplayNameCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties.getDisplayNames().setTtl(Duration.ofMinutes(10));
+        properties.getDisplayNames().setMaxSize(2);
+        cache = new DisplayNameCache(properties, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    void shouldServeHitsUntilExpiry() {
+        UUID userId = UUID.randomUUID();
+
+        assertThat(cache.get(userId, loader)).isEqualTo("name-1");
+        assertThat(cache.get(userId, loader)).isEqualTo("name-1");
+
+        clock.advance(Duration.ofMinutes(11));
+        assertThat(cache.get(userId, loader)).isEqualTo("name-2");
+    }
+
+    @Test
+    void shouldEvictOnProfileAndUserChangesOnly() {
+        UUID userId = UUID.randomUUID();
+        cache.get(userId, loader);
+
+        cache.onChange(change(ChangedEntity.ABSENCE, userId));
+        assertThat(cache.get(userId, loader)).isEqualTo("name-1");
+
+        cache.onChange(change(ChangedEntity.PROFILE, userId));
+        assertThat(cache.get(userId, loader)).isEqualTo("name-2");
+
+        cache.onChange(change(ChangedEntity.USER, userId));
+        assertThat(cache.get(userId, loader)).isEqualTo("name-3");
+    }
+
+    @Test
+    void shouldClearOnResetAndWhenFull() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        cache.get(first, loader);
+        cache.get(second, loader);
+
+        cache.get(UUID.randomUUID(), loader);
+        assertThat(cache.get(first, loader)).isEqualTo("name-4");
+
+        cache.onReset();
+        assertThat(cache.get(first, loader)).isEqualTo("name-5");
+    }
+
+    private static EntityChange change(ChangedEntity entity, UUID userId) {
+        return new EntityChange(1L, entity, UUID.randomUUID(), userId, null, LocalDateTime.now());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-03-02T09:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
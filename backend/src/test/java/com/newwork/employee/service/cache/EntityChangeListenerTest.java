@@ -0,0 +1,124 @@
+package com.newwork.employee.service.cache;
+
+import com.newwork.employee.config.properties.CacheProperties;
+import com.newwork.employee.dto.EntityChange;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import com.newwork.employee.repository.EntityChangeOutboxRepository;
+import com.newwork.employee.repository.EntityChangeOutboxRepository.OutboxEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EntityChangeListenerTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Mock
+    private EntityChangeOutboxRepository outboxRepository;
+
+    @Mock
+    private ObjectProvider<EntityChangeHandler> handlers;
+
+    @Mock
+    private EntityChangeHandler handler;
+
+    @Mock
+    private JdbcConnectionDetails connectionDetails;
+
+    private final CacheProperties properties = new CacheProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EntityChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        properties.getInvalidation().setRetention(Duration.ofHours(24));
+        properties.getInvalidation().setBatchSize(2);
+        when(handlers.orderedStream()).thenAnswer(invocation -> Stream.of(handler));
+        listener = new EntityChangeListener(outboxRepository, handlers, properties, connectionDetails, meterRegistry);
+    }
+
+    @Test
+    void shouldDeliverChangesCommittedBehindTheHorizonExactlyOnce() {
+        OutboxEntry first = entry(1, 101, T0.plusSeconds(1));
+        OutboxEntry late = entry(2, 102, T0.plusSeconds(2));
+        OutboxEntry third = entry(3, 103, T0.plusSeconds(3));
+
+        when(outboxRepository.now()).thenReturn(T0, T0.plusSeconds(5), T0.plusMinutes(10));
+        when(outboxRepository.currentTxHorizon()).thenReturn(100L, 102L, 104L);
+        when(outboxRepository.findFromTx(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+        assertThat(listener.poll()).isZero();
+
+        // Transaction 102 is still running: only 1 and 3 are visible
+        when(outboxRepository.findFromTx(100, -1, 2)).thenReturn(List.of(first, third));
+        assertThat(listener.poll()).isEqualTo(2);
+
+        // 102 commits ten minutes later; the poll restarts at the previous horizon and only delivers it
+        when(outboxRepository.findFromTx(102, -1, 2)).thenReturn(List.of(late, third));
+        assertThat(listener.poll()).isEqualTo(1);
+
+        verify(handler).onChange(first.change());
+        verify(handler).onChange(late.change());
+        verify(handler).onChange(third.change());
+        assertThat(meterRegistry.get("cache.invalidation.events").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("cache.invalidation.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldResetHandlersAfterBeingBehindLongerThanRetention() {
+        when(outboxRepository.now()).thenReturn(T0, T0.plusHours(25));
+        when(outboxRepository.currentTxHorizon()).thenReturn(100L, 900L);
+        when(outboxRepository.findFromTx(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+
+        listener.poll();
+        verify(handler, never()).onReset();
+
+        listener.poll();
+        verify(handler, times(1)).onReset();
+        verify(outboxRepository).findFromTx(eq(900L), eq(-1L), eq(2));
+        assertThat(meterRegistry.get("cache.invalidation.resets").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepDeliveringWhenAHandlerFails() {
+        OutboxEntry entry = entry(1, 101, T0.plusSeconds(1));
+        when(outboxRepository.now()).thenReturn(T0, T0.plusSeconds(2));
+        when(outboxRepository.currentTxHorizon()).thenReturn(100L, 102L);
+        when(outboxRepository.findFromTx(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+        listener.poll();
+
+        when(outboxRepository.findFromTx(100, -1, 2)).thenReturn(List.of(entry));
+        doThrow(new IllegalStateException("boom")).when(handler).onChange(entry.change());
+
+        assertThat(listener.poll()).isEqualTo(1);
+    }
+
+    private static OutboxEntry entry(long id, long txId, LocalDateTime createdAt) {
+        return new OutboxEntry(change(id, createdAt), txId);
+    }
+
+    private static EntityChange change(long id, LocalDateTime createdAt) {
+        return new EntityChange(id, ChangedEntity.PROFILE, UUID.randomUUID(), UUID.randomUUID(), null, createdAt);
+    }
+}
@@ -0,0 +1,65 @@
+package com.newwork.employee.service.cache;
+
+import com.newwork.employee.config.properties.CacheProperties;
+import com.newwork.employee.dto.EntityChange;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import com.newwork.employee.entity.enums.Relationship;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfileJsonCacheTest {
+
+    private static final LocalDateTime V1 = LocalDateTime.of(2026, 3, 2, 9, 0);
+    private static final LocalDateTime V2 = V1.plusMinutes(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProfileJsonCache cache = new ProfileJsonCache(new CacheProperties(), meterRegistry);
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void shouldOnlyHitForSameVersionAndTier() {
+        byte[] json = bytes("{\"id\":1}");
+        cache.put(userId, Relationship.COWORKER, V1, json);
+
+        assertThat(cache.get(userId, Relationship.COWORKER, V1)).containsSame(json);
+        assertThat(cache.get(userId, Relationship.COWORKER, V2)).isEmpty();
+        assertThat(cache.get(userId, Relationship.MANAGER, V1)).isEmpty();
+        assertThat(meterRegistry.get("cache.profile_json.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.profile_json.requests").tag("result", "miss").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictEveryTierOfTheChangedUser() {
+        UUID otherUser = UUID.randomUUID();
+        cache.put(userId, Relationship.SELF, V1, bytes("self"));
+        cache.put(userId, Relationship.COWORKER, V1, bytes("coworker"));
+        cache.put(otherUser, Relationship.COWORKER, V1, bytes("other"));
+
+        cache.onChange(new EntityChange(1L, ChangedEntity.PROFILE, UUID.randomUUID(), userId, null, V2));
+
+        assertThat(cache.get(userId, Relationship.SELF, V1)).isEmpty();
+        assertThat(cache.get(userId, Relationship.COWORKER, V1)).isEmpty();
+        assertThat(cache.get(otherUser, Relationship.COWORKER, V1)).isPresent();
+    }
+
+    @Test
+    void shouldIgnoreAbsenceChangesAndClearOnReset() {
+        cache.put(userId, Relationship.SELF, V1, bytes("self"));
+
+        cache.onChange(new EntityChange(1L, ChangedEntity.ABSENCE, UUID.randomUUID(), userId, null, V2));
+        assertThat(cache.get(userId, Relationship.SELF, V1)).isPresent();
+
+        cache.onReset();
+        assertThat(cache.get(userId, Relationship.SELF, V1)).isEmpty();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,117 @@
+package com.newwork.employee.service.calendar;
+
+import com.newwork.employee.config.properties.CalendarProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkingDayCalendarTest {
+
+    private WorkingDayCalendar calendar;
+
+    @BeforeEach
+    void setup() {
+        CalendarProperties properties = new CalendarProperties();
+        properties.setOfficeRegions(Map.of("Munich Office", "DE-BY"));
+        calendar = new WorkingDayCalendar(properties, new DefaultResourceLoader());
+    }
+
+    @Test
+    void shouldExcludeWeekendsAndNationalHolidays() {
+        // Mon 2026-05-11 .. Fri 2026-05-15 contains Ascension Day
+        assertThat(calendar.businessDays("DE", LocalDate.of(2026, 5, 11), LocalDate.of(2026, 5, 15))).isEqualTo(4);
+        assertThat(calendar.businessDays("DE", LocalDate.of(2026, 10, 17), LocalDate.of(2026, 10, 18))).isZero();
+        assertThat(calendar.businessDays("DE", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31))).isEqualTo(254);
+    }
+
+    @Test
+    void subdivisionShouldAddRegionalHolidays() {
+        // Corpus Christi (2026-06-04) is a holiday in Bavaria only
+        assertThat(calendar.businessDays("DE", LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 5))).isEqualTo(5);
+        assertThat(calendar.businessDays("DE-BY", LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 5))).isEqualTo(4);
+        assertThat(calendar.isWorkingDay("DE-BY", LocalDate.of(2026, 6, 4))).isFalse();
+    }
+
+    @Test
+    void shouldCountAcrossYearBoundaries() {
+        assertThat(calendar.businessDays("DE", LocalDate.of(2025, 12, 22), LocalDate.of(2026, 1, 9))).isEqualTo(12);
+        assertThat(calendar.businessDays("DE-BY", LocalDate.of(2025, 12, 22), LocalDate.of(2026, 1, 9))).isEqualTo(11);
+        assertThat(calendar.businessDays("DE", LocalDate.of(2026, 1, 9), LocalDate.of(2025, 12, 22))).isZero();
+    }
+
+    @Test
+    void yearsWithoutHolidayDataShouldOnlySkipWeekends() {
+        assertThat(calendar.businessDays("DE", LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 7))).isEqualTo(5);
+    }
+
+    @Test
+    void fullYearsShouldBeCountedArithmetically() {
+        // 2024 (no data, weekends only) + 2025..2027 (holiday data) + 2028 (no data)
+        int expected = 0;
+        for (int year = 2024; year <= 2028; year++) {
+            expected += calendar.businessDays("DE-BY", LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+        }
+
+        assertThat(calendar.businessDays("DE-BY", LocalDate.of(2024, 1, 1), LocalDate.of(2028, 12, 31)))
+                .isEqualTo(expected);
+        // No holiday data: weekdays only
+        assertThat(calendar.businessDays("DE", LocalDate.of(2030, 1, 1), LocalDate.of(2039, 12, 31)))
+                .isEqualTo((int) LocalDate.of(2030, 1, 1).datesUntil(LocalDate.of(2040, 1, 1))
+                        .filter(day -> day.getDayOfWeek().getValue() <= 5)
+                        .count());
+    }
+
+    @Test
+    void weekdaysShouldMatchDayByDayCount() {
+        LocalDate origin = LocalDate.of(2026, 1, 5);
+        for (int start = 0; start < 7; start++) {
+            for (int length = 0; length < 30; length++) {
+                LocalDate from = origin.plusDays(start);
+                LocalDate to = from.plusDays(length);
+                long expected = from.datesUntil(to.plusDays(1))
+                        .filter(day -> day.getDayOfWeek().getValue() <= 5)
+                        .count();
+                assertThat(WorkingDayCalendar.weekdays(from, to)).as("%s..%s", from, to).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectDatesOutsideSupportedYears() {
+        assertThatThrownBy(() -> calendar.businessDays("DE", LocalDate.of(1, 1, 1), LocalDate.of(2026, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calendar.businessDays("DE", LocalDate.of(2026, 1, 1), LocalDate.MAX))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldResolveRegionFromOfficeLocation() {
+        assertThat(calendar.regionFor("munich office")).isEqualTo("DE-BY");
+        assertThat(calendar.regionFor("Lisbon Office")).isEqualTo("DE");
+        assertThat(calendar.regionFor(null)).isEqualTo("DE");
+    }
+
+    @Test
+    void rankLookupShouldMatchDayByDayCount() {
+        Random random = new Random(42);
+        LocalDate origin = LocalDate.of(2024, 11, 1);
+        for (int i = 0; i < 500; i++) {
+            LocalDate from = origin.plusDays(random.nextInt(1200));
+            LocalDate to = from.plusDays(random.nextInt(1500));
+            int expected = 0;
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                if (calendar.isWorkingDay("DE-BY", day)) {
+                    expected++;
+                }
+            }
+            assertThat(calendar.businessDays("DE-BY", from, to)).as("%s..%s", from, to).isEqualTo(expected);
+        }
+    }
+}
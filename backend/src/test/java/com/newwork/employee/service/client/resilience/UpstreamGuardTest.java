@@ -0,0 +1,133 @@
+package com.newwork.employee.service.client.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstreamGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    private UpstreamGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new UpstreamGuard("test",
+                new Bulkhead(1, Duration.ZERO),
+                new CircuitBreaker("test", 50, 4, 4, Duration.ofSeconds(30), clock),
+                meterRegistry);
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> guard.call(() -> {
+            throw new IllegalStateException("boom");
+        }, ex -> true)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private String succeed() {
+        return guard.call(() -> "ok", ex -> true);
+    }
+
+    @Test
+    void shouldOpenCircuitOnceFailureRateReachesThreshold() {
+        succeed();
+        succeed();
+        fail();
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail();
+
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(this::succeed).isInstanceOf(CallNotPermittedException.class);
+        assertThat(meterRegistry.get("test.calls.rejected").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbeAndReopenAfterFailedOne() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(30));
+        fail();
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(succeed()).isEqualTo("ok");
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldNotCountClientErrorsAgainstUpstream() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw new IllegalArgumentException("bad request");
+            }, ex -> false)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldRejectCallsBeyondBulkheadCapacity() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> guard.call(() -> {
+            inFlight.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "held";
+        }, ex -> true));
+        holder.start();
+        assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(this::succeed).isInstanceOf(CallNotPermittedException.class);
+        assertThat(meterRegistry.get("test.calls.rejected").tag("reason", "bulkhead_full").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        holder.join(5_000);
+        assertThat(guard.getAvailableSlots()).isEqualTo(1);
+        assertThat(succeed()).isEqualTo("ok");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-03-02T09:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
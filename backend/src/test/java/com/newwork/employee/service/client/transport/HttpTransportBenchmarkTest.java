@@ -0,0 +1,165 @@
+package com.newwork.employee.service.client.transport;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-call overhead of the outbound transports against a local stub that answers like a chat
+ * completion endpoint (a few KB of JSON, gzip when asked).
+ *
+ * The baseline is the HttpURLConnection transport without compression, which is what the client
+ * used before transports were configurable. HttpURLConnection only keeps 5 idle connections per host
+ * (http.maxConnections), so under concurrency it keeps opening new ones. Loopback connections are
+ * nearly free and infinitely fast, so the stub stands in for a remote upstream: it delays the first
+ * response on every new connection by {@code benchmarks.handshakeMillis} (TCP + TLS setup) and every
+ * response by its transfer time over a {@code benchmarks.linkMbps} link.
+ *
+ * Run explicitly: {@code mvn test -Pbenchmarks -Dtest=HttpTransportBenchmarkTest [-Dbenchmarks.calls=5000]
+ * [-Dbenchmarks.concurrency=8]}
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("HTTP transport benchmark")
+class HttpTransportBenchmarkTest {
+
+    private static final int CALLS = Integer.getInteger("benchmarks.calls", 2_000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmarks.concurrency", 1);
+    private static final long HANDSHAKE_MILLIS = Long.getLong("benchmarks.handshakeMillis", 20);
+    private static final long LINK_MBPS = Long.getLong("benchmarks.linkMbps", 50);
+    private static final String COMPLETION = "{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\""
+            + "Thanks for driving the release so calmly. ".repeat(100) + "\"}}]}";
+
+    @Test
+    void pooledGzipTransportShouldCutPerCallOverheadAndBytes() throws Exception {
+        AtomicLong bytesSent = new AtomicLong();
+        AtomicLong connectionsOpened = new AtomicLong();
+        HttpServer server = stub(bytesSent, connectionsOpened);
+        try {
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            RestClient baseline = HttpTransports.configure(RestClient.builder(), settings(TransportType.SIMPLE, false))
+                    .baseUrl(baseUrl)
+                    .build();
+            RestClient pooled = HttpTransports.configure(RestClient.builder(), settings(TransportType.JDK, true))
+                    .baseUrl(baseUrl)
+                    .build();
+
+            // Warm up class loading and the JIT for both paths
+            run(baseline, 200);
+            run(pooled, 200);
+
+            bytesSent.set(0);
+            connectionsOpened.set(0);
+            Result before = run(baseline, CALLS)
+                    .withTraffic("HttpURLConnection", bytesSent.getAndSet(0), connectionsOpened.getAndSet(0));
+            Result after = run(pooled, CALLS)
+                    .withTraffic("pooled JDK + gzip", bytesSent.getAndSet(0), connectionsOpened.getAndSet(0));
+
+            log.info("{} calls, {} threads\n{}\n{}", CALLS, CONCURRENCY, before, after);
+            assertThat(after.connections()).isLessThanOrEqualTo(before.connections());
+            assertThat(after.bytes()).isLessThan(before.bytes() / 10);
+            // Latency is reported, not asserted: with more threads than cores the JDK client's extra
+            // per-call CPU (selector hand-offs, decompression) can outweigh the transfer savings
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static HttpTransports.Settings settings(TransportType type, boolean gzip) {
+        return new HttpTransports.Settings(type, false, CONCURRENCY, Duration.ofSeconds(60), gzip,
+                Duration.ofSeconds(2), Duration.ofSeconds(10));
+    }
+
+    private static Result run(RestClient client, int calls) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            long start = System.nanoTime();
+            List<Future<String>> results = new ArrayList<>(calls);
+            for (int i = 0; i < calls; i++) {
+                results.add(pool.submit(() -> client.post().body("{\"messages\":[]}").retrieve().body(String.class)));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo(COMPLETION);
+            }
+            return new Result(null, calls, System.nanoTime() - start, 0, 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static HttpServer stub(AtomicLong bytesSent, AtomicLong connectionsOpened) throws IOException {
+        Set<String> connections = ConcurrentHashMap.newKeySet();
+        // Otherwise Nagle plus delayed ACKs add ~40 ms per response and hide the client-side difference
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.setExecutor(Executors.newFixedThreadPool(CONCURRENCY * 2));
+        byte[] plain = COMPLETION.getBytes(StandardCharsets.UTF_8);
+        byte[] gzipped = HttpTransportsTest.gzip(plain);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (connections.add(exchange.getRemoteAddress().toString())) {
+                connectionsOpened.incrementAndGet();
+                sleep(HANDSHAKE_MILLIS);
+            }
+            boolean gzip = "gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            byte[] payload = gzip ? gzipped : plain;
+            LockSupport.parkNanos(payload.length * 8_000L / LINK_MBPS);
+            if (gzip) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(payload);
+            }
+            bytesSent.addAndGet(payload.length);
+        });
+        server.start();
+        return server;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(String label, int calls, long elapsedNanos, long bytes, long connections) {
+
+        Result withTraffic(String label, long bytes, long connections) {
+            return new Result(label, calls, elapsedNanos, bytes, connections);
+        }
+
+        long meanMicros() {
+            return elapsedNanos / 1_000 * CONCURRENCY / calls;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-24s %,6d us/call  %,10d response bytes  %,6d new connections",
+                    label, meanMicros(), bytes, connections);
+        }
+    }
+}
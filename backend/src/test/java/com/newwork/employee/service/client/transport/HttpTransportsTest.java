@@ -0,0 +1,86 @@
+package com.newwork.employee.service.client.transport;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpTransportsTest {
+
+    private static final String BODY = "{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\"Polished\"}}]}";
+
+    private HttpServer server;
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            exchange.getRequestBody().readAllBytes();
+            byte[] payload = BODY.getBytes(StandardCharsets.UTF_8);
+            if ("gzip".equals(acceptEncoding.get())) {
+                payload = gzip(payload);
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(payload);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransportType.class)
+    void shouldNegotiateAndDecodeGzip(TransportType type) {
+        String body = client(type, true).post().body("{}").retrieve().body(String.class);
+
+        assertThat(acceptEncoding.get()).isEqualTo("gzip");
+        assertThat(body).isEqualTo(BODY);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransportType.class)
+    void shouldLeaveUncompressedResponsesAlone(TransportType type) {
+        String body = client(type, false).post().body("{}").retrieve().body(String.class);
+
+        assertThat(acceptEncoding.get()).isNull();
+        assertThat(body).isEqualTo(BODY);
+    }
+
+    private RestClient client(TransportType type, boolean gzip) {
+        HttpTransports.Settings settings = new HttpTransports.Settings(
+                type, false, 4, Duration.ofSeconds(30), gzip, Duration.ofSeconds(2), Duration.ofSeconds(5));
+        return HttpTransports.configure(RestClient.builder(), settings)
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+    }
+
+    static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(payload);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,100 @@
+package com.newwork.employee.service.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newwork.employee.dto.EmployeeAbsenceDTO;
+import com.newwork.employee.dto.EntityChange;
+import com.newwork.employee.dto.FeedbackDTO;
+import com.newwork.employee.entity.enums.AbsenceStatus;
+import com.newwork.employee.entity.enums.ChangedEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionEventHubTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SubscriptionEventHub hub = new SubscriptionEventHub(objectMapper, meterRegistry);
+
+    @Test
+    void shouldDeliverAbsenceChangesToRequesterAndManagerOnly() throws JsonProcessingException {
+        UUID employee = UUID.randomUUID();
+        UUID manager = UUID.randomUUID();
+        List<EmployeeAbsenceDTO> employeeEvents = new CopyOnWriteArrayList<>();
+        List<EmployeeAbsenceDTO> managerEvents = new CopyOnWriteArrayList<>();
+        List<EmployeeAbsenceDTO> bystanderEvents = new CopyOnWriteArrayList<>();
+        Disposable employeeSubscription = hub.absenceChangesFor(employee).subscribe(employeeEvents::add);
+        Disposable managerSubscription = hub.absenceChangesFor(manager).subscribe(managerEvents::add);
+        Disposable bystanderSubscription = hub.absenceChangesFor(UUID.randomUUID()).subscribe(bystanderEvents::add);
+
+        EmployeeAbsenceDTO absence = EmployeeAbsenceDTO.builder()
+                .id(UUID.randomUUID())
+                .userId(employee)
+                .managerId(manager)
+                .startDate(LocalDate.of(2026, 3, 2))
+                .endDate(LocalDate.of(2026, 3, 4))
+                .businessDays(3)
+                .status(AbsenceStatus.PENDING)
+                .build();
+        hub.onChange(change(ChangedEntity.ABSENCE, absence.getId(), employee, objectMapper.writeValueAsString(absence)));
+
+        assertThat(employeeEvents).containsExactly(absence);
+        assertThat(managerEvents).containsExactly(absence);
+        assertThat(bystanderEvents).isEmpty();
+        assertThat(meterRegistry.get("graphql.subscriptions.active").tag("type", "absenceRequestsChanged").gauge().value())
+                .isEqualTo(3);
+
+        employeeSubscription.dispose();
+        managerSubscription.dispose();
+        bystanderSubscription.dispose();
+    }
+
+    @Test
+    void shouldDeliverFeedbackToRecipientOnly() throws JsonProcessingException {
+        UUID recipient = UUID.randomUUID();
+        List<FeedbackDTO> recipientEvents = new CopyOnWriteArrayList<>();
+        List<FeedbackDTO> authorEvents = new CopyOnWriteArrayList<>();
+        FeedbackDTO feedback = new FeedbackDTO();
+        feedback.setId(UUID.randomUUID());
+        feedback.setAuthorId(UUID.randomUUID());
+        feedback.setRecipientId(recipient);
+        Disposable recipientSubscription = hub.feedbackReceivedBy(recipient).subscribe(recipientEvents::add);
+        Disposable authorSubscription = hub.feedbackReceivedBy(feedback.getAuthorId()).subscribe(authorEvents::add);
+
+        hub.onChange(change(ChangedEntity.FEEDBACK, feedback.getId(), recipient, objectMapper.writeValueAsString(feedback)));
+
+        assertThat(recipientEvents).containsExactly(feedback);
+        assertThat(authorEvents).isEmpty();
+
+        recipientSubscription.dispose();
+        authorSubscription.dispose();
+    }
+
+    @Test
+    void shouldIgnoreChangesWithoutEvent() {
+        UUID employee = UUID.randomUUID();
+        List<EmployeeAbsenceDTO> events = new CopyOnWriteArrayList<>();
+        Disposable subscription = hub.absenceChangesFor(employee).subscribe(events::add);
+
+        // The publishing node's own cache eviction, and changes that only invalidate caches
+        hub.onChange(change(ChangedEntity.ABSENCE, UUID.randomUUID(), employee, null));
+        hub.onChange(change(ChangedEntity.PROFILE, UUID.randomUUID(), employee, null));
+
+        assertThat(events).isEmpty();
+
+        subscription.dispose();
+    }
+
+    private static EntityChange change(ChangedEntity entity, UUID entityId, UUID userId, String payload) {
+        return new EntityChange(1L, entity, entityId, userId, payload, LocalDateTime.now());
+    }
+}
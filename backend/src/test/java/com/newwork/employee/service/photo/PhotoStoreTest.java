@@ -0,0 +1,181 @@
+package com.newwork.employee.service.photo;
+
+import com.newwork.employee.config.properties.PhotoProperties;
+import com.newwork.employee.exception.PhotoUploadThrottledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhotoStoreTest {
+
+    @TempDir
+    Path storageDir;
+
+    private PhotoProperties properties;
+    private PhotoStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PhotoProperties();
+        properties.setStorageDir(storageDir);
+        store = new PhotoStore(properties);
+    }
+
+    @Test
+    void shouldStoreOriginalAndSquareThumbnails() throws IOException {
+        byte[] original = png(800, 600);
+
+        String hash = store.store(original);
+
+        assertThat(hash).matches("[0-9a-f]{64}");
+        PhotoStore.StoredPhoto stored = store.find(hash, PhotoVariant.ORIGINAL).orElseThrow();
+        BufferedImage kept = ImageIO.read(stored.path().toFile());
+        assertThat(kept.getWidth()).isEqualTo(800);
+        assertThat(kept.getHeight()).isEqualTo(600);
+        assertThat(stored.contentType()).isEqualTo("image/png");
+        assertThat(stored.etag()).isEqualTo("\"" + hash + "-original\"");
+
+        for (PhotoVariant variant : new PhotoVariant[]{PhotoVariant.SMALL, PhotoVariant.MEDIUM}) {
+            PhotoStore.StoredPhoto thumbnail = store.find(hash, variant).orElseThrow();
+            BufferedImage image = ImageIO.read(thumbnail.path().toFile());
+            assertThat(thumbnail.contentType()).isEqualTo("image/jpeg");
+            assertThat(thumbnail.size()).isEqualTo(Files.size(thumbnail.path()));
+            assertThat(image.getWidth()).isEqualTo(variant.getSize());
+            assertThat(image.getHeight()).isEqualTo(variant.getSize());
+        }
+    }
+
+    @Test
+    void shouldStripMetadataFromTheStoredOriginal() throws IOException {
+        byte[] upload = withComment(jpeg(400, 300), "GPS 52.5200N 13.4050E");
+
+        String hash = store.store(upload);
+
+        PhotoStore.StoredPhoto stored = store.find(hash, PhotoVariant.ORIGINAL).orElseThrow();
+        byte[] kept = Files.readAllBytes(stored.path());
+        assertThat(stored.contentType()).isEqualTo("image/jpeg");
+        assertThat(new String(upload, StandardCharsets.ISO_8859_1)).contains("GPS 52.5200N");
+        assertThat(new String(kept, StandardCharsets.ISO_8859_1)).doesNotContain("GPS 52.5200N");
+        assertThat(ImageIO.read(stored.path().toFile()).getWidth()).isEqualTo(400);
+    }
+
+    @Test
+    void shouldTurnUploadsAwayWhileEveryDecodeSlotIsBusy() throws Exception {
+        properties.setDecodeWait(Duration.ofMillis(50));
+        Semaphore permits = new Semaphore(1);
+        store = new PhotoStore(properties, permits);
+        permits.acquire();
+        try {
+            assertThatThrownBy(() -> store.store(png(50, 50)))
+                    .isInstanceOf(PhotoUploadThrottledException.class);
+        } finally {
+            permits.release();
+        }
+        assertThat(store.store(png(50, 50))).matches("[0-9a-f]{64}");
+    }
+
+    @Test
+    void shouldNeverUpscaleSmallOriginals() throws IOException {
+        String hash = store.store(png(100, 120));
+
+        BufferedImage medium = ImageIO.read(store.find(hash, PhotoVariant.MEDIUM).orElseThrow().path().toFile());
+
+        assertThat(medium.getWidth()).isEqualTo(100);
+        assertThat(medium.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldReuseFilesForIdenticalUploads() throws IOException {
+        byte[] original = png(300, 300);
+        String first = store.store(original);
+        Path small = store.find(first, PhotoVariant.SMALL).orElseThrow().path();
+        var writtenAt = Files.getLastModifiedTime(small);
+
+        String second = store.store(original.clone());
+
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.getLastModifiedTime(small)).isEqualTo(writtenAt);
+        try (var files = Files.list(small.getParent())) {
+            assertThat(files.map(path -> path.getFileName().toString()))
+                    .containsExactlyInAnyOrder("original", "small", "medium");
+        }
+    }
+
+    @Test
+    void shouldRejectContentThatIsNotAnImage() {
+        assertThatThrownBy(() -> store.store("<svg onload=alert(1)>".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(storageDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectImagesAboveThePixelLimit() throws IOException {
+        properties.setMaxPixels(10_000);
+        store = new PhotoStore(properties);
+
+        assertThatThrownBy(() -> store.store(png(200, 200)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldTreatMalformedOrUnknownHashesAsMissing() {
+        assertThat(store.find("../../etc/passwd", PhotoVariant.ORIGINAL)).isEmpty();
+        assertThat(store.find("ABC", PhotoVariant.SMALL)).isEmpty();
+        assertThat(store.find("0".repeat(64), PhotoVariant.SMALL)).isEmpty();
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.GREEN);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Insert a JPEG COM segment right after SOI, standing in for an EXIF block.
+     */
+    private static byte[] withComment(byte[] jpeg, String comment) {
+        byte[] text = comment.getBytes(StandardCharsets.ISO_8859_1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xFE);
+        out.write((text.length + 2) >> 8);
+        out.write((text.length + 2) & 0xFF);
+        out.write(text, 0, text.length);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,45 @@
+package com.newwork.employee.service.skill;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillNamesTest {
+
+    @Test
+    void shouldSplitTrimAndDeduplicateCaseInsensitively() {
+        List<SkillNames.Skill> skills = SkillNames.parse(" React,  Spring   Boot ;java\nJava, , spring boot");
+
+        assertThat(skills).containsExactly(
+                new SkillNames.Skill("React", "react"),
+                new SkillNames.Skill("Spring Boot", "spring boot"),
+                new SkillNames.Skill("java", "java"));
+    }
+
+    @Test
+    void shouldAcceptJsonArrayOfStrings() {
+        assertThat(SkillNames.parse("[\"Kubernetes\", \"AWS\"]"))
+                .extracting(SkillNames.Skill::name)
+                .containsExactly("Kubernetes", "AWS");
+    }
+
+    @Test
+    void shouldDropOverlongEntriesAndCapSkillsPerProfile() {
+        String many = String.join(",", IntStream.range(0, 60).mapToObj(i -> "skill" + i).toList());
+
+        assertThat(SkillNames.parse("x".repeat(SkillNames.MAX_NAME_LENGTH + 1) + ", Go"))
+                .extracting(SkillNames.Skill::name)
+                .containsExactly("Go");
+        assertThat(SkillNames.parse(many)).hasSize(SkillNames.MAX_SKILLS_PER_PROFILE);
+        assertThat(SkillNames.parse(null)).isEmpty();
+        assertThat(SkillNames.parse("  ")).isEmpty();
+    }
+
+    @Test
+    void normalizeShouldMatchParsedKeys() {
+        assertThat(SkillNames.normalize("  Spring\tBOOT ")).isEqualTo("spring boot");
+    }
+}
@@ -0,0 +1,39 @@
+package com.newwork.employee.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void shouldRoundTripWithMicrosecondPrecision() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_456_000), UUID.randomUUID());
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldTreatBlankCursorAsFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursors() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2026-03-01T09:30".getBytes());
+        String badDate = Base64.getUrlEncoder().encodeToString(("yesterday|" + UUID.randomUUID()).getBytes());
+
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(noSeparator)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(badDate)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,153 @@
+package com.newwork.employee.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MicroBatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<String>> calls = new CopyOnWriteArrayList<>();
+    private MicroBatcher<String, String> batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+
+    private MicroBatcher<String, String> batcher(int maxBatchSize, Duration maxWait, Function<List<String>, List<String>> handler) {
+        return new MicroBatcher<>("test", items -> {
+            calls.add(items);
+            return handler.apply(items);
+        }, maxBatchSize, maxWait, 2, meterRegistry);
+    }
+
+    @Test
+    void shouldDispatchFullBatchImmediatelyAndDemultiplexResults() throws Exception {
+        batcher = batcher(3, Duration.ofMinutes(1), items -> items.stream().map(String::toUpperCase).toList());
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+        CompletableFuture<String> c = batcher.submit("c");
+
+        assertThat(a.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(b.get(5, TimeUnit.SECONDS)).isEqualTo("B");
+        assertThat(c.get(5, TimeUnit.SECONDS)).isEqualTo("C");
+        assertThat(calls).containsExactly(List.of("a", "b", "c"));
+        assertThat(meterRegistry.get("test.batch.size").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("test.batch.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDispatchPartialBatchWhenWaitElapses() throws Exception {
+        batcher = batcher(10, Duration.ofMillis(20), items -> items);
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+
+        assertThat(a.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(b.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+        assertThat(calls).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    void shouldNeverBatchItemsOfDifferentKeys() throws Exception {
+        batcher = batcher(2, Duration.ofMillis(20), items -> items);
+
+        CompletableFuture<String> a = batcher.submit("alice", "a1");
+        CompletableFuture<String> b = batcher.submit("bob", "b1");
+        CompletableFuture<String> c = batcher.submit("alice", "a2");
+
+        assertThat(a.get(5, TimeUnit.SECONDS)).isEqualTo("a1");
+        assertThat(c.get(5, TimeUnit.SECONDS)).isEqualTo("a2");
+        assertThat(b.get(5, TimeUnit.SECONDS)).isEqualTo("b1");
+        assertThat(calls).containsExactlyInAnyOrder(List.of("a1", "a2"), List.of("b1"));
+    }
+
+    @Test
+    void shouldFailEveryCallerOfAFailedBatch() {
+        batcher = batcher(2, Duration.ofMinutes(1), items -> {
+            throw new IllegalStateException("upstream down");
+        });
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+
+        assertThatThrownBy(() -> a.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> b.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+    }
+
+    @Test
+    void shouldRetryItemsOneByOneConcurrentlyWhenTheFailureAllowsIt() throws Exception {
+        CountDownLatch bothSingles = new CountDownLatch(2);
+        batcher = new MicroBatcher<>("test", items -> {
+            calls.add(items);
+            if (items.size() > 1) {
+                throw new IllegalArgumentException("unusable answer");
+            }
+            // Only returns once the other single is running too
+            bothSingles.countDown();
+            try {
+                bothSingles.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(items.get(0).toUpperCase());
+        }, ex -> ex instanceof IllegalArgumentException, 2, Duration.ofMinutes(1), 2, meterRegistry);
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+
+        assertThat(a.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(b.get(5, TimeUnit.SECONDS)).isEqualTo("B");
+        assertThat(calls).containsExactlyInAnyOrder(List.of("a", "b"), List.of("a"), List.of("b"));
+    }
+
+    @Test
+    void shouldRejectBatchesWhileEverySlotIsBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = batcher(1, Duration.ofMinutes(1), items -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return items;
+        });
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+        // Both slots are taken; the third batch is not queued behind them
+        CompletableFuture<String> c = batcher.submit("c");
+
+        assertThatThrownBy(() -> c.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+        assertThat(a.get(5, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(b.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+    }
+
+    @Test
+    void shouldFailBatchWhenHandlerReturnsWrongNumberOfResults() {
+        batcher = batcher(2, Duration.ofMinutes(1), items -> List.of("only one"));
+
+        CompletableFuture<String> a = batcher.submit("a");
+        batcher.submit("b");
+
+        assertThatThrownBy(() -> a.get(5, TimeUnit.SECONDS)).hasMessageContaining("1 results for 2 items");
+    }
+}
@@ -0,0 +1,46 @@
+package com.newwork.employee.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProfileChangeCursorTest {
+
+    // Above 2^32: xid8 values carry the wraparound epoch
+    private final long txId = 5_000_000_123L;
+
+    @Test
+    void shouldRoundTripWithAndWithoutBaseline() {
+        ProfileChangeCursor midRun = new ProfileChangeCursor(txId, UUID.randomUUID(), txId - 1000);
+        ProfileChangeCursor initialSync = new ProfileChangeCursor(txId, UUID.randomUUID(), null);
+
+        assertThat(midRun.encode()).doesNotContain("=", "+", "/");
+        assertThat(ProfileChangeCursor.decode(midRun.encode())).isEqualTo(midRun);
+        assertThat(ProfileChangeCursor.decode(initialSync.encode())).isEqualTo(initialSync);
+    }
+
+    @Test
+    void caughtUpCursorShouldUseTheHorizonAsBaseline() {
+        UUID profileId = UUID.randomUUID();
+
+        assertThat(ProfileChangeCursor.caughtUp(txId, profileId, txId + 7))
+                .isEqualTo(new ProfileChangeCursor(txId, profileId, txId + 7));
+    }
+
+    @Test
+    void shouldRejectMalformedCursors() {
+        String missingBaseline = Base64.getUrlEncoder().encodeToString((txId + "|" + UUID.randomUUID()).getBytes());
+        String badTxId = Base64.getUrlEncoder().encodeToString(("yesterday|" + UUID.randomUUID() + "|").getBytes());
+        String badProfileId = Base64.getUrlEncoder().encodeToString((txId + "|someone|").getBytes());
+
+        assertThat(ProfileChangeCursor.decode(null)).isNull();
+        assertThatThrownBy(() -> ProfileChangeCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProfileChangeCursor.decode(missingBaseline)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProfileChangeCursor.decode(badTxId)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProfileChangeCursor.decode(badProfileId)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.newwork.employee.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    @Test
+    void shouldSetVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.randomUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampOf(uuid)).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void shouldSortInCreationOrderWithinTheSameMillisecond() {
+        UuidV7 generator = new UuidV7();
+        long now = System.currentTimeMillis();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next(now));
+        }
+
+        // UUID.compareTo is signed; the string form sorts the way PostgreSQL compares uuid values
+        List<String> sorted = ids.stream().map(UUID::toString).sorted().toList();
+        assertThat(sorted).isEqualTo(ids.stream().map(UUID::toString).toList());
+    }
+
+    @Test
+    void shouldStayMonotonicWhenTheClockMovesBackwards() {
+        UuidV7 generator = new UuidV7();
+        UUID later = generator.next(System.currentTimeMillis() + 120_000);
+        UUID earlier = generator.next(System.currentTimeMillis());
+
+        assertThat(earlier.toString()).isGreaterThan(later.toString());
+    }
+
+    @Test
+    void shouldBeUniqueAcrossThreads() throws Exception {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        ids.add(UuidV7.randomUuid());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ids).hasSize(40_000);
+    }
+
+    @Test
+    void timestampOfShouldRejectOtherVersions() {
+        assertThatThrownBy(() -> UuidV7.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}